@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapterapi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz JSON engine SPI.
+ *
+ * <p>An engine decodes response bodies into the structs module
+ * entities and is looked up by its name at the client initialization.
+ */
+public interface IKreedzJsonEngine {
+
+	/**
+	 * Get this engine name.
+	 *
+	 * @return	engine name, always not null
+	 */
+	String getName();
+
+	/**
+	 * Decode JSON from the provided reader to an object of the provided type.
+	 *
+	 * @param reader	reader to decode JSON from
+	 * @param type		type of the result object
+	 * @param <T>		result type
+	 * @return			decoded object or {@code null}
+	 * @throws IOException	if failed to read or decode JSON
+	 */
+	<T> T fromJson(Reader reader, Type type) throws IOException;
+}
@@ -55,8 +55,23 @@ public final class BanStatsJsonDeserializer implements JsonDeserializer<BanStats
 	 */
 	@Override
 	public BanStats deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		String stats = context.deserialize(json, String.class);
+		return parseOrNull(context.deserialize(json, String.class));
+	}
 
+	/**
+	 * Parse a raw ban stats string to a {@link BanStats} instance
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Possible failure cases:
+	 * <ul>
+	 *     <li>Raw ban stats string is {@code null}.
+	 *     <li>Raw ban stats string doesn't match any plugin format.
+	 * </ul>
+	 *
+	 * @param stats		raw ban stats string
+	 * @return			ban stats instance or {@code null}
+	 */
+	public static BanStats parseOrNull(String stats) {
 		if (stats == null) {
 			return null;
 		}
@@ -43,6 +43,6 @@ public final class BanTypeJsonDeserializer implements JsonDeserializer<EBanType>
 	 */
 	@Override
 	public EBanType deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EBanType.fromApiNameOrNull(context.deserialize(json, String.class));
+		return EBanType.matchApiNameOrNull(context.deserialize(json, String.class));
 	}
 }
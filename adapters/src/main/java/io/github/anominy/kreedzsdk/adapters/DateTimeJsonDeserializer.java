@@ -45,8 +45,21 @@ public final class DateTimeJsonDeserializer implements JsonDeserializer<DateTime
 	 */
 	@Override
 	public DateTime deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		String str = context.deserialize(json, String.class);
+		return parseOrNull(context.deserialize(json, String.class));
+	}
 
+	/**
+	 * Parse a kreedz API date string to a {@link DateTime} instance
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Tries the {@link UKreedzDate#FORMATTER} first
+	 * and falls back to the ISO date format.
+	 *
+	 * @param str	date string
+	 * @return		date instance or {@code null}
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	public static DateTime parseOrNull(String str) {
 		if (str == null) {
 			return null;
 		}
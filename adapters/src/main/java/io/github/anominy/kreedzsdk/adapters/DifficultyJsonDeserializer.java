@@ -43,6 +43,10 @@ public final class DifficultyJsonDeserializer implements JsonDeserializer<EDiffi
 	 */
 	@Override
 	public EDifficulty deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EDifficulty.fromIdOrNull(context.deserialize(json, Integer.class));
+		if (json.isJsonNull()) {
+			return null;
+		}
+
+		return EDifficulty.matchIdOrNull(json.getAsInt());
 	}
 }
@@ -43,6 +43,10 @@ public final class JumpTypeJsonDeserializer implements JsonDeserializer<EJumpTyp
 	 */
 	@Override
 	public EJumpType deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EJumpType.fromIdOrNull(context.deserialize(json, Integer.class));
+		if (json.isJsonNull()) {
+			return null;
+		}
+
+		return EJumpType.matchIdOrNull(json.getAsInt());
 	}
 }
@@ -27,6 +27,8 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EMode} JSON deserializer.
+ *
+ * <p>Accepts both API names {@literal &} identifiers.
  */
 @SuppressWarnings("unused")
 @AutoService(IKreedzTypeAdapter.class)
@@ -43,6 +45,10 @@ public final class ModeJsonDeserializer implements JsonDeserializer<EMode>, IKre
 	 */
 	@Override
 	public EMode deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EMode.fromApiNameOrNull(context.deserialize(json, String.class));
+		if (json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber()) {
+			return EMode.matchIdOrNull(json.getAsInt());
+		}
+
+		return EMode.matchApiNameOrNull(context.deserialize(json, String.class));
 	}
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapters;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.utils.UKreedzDate;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.IOException;
+
+/**
+ * A {@link RecordBatch} streaming JSON type adapter.
+ *
+ * <p>Decodes a JSON array of records straight into the batch
+ * columns w/o creating intermediate record entities.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzTypeAdapter.class)
+public final class RecordBatchTypeAdapter extends TypeAdapter<RecordBatch> implements IKreedzTypeAdapter {
+
+	/**
+	 * Initialize a {@link RecordBatchTypeAdapter} instance.
+	 */
+	public RecordBatchTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RecordBatch read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+
+			return null;
+		}
+
+		RecordBatch.Builder builder = new RecordBatch.Builder();
+
+		in.beginArray();
+
+		while (in.hasNext()) {
+			builder.addRow();
+
+			in.beginObject();
+
+			while (in.hasNext()) {
+				String name = in.nextName();
+
+				if (in.peek() == JsonToken.NULL) {
+					in.nextNull();
+					continue;
+				}
+
+				switch (name) {
+					case "id":
+						builder.setId(in.nextInt());
+						break;
+					case "steamid64":
+						builder.setSteamId64(in.nextLong());
+						break;
+					case "player_name":
+						builder.setPlayerName(in.nextString());
+						break;
+					case "server_id":
+						builder.setServerId(in.nextInt());
+						break;
+					case "map_id":
+						builder.setMapId(in.nextInt());
+						break;
+					case "stage":
+						builder.setStage(in.nextInt());
+						break;
+					case "mode":
+						builder.setMode(EMode.matchApiNameOrNull(in.nextString()));
+						break;
+					case "tickrate":
+						builder.setTickrate(ETickrate.matchIntOrNull(in.nextInt()));
+						break;
+					case "time":
+						builder.setTime((float) in.nextDouble());
+						break;
+					case "teleports":
+						builder.setTeleportCount(in.nextInt());
+						break;
+					case "created_on":
+						builder.setCreateDate(DateTimeJsonDeserializer.parseOrNull(in.nextString()));
+						break;
+					case "updated_on":
+						builder.setUpdateDate(DateTimeJsonDeserializer.parseOrNull(in.nextString()));
+						break;
+					case "record_filter_id":
+						builder.setRecordFilterId(in.nextInt());
+						break;
+					case "map_name":
+						builder.setMapName(in.nextString());
+						break;
+					case "points":
+						builder.setPointCount(in.nextInt());
+						break;
+					case "replay_id":
+						builder.setReplayId(in.nextInt());
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+
+			in.endObject();
+		}
+
+		in.endArray();
+
+		return builder.build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, RecordBatch value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+
+			return;
+		}
+
+		out.beginArray();
+
+		for (int i = 0; i < value.size(); i++) {
+			EMode mode = value.getMode(i);
+			ETickrate tickrate = value.getTickrate(i);
+
+			out.beginObject();
+			out.name("id").value(value.getId(i));
+			out.name("steamid64").value(Long.toString(value.getSteamId64(i)));
+			out.name("player_name").value(value.getPlayerName(i));
+			out.name("server_id").value(value.getServerId(i));
+			out.name("map_id").value(value.getMapId(i));
+			out.name("stage").value(value.getStage(i));
+			out.name("mode").value(mode == null ? null : mode.getApiName());
+			out.name("tickrate").value(tickrate == null ? null : (Number) tickrate.getAsInt());
+			out.name("time").value(value.getTimeSeconds(i));
+			out.name("teleports").value(value.getTeleportCount(i));
+			out.name("created_on").value(formatOrNull(value.getCreateDateSeconds(i)));
+			out.name("updated_on").value(formatOrNull(value.getUpdateDateSeconds(i)));
+			out.name("record_filter_id").value(value.getRecordFilterId(i));
+			out.name("map_name").value(value.getMapName(i));
+			out.name("points").value(value.getPointCount(i));
+			out.name("replay_id").value(value.getReplayId(i));
+			out.endObject();
+		}
+
+		out.endArray();
+	}
+
+	/**
+	 * Format epoch seconds as a kreedz API date string.
+	 *
+	 * @param seconds	epoch seconds
+	 * @return			date string or {@code null} if zero
+	 */
+	private static String formatOrNull(long seconds) {
+		return seconds == 0L ? null
+				: new DateTime(seconds * 1000L, DateTimeZone.UTC).toString(UKreedzDate.FORMATTER);
+	}
+}
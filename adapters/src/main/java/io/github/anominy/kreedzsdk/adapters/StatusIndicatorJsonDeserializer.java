@@ -43,6 +43,6 @@ public final class StatusIndicatorJsonDeserializer implements JsonDeserializer<E
 	 */
 	@Override
 	public EStatusIndicator deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EStatusIndicator.fromApiNameOrNull(context.deserialize(json, String.class));
+		return EStatusIndicator.matchApiNameOrNull(context.deserialize(json, String.class));
 	}
 }
@@ -43,6 +43,6 @@ public final class StatusJsonDeserializer implements JsonDeserializer<EStatus>,
 	 */
 	@Override
 	public EStatus deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EStatus.fromApiNameOrNull(context.deserialize(json, String.class));
+		return EStatus.matchApiNameOrNull(context.deserialize(json, String.class));
 	}
 }
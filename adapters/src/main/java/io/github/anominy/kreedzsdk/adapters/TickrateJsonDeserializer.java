@@ -43,6 +43,10 @@ public final class TickrateJsonDeserializer implements JsonDeserializer<ETickrat
 	 */
 	@Override
 	public ETickrate deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return ETickrate.fromIntOrNull(context.deserialize(json, Integer.class));
+		if (json.isJsonNull()) {
+			return null;
+		}
+
+		return ETickrate.matchIntOrNull(json.getAsInt());
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapters.engines;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzJsonEngine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * A Gson-backed kreedz JSON engine.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class GsonJsonEngine implements IKreedzJsonEngine {
+
+	/**
+	 * A default engine name.
+	 *
+	 * <p>Used for the tree-model engine that binds
+	 * {@code IKreedzTypeAdapter} instances.
+	 */
+	public static final String DEFAULT_NAME = "gson";
+
+	/**
+	 * An engine name.
+	 */
+	protected final String name;
+
+	/**
+	 * A gson.
+	 */
+	protected final Gson gson;
+
+	/**
+	 * Initialize a {@link GsonJsonEngine} instance.
+	 *
+	 * @param name	engine name
+	 * @param gson	gson instance
+	 */
+	public GsonJsonEngine(String name, Gson gson) {
+		if (name == null) {
+			throw new IllegalArgumentException("Engine name mustn't be <null>");
+		}
+
+		if (gson == null) {
+			throw new IllegalArgumentException("Gson mustn't be <null>");
+		}
+
+		this.name = name;
+		this.gson = gson;
+	}
+
+	/**
+	 * Initialize a {@link GsonJsonEngine} instance.
+	 *
+	 * <p>Wraps {@link #GsonJsonEngine(String, Gson)}
+	 * w/ {@link #DEFAULT_NAME} as the engine name.
+	 *
+	 * @param gson	gson instance
+	 */
+	public GsonJsonEngine(Gson gson) {
+		this(DEFAULT_NAME, gson);
+	}
+
+	/**
+	 * Get this gson.
+	 *
+	 * @return	gson
+	 */
+	public final Gson getGson() {
+		return this.gson;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final <T> T fromJson(Reader reader, Type type) throws IOException {
+		TypeAdapter<T> adapter = (TypeAdapter<T>) this.gson.getAdapter(TypeToken.get(type));
+
+		JsonReader jsonReader = this.gson.newJsonReader(reader);
+
+		T result = adapter.read(jsonReader);
+
+		if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+			throw new JsonIOException("JSON document was not fully consumed");
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapters.engines;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapterFactory;
+import io.github.anominy.gsonnative.GsonNativeTypeAdapterFactory;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzJsonEngine;
+import io.github.anominy.kreedzsdk.adapters.RecordBatchTypeAdapter;
+import io.github.anominy.kreedzsdk.adapters.streaming.*;
+import io.github.anominy.kreedzsdk.adapters.utils.UKreedzAdapterSpi;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.types.*;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatus;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator;
+import io.github.anominy.steamid.SteamId;
+import io.github.anominy.uwgson.UwTypeAdapterFactory;
+import org.joda.time.DateTime;
+
+/**
+ * A streaming kreedz JSON engine.
+ *
+ * <p>Binds streaming type adapters from the
+ * {@code io.github.anominy.kreedzsdk.adapters.streaming} package
+ * instead of the tree-model {@code IKreedzTypeAdapter} instances,
+ * so no intermediate {@code JsonElement} tree is built per value.
+ *
+ * <p>Binds the same SPI modules as {@link GsonJsonEngine} does, except
+ * the built-in tree-model adapters replaced by the streaming ones;
+ * third-party adapters are bound last, so they override the built-in ones.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzJsonEngine.class)
+public final class StreamingJsonEngine extends GsonJsonEngine {
+
+	/**
+	 * An engine name.
+	 */
+	public static final String NAME = "gson-streaming";
+
+	/**
+	 * A package name of the built-in tree-model adapters.
+	 */
+	private static final String BUILT_IN_PACKAGE_NAME = RecordBatchTypeAdapter.class.getPackage().getName();
+
+	/**
+	 * Initialize a {@link StreamingJsonEngine} instance.
+	 */
+	public StreamingJsonEngine() {
+		super(NAME, initGson());
+	}
+
+	/**
+	 * Initialize a {@link Gson} instance.
+	 *
+	 * @return	gson instance
+	 */
+	private static Gson initGson() {
+		GsonBuilder builder = new GsonBuilder()
+				.registerTypeAdapterFactory(new UwTypeAdapterFactory())
+				.registerTypeAdapter(EMode.class, new ModeTypeAdapter().nullSafe())
+				.registerTypeAdapter(EBanType.class, new BanTypeTypeAdapter().nullSafe())
+				.registerTypeAdapter(EJumpType.class, new JumpTypeTypeAdapter().nullSafe())
+				.registerTypeAdapter(EDifficulty.class, new DifficultyTypeAdapter().nullSafe())
+				.registerTypeAdapter(ETickrate.class, new TickrateTypeAdapter().nullSafe())
+				.registerTypeAdapter(ERunType.class, new RunTypeTypeAdapter().nullSafe())
+				.registerTypeAdapter(EStatus.class, new StatusTypeAdapter().nullSafe())
+				.registerTypeAdapter(EStatusIndicator.class, new StatusIndicatorTypeAdapter().nullSafe())
+				.registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter().nullSafe())
+				.registerTypeAdapter(SteamId.class, new SteamIdTypeAdapter().nullSafe())
+				.registerTypeAdapter(RunTime.class, new RunTimeTypeAdapter().nullSafe())
+				.registerTypeAdapter(DataUpdater.class, new DataUpdaterTypeAdapter().nullSafe())
+				.registerTypeAdapter(BanStats.class, new BanStatsTypeAdapter().nullSafe())
+				.registerTypeAdapter(RecordBatch.class, new RecordBatchTypeAdapter());
+
+		UKreedzAdapterSpi.findTypeAdapterFactories().forEach(builder::registerTypeAdapterFactory);
+
+		UKreedzAdapterSpi.findTypeAdapters().forEach((type, adapter) -> {
+			if (!BUILT_IN_PACKAGE_NAME.equals(adapter.getClass().getPackage().getName())) {
+				builder.registerTypeAdapter(type, adapter);
+			}
+		});
+
+		TypeAdapterFactory vavrTypeAdapterFactory = UKreedzAdapterSpi.newVavrTypeAdapterFactoryOrNull();
+
+		if (vavrTypeAdapterFactory != null) {
+			builder.registerTypeAdapterFactory(vavrTypeAdapterFactory);
+		}
+
+		return builder.registerTypeAdapterFactory(new GsonNativeTypeAdapterFactory())
+				.create();
+	}
+}
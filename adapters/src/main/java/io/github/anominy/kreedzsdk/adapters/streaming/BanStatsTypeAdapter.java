@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import io.github.anominy.kreedzsdk.adapters.BanStatsJsonDeserializer;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+
+/**
+ * A {@link BanStats} streaming JSON type adapter.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ */
+@SuppressWarnings("unused")
+public final class BanStatsTypeAdapter extends BaseStringTypeAdapter<BanStats> {
+
+	/**
+	 * Initialize a {@link BanStatsTypeAdapter} instance.
+	 */
+	public BanStatsTypeAdapter() {
+		super(BanStatsJsonDeserializer::parseOrNull, BanStats::getRawStats);
+	}
+}
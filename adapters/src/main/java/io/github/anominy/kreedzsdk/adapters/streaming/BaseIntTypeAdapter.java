@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * A base streaming JSON type adapter of values
+ * represented by integers, such as identifiers.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ *
+ * @param <T>	value type
+ */
+abstract class BaseIntTypeAdapter<T> extends TypeAdapter<T> {
+
+	/**
+	 * An integer parser, returns {@code null} if unknown.
+	 */
+	private final IntFunction<? extends T> parser;
+
+	/**
+	 * An integer formatter.
+	 */
+	private final ToIntFunction<? super T> formatter;
+
+	/**
+	 * Initialize a {@link BaseIntTypeAdapter} instance.
+	 *
+	 * @param parser		integer parser
+	 * @param formatter		integer formatter
+	 */
+	BaseIntTypeAdapter(IntFunction<? extends T> parser, ToIntFunction<? super T> formatter) {
+		this.parser = parser;
+		this.formatter = formatter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final T read(JsonReader in) throws IOException {
+		return this.parser.apply(in.nextInt());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void write(JsonWriter out, T value) throws IOException {
+		out.value(this.formatter.applyAsInt(value));
+	}
+}
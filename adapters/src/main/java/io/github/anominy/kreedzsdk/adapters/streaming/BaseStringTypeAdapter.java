@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * A base streaming JSON type adapter of values
+ * represented by text-strings, such as API names.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ *
+ * @param <T>	value type
+ */
+abstract class BaseStringTypeAdapter<T> extends TypeAdapter<T> {
+
+	/**
+	 * A text-string parser, returns {@code null} if unknown.
+	 */
+	private final Function<String, ? extends T> parser;
+
+	/**
+	 * A text-string formatter.
+	 */
+	private final Function<? super T, String> formatter;
+
+	/**
+	 * Initialize a {@link BaseStringTypeAdapter} instance.
+	 *
+	 * @param parser		text-string parser
+	 * @param formatter		text-string formatter
+	 */
+	BaseStringTypeAdapter(Function<String, ? extends T> parser, Function<? super T, String> formatter) {
+		this.parser = parser;
+		this.formatter = formatter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T read(JsonReader in) throws IOException {
+		return this.parser.apply(in.nextString());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void write(JsonWriter out, T value) throws IOException {
+		out.value(this.formatter.apply(value));
+	}
+}
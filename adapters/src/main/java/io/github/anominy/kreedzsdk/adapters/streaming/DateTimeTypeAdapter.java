@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import io.github.anominy.kreedzsdk.adapters.DateTimeJsonDeserializer;
+import io.github.anominy.kreedzsdk.structs.utils.UKreedzDate;
+import org.joda.time.DateTime;
+
+/**
+ * A {@link DateTime} streaming JSON type adapter.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ */
+@SuppressWarnings("unused")
+public final class DateTimeTypeAdapter extends BaseStringTypeAdapter<DateTime> {
+
+	/**
+	 * Initialize a {@link DateTimeTypeAdapter} instance.
+	 */
+	public DateTimeTypeAdapter() {
+		super(DateTimeJsonDeserializer::parseOrNull, value -> value.toString(UKreedzDate.FORMATTER));
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+
+import java.io.IOException;
+
+/**
+ * An {@link EMode} streaming JSON type adapter.
+ *
+ * <p>Reads both API names {@literal &} identifiers.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ */
+@SuppressWarnings("unused")
+public final class ModeTypeAdapter extends BaseStringTypeAdapter<EMode> {
+
+	/**
+	 * Initialize a {@link ModeTypeAdapter} instance.
+	 */
+	public ModeTypeAdapter() {
+		super(EMode::matchApiNameOrNull, EMode::getApiName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EMode read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NUMBER) {
+			return EMode.matchIdOrNull(in.nextInt());
+		}
+
+		return super.read(in);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.adapters.streaming;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+
+import java.io.IOException;
+
+/**
+ * An {@link ERunType} streaming JSON type adapter.
+ *
+ * <p>Isn't null-safe, wrap it w/ {@link #nullSafe()}.
+ */
+@SuppressWarnings("unused")
+public final class RunTypeTypeAdapter extends TypeAdapter<ERunType> {
+
+	/**
+	 * Initialize a {@link RunTypeTypeAdapter} instance.
+	 */
+	public RunTypeTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ERunType read(JsonReader in) throws IOException {
+		return ERunType.fromHasTeleports(in.nextBoolean());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, ERunType value) throws IOException {
+		out.value(value.getHasTeleports());
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.utils;
+
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzTypeAdapterFactory;
+import io.github.anominy.uwutils.UwBean;
+import io.github.anominy.uwutils.UwList;
+import io.github.anominy.uwutils.UwMap;
+import io.github.anominy.uwutils.UwReflect;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A kreedz type adapter SPI utility.
+ *
+ * <p>Shared by all Gson-backed JSON engines,
+ * so each of them binds the same SPI modules.
+ */
+@SuppressWarnings("unused")
+public final class UKreedzAdapterSpi {
+
+	/**
+	 * An initialized {@code VavrTypeAdapterFactory} class.
+	 *
+	 * @see <a href="https://vk.cc/co9mRa">vavr-gson by anominy on GitHub</a>
+	 */
+	private static final Class<?> VAVR_TYPE_ADAPTER_FACTORY_CLASS = initVavrTypeAdapterFactoryClass();
+
+	private UKreedzAdapterSpi() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Find kreedz type adapter SPI modules.
+	 *
+	 * @return 	map of kreedz type adapter instances and their associated types
+	 * @throws IllegalStateException	if a module has no resolvable generic type
+	 */
+	public static Map<Class<?>, Object> findTypeAdapters() {
+		List<Class<? extends IKreedzTypeAdapter>> classes
+				= UwBean.findSpiTypesOrNull(IKreedzTypeAdapter.class);
+
+		if (classes == null) {
+			return UwMap.EMPTY;
+		}
+
+		Map<Class<?>, Object> result = new HashMap<>(classes.size());
+
+		classes.forEach(clazz -> {
+			String className = clazz.getSimpleName();
+
+			Class<?> genericType;
+
+			if (TypeAdapter.class.isAssignableFrom(clazz)) {
+				genericType = UwReflect.getGenericTypeOrNull(clazz.getGenericSuperclass());
+			} else {
+				Type[] interfaceTypes = Stream.of(clazz.getGenericInterfaces())
+						.filter(type -> type instanceof ParameterizedType)
+						.filter(type -> {
+							Class<?> iClass = (Class<?>) ((ParameterizedType) type).getRawType();
+
+							return JsonDeserializer.class.isAssignableFrom(iClass)
+									|| JsonSerializer.class.isAssignableFrom(iClass);
+						})
+						.toArray(Type[]::new);
+
+				if (interfaceTypes.length == 0) {
+					throw new IllegalStateException(
+							"Unable to find a <TypeAdapter|JsonDeserializer|JsonSerializer>"
+									+ " implementation for <" + className + "> class"
+					);
+				}
+
+				genericType = UwReflect.getGenericTypeOrNull(interfaceTypes[0]);
+
+				if (interfaceTypes.length == 2) {
+					Class<?> genericType1 = UwReflect.getGenericTypeOrNull(interfaceTypes[1]);
+
+					if (genericType != genericType1) {
+						throw new IllegalStateException("Generic types of the <"
+								+ className + "> doesn't match each other");
+					}
+				}
+			}
+
+			Objects.requireNonNull(genericType, "Unable to find a <"
+					+ className + "> generic type");
+
+			IKreedzTypeAdapter adapter = UwReflect.newInstanceOrNull(clazz);
+
+			Objects.requireNonNull(adapter, "Unable to create a <"
+					+ className + "> instance");
+
+			result.put(genericType, adapter);
+		});
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Find kreedz type adapter factory SPI modules.
+	 *
+	 * @return	list of type adapter factory instances
+	 * @throws IllegalStateException	if a module isn't a {@code TypeAdapterFactory}
+	 */
+	public static List<TypeAdapterFactory> findTypeAdapterFactories() {
+		List<Class<? extends IKreedzTypeAdapterFactory>> classes
+				= UwBean.findSpiTypesOrNull(IKreedzTypeAdapterFactory.class);
+
+		if (classes == null) {
+			return UwList.EMPTY;
+		}
+
+		List<TypeAdapterFactory> result = new ArrayList<>(classes.size());
+
+		classes.forEach(clazz -> {
+			String className = clazz.getSimpleName();
+
+			if (!TypeAdapterFactory.class.isAssignableFrom(clazz)) {
+				throw new IllegalStateException("Unable to find a <TypeAdapterFactory>"
+						+ " implementation for <" + className + "> class");
+			}
+
+			IKreedzTypeAdapterFactory instance = UwReflect.newInstanceOrNull(clazz);
+
+			Objects.requireNonNull(instance, "Unable to create a <"
+					+ className + "> instance");
+
+			result.add((TypeAdapterFactory) instance);
+		});
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Create a new {@code VavrTypeAdapterFactory} instance
+	 * or return {@code null} if there is no such class in the classpath.
+	 *
+	 * @return	{@code VavrTypeAdapterFactory} instance or {@code null}
+	 */
+	public static TypeAdapterFactory newVavrTypeAdapterFactoryOrNull() {
+		Object factory = UwReflect.newInstanceOrNull(VAVR_TYPE_ADAPTER_FACTORY_CLASS);
+
+		return factory instanceof TypeAdapterFactory ? (TypeAdapterFactory) factory
+				: null;
+	}
+
+	/**
+	 * Initialize the {@code VavrTypeAdapterFactory} class
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Possible failure cases:
+	 * <ul>
+	 *     <li>There is no such class in the classpath.
+	 * </ul>
+	 *
+	 * @return	{@code VavrTypeAdapterFactory} class or {@code null}
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	private static Class<?> initVavrTypeAdapterFactoryClass() {
+		try {
+			return Class.forName("io.github.anominy.vavrgson.VavrTypeAdapterFactory");
+		} catch (LinkageError e) {
+			e.printStackTrace();
+		} catch (ClassNotFoundException ignored) {
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.adapters.engines;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.github.anominy.gsonnative.GsonNativeTypeAdapterFactory;
+import io.github.anominy.kreedzsdk.adapters.*;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusComponentEntity;
+import io.github.anominy.kreedzsdk.structs.types.*;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatus;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator;
+import io.github.anominy.steamid.SteamId;
+import io.github.anominy.uwgson.UwTypeAdapterFactory;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class StreamingJsonEngineTest {
+
+	private static final String RECORDS_JSON = "[{\"id\":17,\"steamid64\":\"76561198045376573\","
+			+ "\"player_name\":\"player\",\"server_id\":5,\"map_id\":200,\"stage\":0,\"mode\":\"kz_timer\","
+			+ "\"tickrate\":128,\"time\":123.456,\"teleports\":3,\"created_on\":\"2023-05-14T18:22:31\","
+			+ "\"updated_on\":\"2023-05-14T18:22:31\",\"updated_by\":76561198045376573,"
+			+ "\"record_filter_id\":4000,\"server_name\":\"server\",\"map_name\":\"kz_grotto\","
+			+ "\"points\":900,\"replay_id\":0},"
+			+ "{\"id\":18,\"steamid64\":null,\"mode\":\"kz_simple\",\"tickrate\":64,\"time\":7.5,"
+			+ "\"created_on\":null,\"updated_by\":null}]";
+
+	private static final String BANS_JSON = "[{\"id\":3,\"ban_type\":\"bhop_hack\","
+			+ "\"expires_on\":\"2024-01-01T00:00:00\",\"steamid64\":\"76561198045376573\",\"notes\":\"\","
+			+ "\"stats\":\"Perfs: 4/5, Average: 2.40, Scroll pattern: (1*2)(0*1)(2 3)(1*1)(0*2)\","
+			+ "\"server_id\":5,\"updated_by_id\":\"76561198045376573\","
+			+ "\"created_on\":\"2023-05-14T18:22:31\",\"updated_on\":\"2023-05-14T18:22:31\"},"
+			+ "{\"id\":4,\"ban_type\":\"strafe_hack\",\"stats\":\"Scroll pattern: 2 3 1 4, Avg. scroll pattern: 2.5,"
+			+ " Avg. speed: 287.41, Perfect jump ratio: 75.00%\"},"
+			+ "{\"id\":5,\"ban_type\":\"unknown_type\",\"stats\":null}]";
+
+	private static final String JUMPSTATS_JSON = "[{\"id\":9,\"server_id\":5,\"steamid64\":\"76561198045376573\","
+			+ "\"player_name\":\"player\",\"jump_type\":1,\"distance\":270.25,\"tickrate\":128,\"msl_count\":0,"
+			+ "\"strafe_count\":6,\"is_crouch_bind\":true,\"is_forward_bind\":false,\"is_crouch_boost\":false,"
+			+ "\"updated_by_id\":\"76561198045376573\",\"created_on\":\"2023-05-14T18:22:31\","
+			+ "\"updated_on\":\"2023-05-14T18:22:31\"},{\"id\":10,\"jump_type\":99,\"tickrate\":100}]";
+
+	private static final String MAPS_JSON = "[{\"id\":200,\"name\":\"kz_grotto\",\"filesize\":1024,"
+			+ "\"validated\":true,\"difficulty\":4,\"created_on\":\"2018-01-01T00:00:00\","
+			+ "\"updated_on\":\"2018-01-01T00:00:00\",\"workshop_url\":\"\",\"download_url\":null},"
+			+ "{\"id\":201,\"name\":\"kz_colors_v2\",\"difficulty\":null}]";
+
+	private static final String RECORD_FILTERS_JSON = "[{\"id\":4000,\"map_id\":200,\"stage\":0,\"mode_id\":200,"
+			+ "\"tickrate\":128,\"has_teleports\":false,\"created_on\":\"2018-01-01T00:00:00\","
+			+ "\"updated_on\":\"2018-01-01T00:00:00\",\"updated_by_id\":\"76561198045376573\"},"
+			+ "{\"id\":4001,\"mode_id\":202,\"tickrate\":102,\"has_teleports\":true}]";
+
+	private static final String STATUS_COMPONENTS_JSON = "[{\"id\":\"a1\",\"name\":\"API\",\"status\":\"operational\","
+			+ "\"created_at\":\"2023-05-14T18:22:31.123Z\",\"updated_at\":\"2023-05-14T18:22:31.123Z\","
+			+ "\"description\":null,\"page_id\":\"p1\"},{\"id\":\"a2\",\"status\":\"major_outage\"}]";
+
+	private static final GsonJsonEngine TREE_ENGINE = new GsonJsonEngine(new GsonBuilder()
+			.registerTypeAdapterFactory(new UwTypeAdapterFactory())
+			.registerTypeAdapter(SteamId.class, new SteamIdJsonDeserializer())
+			.registerTypeAdapter(DateTime.class, new DateTimeJsonDeserializer())
+			.registerTypeAdapter(EMode.class, new ModeJsonDeserializer())
+			.registerTypeAdapter(EBanType.class, new BanTypeJsonDeserializer())
+			.registerTypeAdapter(EJumpType.class, new JumpTypeJsonDeserializer())
+			.registerTypeAdapter(EDifficulty.class, new DifficultyJsonDeserializer())
+			.registerTypeAdapter(ETickrate.class, new TickrateJsonDeserializer())
+			.registerTypeAdapter(ERunType.class, new RunTypeJsonDeserializer())
+			.registerTypeAdapter(RunTime.class, new RunTimeJsonDeserializer())
+			.registerTypeAdapter(DataUpdater.class, new DataUpdaterJsonDeserializer())
+			.registerTypeAdapter(EStatus.class, new StatusJsonDeserializer())
+			.registerTypeAdapter(EStatusIndicator.class, new StatusIndicatorJsonDeserializer())
+			.registerTypeAdapter(BanStats.class, new BanStatsJsonDeserializer())
+			.registerTypeAdapterFactory(new GsonNativeTypeAdapterFactory())
+			.create());
+
+	private static final StreamingJsonEngine STREAMING_ENGINE = new StreamingJsonEngine();
+
+	@Test
+	void readsRecordsLikeTreeEngine() throws IOException {
+		assertSameAsTree(RECORDS_JSON, new TypeToken<List<RecordEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsBansLikeTreeEngine() throws IOException {
+		assertSameAsTree(BANS_JSON, new TypeToken<List<BanEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsJumpstatsLikeTreeEngine() throws IOException {
+		assertSameAsTree(JUMPSTATS_JSON, new TypeToken<List<JumpstatEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsMapsLikeTreeEngine() throws IOException {
+		assertSameAsTree(MAPS_JSON, new TypeToken<List<MapEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsRecordFiltersLikeTreeEngine() throws IOException {
+		assertSameAsTree(RECORD_FILTERS_JSON, new TypeToken<List<RecordFilterEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsStatusComponentsLikeTreeEngine() throws IOException {
+		assertSameAsTree(STATUS_COMPONENTS_JSON, new TypeToken<List<StatusComponentEntity>>() {}.getType());
+	}
+
+	@Test
+	void readsWrittenValuesBack() throws IOException {
+		Gson gson = STREAMING_ENGINE.getGson();
+
+		for (Object value : new Object[] {EMode.KZT, EBanType.values()[0], EJumpType.LJ, EDifficulty.HARD,
+				ETickrate.T102, EStatus.values()[0], EStatusIndicator.values()[0]}) {
+			assertEquals(value, gson.fromJson(gson.toJson(value), value.getClass()));
+		}
+	}
+
+	private static void assertSameAsTree(String json, Type type) throws IOException {
+		List<?> expected = TREE_ENGINE.fromJson(new StringReader(json), type);
+		List<?> actual = STREAMING_ENGINE.fromJson(new StringReader(json), type);
+
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, actual);
+	}
+}
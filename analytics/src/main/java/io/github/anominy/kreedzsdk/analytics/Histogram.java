@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+/**
+ * A fixed-width bin histogram.
+ *
+ * <p>Values below the first bin are counted in it,
+ * values above the last bin are counted in the last one.
+ */
+@SuppressWarnings("unused")
+public final class Histogram {
+
+	/**
+	 * A lower bound of the first bin.
+	 */
+	private final double min;
+
+	/**
+	 * A bin width.
+	 */
+	private final double binWidth;
+
+	/**
+	 * An array of counts by their bins.
+	 */
+	private final long[] counts;
+
+	/**
+	 * A total value count.
+	 */
+	private final long totalCount;
+
+	/**
+	 * A sum of the exact values.
+	 */
+	private final double sum;
+
+	/**
+	 * Initialize a {@link Histogram} instance.
+	 *
+	 * <p>Takes ownership of the provided array.
+	 *
+	 * @param min		lower bound of the first bin
+	 * @param binWidth	bin width
+	 * @param counts	array of counts by their bins
+	 * @param sum		sum of the exact values
+	 */
+	Histogram(double min, double binWidth, long[] counts, double sum) {
+		long totalCount = 0L;
+
+		for (long count : counts) {
+			totalCount += count;
+		}
+
+		this.min = min;
+		this.binWidth = binWidth;
+		this.counts = counts;
+		this.totalCount = totalCount;
+		this.sum = sum;
+	}
+
+	/**
+	 * Get a bin index of a value.
+	 *
+	 * @param min		lower bound of the first bin
+	 * @param binWidth	bin width
+	 * @param binCount	bin count
+	 * @param value		value
+	 * @return			bin index
+	 */
+	static int binOf(double min, double binWidth, int binCount, double value) {
+		int bin = (int) ((value - min) / binWidth);
+
+		return bin < 0 ? 0
+				: Math.min(bin, binCount - 1);
+	}
+
+	/**
+	 * Get this bin count.
+	 *
+	 * @return	bin count
+	 */
+	public int getBinCount() {
+		return this.counts.length;
+	}
+
+	/**
+	 * Get this bin width.
+	 *
+	 * @return	bin width
+	 */
+	public double getBinWidth() {
+		return this.binWidth;
+	}
+
+	/**
+	 * Get a lower bound of a bin.
+	 *
+	 * @param bin	bin index
+	 * @return		lower bound
+	 */
+	public double getLowerBound(int bin) {
+		return this.min + bin * this.binWidth;
+	}
+
+	/**
+	 * Get a value count of a bin.
+	 *
+	 * @param bin	bin index
+	 * @return		value count
+	 * @throws IndexOutOfBoundsException	if the bin is out of bounds
+	 */
+	public long getCount(int bin) {
+		return this.counts[bin];
+	}
+
+	/**
+	 * Copy this array of counts by their bins.
+	 *
+	 * @return	array of counts
+	 */
+	public long[] copyCounts() {
+		return this.counts.clone();
+	}
+
+	/**
+	 * Get this total value count.
+	 *
+	 * @return	total value count
+	 */
+	public long getTotalCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * Get this exact mean value.
+	 *
+	 * @return	mean value or {@link Double#NaN} if empty
+	 */
+	public double getMean() {
+		return this.totalCount == 0L ? Double.NaN
+				: this.sum / this.totalCount;
+	}
+
+	/**
+	 * Get an approximate value at a percentile.
+	 *
+	 * <p>Interpolates linearly within the bin holding the percentile.
+	 *
+	 * @param percentile	percentile from 0 to 1
+	 * @return				value or {@link Double#NaN} if empty
+	 */
+	public double getPercentile(double percentile) {
+		if (percentile < 0d || percentile > 1d) {
+			throw new IllegalArgumentException("Percentile must be from 0 to 1");
+		}
+
+		if (this.totalCount == 0L) {
+			return Double.NaN;
+		}
+
+		double target = percentile * this.totalCount;
+		long cumulativeCount = 0L;
+
+		for (int bin = 0; bin < this.counts.length; bin++) {
+			long count = this.counts[bin];
+
+			if (count != 0L && cumulativeCount + count >= target) {
+				return this.getLowerBound(bin)
+						+ (target - cumulativeCount) / count * this.binWidth;
+			}
+
+			cumulativeCount += count;
+		}
+
+		return this.getLowerBound(this.counts.length);
+	}
+}
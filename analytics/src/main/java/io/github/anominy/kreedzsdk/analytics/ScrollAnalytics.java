@@ -0,0 +1,627 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A batch analytics engine over {@link ScrollBatch} instances.
+ *
+ * <p>Computes perf-jump ratio {@literal &} pre/post-input count histograms
+ * and clusters bans by their mean scroll features (perf-jump ratio, pre-input
+ * {@literal &} post-input count per jump) w/ k-means. Every pass over the
+ * batch is split by ban range across a fork-join pool, each task filling
+ * its own partial aggregates which are summed on join.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class ScrollAnalytics {
+
+	/**
+	 * A default cluster count.
+	 */
+	public static final int DEFAULT_CLUSTER_COUNT = 4;
+
+	/**
+	 * A perf-jump ratio histogram bin count.
+	 */
+	public static final int PERF_JUMP_RATIO_BIN_COUNT = 50;
+
+	/**
+	 * An input count histogram bin count, one bin per input count.
+	 */
+	public static final int INPUT_COUNT_BIN_COUNT = 32;
+
+	/**
+	 * A lower bound of the first input count histogram bin,
+	 * so every bin is centered on its input count.
+	 */
+	private static final double INPUT_COUNT_MIN = -0.5d;
+
+	/**
+	 * A maximum k-means iteration count.
+	 */
+	private static final int MAX_ITERATIONS = 64;
+
+	/**
+	 * A maximum ban count of a single fork-join task.
+	 */
+	private static final int LEAF_SIZE = 1024;
+
+	/**
+	 * A seed of the initial cluster choice, so reports are reproducible.
+	 */
+	private static final long CLUSTER_SEED = 0x6B7A5343L;
+
+	/**
+	 * A feature count per ban.
+	 */
+	private static final int FEATURE_COUNT = 3;
+
+	/**
+	 * A fork-join pool.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Initialize a {@link ScrollAnalytics} instance.
+	 *
+	 * @param pool	fork-join pool
+	 */
+	public ScrollAnalytics(ForkJoinPool pool) {
+		if (pool == null) {
+			throw new IllegalArgumentException("Fork-join pool mustn't be <null>");
+		}
+
+		this.pool = pool;
+	}
+
+	/**
+	 * Initialize a {@link ScrollAnalytics} instance.
+	 *
+	 * <p>Wraps {@link #ScrollAnalytics(ForkJoinPool)}
+	 * w/ {@link ForkJoinPool#commonPool()} as the fork-join pool.
+	 */
+	public ScrollAnalytics() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Analyze a scroll batch.
+	 *
+	 * @param batch			scroll batch
+	 * @param clusterCount	maximum cluster count
+	 * @return				scroll report
+	 */
+	public ScrollReport analyze(ScrollBatch batch, int clusterCount) {
+		if (batch == null) {
+			throw new IllegalArgumentException("Batch mustn't be <null>");
+		}
+
+		if (clusterCount <= 0) {
+			throw new IllegalArgumentException("Cluster count must be positive");
+		}
+
+		int size = batch.size();
+		double[] features = new double[size * FEATURE_COUNT];
+
+		Partial partial = this.pool.invoke(new HistogramTask(batch, features, 0, size));
+
+		Histogram perfJumpRatios = new Histogram(0d, 1d / PERF_JUMP_RATIO_BIN_COUNT,
+				partial.perfJumpRatioCounts, partial.perfJumpRatioSum);
+		Histogram preInputCounts = new Histogram(INPUT_COUNT_MIN, 1d,
+				partial.preInputCounts, partial.preInputSum);
+		Histogram postInputCounts = new Histogram(INPUT_COUNT_MIN, 1d,
+				partial.postInputCounts, partial.postInputSum);
+
+		int[] clusterIndexes = new int[size];
+		List<ScrollCluster> clusters = this.cluster(features, partial, Math.min(clusterCount, size), clusterIndexes);
+
+		return new ScrollReport(size, batch.getJumpCount(), (int) partial.bindJumpCount, perfJumpRatios,
+				preInputCounts, postInputCounts, clusters, clusterIndexes);
+	}
+
+	/**
+	 * Analyze a scroll batch.
+	 *
+	 * <p>Wraps {@link #analyze(ScrollBatch, int)}
+	 * w/ {@link #DEFAULT_CLUSTER_COUNT} as the maximum cluster count.
+	 *
+	 * @param batch		scroll batch
+	 * @return			scroll report
+	 */
+	public ScrollReport analyze(ScrollBatch batch) {
+		return this.analyze(batch, DEFAULT_CLUSTER_COUNT);
+	}
+
+	/**
+	 * Cluster bans by their features w/ k-means.
+	 *
+	 * <p>Features are scaled by their standard deviations,
+	 * so input counts don't outweigh perf-jump ratios.
+	 *
+	 * @param features			array of features by their ban indexes
+	 * @param partial			aggregates of the whole batch
+	 * @param clusterCount		cluster count, not greater than the ban count
+	 * @param clusterIndexes	array to put cluster indexes by their ban indexes in
+	 * @return					unmodifiable list of clusters
+	 */
+	private List<ScrollCluster> cluster(double[] features, Partial partial, int clusterCount, int[] clusterIndexes) {
+		int size = clusterIndexes.length;
+
+		if (clusterCount == 0) {
+			return Collections.emptyList();
+		}
+
+		double[] scales = new double[FEATURE_COUNT];
+
+		for (int f = 0; f < FEATURE_COUNT; f++) {
+			double mean = partial.featureSums[f] / size;
+			double variance = partial.featureSquareSums[f] / size - mean * mean;
+
+			scales[f] = variance > 0d ? 1d / Math.sqrt(variance) : 1d;
+		}
+
+		double[] centroids = initCentroids(features, scales, clusterCount);
+		Arrays.fill(clusterIndexes, -1);
+
+		double[] sums = null;
+
+		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			sums = this.pool.invoke(new AssignTask(features, scales, centroids, clusterIndexes, 0, size));
+
+			for (int c = 0; c < clusterCount; c++) {
+				double count = sums[c * (FEATURE_COUNT + 1) + FEATURE_COUNT];
+
+				if (count == 0d) {
+					continue;
+				}
+
+				for (int f = 0; f < FEATURE_COUNT; f++) {
+					centroids[c * FEATURE_COUNT + f] = sums[c * (FEATURE_COUNT + 1) + f] / count;
+				}
+			}
+
+			if (sums[sums.length - 1] == 0d) {
+				break;
+			}
+		}
+
+		Integer[] order = new Integer[clusterCount];
+
+		for (int c = 0; c < clusterCount; c++) {
+			order[c] = c;
+		}
+
+		Arrays.sort(order, (a, b) -> Double.compare(centroids[a * FEATURE_COUNT], centroids[b * FEATURE_COUNT]));
+
+		int[] ranks = new int[clusterCount];
+		List<ScrollCluster> clusters = new ArrayList<>(clusterCount);
+
+		for (int rank = 0; rank < clusterCount; rank++) {
+			int c = order[rank];
+			int offset = c * FEATURE_COUNT;
+
+			ranks[c] = rank;
+			clusters.add(new ScrollCluster((int) sums[c * (FEATURE_COUNT + 1) + FEATURE_COUNT],
+					centroids[offset], centroids[offset + 1], centroids[offset + 2]));
+		}
+
+		for (int i = 0; i < size; i++) {
+			clusterIndexes[i] = ranks[clusterIndexes[i]];
+		}
+
+		return Collections.unmodifiableList(clusters);
+	}
+
+	/**
+	 * Choose initial centroids w/ k-means++ seeding.
+	 *
+	 * @param features		array of features by their ban indexes
+	 * @param scales		array of feature scales
+	 * @param clusterCount	cluster count
+	 * @return				array of centroid features
+	 */
+	private static double[] initCentroids(double[] features, double[] scales, int clusterCount) {
+		int size = features.length / FEATURE_COUNT;
+
+		Random random = new Random(CLUSTER_SEED);
+		double[] centroids = new double[clusterCount * FEATURE_COUNT];
+		double[] distances = new double[size];
+
+		System.arraycopy(features, random.nextInt(size) * FEATURE_COUNT, centroids, 0, FEATURE_COUNT);
+		Arrays.fill(distances, Double.MAX_VALUE);
+
+		for (int c = 1; c < clusterCount; c++) {
+			double total = 0d;
+
+			for (int i = 0; i < size; i++) {
+				distances[i] = Math.min(distances[i], distanceOf(features, i, centroids, c - 1, scales));
+				total += distances[i];
+			}
+
+			int chosen = random.nextInt(size);
+
+			if (total > 0d) {
+				double target = random.nextDouble() * total;
+
+				for (int i = 0; i < size; i++) {
+					target -= distances[i];
+
+					if (target <= 0d) {
+						chosen = i;
+						break;
+					}
+				}
+			}
+
+			System.arraycopy(features, chosen * FEATURE_COUNT, centroids, c * FEATURE_COUNT, FEATURE_COUNT);
+		}
+
+		return centroids;
+	}
+
+	/**
+	 * Compute a squared scaled distance between a ban {@literal &} a centroid.
+	 *
+	 * @param features		array of features by their ban indexes
+	 * @param index			ban index
+	 * @param centroids		array of centroid features
+	 * @param c				centroid index
+	 * @param scales		array of feature scales
+	 * @return				squared scaled distance
+	 */
+	private static double distanceOf(double[] features, int index, double[] centroids, int c, double[] scales) {
+		double distance = 0d;
+
+		for (int f = 0; f < FEATURE_COUNT; f++) {
+			double delta = (features[index * FEATURE_COUNT + f] - centroids[c * FEATURE_COUNT + f]) * scales[f];
+
+			distance += delta * delta;
+		}
+
+		return distance;
+	}
+
+	/**
+	 * Partial aggregates of a ban range.
+	 */
+	private static final class Partial {
+
+		/**
+		 * An array of perf-jump ratio counts by their bins.
+		 */
+		private final long[] perfJumpRatioCounts = new long[PERF_JUMP_RATIO_BIN_COUNT];
+
+		/**
+		 * An array of pre-input counts by their bins.
+		 */
+		private final long[] preInputCounts = new long[INPUT_COUNT_BIN_COUNT];
+
+		/**
+		 * An array of post-input counts by their bins.
+		 */
+		private final long[] postInputCounts = new long[INPUT_COUNT_BIN_COUNT];
+
+		/**
+		 * An array of feature sums.
+		 */
+		private final double[] featureSums = new double[FEATURE_COUNT];
+
+		/**
+		 * An array of feature square sums.
+		 */
+		private final double[] featureSquareSums = new double[FEATURE_COUNT];
+
+		/**
+		 * A sum of perf-jump ratios.
+		 */
+		private double perfJumpRatioSum;
+
+		/**
+		 * A sum of pre-input counts.
+		 */
+		private double preInputSum;
+
+		/**
+		 * A sum of post-input counts.
+		 */
+		private double postInputSum;
+
+		/**
+		 * A bind-jump count.
+		 */
+		private long bindJumpCount;
+
+		/**
+		 * Add aggregates of another range to this one.
+		 *
+		 * @param that	partial aggregates to add
+		 * @return		this instance
+		 */
+		private Partial add(Partial that) {
+			addTo(this.perfJumpRatioCounts, that.perfJumpRatioCounts);
+			addTo(this.preInputCounts, that.preInputCounts);
+			addTo(this.postInputCounts, that.postInputCounts);
+
+			for (int f = 0; f < FEATURE_COUNT; f++) {
+				this.featureSums[f] += that.featureSums[f];
+				this.featureSquareSums[f] += that.featureSquareSums[f];
+			}
+
+			this.perfJumpRatioSum += that.perfJumpRatioSum;
+			this.preInputSum += that.preInputSum;
+			this.postInputSum += that.postInputSum;
+			this.bindJumpCount += that.bindJumpCount;
+
+			return this;
+		}
+
+		/**
+		 * Add counts of one array to another.
+		 *
+		 * @param to		array to add to
+		 * @param from		array to add from
+		 */
+		private static void addTo(long[] to, long[] from) {
+			for (int i = 0; i < to.length; i++) {
+				to[i] += from[i];
+			}
+		}
+	}
+
+	/**
+	 * A fork-join task computing histograms {@literal &} features of a ban range.
+	 */
+	private static final class HistogramTask extends RecursiveTask<Partial> {
+
+		/**
+		 * A scroll batch.
+		 */
+		private final ScrollBatch batch;
+
+		/**
+		 * An array to put features by their ban indexes in.
+		 */
+		private final double[] features;
+
+		/**
+		 * A first ban index, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * A last ban index, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Initialize a {@link HistogramTask} instance.
+		 *
+		 * @param batch		scroll batch
+		 * @param features	array to put features by their ban indexes in
+		 * @param from		first ban index, inclusive
+		 * @param to		last ban index, exclusive
+		 */
+		private HistogramTask(ScrollBatch batch, double[] features, int from, int to) {
+			this.batch = batch;
+			this.features = features;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Partial compute() {
+			if (this.to - this.from > LEAF_SIZE) {
+				int middle = (this.from + this.to) >>> 1;
+
+				HistogramTask left = new HistogramTask(this.batch, this.features, this.from, middle);
+				left.fork();
+
+				Partial partial = new HistogramTask(this.batch, this.features, middle, this.to)
+						.compute();
+
+				return partial.add(left.join());
+			}
+
+			Partial partial = new Partial();
+
+			for (int i = this.from; i < this.to; i++) {
+				int jumpFrom = this.batch.getJumpFrom(i);
+				int jumpTo = this.batch.getJumpTo(i);
+
+				long preInputSum = 0L;
+				long postInputSum = 0L;
+				int bindJumpCount = 0;
+
+				for (int j = jumpFrom; j < jumpTo; j++) {
+					long packed = this.batch.getPackedJumpInput(j);
+
+					if (JumpInput.unpackIsBind(packed)) {
+						bindJumpCount++;
+						continue;
+					}
+
+					int preInputCount = JumpInput.unpackPreInputCount(packed);
+					int postInputCount = JumpInput.unpackPostInputCount(packed);
+
+					partial.preInputCounts[Histogram.binOf(INPUT_COUNT_MIN, 1d, INPUT_COUNT_BIN_COUNT, preInputCount)]++;
+					partial.postInputCounts[Histogram.binOf(INPUT_COUNT_MIN, 1d, INPUT_COUNT_BIN_COUNT, postInputCount)]++;
+
+					preInputSum += preInputCount;
+					postInputSum += postInputCount;
+				}
+
+				int inputJumpCount = jumpTo - jumpFrom - bindJumpCount;
+				double perfJumpRatio = this.batch.getPerfJumpRatio(i);
+
+				partial.perfJumpRatioCounts[Histogram.binOf(0d, 1d / PERF_JUMP_RATIO_BIN_COUNT,
+						PERF_JUMP_RATIO_BIN_COUNT, perfJumpRatio)]++;
+
+				partial.perfJumpRatioSum += perfJumpRatio;
+				partial.preInputSum += preInputSum;
+				partial.postInputSum += postInputSum;
+				partial.bindJumpCount += bindJumpCount;
+
+				int offset = i * FEATURE_COUNT;
+
+				this.features[offset] = perfJumpRatio;
+				this.features[offset + 1] = inputJumpCount == 0 ? 0d
+						: preInputSum / (double) inputJumpCount;
+				this.features[offset + 2] = inputJumpCount == 0 ? 0d
+						: postInputSum / (double) inputJumpCount;
+
+				for (int f = 0; f < FEATURE_COUNT; f++) {
+					double feature = this.features[offset + f];
+
+					partial.featureSums[f] += feature;
+					partial.featureSquareSums[f] += feature * feature;
+				}
+			}
+
+			return partial;
+		}
+	}
+
+	/**
+	 * A fork-join task assigning bans of a range to their nearest centroids.
+	 *
+	 * <p>Results in per-cluster feature sums {@literal &} member counts,
+	 * followed by the count of bans that changed their clusters.
+	 */
+	private static final class AssignTask extends RecursiveTask<double[]> {
+
+		/**
+		 * An array of features by their ban indexes.
+		 */
+		private final double[] features;
+
+		/**
+		 * An array of feature scales.
+		 */
+		private final double[] scales;
+
+		/**
+		 * An array of centroid features.
+		 */
+		private final double[] centroids;
+
+		/**
+		 * An array of cluster indexes by their ban indexes.
+		 */
+		private final int[] clusterIndexes;
+
+		/**
+		 * A first ban index, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * A last ban index, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Initialize an {@link AssignTask} instance.
+		 *
+		 * @param features			array of features by their ban indexes
+		 * @param scales			array of feature scales
+		 * @param centroids			array of centroid features
+		 * @param clusterIndexes	array of cluster indexes by their ban indexes
+		 * @param from				first ban index, inclusive
+		 * @param to				last ban index, exclusive
+		 */
+		private AssignTask(double[] features, double[] scales, double[] centroids,
+				int[] clusterIndexes, int from, int to) {
+			this.features = features;
+			this.scales = scales;
+			this.centroids = centroids;
+			this.clusterIndexes = clusterIndexes;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected double[] compute() {
+			if (this.to - this.from > LEAF_SIZE) {
+				int middle = (this.from + this.to) >>> 1;
+
+				AssignTask left = new AssignTask(this.features, this.scales, this.centroids,
+						this.clusterIndexes, this.from, middle);
+				left.fork();
+
+				double[] sums = new AssignTask(this.features, this.scales, this.centroids,
+						this.clusterIndexes, middle, this.to).compute();
+				double[] leftSums = left.join();
+
+				for (int i = 0; i < sums.length; i++) {
+					sums[i] += leftSums[i];
+				}
+
+				return sums;
+			}
+
+			int clusterCount = this.centroids.length / FEATURE_COUNT;
+			double[] sums = new double[clusterCount * (FEATURE_COUNT + 1) + 1];
+
+			for (int i = this.from; i < this.to; i++) {
+				int nearest = 0;
+				double nearestDistance = Double.MAX_VALUE;
+
+				for (int c = 0; c < clusterCount; c++) {
+					double distance = distanceOf(this.features, i, this.centroids, c, this.scales);
+
+					if (distance < nearestDistance) {
+						nearest = c;
+						nearestDistance = distance;
+					}
+				}
+
+				if (this.clusterIndexes[i] != nearest) {
+					this.clusterIndexes[i] = nearest;
+					sums[sums.length - 1]++;
+				}
+
+				int offset = nearest * (FEATURE_COUNT + 1);
+
+				for (int f = 0; f < FEATURE_COUNT; f++) {
+					sums[offset + f] += this.features[i * FEATURE_COUNT + f];
+				}
+
+				sums[offset + FEATURE_COUNT]++;
+			}
+
+			return sums;
+		}
+	}
+}
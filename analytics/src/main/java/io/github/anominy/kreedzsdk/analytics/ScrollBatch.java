@@ -0,0 +1,459 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.ScrollPattern;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.types.EBanType;
+import io.github.anominy.kreedzsdk.structs.types.EPluginType;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A columnar batch of ban scroll patterns.
+ *
+ * <p>Keeps ban fields in primitive arrays {@literal &} packed jump inputs
+ * of all bans in a single flat array, so aggregates over the whole ban
+ * history don't dereference a ban, stats or jump input instance per value.
+ * Jump inputs of a ban are at the [{@link #getJumpFrom(int)},
+ * {@link #getJumpTo(int)}) indexes of the flat array.
+ *
+ * <p>Bans w/o scroll patterns aren't kept.
+ */
+@SuppressWarnings("unused")
+public final class ScrollBatch {
+
+	/**
+	 * An empty batch.
+	 */
+	public static final ScrollBatch EMPTY = new Builder().build();
+
+	/**
+	 * An array of {@link EPluginType} instances.
+	 */
+	private static final EPluginType[] PLUGIN_TYPES = EPluginType.values();
+
+	/**
+	 * An array of {@link EBanType} instances.
+	 */
+	private static final EBanType[] BAN_TYPES = EBanType.values();
+
+	/**
+	 * A ban count.
+	 */
+	private final int size;
+
+	/**
+	 * An array of ban identifiers.
+	 */
+	private final int[] banIds;
+
+	/**
+	 * An array of type-64 person identifiers.
+	 */
+	private final long[] steamId64s;
+
+	/**
+	 * An array of plugin type ordinals.
+	 */
+	private final byte[] pluginTypeCodes;
+
+	/**
+	 * An array of ban type ordinals, negative for unknown ones.
+	 */
+	private final byte[] banTypeCodes;
+
+	/**
+	 * An array of creation dates in epoch seconds, zero for unknown ones.
+	 */
+	private final long[] createDates;
+
+	/**
+	 * An array of first jump indexes per ban, w/ the total jump count appended.
+	 */
+	private final int[] jumpOffsets;
+
+	/**
+	 * An array of packed jump inputs of all bans.
+	 */
+	private final long[] packedJumpInputs;
+
+	/**
+	 * An array of perf-jump counts.
+	 */
+	private final int[] perfJumpCounts;
+
+	/**
+	 * Initialize a {@link ScrollBatch} instance.
+	 *
+	 * @param builder	builder to take trimmed arrays from
+	 */
+	private ScrollBatch(Builder builder) {
+		int size = builder.size;
+		int jumpCount = builder.jumpOffsets[size];
+
+		this.size = size;
+		this.banIds = Arrays.copyOf(builder.banIds, size);
+		this.steamId64s = Arrays.copyOf(builder.steamId64s, size);
+		this.pluginTypeCodes = Arrays.copyOf(builder.pluginTypeCodes, size);
+		this.banTypeCodes = Arrays.copyOf(builder.banTypeCodes, size);
+		this.createDates = Arrays.copyOf(builder.createDates, size);
+		this.jumpOffsets = Arrays.copyOf(builder.jumpOffsets, size + 1);
+		this.packedJumpInputs = Arrays.copyOf(builder.packedJumpInputs, jumpCount);
+		this.perfJumpCounts = Arrays.copyOf(builder.perfJumpCounts, size);
+	}
+
+	/**
+	 * Get this ban count.
+	 *
+	 * @return	ban count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get this total jump count.
+	 *
+	 * @return	total jump count
+	 */
+	public int getJumpCount() {
+		return this.jumpOffsets[this.size];
+	}
+
+	/**
+	 * Get a ban identifier.
+	 *
+	 * @param index		ban index
+	 * @return			ban identifier
+	 */
+	public int getBanId(int index) {
+		return this.banIds[index];
+	}
+
+	/**
+	 * Get a type-64 person identifier.
+	 *
+	 * @param index		ban index
+	 * @return			type-64 person identifier or {@code 0}
+	 */
+	public long getSteamId64(int index) {
+		return this.steamId64s[index];
+	}
+
+	/**
+	 * Get a person identifier.
+	 *
+	 * @param index		ban index
+	 * @return			person identifier or {@code null}
+	 */
+	public SteamId getSteamId(int index) {
+		return SteamId.fromSteam64OrNull(this.steamId64s[index]);
+	}
+
+	/**
+	 * Get a plugin type.
+	 *
+	 * @param index		ban index
+	 * @return			plugin type
+	 */
+	public EPluginType getPluginType(int index) {
+		return PLUGIN_TYPES[this.pluginTypeCodes[index]];
+	}
+
+	/**
+	 * Get a ban type.
+	 *
+	 * @param index		ban index
+	 * @return			ban type or {@code null}
+	 */
+	public EBanType getBanType(int index) {
+		int code = this.banTypeCodes[index];
+
+		return code < 0 ? null
+				: BAN_TYPES[code];
+	}
+
+	/**
+	 * Get a creation date in epoch seconds.
+	 *
+	 * @param index		ban index
+	 * @return			creation date in epoch seconds or {@code 0}
+	 */
+	public long getCreateDateSeconds(int index) {
+		return this.createDates[index];
+	}
+
+	/**
+	 * Get a first jump index of a ban, inclusive.
+	 *
+	 * @param index		ban index
+	 * @return			jump index
+	 */
+	public int getJumpFrom(int index) {
+		return this.jumpOffsets[index];
+	}
+
+	/**
+	 * Get a last jump index of a ban, exclusive.
+	 *
+	 * @param index		ban index
+	 * @return			jump index
+	 */
+	public int getJumpTo(int index) {
+		return this.jumpOffsets[index + 1];
+	}
+
+	/**
+	 * Get a packed jump input.
+	 *
+	 * @param jumpIndex		jump index in the flat array
+	 * @return				packed jump input
+	 * @see JumpInput#pack(int, int, boolean)
+	 */
+	public long getPackedJumpInput(int jumpIndex) {
+		return this.packedJumpInputs[jumpIndex];
+	}
+
+	/**
+	 * Get a perf-jump count of a ban.
+	 *
+	 * @param index		ban index
+	 * @return			perf-jump count
+	 */
+	public int getPerfJumpCount(int index) {
+		return this.perfJumpCounts[index];
+	}
+
+	/**
+	 * Get a perf-jump ratio of a ban.
+	 *
+	 * <p>From 0 to 1.
+	 *
+	 * @param index		ban index
+	 * @return			perf-jump ratio
+	 */
+	public float getPerfJumpRatio(int index) {
+		return this.perfJumpCounts[index]
+				/ (float) (this.jumpOffsets[index + 1] - this.jumpOffsets[index]);
+	}
+
+	/**
+	 * Create a scroll pattern of a ban.
+	 *
+	 * @param index		ban index
+	 * @return			scroll pattern
+	 */
+	public ScrollPattern getScrollPattern(int index) {
+		return new ScrollPattern(Arrays.copyOfRange(this.packedJumpInputs,
+				this.jumpOffsets[index], this.jumpOffsets[index + 1]));
+	}
+
+	/**
+	 * A {@link ScrollBatch} builder.
+	 *
+	 * <p>Copies scroll patterns of added bans, so the ban
+	 * instances may be dropped right after adding them.
+	 *
+	 * <p>Isn't thread-safe.
+	 */
+	public static final class Builder {
+
+		/**
+		 * An initial ban capacity.
+		 */
+		private static final int INITIAL_CAPACITY = 64;
+
+		/**
+		 * An initial jump capacity.
+		 */
+		private static final int INITIAL_JUMP_CAPACITY = 1024;
+
+		/**
+		 * A ban count.
+		 */
+		private int size;
+
+		/**
+		 * An array of ban identifiers.
+		 */
+		private int[] banIds = new int[INITIAL_CAPACITY];
+
+		/**
+		 * An array of type-64 person identifiers.
+		 */
+		private long[] steamId64s = new long[INITIAL_CAPACITY];
+
+		/**
+		 * An array of plugin type ordinals.
+		 */
+		private byte[] pluginTypeCodes = new byte[INITIAL_CAPACITY];
+
+		/**
+		 * An array of ban type ordinals.
+		 */
+		private byte[] banTypeCodes = new byte[INITIAL_CAPACITY];
+
+		/**
+		 * An array of creation dates in epoch seconds.
+		 */
+		private long[] createDates = new long[INITIAL_CAPACITY];
+
+		/**
+		 * An array of first jump indexes per ban.
+		 */
+		private int[] jumpOffsets = new int[INITIAL_CAPACITY + 1];
+
+		/**
+		 * An array of packed jump inputs of all bans.
+		 */
+		private long[] packedJumpInputs = new long[INITIAL_JUMP_CAPACITY];
+
+		/**
+		 * An array of perf-jump counts.
+		 */
+		private int[] perfJumpCounts = new int[INITIAL_CAPACITY];
+
+		/**
+		 * Initialize a {@link ScrollBatch.Builder} instance.
+		 */
+		public Builder() {
+		}
+
+		/**
+		 * Add a ban.
+		 *
+		 * @param ban	ban, may be null
+		 * @return		boolean value as a result,
+		 * 				true - added, false - has no scroll pattern
+		 */
+		public boolean add(BanEntity ban) {
+			if (ban == null) {
+				return false;
+			}
+
+			BanStats stats = ban.getStats();
+
+			if (stats == null || stats.isEmpty()) {
+				return false;
+			}
+
+			ScrollPattern scrollPattern = stats.getScrollPattern();
+			int jumpCount = scrollPattern.getTotalJumpCount();
+
+			if (jumpCount == 0) {
+				return false;
+			}
+
+			this.ensureCapacity(jumpCount);
+
+			int index = this.size++;
+			int jumpFrom = this.jumpOffsets[index];
+
+			for (int i = 0; i < jumpCount; i++) {
+				this.packedJumpInputs[jumpFrom + i] = scrollPattern.getPackedJumpInput(i);
+			}
+
+			Integer banId = ban.getId();
+			Long steamId64 = SteamId.toSteam64OrNull(ban.getSteamId());
+			EBanType banType = ban.getBanType();
+			DateTime createDate = ban.getCreateDate();
+
+			this.banIds[index] = banId == null ? 0 : banId;
+			this.steamId64s[index] = steamId64 == null ? 0L : steamId64;
+			this.pluginTypeCodes[index] = (byte) stats.getPluginType().ordinal();
+			this.banTypeCodes[index] = (byte) (banType == null ? -1 : banType.ordinal());
+			this.createDates[index] = createDate == null ? 0L : createDate.getMillis() / 1000L;
+			this.perfJumpCounts[index] = scrollPattern.getPerfJumpCount();
+			this.jumpOffsets[index + 1] = jumpFrom + jumpCount;
+
+			return true;
+		}
+
+		/**
+		 * Add bans.
+		 *
+		 * @param bans	collection of bans, may be null
+		 * @return		added ban count
+		 */
+		public int addAll(Collection<BanEntity> bans) {
+			if (bans == null) {
+				return 0;
+			}
+
+			int count = 0;
+
+			for (BanEntity ban : bans) {
+				if (this.add(ban)) {
+					count++;
+				}
+			}
+
+			return count;
+		}
+
+		/**
+		 * Get this ban count.
+		 *
+		 * @return	ban count
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Build a {@link ScrollBatch} instance.
+		 *
+		 * @return	scroll batch
+		 */
+		public ScrollBatch build() {
+			return new ScrollBatch(this);
+		}
+
+		/**
+		 * Ensure there is room for one more ban w/ the provided jump count.
+		 *
+		 * @param jumpCount		jump count of the ban
+		 */
+		private void ensureCapacity(int jumpCount) {
+			if (this.size == this.banIds.length) {
+				int capacity = this.banIds.length << 1;
+
+				this.banIds = Arrays.copyOf(this.banIds, capacity);
+				this.steamId64s = Arrays.copyOf(this.steamId64s, capacity);
+				this.pluginTypeCodes = Arrays.copyOf(this.pluginTypeCodes, capacity);
+				this.banTypeCodes = Arrays.copyOf(this.banTypeCodes, capacity);
+				this.createDates = Arrays.copyOf(this.createDates, capacity);
+				this.jumpOffsets = Arrays.copyOf(this.jumpOffsets, capacity + 1);
+				this.perfJumpCounts = Arrays.copyOf(this.perfJumpCounts, capacity);
+			}
+
+			int jumpSize = this.jumpOffsets[this.size] + jumpCount;
+
+			if (jumpSize > this.packedJumpInputs.length) {
+				this.packedJumpInputs = Arrays.copyOf(this.packedJumpInputs,
+						Math.max(jumpSize, this.packedJumpInputs.length << 1));
+			}
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.types.EBanType;
+import io.github.anominy.kreedzsdk.structs.types.EPluginType;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link ScrollBatch} loader streaming bans from the /bans/ endpoint.
+ *
+ * <p>Copies the scroll patterns of every fetched page into a batch
+ * builder {@literal &} drops the page before fetching the next one,
+ * so the whole ban history is never kept as ban entities at once.
+ */
+@SuppressWarnings("unused")
+public final class ScrollBatchLoader {
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * Initialize a {@link ScrollBatchLoader} instance.
+	 *
+	 * @param client	kreedz client
+	 */
+	public ScrollBatchLoader(KreedzClient client) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		this.client = client;
+	}
+
+	/**
+	 * Create a new ban scroll pattern query.
+	 *
+	 * @return	ban scroll pattern query
+	 */
+	public Query bans() {
+		return new Query(this.client);
+	}
+
+	/**
+	 * A ban scroll pattern query.
+	 */
+	public static final class Query {
+
+		/**
+		 * A kreedz client.
+		 */
+		private final KreedzClient client;
+
+		/**
+		 * A set of ban types.
+		 */
+		private Set<EBanType> banTypes;
+
+		/**
+		 * A list of person identifiers.
+		 */
+		private List<SteamId> steamIds;
+
+		/**
+		 * A set of plugin types.
+		 */
+		private Set<EPluginType> pluginTypes;
+
+		/**
+		 * A creation since date.
+		 */
+		private DateTime createdSinceDate;
+
+		/**
+		 * Initialize a {@link ScrollBatchLoader.Query} instance.
+		 *
+		 * @param client	kreedz client
+		 */
+		private Query(KreedzClient client) {
+			this.client = client;
+		}
+
+		/**
+		 * Set this set of ban types.
+		 *
+		 * @param banTypes	array of ban types, may be null
+		 * @return			this instance
+		 */
+		public Query setBanTypes(EBanType... banTypes) {
+			this.banTypes = banTypes == null || banTypes.length == 0 ? null
+					: EnumSet.copyOf(Arrays.asList(banTypes));
+
+			return this;
+		}
+
+		/**
+		 * Set this list of person identifiers, e.g. of suspicious players.
+		 *
+		 * <p>Each person identifier is fetched by a separate paged request.
+		 *
+		 * @param steamIds	collection of person identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setSteamIds(Collection<SteamId> steamIds) {
+			if (steamIds == null) {
+				this.steamIds = null;
+
+				return this;
+			}
+
+			this.steamIds = new ArrayList<>(steamIds);
+			this.steamIds.removeIf(Objects::isNull);
+
+			return this;
+		}
+
+		/**
+		 * Set this set of plugin types.
+		 *
+		 * <p>Filtered locally, the /bans/ endpoint doesn't filter by plugin types.
+		 *
+		 * @param pluginTypes	array of plugin types, may be null
+		 * @return				this instance
+		 */
+		public Query setPluginTypes(EPluginType... pluginTypes) {
+			this.pluginTypes = pluginTypes == null || pluginTypes.length == 0 ? null
+					: EnumSet.copyOf(Arrays.asList(pluginTypes));
+
+			return this;
+		}
+
+		/**
+		 * Set this creation since date.
+		 *
+		 * @param createdSinceDate	creation since date, may be null
+		 * @return					this instance
+		 */
+		public Query setCreatedSinceDate(DateTime createdSinceDate) {
+			this.createdSinceDate = createdSinceDate;
+			return this;
+		}
+
+		/**
+		 * Execute this query into a new scroll batch.
+		 *
+		 * @param throwables	array to put request failures in, may be null
+		 * @return				scroll batch or {@code null} if a page failed
+		 */
+		public ScrollBatch execute(Throwable[] throwables) {
+			ScrollBatch.Builder builder = new ScrollBatch.Builder();
+
+			return this.executeInto(builder, throwables) ? builder.build()
+					: null;
+		}
+
+		/**
+		 * Execute this query into a scroll batch builder.
+		 *
+		 * <p>Bans of the pages fetched before a failed one stay in the builder.
+		 *
+		 * @param builder		scroll batch builder
+		 * @param throwables	array to put request failures in, may be null
+		 * @return				boolean value as a result,
+		 * 						true - fetched all pages, false - a page failed
+		 */
+		public boolean executeInto(ScrollBatch.Builder builder, Throwable[] throwables) {
+			if (builder == null) {
+				throw new IllegalArgumentException("Builder mustn't be <null>");
+			}
+
+			List<SteamId> steamIds = this.steamIds == null ? Collections.singletonList(null)
+					: this.steamIds;
+
+			for (SteamId steamId : steamIds) {
+				if (!this.stream(steamId, builder, throwables)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Stream all pages of bans of a person into a scroll batch builder.
+		 *
+		 * @param steamId		person identifier, null for all persons
+		 * @param builder		scroll batch builder
+		 * @param throwables	array to put request failures in, may be null
+		 * @return				boolean value as a result,
+		 * 						true - fetched all pages, false - a page failed
+		 */
+		private boolean stream(SteamId steamId, ScrollBatch.Builder builder, Throwable[] throwables) {
+			for (int offset = 0; ; offset += PAGE_SIZE) {
+				List<BanEntity> page = this.client.getBanService()
+						.bans()
+						.setBanTypes(this.banTypes)
+						.setSteamId(steamId)
+						.setCreatedSinceDate(this.createdSinceDate)
+						.setOffset(offset)
+						.setLimit(PAGE_SIZE)
+						.execute(throwables);
+
+				if (page == null) {
+					return false;
+				}
+
+				for (BanEntity ban : page) {
+					if (this.isAccepted(ban)) {
+						builder.add(ban);
+					}
+				}
+
+				if (page.size() < PAGE_SIZE) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * Check if a ban passes the local plugin type filter.
+		 *
+		 * @param ban	ban, may be null
+		 * @return		boolean value as a result,
+		 * 				true - yes, false - no
+		 */
+		private boolean isAccepted(BanEntity ban) {
+			if (ban == null) {
+				return false;
+			}
+
+			if (this.pluginTypes == null) {
+				return true;
+			}
+
+			BanStats stats = ban.getStats();
+
+			return stats != null && this.pluginTypes.contains(stats.getPluginType());
+		}
+	}
+}
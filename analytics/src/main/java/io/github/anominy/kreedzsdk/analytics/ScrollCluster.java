@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+import java.util.Objects;
+
+/**
+ * A cluster of similar ban scroll patterns.
+ *
+ * <p>Keeps the mean per-ban features of its members.
+ */
+@SuppressWarnings("unused")
+public final class ScrollCluster {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = ScrollCluster.class.getSimpleName();
+
+	/**
+	 * A member ban count.
+	 */
+	private final int size;
+
+	/**
+	 * A mean perf-jump ratio.
+	 */
+	private final double perfJumpRatio;
+
+	/**
+	 * A mean pre-input count per non-bind-jump.
+	 */
+	private final double preInputCount;
+
+	/**
+	 * A mean post-input count per non-bind-jump.
+	 */
+	private final double postInputCount;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link ScrollCluster} instance.
+	 *
+	 * @param size				member ban count
+	 * @param perfJumpRatio		mean perf-jump ratio
+	 * @param preInputCount		mean pre-input count per non-bind-jump
+	 * @param postInputCount	mean post-input count per non-bind-jump
+	 */
+	ScrollCluster(int size, double perfJumpRatio, double preInputCount, double postInputCount) {
+		this.size = size;
+		this.perfJumpRatio = perfJumpRatio;
+		this.preInputCount = preInputCount;
+		this.postInputCount = postInputCount;
+	}
+
+	/**
+	 * Get this member ban count.
+	 *
+	 * @return	member ban count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get this mean perf-jump ratio.
+	 *
+	 * @return	mean perf-jump ratio
+	 */
+	public double getPerfJumpRatio() {
+		return this.perfJumpRatio;
+	}
+
+	/**
+	 * Get this mean pre-input count per non-bind-jump.
+	 *
+	 * @return	mean pre-input count
+	 */
+	public double getPreInputCount() {
+		return this.preInputCount;
+	}
+
+	/**
+	 * Get this mean post-input count per non-bind-jump.
+	 *
+	 * @return	mean post-input count
+	 */
+	public double getPostInputCount() {
+		return this.postInputCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		ScrollCluster that = (ScrollCluster) obj;
+
+		return this.size == that.size
+				&& Double.compare(this.perfJumpRatio, that.perfJumpRatio) == 0
+				&& Double.compare(this.preInputCount, that.preInputCount) == 0
+				&& Double.compare(this.postInputCount, that.postInputCount) == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.size,
+						this.perfJumpRatio,
+						this.preInputCount,
+						this.postInputCount
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "size=" + this.size
+				+ ", perfJumpRatio=" + this.perfJumpRatio
+				+ ", preInputCount=" + this.preInputCount
+				+ ", postInputCount=" + this.postInputCount
+				+ "]");
+	}
+}
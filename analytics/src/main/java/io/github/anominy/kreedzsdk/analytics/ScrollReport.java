@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.analytics;
+
+import java.util.List;
+
+/**
+ * Aggregates of a {@link ScrollBatch} computed by {@link ScrollAnalytics}.
+ */
+@SuppressWarnings("unused")
+public final class ScrollReport {
+
+	/**
+	 * A ban count.
+	 */
+	private final int banCount;
+
+	/**
+	 * A total jump count.
+	 */
+	private final int jumpCount;
+
+	/**
+	 * A bind-jump count.
+	 */
+	private final int bindJumpCount;
+
+	/**
+	 * A histogram of perf-jump ratios per ban.
+	 */
+	private final Histogram perfJumpRatios;
+
+	/**
+	 * A histogram of pre-input counts per jump, w/o bind-jumps.
+	 */
+	private final Histogram preInputCounts;
+
+	/**
+	 * A histogram of post-input counts per jump, w/o bind-jumps.
+	 */
+	private final Histogram postInputCounts;
+
+	/**
+	 * A list of clusters in the ascending order of their mean perf-jump ratios.
+	 */
+	private final List<ScrollCluster> clusters;
+
+	/**
+	 * An array of cluster indexes by their ban indexes.
+	 */
+	private final int[] clusterIndexes;
+
+	/**
+	 * Initialize a {@link ScrollReport} instance.
+	 *
+	 * @param banCount			ban count
+	 * @param jumpCount			total jump count
+	 * @param bindJumpCount		bind-jump count
+	 * @param perfJumpRatios	histogram of perf-jump ratios per ban
+	 * @param preInputCounts	histogram of pre-input counts per jump, w/o bind-jumps
+	 * @param postInputCounts	histogram of post-input counts per jump, w/o bind-jumps
+	 * @param clusters			unmodifiable list of clusters
+	 * @param clusterIndexes	array of cluster indexes by their ban indexes
+	 */
+	ScrollReport(int banCount, int jumpCount, int bindJumpCount, Histogram perfJumpRatios,
+			Histogram preInputCounts, Histogram postInputCounts, List<ScrollCluster> clusters,
+			int[] clusterIndexes) {
+		this.banCount = banCount;
+		this.jumpCount = jumpCount;
+		this.bindJumpCount = bindJumpCount;
+		this.perfJumpRatios = perfJumpRatios;
+		this.preInputCounts = preInputCounts;
+		this.postInputCounts = postInputCounts;
+		this.clusters = clusters;
+		this.clusterIndexes = clusterIndexes;
+	}
+
+	/**
+	 * Get this ban count.
+	 *
+	 * @return	ban count
+	 */
+	public int getBanCount() {
+		return this.banCount;
+	}
+
+	/**
+	 * Get this total jump count.
+	 *
+	 * @return	total jump count
+	 */
+	public int getJumpCount() {
+		return this.jumpCount;
+	}
+
+	/**
+	 * Get this bind-jump count.
+	 *
+	 * @return	bind-jump count
+	 */
+	public int getBindJumpCount() {
+		return this.bindJumpCount;
+	}
+
+	/**
+	 * Get this bind-jump ratio.
+	 *
+	 * @return	bind-jump ratio or {@code 0} if there are no jumps
+	 */
+	public double getBindJumpRatio() {
+		return this.jumpCount == 0 ? 0d
+				: (double) this.bindJumpCount / this.jumpCount;
+	}
+
+	/**
+	 * Get this histogram of perf-jump ratios per ban.
+	 *
+	 * @return	histogram of perf-jump ratios
+	 */
+	public Histogram getPerfJumpRatios() {
+		return this.perfJumpRatios;
+	}
+
+	/**
+	 * Get this histogram of pre-input counts per jump.
+	 *
+	 * <p>Bind-jumps have no pre-input count {@literal &} aren't counted.
+	 *
+	 * @return	histogram of pre-input counts
+	 */
+	public Histogram getPreInputCounts() {
+		return this.preInputCounts;
+	}
+
+	/**
+	 * Get this histogram of post-input counts per jump.
+	 *
+	 * <p>Bind-jumps have no post-input count {@literal &} aren't counted.
+	 *
+	 * @return	histogram of post-input counts
+	 */
+	public Histogram getPostInputCounts() {
+		return this.postInputCounts;
+	}
+
+	/**
+	 * Get this list of clusters.
+	 *
+	 * @return	unmodifiable list of clusters in the
+	 * 			ascending order of their mean perf-jump ratios
+	 */
+	public List<ScrollCluster> getClusters() {
+		return this.clusters;
+	}
+
+	/**
+	 * Get a cluster index of a ban.
+	 *
+	 * @param banIndex	ban index in the analyzed batch
+	 * @return			cluster index
+	 */
+	public int getClusterIndex(int banIndex) {
+		return this.clusterIndexes[banIndex];
+	}
+}
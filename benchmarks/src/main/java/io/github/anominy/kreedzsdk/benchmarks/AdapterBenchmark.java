@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import io.github.anominy.kreedzsdk.adapters.BanStatsJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.BanTypeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.DataUpdaterJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.DateTimeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.DifficultyJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.JumpTypeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.ModeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.RunTimeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.RunTypeJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.StatusIndicatorJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.StatusJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.SteamIdJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.TickrateJsonDeserializer;
+import io.github.anominy.kreedzsdk.adapters.engines.StreamingJsonEngine;
+import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.types.EBanType;
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+import io.github.anominy.kreedzsdk.structs.types.EJumpType;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatus;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the single-value adapters.
+ *
+ * <p>Compares the tree-model {@code JsonDeserializer} instances
+ * against the streaming type adapters of {@link StreamingJsonEngine}.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdapterBenchmark {
+
+	/**
+	 * A sample name.
+	 */
+	@Param({
+			"STEAM_ID", "DATE_TIME", "MODE", "BAN_TYPE", "JUMP_TYPE",
+			"DIFFICULTY", "TICKRATE", "RUN_TYPE", "RUN_TIME",
+			"DATA_UPDATER", "STATUS", "STATUS_INDICATOR", "BAN_STATS"
+	})
+	public String sample;
+
+	/**
+	 * A JSON value.
+	 */
+	private String json;
+
+	/**
+	 * A tree-model type adapter.
+	 */
+	private TypeAdapter<?> treeAdapter;
+
+	/**
+	 * A streaming type adapter.
+	 */
+	private TypeAdapter<?> streamingAdapter;
+
+	/**
+	 * Set up this benchmark state.
+	 */
+	@Setup
+	public void setUp() {
+		Sample sample = Sample.valueOf(this.sample);
+
+		Gson treeGson = new GsonBuilder()
+				.registerTypeAdapter(SteamId.class, new SteamIdJsonDeserializer())
+				.registerTypeAdapter(DateTime.class, new DateTimeJsonDeserializer())
+				.registerTypeAdapter(EMode.class, new ModeJsonDeserializer())
+				.registerTypeAdapter(EBanType.class, new BanTypeJsonDeserializer())
+				.registerTypeAdapter(EJumpType.class, new JumpTypeJsonDeserializer())
+				.registerTypeAdapter(EDifficulty.class, new DifficultyJsonDeserializer())
+				.registerTypeAdapter(ETickrate.class, new TickrateJsonDeserializer())
+				.registerTypeAdapter(ERunType.class, new RunTypeJsonDeserializer())
+				.registerTypeAdapter(RunTime.class, new RunTimeJsonDeserializer())
+				.registerTypeAdapter(DataUpdater.class, new DataUpdaterJsonDeserializer())
+				.registerTypeAdapter(EStatus.class, new StatusJsonDeserializer())
+				.registerTypeAdapter(EStatusIndicator.class, new StatusIndicatorJsonDeserializer())
+				.registerTypeAdapter(BanStats.class, new BanStatsJsonDeserializer())
+				.create();
+
+		Gson streamingGson = new StreamingJsonEngine().getGson();
+
+		this.json = sample.json;
+		this.treeAdapter = treeGson.getAdapter(sample.clazz);
+		this.streamingAdapter = streamingGson.getAdapter(sample.clazz);
+	}
+
+	/**
+	 * Read this JSON value w/ the tree-model deserializer.
+	 *
+	 * @return	read value
+	 * @throws IOException	if the value is malformed
+	 */
+	@Benchmark
+	public Object tree() throws IOException {
+		return this.treeAdapter.fromJson(this.json);
+	}
+
+	/**
+	 * Read this JSON value w/ the streaming type adapter.
+	 *
+	 * @return	read value
+	 * @throws IOException	if the value is malformed
+	 */
+	@Benchmark
+	public Object streaming() throws IOException {
+		return this.streamingAdapter.fromJson(this.json);
+	}
+
+	/**
+	 * A JSON value sample in the API wire format.
+	 */
+	private enum Sample {
+
+		/**
+		 * A type-64 person identifier.
+		 */
+		STEAM_ID(SteamId.class, "\"76561198045376573\""),
+
+		/**
+		 * A date w/o a time zone.
+		 */
+		DATE_TIME(DateTime.class, "\"2023-05-14T18:22:31\""),
+
+		/**
+		 * A game mode API name.
+		 */
+		MODE(EMode.class, "\"kz_timer\""),
+
+		/**
+		 * A ban type API name.
+		 */
+		BAN_TYPE(EBanType.class, "\"bhop_hack\""),
+
+		/**
+		 * A jump type identifier.
+		 */
+		JUMP_TYPE(EJumpType.class, "3"),
+
+		/**
+		 * A difficulty identifier.
+		 */
+		DIFFICULTY(EDifficulty.class, "4"),
+
+		/**
+		 * A tickrate.
+		 */
+		TICKRATE(ETickrate.class, "128"),
+
+		/**
+		 * A teleport flag.
+		 */
+		RUN_TYPE(ERunType.class, "true"),
+
+		/**
+		 * A run time in seconds.
+		 */
+		RUN_TIME(RunTime.class, "123.456"),
+
+		/**
+		 * A data updater identifier.
+		 */
+		DATA_UPDATER(DataUpdater.class, "76561198045376573"),
+
+		/**
+		 * A status API name.
+		 */
+		STATUS(EStatus.class, "\"operational\""),
+
+		/**
+		 * A status indicator API name.
+		 */
+		STATUS_INDICATOR(EStatusIndicator.class, "\"minor\""),
+
+		/**
+		 * A GOKZ ban stats.
+		 */
+		BAN_STATS(BanStats.class, "\"Perfs: 4/5, Average: 2.40,"
+				+ " Scroll pattern: (1*2)(0*1)(2 3)(1*1)(0*2)\"");
+
+		/**
+		 * A value class.
+		 */
+		private final Class<?> clazz;
+
+		/**
+		 * A JSON value.
+		 */
+		private final String json;
+
+		/**
+		 * Initialize a {@link AdapterBenchmark.Sample} instance.
+		 *
+		 * @param clazz		value class
+		 * @param json		JSON value
+		 */
+		Sample(Class<?> clazz, String json) {
+			this.clazz = clazz;
+			this.json = json;
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.adapters.BanStatsJsonDeserializer;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.ScrollPattern;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the ban stats scroll pattern parsing.
+ *
+ * <p>Uses GOKZ or KZTimer ban stats generated from a fixed seed,
+ * so every run parses the same text-strings.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BanStatsBenchmark {
+
+	/**
+	 * A random seed.
+	 */
+	private static final long SEED = 42L;
+
+	/**
+	 * A GOKZ ban stats format.
+	 */
+	private static final String GOKZ_FMT = "Perfs: %d/%d, Average: %.2f, Scroll pattern: %s";
+
+	/**
+	 * A KZTimer ban stats format.
+	 */
+	private static final String KZTIMER_FMT = "Scroll pattern: %s, Avg. scroll pattern: %.1f,"
+			+ " Avg. speed: %.2f, Perfect jump ratio: %.2f%%";
+
+	/**
+	 * A KZTimer jump input separator.
+	 */
+	private static final char KZTIMER_SEPARATOR = ' ';
+
+	/**
+	 * A plugin name of the generated ban stats.
+	 */
+	@Param({"GOKZ", "KZTIMER"})
+	public String plugin;
+
+	/**
+	 * A jump count.
+	 */
+	@Param({"10", "100", "1000"})
+	public int jumpCount;
+
+	/**
+	 * A raw stats.
+	 */
+	private String rawStats;
+
+	/**
+	 * A parsed ban stats w/ a computed scroll pattern.
+	 */
+	private BanStats stats;
+
+	/**
+	 * Set up this benchmark state.
+	 */
+	@Setup
+	public void setUp() {
+		this.rawStats = "KZTIMER".equals(this.plugin) ? this.generateKztimerStats()
+				: this.generateGokzStats();
+
+		this.stats = BanStatsJsonDeserializer.parseOrNull(this.rawStats);
+
+		if (this.stats == null || this.stats.getTotalJumpCount() != this.jumpCount) {
+			throw new IllegalStateException("Generated stats weren't recognized");
+		}
+	}
+
+	/**
+	 * Generate GOKZ ban stats.
+	 *
+	 * @return	raw stats
+	 */
+	private String generateGokzStats() {
+		Random random = new Random(SEED);
+
+		StringBuilder pattern = new StringBuilder();
+
+		int perfCount = 0;
+		int inputCount = 0;
+
+		for (int i = 0; i < this.jumpCount; i++) {
+			int preInputCount = random.nextInt(5);
+			int postInputCount = random.nextInt(5);
+			boolean isPerf = random.nextInt(10) < 8;
+
+			pattern.append(String.format(JumpInput.GOKZ_FMT, preInputCount,
+					isPerf ? JumpInput.PERF_JUMP_CHAR : JumpInput.NORMAL_JUMP_CHAR, postInputCount));
+
+			perfCount += isPerf ? 1 : 0;
+			inputCount += preInputCount + postInputCount;
+		}
+
+		return String.format(Locale.ROOT, GOKZ_FMT, perfCount, this.jumpCount,
+				(float) inputCount / this.jumpCount, pattern);
+	}
+
+	/**
+	 * Generate KZTimer ban stats.
+	 *
+	 * @return	raw stats
+	 */
+	private String generateKztimerStats() {
+		Random random = new Random(SEED);
+
+		StringBuilder pattern = new StringBuilder();
+
+		int inputCount = 0;
+
+		for (int i = 0; i < this.jumpCount; i++) {
+			int jumpInputCount = 5 + random.nextInt(10);
+
+			if (i > 0) {
+				pattern.append(KZTIMER_SEPARATOR);
+			}
+
+			pattern.append(String.format(JumpInput.KZTIMER_FMT, jumpInputCount));
+
+			inputCount += jumpInputCount;
+		}
+
+		return String.format(Locale.ROOT, KZTIMER_FMT, pattern, (float) inputCount / this.jumpCount,
+				250f + random.nextFloat() * 50f, random.nextFloat() * 100f);
+	}
+
+	/**
+	 * Parse this raw stats into a scroll pattern.
+	 *
+	 * @return	scroll pattern
+	 */
+	@Benchmark
+	public ScrollPattern parse() {
+		return BanStatsJsonDeserializer.parseOrNull(this.rawStats)
+				.getScrollPattern();
+	}
+
+	/**
+	 * Get the cached scroll pattern of this parsed ban stats.
+	 *
+	 * @return	scroll pattern
+	 */
+	@Benchmark
+	public ScrollPattern cached() {
+		return this.stats.getScrollPattern();
+	}
+}
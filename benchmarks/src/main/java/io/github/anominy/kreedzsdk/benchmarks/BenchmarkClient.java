@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.structs.types.EVersion;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz client exposing its response body converters.
+ *
+ * <p>Never executes calls, so no network access is needed.
+ */
+final class BenchmarkClient extends KreedzClient {
+
+	/**
+	 * An empty annotation array.
+	 */
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	/**
+	 * Initialize a {@link BenchmarkClient} instance.
+	 *
+	 * @param jsonEngineName	JSON engine name
+	 */
+	BenchmarkClient(String jsonEngineName) {
+		super(EVersion.LATEST, jsonEngineName, null);
+	}
+
+	/**
+	 * Get a response body converter of the provided type.
+	 *
+	 * <p>Resolved the same way retrofit does for a service method.
+	 *
+	 * @param type	response type
+	 * @param <T>	response type
+	 * @return		response body converter
+	 */
+	<T> Converter<ResponseBody, T> converterOf(Type type) {
+		return this.retrofit.responseBodyConverter(type, NO_ANNOTATIONS);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.adapters.engines.GsonJsonEngine;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the {@code hashCode} {@literal &} {@code toString} caches
+ * of a single entity shared between threads.
+ *
+ * <p>Compares a lone reader against four concurrent ones,
+ * the difference is the cost of sharing the cached values.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CacheContentionBenchmark {
+
+	/**
+	 * A single-entity fixture name.
+	 */
+	@Param({"RECORD", "MAP", "MODE", "SERVER"})
+	public String fixture;
+
+	/**
+	 * A shared entity.
+	 */
+	private Object entity;
+
+	/**
+	 * Set up this benchmark state.
+	 *
+	 * @throws IOException	if the fixture is malformed
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		Fixture fixture = Fixture.valueOf(this.fixture);
+
+		this.entity = new BenchmarkClient(GsonJsonEngine.DEFAULT_NAME)
+				.converterOf(fixture.getType())
+				.convert(ResponseBody.create(MediaType.get("application/json"), fixture.readBytes()));
+	}
+
+	/**
+	 * Get this entity hash code from a single thread.
+	 *
+	 * @return	hash code
+	 */
+	@Benchmark
+	@Threads(1)
+	public int hashCodeSingle() {
+		return this.entity.hashCode();
+	}
+
+	/**
+	 * Get this entity hash code from four threads.
+	 *
+	 * @return	hash code
+	 */
+	@Benchmark
+	@Threads(4)
+	public int hashCodeShared() {
+		return this.entity.hashCode();
+	}
+
+	/**
+	 * Get this entity text-string from a single thread.
+	 *
+	 * @return	text-string
+	 */
+	@Benchmark
+	@Threads(1)
+	public String toStringSingle() {
+		return this.entity.toString();
+	}
+
+	/**
+	 * Get this entity text-string from four threads.
+	 *
+	 * @return	text-string
+	 */
+	@Benchmark
+	@Threads(4)
+	public String toStringShared() {
+		return this.entity.toString();
+	}
+}
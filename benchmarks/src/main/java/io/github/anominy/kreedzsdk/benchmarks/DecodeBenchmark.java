@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.adapters.engines.GsonJsonEngine;
+import io.github.anominy.kreedzsdk.adapters.engines.StreamingJsonEngine;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Converter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of decoding recorded API responses into entities.
+ *
+ * <p>Goes through the same retrofit response body converter
+ * a service call uses, w/ each of the bundled JSON engines.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DecodeBenchmark {
+
+	/**
+	 * A JSON media type.
+	 */
+	private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json");
+
+	/**
+	 * A fixture name.
+	 */
+	@Param({
+			"BANS", "JUMPSTATS", "MAPS", "MAP", "MAP_IMAGES", "MAPS_INFO",
+			"MODES", "MODE", "PLAYERS", "PLAYER_RANKS", "RECORD_COUNTS",
+			"RECORD_DISTRIBUTIONS", "RECORDS", "RECORD_BATCH", "RECORD",
+			"RECORD_FILTERS", "SERVERS", "SERVER", "HEALTH_STATUSES",
+			"HEALTH_STATUS", "STATUS", "STATUS_COMPONENTS", "STATUS_INCIDENTS",
+			"STATUS_SCHEDULED_INCIDENTS", "STATUS_SUMMARY"
+	})
+	public String fixture;
+
+	/**
+	 * A JSON engine name.
+	 */
+	@Param({GsonJsonEngine.DEFAULT_NAME, StreamingJsonEngine.NAME})
+	public String engine;
+
+	/**
+	 * A payload.
+	 */
+	private byte[] payload;
+
+	/**
+	 * A response body converter.
+	 */
+	private Converter<ResponseBody, ?> converter;
+
+	/**
+	 * Set up this benchmark state.
+	 */
+	@Setup
+	public void setUp() {
+		Fixture fixture = Fixture.valueOf(this.fixture);
+
+		this.payload = fixture.readBytes();
+		this.converter = new BenchmarkClient(this.engine).converterOf(fixture.getType());
+	}
+
+	/**
+	 * Decode this payload.
+	 *
+	 * @return	decoded entity
+	 * @throws IOException	if the payload is malformed
+	 */
+	@Benchmark
+	public Object decode() throws IOException {
+		return this.converter.convert(ResponseBody.create(JSON_MEDIA_TYPE, this.payload));
+	}
+}
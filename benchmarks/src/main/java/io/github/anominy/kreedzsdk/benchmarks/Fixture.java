@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ModeEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerRankEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.RecordCountEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordDistributionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ServerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusComponentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusScheduledIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A recorded API response payload w/ its decoding type.
+ *
+ * <p>Payloads are bundled under the /fixtures/ resource directory,
+ * so benchmarks never touch the network.
+ */
+@SuppressWarnings("unused")
+public enum Fixture {
+
+	/**
+	 * A response of the /bans/ endpoint.
+	 */
+	BANS("bans.json", listOf(BanEntity.class)),
+
+	/**
+	 * A response of the /jumpstats/ endpoint.
+	 */
+	JUMPSTATS("jumpstats.json", listOf(JumpstatEntity.class)),
+
+	/**
+	 * A response of the /maps/ endpoint.
+	 */
+	MAPS("maps.json", listOf(MapEntity.class)),
+
+	/**
+	 * A response of the /maps/{id}/ endpoint.
+	 */
+	MAP("map.json", MapEntity.class),
+
+	/**
+	 * A response of the map images endpoint.
+	 */
+	MAP_IMAGES("map-images.json", listOf(MapImageEntity.class)),
+
+	/**
+	 * A response of the map info endpoint.
+	 */
+	MAPS_INFO("maps-info.json", listOf(MapInfoEntity.class)),
+
+	/**
+	 * A response of the /modes/ endpoint.
+	 */
+	MODES("modes.json", listOf(ModeEntity.class)),
+
+	/**
+	 * A response of the /modes/id/{id}/ endpoint.
+	 */
+	MODE("mode.json", ModeEntity.class),
+
+	/**
+	 * A response of the /players/ endpoint.
+	 */
+	PLAYERS("players.json", listOf(PlayerEntity.class)),
+
+	/**
+	 * A response of the /player_ranks/ endpoint.
+	 */
+	PLAYER_RANKS("player-ranks.json", listOf(PlayerRankEntity.class)),
+
+	/**
+	 * A response of the /records/top/world_records/ endpoint.
+	 */
+	RECORD_COUNTS("records-top-world.json", listOf(RecordCountEntity.class)),
+
+	/**
+	 * A response of the /record_filters/distributions/ endpoint.
+	 */
+	RECORD_DISTRIBUTIONS("record-distributions.json", listOf(RecordDistributionEntity.class)),
+
+	/**
+	 * A response of the /records/top/ endpoint.
+	 */
+	RECORDS("records.json", listOf(RecordEntity.class)),
+
+	/**
+	 * A response of the /records/top/ endpoint decoded into a columnar batch.
+	 */
+	RECORD_BATCH("records.json", RecordBatch.class),
+
+	/**
+	 * A response of the /records/{id}/ endpoint.
+	 */
+	RECORD("record.json", RecordEntity.class),
+
+	/**
+	 * A response of the /record_filters/ endpoint.
+	 */
+	RECORD_FILTERS("record-filters.json", listOf(RecordFilterEntity.class)),
+
+	/**
+	 * A response of the /servers/ endpoint.
+	 */
+	SERVERS("servers.json", listOf(ServerEntity.class)),
+
+	/**
+	 * A response of the /servers/{id}/ endpoint.
+	 */
+	SERVER("server.json", ServerEntity.class),
+
+	/**
+	 * A response of the health endpoint.
+	 */
+	HEALTH_STATUSES("health.json", listOf(HealthStatusResponseEntity.class)),
+
+	/**
+	 * A response of the health endpoint w/ an endpoint key.
+	 */
+	HEALTH_STATUS("health-endpoint.json", HealthStatusResponseEntity.class),
+
+	/**
+	 * A response of the status page endpoint.
+	 */
+	STATUS("status.json", StatusResponseEntity.class),
+
+	/**
+	 * A response of the status page components endpoint.
+	 */
+	STATUS_COMPONENTS("status-components.json", StatusComponentsResponseEntity.class),
+
+	/**
+	 * A response of the status page incidents endpoint.
+	 */
+	STATUS_INCIDENTS("status-incidents.json", StatusIncidentsResponseEntity.class),
+
+	/**
+	 * A response of the status page scheduled incidents endpoint.
+	 */
+	STATUS_SCHEDULED_INCIDENTS("status-scheduled-incidents.json", StatusScheduledIncidentsResponseEntity.class),
+
+	/**
+	 * A response of the status page summary endpoint.
+	 */
+	STATUS_SUMMARY("status-summary.json", StatusSummaryResponseEntity.class);
+
+	/**
+	 * A resource directory of fixtures.
+	 */
+	private static final String RESOURCE_DIR = "/fixtures/";
+
+	/**
+	 * A resource file name.
+	 */
+	private final String fileName;
+
+	/**
+	 * A decoding type.
+	 */
+	private final Type type;
+
+	/**
+	 * Initialize a {@link Fixture} instance.
+	 *
+	 * @param fileName	resource file name
+	 * @param type		decoding type
+	 */
+	Fixture(String fileName, Type type) {
+		this.fileName = fileName;
+		this.type = type;
+	}
+
+	/**
+	 * Get this resource file name.
+	 *
+	 * @return	resource file name
+	 */
+	public String getFileName() {
+		return this.fileName;
+	}
+
+	/**
+	 * Get this decoding type.
+	 *
+	 * @return	decoding type
+	 */
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Read this payload.
+	 *
+	 * @return	payload bytes
+	 * @throws UncheckedIOException		if the resource is missing or unreadable
+	 */
+	public byte[] readBytes() {
+		try (InputStream in = Fixture.class.getResourceAsStream(RESOURCE_DIR + this.fileName)) {
+			if (in == null) {
+				throw new IOException("Fixture <" + this.fileName + "> wasn't found");
+			}
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+
+			for (int n; (n = in.read(buffer)) != -1; ) {
+				out.write(buffer, 0, n);
+			}
+
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Get a list type of the provided element class.
+	 *
+	 * @param clazz		element class
+	 * @return			list type
+	 */
+	private static Type listOf(Class<?> clazz) {
+		return TypeToken.getParameterized(List.class, clazz).getType();
+	}
+}
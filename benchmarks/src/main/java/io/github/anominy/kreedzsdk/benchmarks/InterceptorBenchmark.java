@@ -0,0 +1,309 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.clientapi.IBanService;
+import io.github.anominy.kreedzsdk.clientapi.IStatusService;
+import io.github.anominy.kreedzsdk.clientapi.interceptors.MethodVersionInterceptor;
+import io.github.anominy.kreedzsdk.clientapi.interceptors.ServiceBaseUrlInterceptor;
+import io.github.anominy.kreedzsdk.structs.types.EVersion;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the client interceptors.
+ *
+ * <p>Runs each interceptor against a chain that answers
+ * w/ a canned response instead of performing the call.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InterceptorBenchmark {
+
+	/**
+	 * A base URL of the client.
+	 */
+	private static final String BASE_URL = "https://kztimerglobal.com/api/v2/";
+
+	/**
+	 * A service base URL interceptor.
+	 */
+	private ServiceBaseUrlInterceptor serviceBaseUrlInterceptor;
+
+	/**
+	 * A method version interceptor.
+	 */
+	private MethodVersionInterceptor methodVersionInterceptor;
+
+	/**
+	 * A chain of the status summary request.
+	 */
+	private CannedChain statusSummaryChain;
+
+	/**
+	 * A chain of the /bans/ request.
+	 */
+	private CannedChain bansChain;
+
+	/**
+	 * A chain of a request w/o an invocation tag.
+	 */
+	private CannedChain untaggedChain;
+
+	/**
+	 * Set up this benchmark state.
+	 *
+	 * @throws NoSuchMethodException	if a service method is missing
+	 */
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		this.serviceBaseUrlInterceptor = new ServiceBaseUrlInterceptor();
+		this.methodVersionInterceptor = new MethodVersionInterceptor(EVersion.LATEST);
+
+		Method getSummary = IStatusService.class.getMethod("getSummary");
+
+		Method getBans = Arrays.stream(IBanService.class.getMethods())
+				.filter(method -> "getBans".equals(method.getName()))
+				.findFirst()
+				.orElseThrow(NoSuchMethodException::new);
+
+		this.statusSummaryChain = new CannedChain(taggedRequest(getSummary, "summary.json"));
+		this.bansChain = new CannedChain(taggedRequest(getBans, "bans"));
+		this.untaggedChain = new CannedChain(new Request.Builder()
+				.url(BASE_URL + "bans")
+				.build());
+	}
+
+	/**
+	 * Rewrite the status summary request URL.
+	 *
+	 * @return	response
+	 * @throws IOException	never
+	 */
+	@Benchmark
+	public Response serviceBaseUrl() throws IOException {
+		return this.serviceBaseUrlInterceptor.intercept(this.statusSummaryChain);
+	}
+
+	/**
+	 * Pass a request w/o an invocation tag through
+	 * the service base URL interceptor.
+	 *
+	 * @return	response
+	 * @throws IOException	never
+	 */
+	@Benchmark
+	public Response serviceBaseUrlUntagged() throws IOException {
+		return this.serviceBaseUrlInterceptor.intercept(this.untaggedChain);
+	}
+
+	/**
+	 * Check the /bans/ request method version.
+	 *
+	 * @return	response
+	 * @throws IOException	never
+	 */
+	@Benchmark
+	public Response methodVersion() throws IOException {
+		return this.methodVersionInterceptor.intercept(this.bansChain);
+	}
+
+	/**
+	 * Pass a request w/o an invocation tag through
+	 * the method version interceptor.
+	 *
+	 * @return	response
+	 * @throws IOException	never
+	 */
+	@Benchmark
+	public Response methodVersionUntagged() throws IOException {
+		return this.methodVersionInterceptor.intercept(this.untaggedChain);
+	}
+
+	/**
+	 * Create a request tagged w/ a service method invocation,
+	 * the same way retrofit does.
+	 *
+	 * @param method	service method
+	 * @param endpoint	relative endpoint
+	 * @return			tagged request
+	 */
+	private static Request taggedRequest(Method method, String endpoint) {
+		Invocation invocation = Invocation.of(method,
+				Arrays.asList(new Object[method.getParameterCount()]));
+
+		return new Request.Builder()
+				.url(BASE_URL + endpoint)
+				.tag(Invocation.class, invocation)
+				.build();
+	}
+
+	/**
+	 * An interceptor chain answering w/ a canned response.
+	 *
+	 * <p>Keeps the last proceeded request,
+	 * so the interceptor work can't be optimized away.
+	 */
+	private static final class CannedChain implements Interceptor.Chain {
+
+		/**
+		 * A JSON media type.
+		 */
+		private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json");
+
+		/**
+		 * A request.
+		 */
+		private final Request request;
+
+		/**
+		 * A canned response.
+		 */
+		private final Response response;
+
+		/**
+		 * A last proceeded request.
+		 */
+		private Request lastRequest;
+
+		/**
+		 * Initialize a {@link InterceptorBenchmark.CannedChain} instance.
+		 *
+		 * @param request	request
+		 */
+		private CannedChain(Request request) {
+			this.request = request;
+			this.response = new Response.Builder()
+					.request(request)
+					.protocol(Protocol.HTTP_1_1)
+					.code(200)
+					.message("OK")
+					.body(ResponseBody.create(JSON_MEDIA_TYPE, "[]"))
+					.build();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Request request() {
+			return this.request;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Response proceed(Request request) {
+			this.lastRequest = request;
+
+			return this.response;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Connection connection() {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Call call() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int connectTimeoutMillis() {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Interceptor.Chain withConnectTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int readTimeoutMillis() {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Interceptor.Chain withReadTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int writeTimeoutMillis() {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Interceptor.Chain withWriteTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+	}
+}
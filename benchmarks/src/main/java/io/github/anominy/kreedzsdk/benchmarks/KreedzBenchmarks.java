@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.uwutils.UwObject;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * A benchmarks launcher.
+ *
+ * <p>Accepts the regular JMH command line options, but writes
+ * results as JSON into {@code jmh-result-<version>.json} by default,
+ * so runs of different versions can be compared w/ each other.
+ */
+public final class KreedzBenchmarks {
+
+	/**
+	 * A result file name format.
+	 */
+	private static final String RESULT_FILE_FMT = "jmh-result-%s.json";
+
+	/**
+	 * A version used when the manifest has none.
+	 */
+	private static final String DEV_VERSION = "dev";
+
+	private KreedzBenchmarks() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Run benchmarks.
+	 *
+	 * @param args	JMH command line options
+	 * @throws CommandLineOptionException	if the options are malformed
+	 * @throws RunnerException				if a benchmark failed
+	 * @throws IOException					if the help failed to print
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+		if (cmdOptions.shouldHelp()) {
+			cmdOptions.showHelp();
+			return;
+		}
+
+		if (cmdOptions.shouldList()) {
+			new Runner(cmdOptions).list();
+			return;
+		}
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.parent(cmdOptions);
+
+		if (!cmdOptions.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+
+		if (!cmdOptions.getResult().hasValue()) {
+			String version = UwObject.ifNull(KreedzBenchmarks.class.getPackage()
+					.getImplementationVersion(), DEV_VERSION);
+
+			options.result(String.format(RESULT_FILE_FMT, version));
+		}
+
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.benchmarks;
+
+import io.github.anominy.kreedzsdk.adapters.engines.GsonJsonEngine;
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.services.requests.ban.GetBansRequest;
+import io.github.anominy.kreedzsdk.client.services.requests.jumpstat.GetJumpstatsRequest;
+import io.github.anominy.kreedzsdk.client.services.requests.record.GetRecordsTopRequest;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.types.EBanType;
+import io.github.anominy.kreedzsdk.structs.types.EJumpType;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.EVersion;
+import io.github.anominy.steamid.SteamId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Call;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of request building {@literal &} retrofit call creation.
+ *
+ * <p>Calls are never executed {@literal &} the reference data
+ * snapshot is disabled, so no network access is needed.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestBenchmark {
+
+	/**
+	 * A person identifier.
+	 */
+	private static final SteamId STEAM_ID = SteamId.fromSteam64OrNull(76561198045376573L);
+
+	/**
+	 * A kreedz client.
+	 */
+	private KreedzClient client;
+
+	/**
+	 * A pre-built /records/top/ request.
+	 */
+	private GetRecordsTopRequest recordsTopRequest;
+
+	/**
+	 * A pre-built /bans/ request.
+	 */
+	private GetBansRequest bansRequest;
+
+	/**
+	 * A pre-built /jumpstats/ request.
+	 */
+	private GetJumpstatsRequest jumpstatsRequest;
+
+	/**
+	 * Set up this benchmark state.
+	 */
+	@Setup
+	public void setUp() {
+		this.client = new KreedzClient(EVersion.LATEST, GsonJsonEngine.DEFAULT_NAME, null);
+
+		this.recordsTopRequest = this.recordsTop().build();
+		this.bansRequest = this.bans().build();
+		this.jumpstatsRequest = this.jumpstats().build();
+	}
+
+	/**
+	 * Build a /records/top/ request.
+	 *
+	 * @return	request
+	 */
+	@Benchmark
+	public GetRecordsTopRequest buildRecordsTop() {
+		return this.recordsTop().build();
+	}
+
+	/**
+	 * Create a call of the pre-built /records/top/ request.
+	 *
+	 * @return	call
+	 */
+	@Benchmark
+	public Call<List<RecordEntity>> callRecordsTop() {
+		return this.client.getRecordService()
+				.recordsTop()
+				.call(this.recordsTopRequest);
+	}
+
+	/**
+	 * Build a /bans/ request.
+	 *
+	 * @return	request
+	 */
+	@Benchmark
+	public GetBansRequest buildBans() {
+		return this.bans().build();
+	}
+
+	/**
+	 * Create a call of the pre-built /bans/ request.
+	 *
+	 * @return	call
+	 */
+	@Benchmark
+	public Call<List<BanEntity>> callBans() {
+		return this.client.getBanService()
+				.bans()
+				.call(this.bansRequest);
+	}
+
+	/**
+	 * Build a /jumpstats/ request.
+	 *
+	 * @return	request
+	 */
+	@Benchmark
+	public GetJumpstatsRequest buildJumpstats() {
+		return this.jumpstats().build();
+	}
+
+	/**
+	 * Create a call of the pre-built /jumpstats/ request.
+	 *
+	 * @return	call
+	 */
+	@Benchmark
+	public Call<List<JumpstatEntity>> callJumpstats() {
+		return this.client.getJumpstatService()
+				.jumpstats()
+				.call(this.jumpstatsRequest);
+	}
+
+	/**
+	 * Create a /records/top/ request manager w/ typical parameters.
+	 *
+	 * @return	request manager
+	 */
+	private GetRecordsTopRequest.Manager recordsTop() {
+		return this.client.getRecordService()
+				.recordsTop()
+				.setMapName("kz_beginnerblock_go")
+				.setMode(EMode.KZT)
+				.setStage(0)
+				.setRunType(ERunType.PRO)
+				.setLimit(100);
+	}
+
+	/**
+	 * Create a /bans/ request manager w/ typical parameters.
+	 *
+	 * @return	request manager
+	 */
+	private GetBansRequest.Manager bans() {
+		return this.client.getBanService()
+				.bans()
+				.setBanTypes(EBanType.BHOP_HACK, EBanType.BHOP_MACRO)
+				.setSteamId(STEAM_ID)
+				.setOffset(0)
+				.setLimit(1000);
+	}
+
+	/**
+	 * Create a /jumpstats/ request manager w/ typical parameters.
+	 *
+	 * @return	request manager
+	 */
+	private GetJumpstatsRequest.Manager jumpstats() {
+		return this.client.getJumpstatService()
+				.jumpstats()
+				.setJumpType(EJumpType.LJ)
+				.setDistanceGreaterThan(270)
+				.setSteamIds(STEAM_ID)
+				.setLimit(100);
+	}
+}
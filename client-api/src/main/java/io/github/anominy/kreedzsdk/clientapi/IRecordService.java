@@ -17,6 +17,7 @@
 package io.github.anominy.kreedzsdk.clientapi;
 
 import io.github.anominy.kreedzsdk.clientapi.annotations.MethodVersion;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
 import io.github.anominy.kreedzsdk.structs.entities.RecordCountEntity;
 import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
 import io.github.anominy.kreedzsdk.structs.types.EVersion;
@@ -66,6 +67,27 @@ public interface IRecordService {
 			@Query("limit") Integer limit
 	);
 
+	/**
+	 * GET request to /records/top/ endpoint
+	 * decoded into a {@link RecordBatch} instance.
+	 */
+	@MethodVersion(EVersion.V1_0)
+	@GET("records/top")
+	Call<RecordBatch> getRecordsTopBatch(
+			@Query("server_id") Integer serverId,
+			@Query("steamid64") Long steamId64,
+			@Query("map_id") Integer mapId,
+			@Query("map_name") String mapName,
+			@Query("tickrate") ETickrate tickrate,
+			@Query("overall") Boolean isOverall,
+			@Query("stage") Integer stage,
+			@Query("modes_list") String modeName,
+			@Query("has_teleports") ERunType runType,
+			@Query("player_name") String playerName,
+			@Query("offset") Integer offset,
+			@Query("limit") Integer limit
+	);
+
 	/**
 	 * GET request to /records/top/world_records/ endpoint.
 	 */
@@ -103,6 +125,27 @@ public interface IRecordService {
 			@Query("limit") Integer limit
 	);
 
+	/**
+	 * GET request to /records/top/recent/ endpoint
+	 * decoded into a {@link RecordBatch} instance.
+	 */
+	@MethodVersion(EVersion.V1_0)
+	@GET("records/top/recent")
+	Call<RecordBatch> getRecentRecordsBatch(
+			@Query("steamid64") Long steamId64,
+			@Query("map_id") Integer mapId,
+			@Query("map_name") String mapName,
+			@Query("has_teleports") ERunType runType,
+			@Query("tickrate") ETickrate tickrate,
+			@Query("stage") Integer stage,
+			@Query("modes_list") String modeName,
+			@Query("place_top_at_least") Integer minPlace,
+			@Query("place_top_overall_at_least") Integer minOverallPlace,
+			@Query("created_since") DateTime createdSinceDate,
+			@Query("offset") Integer offset,
+			@Query("limit") Integer limit
+	);
+
 	/**
 	 * GET request to /records/../ endpoint.
 	 */
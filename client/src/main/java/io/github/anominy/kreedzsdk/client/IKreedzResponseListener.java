@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client;
+
+/**
+ * A decoded response body listener.
+ *
+ * <p>Lets local indexes be fed from responses
+ * passing through a {@link KreedzClient} instance.
+ */
+@FunctionalInterface
+public interface IKreedzResponseListener {
+
+	/**
+	 * Handle a decoded response body.
+	 *
+	 * <p>Called on the response listener thread of the client
+	 * in the response order, off the thread that decoded it.
+	 * Must not block for long, the decoding threads wait
+	 * once the listener queue is full.
+	 *
+	 * @param body	decoded response body, may be null
+	 */
+	void onResponse(Object body);
+}
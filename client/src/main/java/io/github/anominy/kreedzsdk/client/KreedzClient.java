@@ -20,8 +20,12 @@ import com.google.gson.*;
 import io.github.anominy.kreedzsdk.client.services.*;
 import io.github.anominy.kreedzsdk.clientapi.*;
 import io.github.anominy.gsonnative.GsonNativeTypeAdapterFactory;
-import io.github.anominy.kreedzsdk.adapterapi.IKreedzTypeAdapter;
-import io.github.anominy.kreedzsdk.adapterapi.IKreedzTypeAdapterFactory;
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzJsonEngine;
+import io.github.anominy.kreedzsdk.adapters.engines.GsonJsonEngine;
+import io.github.anominy.kreedzsdk.adapters.utils.UKreedzAdapterSpi;
+import io.github.anominy.kreedzsdk.client.internal.JsonEngineConverterFactory;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.snapshot.ReferenceDataCache;
 import io.github.anominy.kreedzsdk.clientapi.interceptors.ServiceBaseUrlInterceptor;
 import io.github.anominy.kreedzsdk.clientapi.interceptors.MethodVersionInterceptor;
 import io.github.anominy.kreedzsdk.converterapi.IKreedzConverterFactory;
@@ -37,49 +41,23 @@ import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import retrofit2.Converter;
 import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
 
+import java.io.Closeable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 /**
  * A kreedz API client.
  */
 @SuppressWarnings({"unused", "unchecked"})
-public class KreedzClient implements IKreedzClient, IRetrofitClient {
-
-	/**
-	 * An initialized {@code VavrTypeAdapterFactory} class.
-	 *
-	 * @see <a href="https://vk.cc/co9mRa">vavr-gson by anominy on GitHub</a>
-	 */
-	private static final Class<?> VAVR_TYPE_ADAPTER_FACTORY_CLASS = initVavrTypeAdapterFactoryClass();
-
-	/**
-	 * Initialize the {@code VavrTypeAdapterFactory} class
-	 * or return {@code null} if failed.
-	 *
-	 * <p>Possible failure cases:
-	 * <ul>
-	 *     <li>There is no such class in the classpath.
-	 * </ul>
-	 *
-	 * @return	{@code VavrTypeAdapterFactory} class or {@code null}
-	 */
-	@SuppressWarnings("CallToPrintStackTrace")
-	private static Class<?> initVavrTypeAdapterFactoryClass() {
-		try {
-			return Class.forName("io.github.anominy.vavrgson.VavrTypeAdapterFactory");
-		} catch (LinkageError e) {
-			e.printStackTrace();
-		} catch (ClassNotFoundException ignored) {
-		}
-
-		return null;
-	}
+public class KreedzClient implements IKreedzClient, IRetrofitClient, Closeable {
 
 	/**
 	 * A map of service wrapper/implementation classes by their service interface class.
@@ -101,32 +79,139 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	 */
 	private static final String BASE_URL_FMT = "https://kztimerglobal.com/api/%s/";
 
+	/**
+	 * A response listener thread name.
+	 */
+	private static final String RESPONSE_LISTENER_THREAD_NAME = "kreedz-response-listener";
+
+	/**
+	 * A maximum count of responses pending to be passed to the listeners.
+	 */
+	private static final int RESPONSE_LISTENER_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * A JSON engine name system property key.
+	 *
+	 * <p>Used to select an {@link IKreedzJsonEngine} implementation
+	 * when no engine name was passed to the constructor.
+	 */
+	public static final String JSON_ENGINE_PROPERTY = "kreedzsdk.json.engine";
+
+	/**
+	 * A reference data snapshot file path system property key.
+	 *
+	 * <p>Used to enable the {@link ReferenceDataCache}
+	 * when no snapshot path was passed to the constructor.
+	 */
+	public static final String SNAPSHOT_PATH_PROPERTY = "kreedzsdk.snapshot.path";
+
 	/**
 	 * An API version.
 	 */
 	protected final EVersion version;
 
+	/**
+	 * A JSON engine name.
+	 */
+	protected final String jsonEngineName;
+
 	/**
 	 * A base URL.
 	 */
 	protected final String baseUrl;
 
+	/**
+	 * An HTTP client.
+	 */
+	protected final OkHttpClient httpClient;
+
 	/**
 	 * A retrofit.
 	 */
 	protected final Retrofit retrofit;
 
+	/**
+	 * A reference data snapshot file path.
+	 */
+	protected final Path snapshotPath;
+
+	/**
+	 * A reference data cache.
+	 *
+	 * <p>Initialized {@literal &} started on the first access.
+	 */
+	private volatile ReferenceDataCache referenceDataCache;
+
+	/**
+	 * A "isClosed" boolean value.
+	 */
+	private boolean isClosed;
+
+	/**
+	 * A list of response listeners.
+	 */
+	protected final List<IKreedzResponseListener> responseListeners;
+
+	/**
+	 * A response listener executor.
+	 */
+	protected final ExecutorService responseListenerExecutor;
+
 	/**
 	 * Initialize a {@link KreedzClient} instance.
 	 *
-	 * @param version	API version
+	 * <p>The reference data snapshot is loaded from the provided path
+	 * on the first {@link #getReferenceDataCache()} call w/o performing
+	 * any requests and refreshed in the background until closed.
+	 *
+	 * @param version			API version
+	 * @param jsonEngineName	JSON engine name
+	 * @param snapshotPath		reference data snapshot file path, may be null
 	 */
-	public KreedzClient(EVersion version) {
+	public KreedzClient(EVersion version, String jsonEngineName, Path snapshotPath) {
 		this.version = UwObject.ifNull(version, EVersion.LATEST);
 
+		this.jsonEngineName = UwObject.ifNull(jsonEngineName, GsonJsonEngine.DEFAULT_NAME);
+
 		this.baseUrl = String.format(BASE_URL_FMT, this.version.getApiName());
 
+		this.responseListeners = new CopyOnWriteArrayList<>();
+
+		this.responseListenerExecutor = UKreedzExecutors.newDaemonQueueExecutor(RESPONSE_LISTENER_THREAD_NAME,
+				RESPONSE_LISTENER_QUEUE_CAPACITY);
+
+		this.httpClient = this.initHttpClient();
+
 		this.retrofit = this.initRetrofit();
+
+		this.snapshotPath = snapshotPath;
+	}
+
+	/**
+	 * Initialize a {@link KreedzClient} instance.
+	 *
+	 * <p>Wraps {@link #KreedzClient(EVersion, String, Path)}
+	 * w/ the {@link #SNAPSHOT_PATH_PROPERTY} system property value
+	 * as the reference data snapshot file path.
+	 *
+	 * @param version			API version
+	 * @param jsonEngineName	JSON engine name
+	 */
+	public KreedzClient(EVersion version, String jsonEngineName) {
+		this(version, jsonEngineName, UwObject.ifNotNull(System.getProperty(SNAPSHOT_PATH_PROPERTY), Paths::get));
+	}
+
+	/**
+	 * Initialize a {@link KreedzClient} instance.
+	 *
+	 * <p>Wraps {@link #KreedzClient(EVersion, String)}
+	 * w/ the {@link #JSON_ENGINE_PROPERTY} system property value
+	 * as the JSON engine name.
+	 *
+	 * @param version	API version
+	 */
+	public KreedzClient(EVersion version) {
+		this(version, System.getProperty(JSON_ENGINE_PROPERTY));
 	}
 
 	/**
@@ -148,6 +233,15 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 		return this.version;
 	}
 
+	/**
+	 * Get this JSON engine name.
+	 *
+	 * @return	JSON engine name
+	 */
+	public final String getJsonEngineName() {
+		return this.jsonEngineName;
+	}
+
 	/**
 	 * Get this base URL.
 	 *
@@ -157,6 +251,108 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 		return this.baseUrl;
 	}
 
+	/**
+	 * Get this HTTP client.
+	 *
+	 * <p>Shared by all services of this client, raw requests
+	 * sent through it reuse their connections {@literal &} interceptors.
+	 *
+	 * @return	HTTP client
+	 */
+	public final OkHttpClient getHttpClient() {
+		return this.httpClient;
+	}
+
+	/**
+	 * Get this reference data snapshot file path.
+	 *
+	 * @return	reference data snapshot file path or {@code null}
+	 */
+	public final Path getSnapshotPath() {
+		return this.snapshotPath;
+	}
+
+	/**
+	 * Get this reference data cache.
+	 *
+	 * <p>Loads the cache {@literal &} schedules its background
+	 * refreshes on the first call.
+	 *
+	 * @return	reference data cache or {@code null} if no snapshot path was set
+	 * @throws IllegalStateException	if this client is closed
+	 * 									before the cache was loaded
+	 */
+	public final ReferenceDataCache getReferenceDataCache() {
+		ReferenceDataCache referenceDataCache = this.referenceDataCache;
+
+		if (referenceDataCache != null || this.snapshotPath == null) {
+			return referenceDataCache;
+		}
+
+		synchronized (this) {
+			if (this.referenceDataCache == null) {
+				if (this.isClosed) {
+					throw new IllegalStateException("Client is closed");
+				}
+
+				this.referenceDataCache = new ReferenceDataCache(this, this.snapshotPath)
+						.start();
+			}
+
+			return this.referenceDataCache;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background refreshes of the reference data cache
+	 * {@literal &} response listener notifications, requests
+	 * may still be performed.
+	 */
+	@Override
+	public void close() {
+		ReferenceDataCache referenceDataCache;
+
+		synchronized (this) {
+			this.isClosed = true;
+
+			referenceDataCache = this.referenceDataCache;
+		}
+
+		this.responseListenerExecutor.shutdown();
+
+		if (referenceDataCache != null) {
+			referenceDataCache.close();
+		}
+	}
+
+	/**
+	 * Add a response listener.
+	 *
+	 * <p>Listeners are notified on a single background thread
+	 * in the response order, a full queue of pending responses
+	 * makes the decoding threads wait for a free slot.
+	 *
+	 * @param listener	response listener
+	 */
+	public final void addResponseListener(IKreedzResponseListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener mustn't be <null>");
+		}
+
+		this.responseListeners.add(listener);
+	}
+
+	/**
+	 * Remove a response listener.
+	 *
+	 * @param listener	response listener
+	 */
+	public final void removeResponseListener(IKreedzResponseListener listener) {
+		this.responseListeners.remove(listener);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -362,8 +558,8 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	private Retrofit initRetrofit() {
 		Retrofit.Builder builder = new Retrofit.Builder()
 				.baseUrl(this.baseUrl)
-				.client(this.initHttpClient())
-				.addConverterFactory(this.initGsonConverterFactory())
+				.client(this.httpClient)
+				.addConverterFactory(this.initJsonConverterFactory())
 				.addConverterFactory(this.initQueryConverterFactory());
 
 		initConvertFactorySpi().forEach(builder::addConverterFactory);
@@ -391,28 +587,53 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	}
 
 	/**
-	 * Initialize a {@link GsonConverterFactory} instance.
+	 * Initialize a {@link JsonEngineConverterFactory} instance.
 	 *
-	 * @return	{@code GsonConverterFactory} instance
+	 * <p>Uses the default Gson engine if this JSON engine name
+	 * is {@link GsonJsonEngine#DEFAULT_NAME}, otherwise looks up
+	 * the kreedz JSON engine SPI module.
+	 *
+	 * @return	{@code JsonEngineConverterFactory} instance
 	 */
-	private Converter.Factory initGsonConverterFactory() {
+	private Converter.Factory initJsonConverterFactory() {
+		if (GsonJsonEngine.DEFAULT_NAME.equals(this.jsonEngineName)) {
+			return new JsonEngineConverterFactory(new GsonJsonEngine(initGson()),
+					this.responseListeners, this.responseListenerExecutor);
+		}
+
+		IKreedzJsonEngine engine = initJsonEngineSpi().stream()
+				.filter(entry -> this.jsonEngineName.equals(entry.getName()))
+				.findAny()
+				.orElse(null);
+
+		Objects.requireNonNull(engine, "Unable to find a <IKreedzJsonEngine>"
+				+ " implementation named <" + this.jsonEngineName + ">");
+
+		return new JsonEngineConverterFactory(engine, this.responseListeners, this.responseListenerExecutor);
+	}
+
+	/**
+	 * Initialize a {@link Gson} instance.
+	 *
+	 * <p>Binds all kreedz type adapter/s -factories.
+	 *
+	 * @return	{@code Gson} instance
+	 */
+	private static Gson initGson() {
 		GsonBuilder builder = new GsonBuilder()
 				.registerTypeAdapterFactory(new UwTypeAdapterFactory());
 
-		initTypeAdapterFactorySpi().forEach(builder::registerTypeAdapterFactory);
-		initTypeAdapterSpi().forEach(builder::registerTypeAdapter);
+		UKreedzAdapterSpi.findTypeAdapterFactories().forEach(builder::registerTypeAdapterFactory);
+		UKreedzAdapterSpi.findTypeAdapters().forEach(builder::registerTypeAdapter);
 
-		Object vavrTypeAdapterFactory
-				= UwReflect.newInstanceOrNull(VAVR_TYPE_ADAPTER_FACTORY_CLASS);
+		TypeAdapterFactory vavrTypeAdapterFactory = UKreedzAdapterSpi.newVavrTypeAdapterFactoryOrNull();
 
-		if (vavrTypeAdapterFactory instanceof TypeAdapterFactory) {
-			builder.registerTypeAdapterFactory((TypeAdapterFactory) vavrTypeAdapterFactory);
+		if (vavrTypeAdapterFactory != null) {
+			builder.registerTypeAdapterFactory(vavrTypeAdapterFactory);
 		}
 
-		Gson gson = builder.registerTypeAdapterFactory(new GsonNativeTypeAdapterFactory())
+		return builder.registerTypeAdapterFactory(new GsonNativeTypeAdapterFactory())
 				.create();
-
-		return GsonConverterFactory.create(gson);
 	}
 
 	/**
@@ -475,78 +696,12 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	}
 
 	/**
-	 * Initialize a kreedz type adapter SPI module.
-	 *
-	 * @return 	map of kreedz type adapter instances and their associated types
-	 */
-	private static Map<Class<?>, Object> initTypeAdapterSpi() {
-		List<Class<? extends IKreedzTypeAdapter>> classes
-				= UwBean.findSpiTypesOrNull(IKreedzTypeAdapter.class);
-
-		if (classes == null) {
-			return UwMap.EMPTY;
-		}
-
-		Map<Class<?>, Object> result = new HashMap<>(classes.size());
-
-		classes.forEach(clazz -> {
-			String className = clazz.getSimpleName();
-
-			Class<?> genericType;
-
-			if (TypeAdapter.class.isAssignableFrom(clazz)) {
-				genericType = UwReflect.getGenericTypeOrNull(clazz.getGenericSuperclass());
-			} else {
-				Type[] interfaceTypes = Stream.of(clazz.getGenericInterfaces())
-						.filter(type -> type instanceof ParameterizedType)
-						.filter(type -> {
-							Class<?> iClass = (Class<?>) ((ParameterizedType) type).getRawType();
-
-							return JsonDeserializer.class.isAssignableFrom(iClass)
-									|| JsonSerializer.class.isAssignableFrom(iClass);
-						})
-						.toArray(Type[]::new);
-
-				if (interfaceTypes.length == 0) {
-					throw new IllegalStateException(
-							"Unable to find a <TypeAdapter|JsonDeserializer|JsonSerializer>"
-									+ " implementation for <" + className + "> class"
-					);
-				}
-
-				genericType = UwReflect.getGenericTypeOrNull(interfaceTypes[0]);
-
-				if (interfaceTypes.length == 2) {
-					Class<?> genericType1 = UwReflect.getGenericTypeOrNull(interfaceTypes[1]);
-
-					if (genericType != genericType1) {
-						throw new IllegalStateException("Generic types of the <"
-								+ className + "> doesn't match each other");
-					}
-				}
-			}
-
-			Objects.requireNonNull(genericType, "Unable to find a <"
-					+ className + "> generic type");
-
-			IKreedzTypeAdapter adapter = UwReflect.newInstanceOrNull(clazz);
-
-			Objects.requireNonNull(adapter, "Unable to create a <"
-					+ className + "> instance");
-
-			result.put(genericType, adapter);
-		});
-
-		return Collections.unmodifiableMap(result);
-	}
-
-	/**
-	 * Initialize a kreedz type adapter factory SPI module.
+	 * Initialize a kreedz JSON engine SPI module.
 	 *
-	 * @return 	list of type adapter factory instances
+	 * @return	list of kreedz JSON engine instances
 	 */
-	private static List<TypeAdapterFactory> initTypeAdapterFactorySpi() {
-		return initSimpleSpi(IKreedzTypeAdapterFactory.class, TypeAdapterFactory.class);
+	private static List<IKreedzJsonEngine> initJsonEngineSpi() {
+		return initSimpleSpi(IKreedzJsonEngine.class, IKreedzJsonEngine.class);
 	}
 
 	/**
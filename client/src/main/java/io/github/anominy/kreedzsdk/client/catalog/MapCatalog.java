@@ -0,0 +1,342 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.catalog;
+
+import io.github.anominy.kreedzsdk.client.snapshot.ReferenceSnapshot;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable map catalog.
+ *
+ * <p>Joins maps w/ their information {@literal &} images by the map name
+ * once {@literal &} indexes the entries by the identifier, the name,
+ * the difficulty {@literal &} the validation state. Map names
+ * are searched through a {@link MapSearchIndex}.
+ *
+ * <p>Identifiers up to {@link #MAX_DENSE_ID} are looked up in an array,
+ * others in a hash map. Maps w/o an identifier, which reads as
+ * {@code 0}, are not indexed by it.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class MapCatalog {
+
+	/**
+	 * An empty map catalog.
+	 */
+	public static final MapCatalog EMPTY = new MapCatalog(
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList()
+	);
+
+	/**
+	 * A maximum identifier of the dense identifier index.
+	 */
+	private static final int MAX_DENSE_ID = 1 << 16;
+
+	/**
+	 * A list of entries in the map order.
+	 */
+	private final List<MapCatalogEntry> entries;
+
+	/**
+	 * An array of entries by their identifiers.
+	 */
+	private final MapCatalogEntry[] entriesByDenseId;
+
+	/**
+	 * A map of entries by their identifiers beyond {@link #MAX_DENSE_ID}.
+	 */
+	private final Map<Integer, MapCatalogEntry> entriesBySparseId;
+
+	/**
+	 * A map of entries by their lower case names.
+	 */
+	private final Map<String, MapCatalogEntry> entriesByName;
+
+	/**
+	 * A map of entry lists by their difficulties.
+	 */
+	private final Map<EDifficulty, List<MapCatalogEntry>> entriesByDifficulty;
+
+	/**
+	 * A list of validated entries.
+	 */
+	private final List<MapCatalogEntry> validatedEntries;
+
+	/**
+	 * A list of not validated entries.
+	 */
+	private final List<MapCatalogEntry> notValidatedEntries;
+
+	/**
+	 * A map name search index.
+	 */
+	private final MapSearchIndex searchIndex;
+
+	/**
+	 * Initialize a {@link MapCatalog} instance.
+	 *
+	 * @param maps			list of maps
+	 * @param mapsInfo		list of maps information
+	 * @param mapImages		list of map images
+	 */
+	public MapCatalog(List<MapEntity> maps, List<MapInfoEntity> mapsInfo, List<MapImageEntity> mapImages) {
+		if (maps == null) {
+			throw new IllegalArgumentException("Maps mustn't be <null>");
+		}
+
+		if (mapsInfo == null) {
+			throw new IllegalArgumentException("Maps information mustn't be <null>");
+		}
+
+		if (mapImages == null) {
+			throw new IllegalArgumentException("Map images mustn't be <null>");
+		}
+
+		Map<String, MapInfoEntity> mapsInfoByName = new HashMap<>();
+		Map<String, MapImageEntity> mapImagesByName = new HashMap<>();
+
+		for (MapInfoEntity mapInfo : mapsInfo) {
+			String name = toKeyOrNull(mapInfo == null ? null : mapInfo.getName());
+
+			if (name != null) {
+				mapsInfoByName.put(name, mapInfo);
+			}
+		}
+
+		for (MapImageEntity mapImage : mapImages) {
+			String name = toKeyOrNull(mapImage == null ? null : mapImage.getMapName());
+
+			if (name != null) {
+				mapImagesByName.put(name, mapImage);
+			}
+		}
+
+		List<MapCatalogEntry> entries = new ArrayList<>(maps.size());
+		Map<Integer, MapCatalogEntry> entriesBySparseId = new HashMap<>();
+		Map<String, MapCatalogEntry> entriesByName = new HashMap<>();
+		Map<EDifficulty, List<MapCatalogEntry>> entriesByDifficulty = new EnumMap<>(EDifficulty.class);
+		List<MapCatalogEntry> validatedEntries = new ArrayList<>();
+		List<MapCatalogEntry> notValidatedEntries = new ArrayList<>();
+
+		int maxDenseId = -1;
+
+		for (MapEntity map : maps) {
+			String name = toKeyOrNull(map == null ? null : map.getName());
+
+			if (name == null) {
+				continue;
+			}
+
+			MapCatalogEntry entry = new MapCatalogEntry(map,
+					mapsInfoByName.get(name), mapImagesByName.get(name));
+
+			int id = map.getId();
+
+			if (id > 0 && id <= MAX_DENSE_ID) {
+				maxDenseId = Math.max(maxDenseId, id);
+			} else if (id != 0) {
+				entriesBySparseId.put(id, entry);
+			}
+
+			entries.add(entry);
+			entriesByName.put(name, entry);
+
+			EDifficulty difficulty = entry.getDifficulty();
+
+			if (difficulty != null) {
+				entriesByDifficulty.computeIfAbsent(difficulty, key -> new ArrayList<>())
+						.add(entry);
+			}
+
+			if (entry.getIsValidated()) {
+				validatedEntries.add(entry);
+			} else {
+				notValidatedEntries.add(entry);
+			}
+		}
+
+		MapCatalogEntry[] entriesByDenseId = new MapCatalogEntry[maxDenseId + 1];
+
+		for (MapCatalogEntry entry : entries) {
+			int id = entry.getId();
+
+			if (id > 0 && id <= MAX_DENSE_ID) {
+				entriesByDenseId[id] = entry;
+			}
+		}
+
+		entriesByDifficulty.replaceAll((difficulty, difficultyEntries) ->
+				Collections.unmodifiableList(difficultyEntries));
+
+		this.entries = Collections.unmodifiableList(entries);
+		this.entriesByDenseId = entriesByDenseId;
+		this.entriesBySparseId = entriesBySparseId;
+		this.entriesByName = entriesByName;
+		this.entriesByDifficulty = entriesByDifficulty;
+		this.validatedEntries = Collections.unmodifiableList(validatedEntries);
+		this.notValidatedEntries = Collections.unmodifiableList(notValidatedEntries);
+
+		this.searchIndex = new MapSearchIndex(this.entries);
+	}
+
+	/**
+	 * Create a {@link MapCatalog} instance of the provided snapshot.
+	 *
+	 * @param snapshot	reference snapshot
+	 * @return			map catalog
+	 */
+	public static MapCatalog of(ReferenceSnapshot snapshot) {
+		if (snapshot == null) {
+			throw new IllegalArgumentException("Snapshot mustn't be <null>");
+		}
+
+		return new MapCatalog(
+				snapshot.getMaps(),
+				snapshot.getMapsInfo(),
+				snapshot.getMapImages()
+		);
+	}
+
+	/**
+	 * Get this entry count.
+	 *
+	 * @return	entry count
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Get this entries.
+	 *
+	 * @return	unmodifiable list of entries in the map order
+	 */
+	public List<MapCatalogEntry> getAll() {
+		return this.entries;
+	}
+
+	/**
+	 * Get an entry by its map identifier.
+	 *
+	 * @param id	map identifier
+	 * @return		entry or {@code null}
+	 */
+	public MapCatalogEntry getById(int id) {
+		if (id >= 0 && id <= MAX_DENSE_ID) {
+			return id < this.entriesByDenseId.length ? this.entriesByDenseId[id]
+					: null;
+		}
+
+		return this.entriesBySparseId.get(id);
+	}
+
+	/**
+	 * Get an entry by its map identifier.
+	 *
+	 * @param id	map identifier, may be null
+	 * @return		entry or {@code null}
+	 */
+	public MapCatalogEntry getById(Integer id) {
+		return id == null ? null
+				: this.getById(id.intValue());
+	}
+
+	/**
+	 * Get an entry by its map name, ignoring the case.
+	 *
+	 * @param name	map name
+	 * @return		entry or {@code null}
+	 */
+	public MapCatalogEntry getByName(String name) {
+		String key = toKeyOrNull(name);
+
+		return key == null ? null
+				: this.entriesByName.get(key);
+	}
+
+	/**
+	 * Get entries by their difficulty.
+	 *
+	 * @param difficulty	difficulty
+	 * @return				unmodifiable list of entries in the map order
+	 */
+	public List<MapCatalogEntry> getByDifficulty(EDifficulty difficulty) {
+		List<MapCatalogEntry> entries = difficulty == null ? null
+				: this.entriesByDifficulty.get(difficulty);
+
+		return entries == null ? Collections.emptyList()
+				: entries;
+	}
+
+	/**
+	 * Get entries by their validation state.
+	 *
+	 * @param isValidated	boolean value of whether the maps are validated
+	 * @return				unmodifiable list of entries in the map order
+	 */
+	public List<MapCatalogEntry> getByIsValidated(boolean isValidated) {
+		return isValidated ? this.validatedEntries
+				: this.notValidatedEntries;
+	}
+
+	/**
+	 * Get this map name search index.
+	 *
+	 * @return	map name search index
+	 */
+	public MapSearchIndex getSearchIndex() {
+		return this.searchIndex;
+	}
+
+	/**
+	 * Search entries by their map names.
+	 *
+	 * <p>Wraps {@link MapSearchIndex#search(String)}.
+	 *
+	 * @param text	search text
+	 * @return		search query
+	 */
+	public MapSearchIndex.Query search(String text) {
+		return this.searchIndex.search(text);
+	}
+
+	/**
+	 * Convert the provided map name to a lookup key.
+	 *
+	 * @param name	map name, may be null
+	 * @return		lower case map name or {@code null} if empty
+	 */
+	private static String toKeyOrNull(String name) {
+		return name == null || name.isEmpty() ? null
+				: name.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.catalog;
+
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.Mapper;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+import io.github.anominy.kreedzsdk.structs.types.mapimage.EMapImageFormat;
+import io.github.anominy.kreedzsdk.structs.utils.UMapImage;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A map catalog entry, a map joined w/ its information {@literal &} images.
+ */
+@SuppressWarnings("unused")
+public final class MapCatalogEntry {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = MapCatalogEntry.class.getSimpleName();
+
+	/**
+	 * A map.
+	 */
+	private final MapEntity map;
+
+	/**
+	 * A map information.
+	 */
+	private final MapInfoEntity info;
+
+	/**
+	 * A map image.
+	 */
+	private final MapImageEntity image;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link MapCatalogEntry} instance.
+	 *
+	 * @param map		map
+	 * @param info		map information, may be null
+	 * @param image		map image, may be null
+	 */
+	MapCatalogEntry(MapEntity map, MapInfoEntity info, MapImageEntity image) {
+		this.map = map;
+		this.info = info;
+		this.image = image;
+	}
+
+	/**
+	 * Get this map identifier.
+	 *
+	 * @return	map identifier or {@code 0} if missing
+	 */
+	public int getId() {
+		return this.map.getId();
+	}
+
+	/**
+	 * Get this map name.
+	 *
+	 * @return	map name
+	 */
+	public String getName() {
+		return this.map.getName();
+	}
+
+	/**
+	 * Get this difficulty.
+	 *
+	 * <p>Falls back to the map information difficulty.
+	 *
+	 * @return	difficulty or {@code null}
+	 */
+	public EDifficulty getDifficulty() {
+		EDifficulty difficulty = this.map.getDifficulty();
+
+		if (difficulty != null || this.info == null) {
+			return difficulty;
+		}
+
+		return this.info.getDifficulty();
+	}
+
+	/**
+	 * Get this boolean value of whether the map is validated.
+	 *
+	 * @return	boolean value of whether the map is validated
+	 */
+	public boolean getIsValidated() {
+		return Boolean.TRUE.equals(this.map.getIsValidated());
+	}
+
+	/**
+	 * Get this list of mappers.
+	 *
+	 * @return	list of mappers, empty if there's no map information
+	 */
+	public List<Mapper> getMappers() {
+		List<Mapper> mappers = this.info == null ? null
+				: this.info.getMappers();
+
+		return mappers == null ? Collections.emptyList()
+				: mappers;
+	}
+
+	/**
+	 * Get this image URL.
+	 *
+	 * @param format	image format
+	 * @return			image URL or {@code null} if the map has no images
+	 */
+	public String getImageUrl(EMapImageFormat format) {
+		return this.image == null ? null
+				: UMapImage.getUrlOrNull(this.getName(), format);
+	}
+
+	/**
+	 * Get this map.
+	 *
+	 * @return	map
+	 */
+	public MapEntity getMap() {
+		return this.map;
+	}
+
+	/**
+	 * Get this map information.
+	 *
+	 * @return	map information or {@code null}
+	 */
+	public MapInfoEntity getInfo() {
+		return this.info;
+	}
+
+	/**
+	 * Get this map image.
+	 *
+	 * @return	map image or {@code null}
+	 */
+	public MapImageEntity getImage() {
+		return this.image;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		MapCatalogEntry that = (MapCatalogEntry) obj;
+
+		return Objects.equals(this.map, that.map)
+				&& Objects.equals(this.info, that.info)
+				&& Objects.equals(this.image, that.image);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.map,
+						this.info,
+						this.image
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "map=" + this.map
+				+ ", info=" + this.info
+				+ ", image=" + this.image
+				+ "]");
+	}
+}
@@ -0,0 +1,590 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.catalog;
+
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable map name search index.
+ *
+ * <p>Resolves prefixes through a compressed trie over lower case map
+ * names {@literal &} their underscore separated suffixes, so {@code "lego"}
+ * matches {@code "kz_lego"}, {@literal &} tolerates typos through a trigram
+ * index, accepting names w/ at least {@link #MIN_FUZZY_COVERAGE} of the text
+ * trigrams {@literal &} scoring them by the Dice coefficient.
+ *
+ * <p>Matches are ranked full name prefixes first, then suffix prefixes,
+ * then fuzzy matches by their similarity, shorter names first on ties.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class MapSearchIndex {
+
+	/**
+	 * A minimum share of the search text trigrams a fuzzy match must contain.
+	 */
+	public static final double MIN_FUZZY_COVERAGE = 0.5d;
+
+	/**
+	 * A score of a full name prefix match.
+	 */
+	private static final double NAME_PREFIX_SCORE = 3.0d;
+
+	/**
+	 * A score of a suffix prefix match.
+	 */
+	private static final double SUFFIX_PREFIX_SCORE = 2.0d;
+
+	/**
+	 * A name separator the suffixes start after.
+	 */
+	private static final char SEPARATOR = '_';
+
+	/**
+	 * A trigram padding character.
+	 */
+	private static final char PADDING = '\u0000';
+
+	/**
+	 * An array of entries.
+	 */
+	private final MapCatalogEntry[] entries;
+
+	/**
+	 * An array of lower case entry names.
+	 */
+	private final String[] names;
+
+	/**
+	 * An array of sorted trie terms.
+	 */
+	private final String[] terms;
+
+	/**
+	 * An array of entry indices by their term indices.
+	 */
+	private final int[] termEntries;
+
+	/**
+	 * An array of whether the terms are full names by their term indices.
+	 */
+	private final boolean[] termIsName;
+
+	/**
+	 * A trie root node.
+	 */
+	private final Node root;
+
+	/**
+	 * A map of entry index postings by their packed trigrams.
+	 */
+	private final Map<Long, int[]> postings;
+
+	/**
+	 * An array of distinct trigram counts by their entry indices.
+	 */
+	private final int[] trigramCounts;
+
+	/**
+	 * Initialize a {@link MapSearchIndex} instance.
+	 *
+	 * @param entries	list of entries
+	 */
+	MapSearchIndex(List<MapCatalogEntry> entries) {
+		int size = entries.size();
+
+		this.entries = entries.toArray(new MapCatalogEntry[0]);
+		this.names = new String[size];
+
+		List<long[]> termRefs = new ArrayList<>();
+		List<String> termList = new ArrayList<>();
+
+		for (int i = 0; i < size; i++) {
+			String name = this.entries[i].getName()
+					.toLowerCase(Locale.ROOT);
+
+			this.names[i] = name;
+
+			for (int from = 0; from < name.length(); from = name.indexOf(SEPARATOR, from) + 1) {
+				termRefs.add(new long[] {termList.size(), i, from});
+				termList.add(name.substring(from));
+
+				if (name.indexOf(SEPARATOR, from) < 0) {
+					break;
+				}
+			}
+		}
+
+		termRefs.sort((a, b) -> termList.get((int) a[0]).compareTo(termList.get((int) b[0])));
+
+		int termCount = termRefs.size();
+
+		this.terms = new String[termCount];
+		this.termEntries = new int[termCount];
+		this.termIsName = new boolean[termCount];
+
+		for (int i = 0; i < termCount; i++) {
+			long[] termRef = termRefs.get(i);
+
+			this.terms[i] = termList.get((int) termRef[0]);
+			this.termEntries[i] = (int) termRef[1];
+			this.termIsName[i] = termRef[2] == 0L;
+		}
+
+		this.root = termCount == 0 ? null
+				: build(this.terms, 0, termCount, 0);
+
+		Map<Long, List<Integer>> postingLists = new HashMap<>();
+
+		this.trigramCounts = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			long[] trigrams = trigramsOf(this.names[i]);
+
+			this.trigramCounts[i] = trigrams.length;
+
+			for (long trigram : trigrams) {
+				postingLists.computeIfAbsent(trigram, key -> new ArrayList<>())
+						.add(i);
+			}
+		}
+
+		this.postings = new HashMap<>(postingLists.size() * 2);
+
+		postingLists.forEach((trigram, postingList) -> this.postings.put(trigram,
+				postingList.stream()
+						.mapToInt(Integer::intValue)
+						.toArray()));
+	}
+
+	/**
+	 * Create a new search query.
+	 *
+	 * @param text	search text
+	 * @return		search query
+	 */
+	public Query search(String text) {
+		return new Query(this, text);
+	}
+
+	/**
+	 * Get this indexed entry count.
+	 *
+	 * @return	entry count
+	 */
+	public int size() {
+		return this.entries.length;
+	}
+
+	/**
+	 * Score the entries matching the provided text.
+	 *
+	 * @param text		lower case search text
+	 * @param scores	array to put scores in by entry indices
+	 */
+	private void score(String text, double[] scores) {
+		Node node = this.root;
+		int depth = 0;
+
+		while (node != null) {
+			int matchLength = Math.min(node.label.length(), text.length() - depth);
+
+			if (!text.regionMatches(depth, node.label, 0, matchLength)) {
+				node = null;
+				break;
+			}
+
+			depth += matchLength;
+
+			if (depth == text.length()) {
+				break;
+			}
+
+			node = node.childOf(text.charAt(depth));
+		}
+
+		if (node != null) {
+			for (int i = node.from; i < node.to; i++) {
+				int entryIndex = this.termEntries[i];
+				double score = this.termIsName[i] ? NAME_PREFIX_SCORE
+						: SUFFIX_PREFIX_SCORE;
+
+				scores[entryIndex] = Math.max(scores[entryIndex], score);
+			}
+		}
+
+		long[] trigrams = trigramsOf(text);
+
+		if (trigrams.length == 0) {
+			return;
+		}
+
+		int[] sharedCounts = new int[this.entries.length];
+
+		for (long trigram : trigrams) {
+			int[] posting = this.postings.get(trigram);
+
+			if (posting == null) {
+				continue;
+			}
+
+			for (int entryIndex : posting) {
+				sharedCounts[entryIndex]++;
+			}
+		}
+
+		for (int i = 0; i < sharedCounts.length; i++) {
+			if (sharedCounts[i] == 0) {
+				continue;
+			}
+
+			if (sharedCounts[i] < MIN_FUZZY_COVERAGE * trigrams.length) {
+				continue;
+			}
+
+			double similarity = 2.0d * sharedCounts[i] / (trigrams.length + this.trigramCounts[i]);
+
+			scores[i] = Math.max(scores[i], similarity);
+		}
+	}
+
+	/**
+	 * Build a trie node of the provided sorted term range.
+	 *
+	 * @param terms		array of sorted terms
+	 * @param from		first term index, inclusive
+	 * @param to		last term index, exclusive
+	 * @param depth		term length matched by the parent nodes
+	 * @return			trie node
+	 */
+	private static Node build(String[] terms, int from, int to, int depth) {
+		String first = terms[from];
+		String last = terms[to - 1];
+
+		int end = depth;
+		int maxEnd = Math.min(first.length(), last.length());
+
+		while (end < maxEnd && first.charAt(end) == last.charAt(end)) {
+			end++;
+		}
+
+		int childFrom = from;
+
+		while (childFrom < to && terms[childFrom].length() == end) {
+			childFrom++;
+		}
+
+		List<Node> children = new ArrayList<>();
+
+		while (childFrom < to) {
+			char c = terms[childFrom].charAt(end);
+			int childTo = childFrom + 1;
+
+			while (childTo < to && terms[childTo].charAt(end) == c) {
+				childTo++;
+			}
+
+			children.add(build(terms, childFrom, childTo, end));
+			childFrom = childTo;
+		}
+
+		return new Node(first.substring(depth, end), from, to, children.toArray(new Node[0]));
+	}
+
+	/**
+	 * Get distinct packed trigrams of the provided text.
+	 *
+	 * <p>Pads the text w/ two leading {@literal &} one trailing
+	 * character, so short texts {@literal &} word starts weigh more.
+	 *
+	 * @param text	lower case text
+	 * @return		sorted array of packed trigrams
+	 */
+	private static long[] trigramsOf(String text) {
+		if (text.isEmpty()) {
+			return new long[0];
+		}
+
+		String padded = "" + PADDING + PADDING + text + PADDING;
+		long[] trigrams = new long[padded.length() - 2];
+
+		for (int i = 0; i < trigrams.length; i++) {
+			trigrams[i] = ((long) padded.charAt(i) << 32)
+					| ((long) padded.charAt(i + 1) << 16)
+					| padded.charAt(i + 2);
+		}
+
+		Arrays.sort(trigrams);
+
+		int count = 0;
+
+		for (int i = 0; i < trigrams.length; i++) {
+			if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+				trigrams[count++] = trigrams[i];
+			}
+		}
+
+		return Arrays.copyOf(trigrams, count);
+	}
+
+	/**
+	 * A compressed trie node.
+	 */
+	private static final class Node {
+
+		/**
+		 * An edge label from the parent node.
+		 */
+		private final String label;
+
+		/**
+		 * A first term index of this subtree, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * A last term index of this subtree, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * An array of child nodes sorted by their first label characters.
+		 */
+		private final Node[] children;
+
+		/**
+		 * Initialize a {@link Node} instance.
+		 *
+		 * @param label		edge label
+		 * @param from		first term index, inclusive
+		 * @param to		last term index, exclusive
+		 * @param children	array of child nodes
+		 */
+		private Node(String label, int from, int to, Node[] children) {
+			this.label = label;
+			this.from = from;
+			this.to = to;
+			this.children = children;
+		}
+
+		/**
+		 * Get a child node by its first label character.
+		 *
+		 * @param c		character
+		 * @return		child node or {@code null}
+		 */
+		private Node childOf(char c) {
+			int low = 0;
+			int high = this.children.length - 1;
+
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				char midChar = this.children[mid].label.charAt(0);
+
+				if (midChar < c) {
+					low = mid + 1;
+				} else if (midChar > c) {
+					high = mid - 1;
+				} else {
+					return this.children[mid];
+				}
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * A map name search query.
+	 */
+	public static final class Query {
+
+		/**
+		 * A map search index.
+		 */
+		private final MapSearchIndex index;
+
+		/**
+		 * A lower case search text.
+		 */
+		private final String text;
+
+		/**
+		 * A bit mask of difficulty ordinals.
+		 */
+		private long difficultyMask = -1L;
+
+		/**
+		 * A boolean value of whether the maps are validated.
+		 */
+		private Boolean isValidated;
+
+		/**
+		 * A limit.
+		 */
+		private int limit = Integer.MAX_VALUE;
+
+		/**
+		 * Initialize a {@link Query} instance.
+		 *
+		 * @param index		map search index
+		 * @param text		search text
+		 */
+		private Query(MapSearchIndex index, String text) {
+			this.index = index;
+			this.text = text == null ? ""
+					: text.trim().toLowerCase(Locale.ROOT);
+		}
+
+		/**
+		 * Set this collection of difficulties.
+		 *
+		 * @param difficulties	collection of difficulties, may be null
+		 * @return				this instance
+		 */
+		public Query setDifficulties(Collection<EDifficulty> difficulties) {
+			if (difficulties == null || difficulties.isEmpty()) {
+				this.difficultyMask = -1L;
+
+				return this;
+			}
+
+			long difficultyMask = 0L;
+
+			for (EDifficulty difficulty : difficulties) {
+				if (difficulty != null) {
+					difficultyMask |= 1L << difficulty.ordinal();
+				}
+			}
+
+			this.difficultyMask = difficultyMask;
+
+			return this;
+		}
+
+		/**
+		 * Set this array of difficulties.
+		 *
+		 * @param difficulties	array of difficulties, may be null
+		 * @return				this instance
+		 */
+		public Query setDifficulties(EDifficulty... difficulties) {
+			return this.setDifficulties(difficulties == null ? null : Arrays.asList(difficulties));
+		}
+
+		/**
+		 * Set this boolean value of whether the maps are validated.
+		 *
+		 * @param isValidated	boolean value of whether the maps are validated, may be null
+		 * @return				this instance
+		 */
+		public Query setIsValidated(Boolean isValidated) {
+			this.isValidated = isValidated;
+			return this;
+		}
+
+		/**
+		 * Set this limit.
+		 *
+		 * @param limit		limit
+		 * @return			this instance
+		 */
+		public Query setLimit(int limit) {
+			this.limit = Math.max(limit, 0);
+			return this;
+		}
+
+		/**
+		 * Execute this query.
+		 *
+		 * @return	unmodifiable list of matching entries, best match first
+		 */
+		public List<MapCatalogEntry> execute() {
+			MapSearchIndex index = this.index;
+
+			if (this.text.isEmpty() || this.limit == 0 || index.entries.length == 0) {
+				return Collections.emptyList();
+			}
+
+			double[] scores = new double[index.entries.length];
+
+			index.score(this.text, scores);
+
+			List<Integer> matches = new ArrayList<>();
+
+			for (int i = 0; i < scores.length; i++) {
+				if (scores[i] > 0.0d && this.isAccepted(index.entries[i])) {
+					matches.add(i);
+				}
+			}
+
+			matches.sort((a, b) -> {
+				int result = Double.compare(scores[b], scores[a]);
+
+				if (result != 0) {
+					return result;
+				}
+
+				result = Integer.compare(index.names[a].length(), index.names[b].length());
+
+				return result != 0 ? result
+						: index.names[a].compareTo(index.names[b]);
+			});
+
+			int count = Math.min(matches.size(), this.limit);
+			List<MapCatalogEntry> entries = new ArrayList<>(count);
+
+			for (int i = 0; i < count; i++) {
+				entries.add(index.entries[matches.get(i)]);
+			}
+
+			return Collections.unmodifiableList(entries);
+		}
+
+		/**
+		 * Check whether the provided entry passes this filters.
+		 *
+		 * @param entry		entry
+		 * @return			boolean value as a result,
+		 * 					true - if passes, false - otherwise
+		 */
+		private boolean isAccepted(MapCatalogEntry entry) {
+			if (this.isValidated != null && this.isValidated != entry.getIsValidated()) {
+				return false;
+			}
+
+			if (this.difficultyMask == -1L) {
+				return true;
+			}
+
+			EDifficulty difficulty = entry.getDifficulty();
+
+			return difficulty != null
+					&& (this.difficultyMask & (1L << difficulty.ordinal())) != 0L;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.delta;
+
+/**
+ * A snapshot delta listener, a downstream cache or index
+ * updated incrementally by a {@link SnapshotDiffer}.
+ *
+ * @param <K>	key type
+ * @param <V>	value type
+ */
+@FunctionalInterface
+public interface IDeltaListener<K, V> {
+
+	/**
+	 * Apply a snapshot delta.
+	 *
+	 * <p>Called in the snapshot update order while the differ
+	 * is locked, must not block for long. The first delta
+	 * of a differ adds the whole snapshot.
+	 *
+	 * @param delta		snapshot delta, always not empty
+	 */
+	void onDelta(SnapshotDelta<K, V> delta);
+}
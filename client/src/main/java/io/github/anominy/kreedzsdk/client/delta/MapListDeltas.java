@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.delta;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A delta tracker of the static map list endpoints.
+ *
+ * <p>Diffs the whole lists of the /main/maps.min.json/, /main/global.min.json/,
+ * /main/non-global.min.json/, /main/uncompleted.min.json/ {@literal &}
+ * /public/maps.min.json/ endpoints against their previous snapshots, map
+ * information keyed by the map identifier {@literal &} map images keyed
+ * by the lower case map name.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class MapListDeltas {
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A differ of all map information.
+	 */
+	private final SnapshotDiffer<Integer, MapInfoEntity> mapsInfo;
+
+	/**
+	 * A differ of global map information.
+	 */
+	private final SnapshotDiffer<Integer, MapInfoEntity> globalMapsInfo;
+
+	/**
+	 * A differ of non-global map information.
+	 */
+	private final SnapshotDiffer<Integer, MapInfoEntity> nonGlobalMapsInfo;
+
+	/**
+	 * A differ of uncompleted map information.
+	 */
+	private final SnapshotDiffer<Integer, MapInfoEntity> uncompletedMapsInfo;
+
+	/**
+	 * A differ of map images.
+	 */
+	private final SnapshotDiffer<String, MapImageEntity> mapImages;
+
+	/**
+	 * Initialize a {@link MapListDeltas} instance.
+	 *
+	 * @param client	kreedz client
+	 */
+	public MapListDeltas(KreedzClient client) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		this.client = client;
+		this.mapsInfo = new SnapshotDiffer<>(MapInfoEntity::getId);
+		this.globalMapsInfo = new SnapshotDiffer<>(MapInfoEntity::getId);
+		this.nonGlobalMapsInfo = new SnapshotDiffer<>(MapInfoEntity::getId);
+		this.uncompletedMapsInfo = new SnapshotDiffer<>(MapInfoEntity::getId);
+		this.mapImages = new SnapshotDiffer<>(MapListDeltas::toKeyOrNull);
+	}
+
+	/**
+	 * Get this differ of all map information.
+	 *
+	 * @return	snapshot differ
+	 */
+	public SnapshotDiffer<Integer, MapInfoEntity> getMapsInfo() {
+		return this.mapsInfo;
+	}
+
+	/**
+	 * Get this differ of global map information.
+	 *
+	 * @return	snapshot differ
+	 */
+	public SnapshotDiffer<Integer, MapInfoEntity> getGlobalMapsInfo() {
+		return this.globalMapsInfo;
+	}
+
+	/**
+	 * Get this differ of non-global map information.
+	 *
+	 * @return	snapshot differ
+	 */
+	public SnapshotDiffer<Integer, MapInfoEntity> getNonGlobalMapsInfo() {
+		return this.nonGlobalMapsInfo;
+	}
+
+	/**
+	 * Get this differ of uncompleted map information.
+	 *
+	 * @return	snapshot differ
+	 */
+	public SnapshotDiffer<Integer, MapInfoEntity> getUncompletedMapsInfo() {
+		return this.uncompletedMapsInfo;
+	}
+
+	/**
+	 * Get this differ of map images.
+	 *
+	 * @return	snapshot differ
+	 */
+	public SnapshotDiffer<String, MapImageEntity> getMapImages() {
+		return this.mapImages;
+	}
+
+	/**
+	 * Refresh all map lists.
+	 *
+	 * <p>A failed list keeps its previous snapshot,
+	 * the remaining ones are refreshed anyway.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				boolean value as a result,
+	 * 						true - refreshed all, false - a list failed
+	 */
+	public boolean refresh(Throwable[] throwables) {
+		boolean isRefreshed = this.refreshMapsInfo(throwables) != null;
+
+		isRefreshed &= this.refreshGlobalMapsInfo(throwables) != null;
+		isRefreshed &= this.refreshNonGlobalMapsInfo(throwables) != null;
+		isRefreshed &= this.refreshUncompletedMapsInfo(throwables) != null;
+		isRefreshed &= this.refreshMapImages(throwables) != null;
+
+		return isRefreshed;
+	}
+
+	/**
+	 * Refresh all map information.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				snapshot delta or {@code null} if failed
+	 */
+	public SnapshotDelta<Integer, MapInfoEntity> refreshMapsInfo(Throwable[] throwables) {
+		return update(this.mapsInfo, this.client.getMapInfoService()
+				.all()
+				.execute(throwables));
+	}
+
+	/**
+	 * Refresh global map information.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				snapshot delta or {@code null} if failed
+	 */
+	public SnapshotDelta<Integer, MapInfoEntity> refreshGlobalMapsInfo(Throwable[] throwables) {
+		return update(this.globalMapsInfo, this.client.getMapInfoService()
+				.global()
+				.execute(throwables));
+	}
+
+	/**
+	 * Refresh non-global map information.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				snapshot delta or {@code null} if failed
+	 */
+	public SnapshotDelta<Integer, MapInfoEntity> refreshNonGlobalMapsInfo(Throwable[] throwables) {
+		return update(this.nonGlobalMapsInfo, this.client.getMapInfoService()
+				.nonGlobal()
+				.execute(throwables));
+	}
+
+	/**
+	 * Refresh uncompleted map information.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				snapshot delta or {@code null} if failed
+	 */
+	public SnapshotDelta<Integer, MapInfoEntity> refreshUncompletedMapsInfo(Throwable[] throwables) {
+		return update(this.uncompletedMapsInfo, this.client.getMapInfoService()
+				.uncompleted()
+				.execute(throwables));
+	}
+
+	/**
+	 * Refresh map images.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				snapshot delta or {@code null} if failed
+	 */
+	public SnapshotDelta<String, MapImageEntity> refreshMapImages(Throwable[] throwables) {
+		return update(this.mapImages, this.client.getMapImageService()
+				.mapImages()
+				.execute(throwables));
+	}
+
+	/**
+	 * Update a differ w/ a fetched list.
+	 *
+	 * @param differ	snapshot differ
+	 * @param values	list of values, may be null
+	 * @param <K>		key type
+	 * @param <V>		value type
+	 * @return			snapshot delta or {@code null} if the list is null
+	 */
+	private static <K, V> SnapshotDelta<K, V> update(SnapshotDiffer<K, V> differ, List<V> values) {
+		return values == null ? null
+				: differ.update(values);
+	}
+
+	/**
+	 * Get a map image key.
+	 *
+	 * @param mapImage	map image
+	 * @return			lower case map name or {@code null}
+	 */
+	private static String toKeyOrNull(MapImageEntity mapImage) {
+		String mapName = mapImage.getMapName();
+
+		return mapName == null ? null
+				: mapName.toLowerCase(Locale.ROOT);
+	}
+}
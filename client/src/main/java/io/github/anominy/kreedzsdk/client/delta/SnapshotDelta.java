@@ -0,0 +1,218 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.delta;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A difference between two snapshots of a full-list endpoint.
+ *
+ * <p>Maps keep the order of the newer snapshot,
+ * removed entries keep the order of the older one.
+ *
+ * @param <K>	key type
+ * @param <V>	value type
+ */
+@SuppressWarnings("unused")
+public final class SnapshotDelta<K, V> {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = SnapshotDelta.class.getSimpleName();
+
+	/**
+	 * A map of added values by keys.
+	 */
+	private final Map<K, V> added;
+
+	/**
+	 * A map of removed values by keys.
+	 */
+	private final Map<K, V> removed;
+
+	/**
+	 * A map of changed current values by keys.
+	 */
+	private final Map<K, V> changed;
+
+	/**
+	 * A map of changed previous values by keys.
+	 */
+	private final Map<K, V> changedPrev;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link SnapshotDelta} instance.
+	 *
+	 * @param added			map of added values by keys
+	 * @param removed		map of removed values by keys
+	 * @param changed		map of changed current values by keys
+	 * @param changedPrev	map of changed previous values by keys
+	 */
+	SnapshotDelta(Map<K, V> added, Map<K, V> removed, Map<K, V> changed, Map<K, V> changedPrev) {
+		this.added = Collections.unmodifiableMap(added);
+		this.removed = Collections.unmodifiableMap(removed);
+		this.changed = Collections.unmodifiableMap(changed);
+		this.changedPrev = Collections.unmodifiableMap(changedPrev);
+	}
+
+	/**
+	 * Get this map of added values by keys.
+	 *
+	 * @return	unmodifiable map of added values
+	 */
+	public Map<K, V> getAdded() {
+		return this.added;
+	}
+
+	/**
+	 * Get this map of removed values by keys.
+	 *
+	 * @return	unmodifiable map of removed values
+	 */
+	public Map<K, V> getRemoved() {
+		return this.removed;
+	}
+
+	/**
+	 * Get this map of changed current values by keys.
+	 *
+	 * @return	unmodifiable map of changed current values
+	 */
+	public Map<K, V> getChanged() {
+		return this.changed;
+	}
+
+	/**
+	 * Get this map of changed previous values by keys,
+	 * e.g. to unlink them from secondary indexes.
+	 *
+	 * @return	unmodifiable map of changed previous values
+	 */
+	public Map<K, V> getChangedPrev() {
+		return this.changedPrev;
+	}
+
+	/**
+	 * Check if this delta is empty.
+	 *
+	 * @return	boolean value as a result,
+	 * 			true - yes, false - no
+	 */
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	/**
+	 * Get this added, removed {@literal &} changed entry count.
+	 *
+	 * @return	entry count
+	 */
+	public int size() {
+		return this.added.size() + this.removed.size() + this.changed.size();
+	}
+
+	/**
+	 * Apply this delta to a map of values by keys.
+	 *
+	 * @param values	map of values by keys
+	 */
+	public void applyTo(Map<K, V> values) {
+		if (values == null) {
+			throw new IllegalArgumentException("Values mustn't be <null>");
+		}
+
+		values.keySet().removeAll(this.removed.keySet());
+		values.putAll(this.changed);
+		values.putAll(this.added);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		SnapshotDelta<?, ?> that = (SnapshotDelta<?, ?>) obj;
+
+		return this.added.equals(that.added)
+				&& this.removed.equals(that.removed)
+				&& this.changed.equals(that.changed)
+				&& this.changedPrev.equals(that.changedPrev);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.added,
+						this.removed,
+						this.changed,
+						this.changedPrev
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "added=" + this.added.size()
+				+ ", removed=" + this.removed.size()
+				+ ", changed=" + this.changed.size()
+				+ "]");
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.delta;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * A differ of full-list endpoint snapshots.
+ *
+ * <p>Keeps the previous snapshot keyed by the value keys {@literal &}
+ * turns every new snapshot into a {@link SnapshotDelta} of added,
+ * removed {@literal &} changed values, so downstream caches
+ * {@literal &} indexes are updated w/ only what changed.
+ *
+ * <p>Values are compared by their {@link Object#equals(Object)}
+ * methods, values w/o a key are ignored {@literal &} the last
+ * of the values sharing a key wins.
+ *
+ * <p>Is thread-safe.
+ *
+ * @param <K>	key type
+ * @param <V>	value type
+ */
+@SuppressWarnings("unused")
+public final class SnapshotDiffer<K, V> {
+
+	/**
+	 * A function to get a key of a value.
+	 */
+	private final Function<? super V, ? extends K> keyFunction;
+
+	/**
+	 * A list of delta listeners.
+	 */
+	private final List<IDeltaListener<K, V>> listeners;
+
+	/**
+	 * A map of values by keys of the previous snapshot.
+	 */
+	private Map<K, V> snapshot;
+
+	/**
+	 * Initialize a {@link SnapshotDiffer} instance.
+	 *
+	 * @param keyFunction	function to get a key of a value
+	 */
+	public SnapshotDiffer(Function<? super V, ? extends K> keyFunction) {
+		if (keyFunction == null) {
+			throw new IllegalArgumentException("Key function mustn't be <null>");
+		}
+
+		this.keyFunction = keyFunction;
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.snapshot = Collections.emptyMap();
+	}
+
+	/**
+	 * Add a delta listener.
+	 *
+	 * <p>Isn't given the current snapshot, use {@link #getSnapshot()}
+	 * to fill the listener before the next update.
+	 *
+	 * @param listener	delta listener
+	 */
+	public void addListener(IDeltaListener<K, V> listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener mustn't be <null>");
+		}
+
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Remove a delta listener.
+	 *
+	 * @param listener	delta listener
+	 */
+	public void removeListener(IDeltaListener<K, V> listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Replace the previous snapshot w/ a new one {@literal &}
+	 * notify the listeners if anything changed.
+	 *
+	 * @param values	collection of values of the new snapshot
+	 * @return			snapshot delta, may be empty
+	 */
+	public synchronized SnapshotDelta<K, V> update(Collection<? extends V> values) {
+		if (values == null) {
+			throw new IllegalArgumentException("Values mustn't be <null>");
+		}
+
+		Map<K, V> next = new LinkedHashMap<>((int) (values.size() / 0.75f) + 1);
+
+		for (V value : values) {
+			K key = value == null ? null
+					: this.keyFunction.apply(value);
+
+			if (key != null) {
+				next.put(key, value);
+			}
+		}
+
+		Map<K, V> added = new LinkedHashMap<>();
+		Map<K, V> removed = new LinkedHashMap<>();
+		Map<K, V> changed = new LinkedHashMap<>();
+		Map<K, V> changedPrev = new LinkedHashMap<>();
+
+		for (Map.Entry<K, V> entry : next.entrySet()) {
+			V prev = this.snapshot.get(entry.getKey());
+			V value = entry.getValue();
+
+			if (prev == null) {
+				added.put(entry.getKey(), value);
+			} else if (prev != value && (prev.hashCode() != value.hashCode() || !prev.equals(value))) {
+				changed.put(entry.getKey(), value);
+				changedPrev.put(entry.getKey(), prev);
+			}
+		}
+
+		if (this.snapshot.size() + added.size() != next.size()) {
+			for (Map.Entry<K, V> entry : this.snapshot.entrySet()) {
+				if (!next.containsKey(entry.getKey())) {
+					removed.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+
+		SnapshotDelta<K, V> delta = new SnapshotDelta<>(added, removed, changed, changedPrev);
+
+		if (delta.isEmpty()) {
+			return delta;
+		}
+
+		this.snapshot = Collections.unmodifiableMap(next);
+
+		for (IDeltaListener<K, V> listener : this.listeners) {
+			listener.onDelta(delta);
+		}
+
+		return delta;
+	}
+
+	/**
+	 * Get this current snapshot.
+	 *
+	 * @return	unmodifiable map of values by keys
+	 */
+	public synchronized Map<K, V> getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Get a value of the current snapshot.
+	 *
+	 * @param key	key
+	 * @return		value or {@code null}
+	 */
+	public synchronized V get(K key) {
+		return this.snapshot.get(key);
+	}
+
+	/**
+	 * Get this current snapshot size.
+	 *
+	 * @return	value count
+	 */
+	public synchronized int size() {
+		return this.snapshot.size();
+	}
+
+	/**
+	 * Forget the current snapshot, the next update adds all values again.
+	 */
+	public synchronized void reset() {
+		this.snapshot = Collections.emptyMap();
+	}
+}
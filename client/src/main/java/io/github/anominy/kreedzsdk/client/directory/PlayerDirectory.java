@@ -0,0 +1,613 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.directory;
+
+import io.github.anominy.kreedzsdk.client.IKreedzResponseListener;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.steamid.SteamId;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A local player directory, an inverted index of player names.
+ *
+ * <p>Names are normalized, i.e. case folded, stripped of diacritics
+ * {@literal &} split into letter or digit tokens, {@literal &} posted by the
+ * whole name, by each token {@literal &} by each trigram, so exact, token
+ * {@literal &} typo-tolerant lookups don't hit the API.
+ *
+ * <p>Is fed from player, record {@literal &} jumpstat responses once added
+ * as a response listener of a client, holds up to a fixed player count
+ * {@literal &} evicts the least recently seen or looked up players first.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class PlayerDirectory implements IKreedzResponseListener {
+
+	/**
+	 * A default maximum player count.
+	 */
+	public static final int DEFAULT_CAPACITY = 100_000;
+
+	/**
+	 * A minimum share of the search text trigrams a fuzzy match must contain.
+	 */
+	public static final double MIN_FUZZY_COVERAGE = 0.5d;
+
+	/**
+	 * A score of a whole name match.
+	 */
+	private static final double NAME_SCORE = 4.0d;
+
+	/**
+	 * A score of a match of every search text token.
+	 */
+	private static final double TOKEN_SCORE = 3.0d;
+
+	/**
+	 * A trigram padding character.
+	 */
+	private static final char PADDING = ' ';
+
+	/**
+	 * A maximum player count.
+	 */
+	private final int capacity;
+
+	/**
+	 * A map of players by their type-64 person identifiers,
+	 * least recently seen or looked up first.
+	 *
+	 * <p>Kept in the insertion order, so plain lookups don't reorder
+	 * it, players are moved to its end by {@link #touch(Player)}.
+	 */
+	private final LinkedHashMap<Long, Player> players;
+
+	/**
+	 * A map of type-64 person identifier sets by their normalized names.
+	 */
+	private final Map<String, Set<Long>> postingsByName;
+
+	/**
+	 * A map of type-64 person identifier sets by their name tokens.
+	 */
+	private final Map<String, Set<Long>> postingsByToken;
+
+	/**
+	 * A map of type-64 person identifier sets by their packed name trigrams.
+	 */
+	private final Map<Long, Set<Long>> postingsByTrigram;
+
+	/**
+	 * Initialize a {@link PlayerDirectory} instance.
+	 *
+	 * @param capacity	maximum player count
+	 */
+	public PlayerDirectory(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+
+		this.capacity = capacity;
+
+		this.players = new LinkedHashMap<>();
+		this.postingsByName = new HashMap<>();
+		this.postingsByToken = new HashMap<>();
+		this.postingsByTrigram = new HashMap<>();
+	}
+
+	/**
+	 * Initialize a {@link PlayerDirectory} instance.
+	 *
+	 * <p>Wraps {@link #PlayerDirectory(int)}
+	 * w/ {@link #DEFAULT_CAPACITY} as the capacity.
+	 */
+	public PlayerDirectory() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Normalize the provided player name.
+	 *
+	 * @param name	player name
+	 * @return		lower case letter {@literal &} digit tokens
+	 * 				separated by single spaces, may be empty
+	 */
+	public static String normalize(String name) {
+		if (name == null) {
+			return "";
+		}
+
+		String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+		StringBuilder builder = new StringBuilder(decomposed.length());
+
+		boolean isSeparated = true;
+
+		for (int i = 0; i < decomposed.length(); ) {
+			int codePoint = decomposed.codePointAt(i);
+			i += Character.charCount(codePoint);
+
+			if (Character.getType(codePoint) == Character.NON_SPACING_MARK) {
+				continue;
+			}
+
+			if (Character.isLetterOrDigit(codePoint)) {
+				builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+				isSeparated = false;
+			} else if (!isSeparated) {
+				builder.append(' ');
+				isSeparated = true;
+			}
+		}
+
+		int length = builder.length();
+
+		if (length > 0 && builder.charAt(length - 1) == ' ') {
+			builder.setLength(length - 1);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Offers players of player, record {@literal &} jumpstat
+	 * entities {@literal &} record batches, ignores other bodies.
+	 * Holds this directory lock once for the whole body.
+	 */
+	@Override
+	public synchronized void onResponse(Object body) {
+		if (body instanceof Collection) {
+			for (Object element : (Collection<?>) body) {
+				this.offerEntity(element);
+			}
+		} else {
+			this.offerEntity(body);
+		}
+	}
+
+	/**
+	 * Offer a player name.
+	 *
+	 * <p>Re-indexes the player if the name has changed.
+	 *
+	 * @param steamId	person identifier, may be null
+	 * @param name		player name, may be null
+	 */
+	public void offer(SteamId steamId, String name) {
+		Long steamId64 = SteamId.toSteam64OrNull(steamId);
+
+		if (steamId64 != null) {
+			this.offer(steamId64.longValue(), name);
+		}
+	}
+
+	/**
+	 * Offer a player name.
+	 *
+	 * <p>Re-indexes the player if the name has changed.
+	 *
+	 * @param steamId64		type-64 person identifier
+	 * @param name			player name, may be null
+	 */
+	public synchronized void offer(long steamId64, String name) {
+		if (steamId64 <= 0L || name == null || name.isEmpty()) {
+			return;
+		}
+
+		Player prevPlayer = this.players.get(steamId64);
+
+		if (prevPlayer != null) {
+			if (prevPlayer.name.equals(name)) {
+				this.touch(prevPlayer);
+				return;
+			}
+
+			this.remove(prevPlayer);
+		}
+
+		Player player = new Player(steamId64, name);
+
+		if (player.normalizedName.isEmpty()) {
+			return;
+		}
+
+		this.players.put(steamId64, player);
+
+		post(this.postingsByName, player.normalizedName, steamId64);
+
+		for (String token : player.tokens) {
+			post(this.postingsByToken, token, steamId64);
+		}
+
+		for (long trigram : player.trigrams) {
+			post(this.postingsByTrigram, trigram, steamId64);
+		}
+
+		if (this.players.size() > this.capacity) {
+			Iterator<Player> iterator = this.players.values()
+					.iterator();
+
+			this.remove(iterator.next());
+		}
+	}
+
+	/**
+	 * Get a player name.
+	 *
+	 * @param steamId	person identifier
+	 * @return			player name or {@code null} if isn't known
+	 */
+	public synchronized String getName(SteamId steamId) {
+		Long steamId64 = SteamId.toSteam64OrNull(steamId);
+
+		Player player = steamId64 == null ? null
+				: this.players.get(steamId64);
+
+		if (player == null) {
+			return null;
+		}
+
+		this.touch(player);
+
+		return player.name;
+	}
+
+	/**
+	 * Resolve players by their whole normalized name.
+	 *
+	 * @param name	player name
+	 * @return		unmodifiable list of entries
+	 */
+	public synchronized List<PlayerDirectoryEntry> resolve(String name) {
+		Set<Long> steamId64s = this.postingsByName.get(normalize(name));
+
+		if (steamId64s == null) {
+			return Collections.emptyList();
+		}
+
+		List<PlayerDirectoryEntry> entries = new ArrayList<>(steamId64s.size());
+
+		for (Long steamId64 : steamId64s) {
+			Player player = this.players.get(steamId64);
+
+			this.touch(player);
+			entries.add(player.toEntry());
+		}
+
+		return Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Search players by their names.
+	 *
+	 * <p>Ranks whole name matches first, then names containing every
+	 * search text token, then fuzzy matches by their trigram similarity,
+	 * shorter names first on ties.
+	 *
+	 * @param text		search text
+	 * @param limit		maximum entry count
+	 * @return			unmodifiable list of entries, best match first
+	 */
+	public synchronized List<PlayerDirectoryEntry> search(String text, int limit) {
+		String normalizedText = normalize(text);
+
+		if (normalizedText.isEmpty() || limit <= 0) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, Double> scores = new HashMap<>();
+
+		Set<Long> nameMatches = this.postingsByName.get(normalizedText);
+
+		if (nameMatches != null) {
+			nameMatches.forEach(steamId64 -> scores.put(steamId64, NAME_SCORE));
+		}
+
+		Set<Long> tokenMatches = null;
+
+		for (String token : normalizedText.split(" ")) {
+			Set<Long> steamId64s = this.postingsByToken.get(token);
+
+			if (steamId64s == null) {
+				tokenMatches = Collections.emptySet();
+				break;
+			}
+
+			if (tokenMatches == null) {
+				tokenMatches = new HashSet<>(steamId64s);
+			} else {
+				tokenMatches.retainAll(steamId64s);
+			}
+		}
+
+		if (tokenMatches != null) {
+			tokenMatches.forEach(steamId64 -> scores.merge(steamId64, TOKEN_SCORE, Math::max));
+		}
+
+		long[] trigrams = trigramsOf(normalizedText);
+		Map<Long, Integer> sharedCounts = new HashMap<>();
+
+		for (long trigram : trigrams) {
+			Set<Long> steamId64s = this.postingsByTrigram.get(trigram);
+
+			if (steamId64s != null) {
+				steamId64s.forEach(steamId64 -> sharedCounts.merge(steamId64, 1, Integer::sum));
+			}
+		}
+
+		sharedCounts.forEach((steamId64, sharedCount) -> {
+			if (sharedCount < MIN_FUZZY_COVERAGE * trigrams.length) {
+				return;
+			}
+
+			Player player = this.players.get(steamId64);
+			double similarity = 2.0d * sharedCount / (trigrams.length + player.trigrams.length);
+
+			scores.merge(steamId64, similarity, Math::max);
+		});
+
+		List<Player> matches = new ArrayList<>(scores.size());
+
+		for (Long steamId64 : scores.keySet()) {
+			matches.add(this.players.get(steamId64));
+		}
+
+		matches.sort((a, b) -> {
+			int result = Double.compare(scores.get(b.steamId64), scores.get(a.steamId64));
+
+			if (result != 0) {
+				return result;
+			}
+
+			result = Integer.compare(a.normalizedName.length(), b.normalizedName.length());
+
+			return result != 0 ? result
+					: a.normalizedName.compareTo(b.normalizedName);
+		});
+
+		int count = Math.min(matches.size(), limit);
+		List<PlayerDirectoryEntry> entries = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			Player player = matches.get(i);
+
+			this.touch(player);
+			entries.add(player.toEntry());
+		}
+
+		return Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Get this player count.
+	 *
+	 * @return	player count
+	 */
+	public synchronized int size() {
+		return this.players.size();
+	}
+
+	/**
+	 * Get this maximum player count.
+	 *
+	 * @return	maximum player count
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Offer a player of the provided response entity.
+	 *
+	 * @param entity	response entity, may be null
+	 */
+	private void offerEntity(Object entity) {
+		if (entity instanceof PlayerEntity) {
+			PlayerEntity player = (PlayerEntity) entity;
+
+			this.offer(player.getSteamId(), player.getName());
+		} else if (entity instanceof RecordEntity) {
+			RecordEntity record = (RecordEntity) entity;
+
+			this.offer(record.getSteamId(), record.getPlayerName());
+		} else if (entity instanceof JumpstatEntity) {
+			JumpstatEntity jumpstat = (JumpstatEntity) entity;
+
+			this.offer(jumpstat.getSteamId(), jumpstat.getPlayerName());
+		} else if (entity instanceof RecordBatch) {
+			RecordBatch batch = (RecordBatch) entity;
+
+			for (int i = 0; i < batch.size(); i++) {
+				this.offer(batch.getSteamId64(i), batch.getPlayerName(i));
+			}
+		}
+	}
+
+	/**
+	 * Mark the provided player as the most recently seen or looked up.
+	 *
+	 * <p>Only returned or offered players are touched, so lookups
+	 * of fuzzy candidates don't keep them from being evicted.
+	 *
+	 * @param player	player
+	 */
+	private void touch(Player player) {
+		this.players.remove(player.steamId64);
+		this.players.put(player.steamId64, player);
+	}
+
+	/**
+	 * Remove the provided player from this directory.
+	 *
+	 * @param player	player
+	 */
+	private void remove(Player player) {
+		this.players.remove(player.steamId64);
+
+		unpost(this.postingsByName, player.normalizedName, player.steamId64);
+
+		for (String token : player.tokens) {
+			unpost(this.postingsByToken, token, player.steamId64);
+		}
+
+		for (long trigram : player.trigrams) {
+			unpost(this.postingsByTrigram, trigram, player.steamId64);
+		}
+	}
+
+	/**
+	 * Add a type-64 person identifier to a posting set.
+	 *
+	 * @param postings		map of posting sets
+	 * @param key			posting key
+	 * @param steamId64		type-64 person identifier
+	 * @param <K>			posting key type
+	 */
+	private static <K> void post(Map<K, Set<Long>> postings, K key, long steamId64) {
+		postings.computeIfAbsent(key, k -> new HashSet<>(2))
+				.add(steamId64);
+	}
+
+	/**
+	 * Remove a type-64 person identifier from a posting set.
+	 *
+	 * <p>Drops the set once it's empty.
+	 *
+	 * @param postings		map of posting sets
+	 * @param key			posting key
+	 * @param steamId64		type-64 person identifier
+	 * @param <K>			posting key type
+	 */
+	private static <K> void unpost(Map<K, Set<Long>> postings, K key, long steamId64) {
+		Set<Long> steamId64s = postings.get(key);
+
+		if (steamId64s == null) {
+			return;
+		}
+
+		steamId64s.remove(steamId64);
+
+		if (steamId64s.isEmpty()) {
+			postings.remove(key);
+		}
+	}
+
+	/**
+	 * Get distinct packed trigrams of the provided normalized text.
+	 *
+	 * @param text	normalized text
+	 * @return		sorted array of packed trigrams
+	 */
+	private static long[] trigramsOf(String text) {
+		String padded = "" + PADDING + PADDING + text + PADDING;
+		long[] trigrams = new long[padded.length() - 2];
+
+		for (int i = 0; i < trigrams.length; i++) {
+			trigrams[i] = ((long) padded.charAt(i) << 32)
+					| ((long) padded.charAt(i + 1) << 16)
+					| padded.charAt(i + 2);
+		}
+
+		Arrays.sort(trigrams);
+
+		int count = 0;
+
+		for (int i = 0; i < trigrams.length; i++) {
+			if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+				trigrams[count++] = trigrams[i];
+			}
+		}
+
+		return Arrays.copyOf(trigrams, count);
+	}
+
+	/**
+	 * An indexed player.
+	 */
+	private static final class Player {
+
+		/**
+		 * A type-64 person identifier.
+		 */
+		private final long steamId64;
+
+		/**
+		 * A player name.
+		 */
+		private final String name;
+
+		/**
+		 * A normalized player name.
+		 */
+		private final String normalizedName;
+
+		/**
+		 * An array of distinct name tokens.
+		 */
+		private final String[] tokens;
+
+		/**
+		 * An array of distinct packed name trigrams.
+		 */
+		private final long[] trigrams;
+
+		/**
+		 * Initialize a {@link Player} instance.
+		 *
+		 * @param steamId64		type-64 person identifier
+		 * @param name			player name
+		 */
+		private Player(long steamId64, String name) {
+			this.steamId64 = steamId64;
+			this.name = name;
+			this.normalizedName = normalize(name);
+
+			this.tokens = this.normalizedName.isEmpty() ? new String[0]
+					: Arrays.stream(this.normalizedName.split(" "))
+							.distinct()
+							.toArray(String[]::new);
+
+			this.trigrams = trigramsOf(this.normalizedName);
+		}
+
+		/**
+		 * Convert this player to a directory entry.
+		 *
+		 * @return	directory entry
+		 */
+		private PlayerDirectoryEntry toEntry() {
+			return new PlayerDirectoryEntry(this.steamId64, this.name);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.directory;
+
+import io.github.anominy.steamid.SteamId;
+
+import java.util.Objects;
+
+/**
+ * A player directory entry, a player name w/ its person identifier.
+ */
+@SuppressWarnings("unused")
+public final class PlayerDirectoryEntry {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = PlayerDirectoryEntry.class.getSimpleName();
+
+	/**
+	 * A type-64 person identifier.
+	 */
+	private final long steamId64;
+
+	/**
+	 * A player name.
+	 */
+	private final String name;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link PlayerDirectoryEntry} instance.
+	 *
+	 * @param steamId64		type-64 person identifier
+	 * @param name			player name
+	 */
+	PlayerDirectoryEntry(long steamId64, String name) {
+		this.steamId64 = steamId64;
+		this.name = name;
+	}
+
+	/**
+	 * Get this type-64 person identifier.
+	 *
+	 * @return	type-64 person identifier
+	 */
+	public long getSteamId64() {
+		return this.steamId64;
+	}
+
+	/**
+	 * Get this person identifier.
+	 *
+	 * @return	person identifier or {@code null}
+	 */
+	public SteamId getSteamId() {
+		return SteamId.fromSteam64OrNull(this.steamId64);
+	}
+
+	/**
+	 * Get this player name.
+	 *
+	 * @return	player name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		PlayerDirectoryEntry that = (PlayerDirectoryEntry) obj;
+
+		return this.steamId64 == that.steamId64
+				&& Objects.equals(this.name, that.name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId64,
+						this.name
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId64=" + this.steamId64
+				+ ", name=\"" + this.name + "\""
+				+ "]");
+	}
+}
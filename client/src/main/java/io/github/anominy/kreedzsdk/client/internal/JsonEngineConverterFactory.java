@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.internal;
+
+import io.github.anominy.kreedzsdk.adapterapi.IKreedzJsonEngine;
+import io.github.anominy.kreedzsdk.client.IKreedzResponseListener;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A retrofit converter factory over an {@link IKreedzJsonEngine} instance.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class JsonEngineConverterFactory extends Converter.Factory {
+
+	/**
+	 * A JSON engine.
+	 */
+	private final IKreedzJsonEngine engine;
+
+	/**
+	 * A list of response listeners.
+	 */
+	private final List<IKreedzResponseListener> listeners;
+
+	/**
+	 * A response listener executor.
+	 */
+	private final Executor listenerExecutor;
+
+	/**
+	 * Initialize a {@link JsonEngineConverterFactory} instance.
+	 *
+	 * @param engine				JSON engine
+	 * @param listeners				list of response listeners, read on each response
+	 * @param listenerExecutor		executor to notify the response listeners on
+	 */
+	public JsonEngineConverterFactory(IKreedzJsonEngine engine, List<IKreedzResponseListener> listeners,
+			Executor listenerExecutor) {
+		if (engine == null) {
+			throw new IllegalArgumentException("JSON engine mustn't be <null>");
+		}
+
+		if (listeners == null) {
+			throw new IllegalArgumentException("Listeners mustn't be <null>");
+		}
+
+		if (listenerExecutor == null) {
+			throw new IllegalArgumentException("Listener executor mustn't be <null>");
+		}
+
+		this.engine = engine;
+		this.listeners = listeners;
+		this.listenerExecutor = listenerExecutor;
+	}
+
+	/**
+	 * Initialize a {@link JsonEngineConverterFactory} instance w/o response listeners.
+	 *
+	 * @param engine	JSON engine
+	 */
+	public JsonEngineConverterFactory(IKreedzJsonEngine engine) {
+		this(engine, Collections.emptyList(), Runnable::run);
+	}
+
+	/**
+	 * Get this JSON engine.
+	 *
+	 * @return	JSON engine
+	 */
+	public IKreedzJsonEngine getEngine() {
+		return this.engine;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+		return (Converter<ResponseBody, Object>) body -> {
+			Object value;
+
+			try {
+				value = this.engine.fromJson(body.charStream(), type);
+			} finally {
+				body.close();
+			}
+
+			if (!this.listeners.isEmpty()) {
+				this.listenerExecutor.execute(() -> this.notifyListeners(value));
+			}
+
+			return value;
+		};
+	}
+
+	/**
+	 * Pass a decoded response body to this response listeners.
+	 *
+	 * <p>Runs on this listener executor,
+	 * a failing listener doesn't fail the response.
+	 *
+	 * @param value		decoded response body
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	private void notifyListeners(Object value) {
+		for (IKreedzResponseListener listener : this.listeners) {
+			try {
+				listener.onResponse(value);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
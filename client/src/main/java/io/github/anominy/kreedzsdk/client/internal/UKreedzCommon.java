@@ -17,11 +17,15 @@
 package io.github.anominy.kreedzsdk.client.internal;
 
 import io.github.anominy.steamid.SteamId;
+import io.github.anominy.uwretrofit.services.requests.impl.AbstractRequestManager;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +47,36 @@ public final class UKreedzCommon {
 		return transformToSet(steamIds, SteamId::toSteam64OrNull);
 	}
 
+	/**
+	 * Fetch all pages of a paged request.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param function		function to create a request manager for a page offset
+	 * @param pageSize		page size, the request manager limit
+	 * @param throwables	array to put request failures in, may be null
+	 * @param <T>			element type
+	 * @return				list of all elements or {@code null} if a page failed
+	 */
+	public static <T> List<T> fetchAll(IntFunction<? extends AbstractRequestManager<?, List<T>>> function, int pageSize, Throwable[] throwables) {
+		List<T> values = new ArrayList<>();
+
+		for (int offset = 0; ; offset += pageSize) {
+			List<T> page = function.apply(offset)
+					.execute(throwables);
+
+			if (page == null) {
+				return null;
+			}
+
+			values.addAll(page);
+
+			if (page.size() < pageSize) {
+				return values;
+			}
+		}
+	}
+
 	/**
 	 * Transform collection of object to a set.
 	 *
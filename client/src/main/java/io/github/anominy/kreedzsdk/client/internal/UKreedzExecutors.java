@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.internal;
+
+import io.github.anominy.uwutils.UwArray;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A kreedz background executor utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzExecutors {
+
+	/**
+	 * Initialize a single daemon thread scheduled executor.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param threadName	thread name
+	 * @return				scheduled executor
+	 */
+	public static ScheduledExecutorService newDaemonScheduledExecutor(String threadName) {
+		return Executors.newSingleThreadScheduledExecutor(runnable -> newDaemonThread(runnable, threadName));
+	}
+
+	/**
+	 * Initialize a single daemon thread executor w/ a bounded queue.
+	 *
+	 * <p>Runs tasks in the submission order, a submitting thread
+	 * waits for a free queue slot once the queue is full
+	 * {@literal &} tasks aren't accepted once shut down.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param threadName		thread name
+	 * @param queueCapacity		maximum pending task count
+	 * @return					executor
+	 */
+	public static ExecutorService newDaemonQueueExecutor(String threadName, int queueCapacity) {
+		return new ThreadPoolExecutor(
+				1, 1,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> newDaemonThread(runnable, threadName),
+				UKreedzExecutors::putOnRejection
+		);
+	}
+
+	/**
+	 * Wrap a background task to report its failures instead of throwing them.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param task				background task
+	 * @param throwableCount	size of the array of failures passed to the task
+	 * @return					runnable reporting failures of the task
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	public static Runnable quietly(IBackgroundTask task, int throwableCount) {
+		return () -> {
+			Throwable[] throwables = new Throwable[throwableCount];
+
+			try {
+				task.run(throwables);
+			} catch (IOException | RuntimeException e) {
+				e.printStackTrace();
+			}
+
+			UwArray.consume(Throwable::printStackTrace, throwables);
+		};
+	}
+
+	/**
+	 * Put a rejected task into the executor queue, waiting for a free slot.
+	 *
+	 * <p>Keeps the submission order, unlike running the task on the
+	 * submitting thread, drops the task once the executor is shut down.
+	 *
+	 * @param runnable	rejected task
+	 * @param executor	executor that rejected the task
+	 */
+	private static void putOnRejection(Runnable runnable, ThreadPoolExecutor executor) {
+		if (executor.isShutdown()) {
+			return;
+		}
+
+		try {
+			executor.getQueue()
+					.put(runnable);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+		}
+	}
+
+	/**
+	 * Initialize a daemon thread.
+	 *
+	 * @param runnable		runnable to run
+	 * @param threadName	thread name
+	 * @return				daemon thread
+	 */
+	private static Thread newDaemonThread(Runnable runnable, String threadName) {
+		Thread thread = new Thread(runnable, threadName);
+		thread.setDaemon(true);
+
+		return thread;
+	}
+
+	/**
+	 * A background task reporting request failures through an array.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 */
+	@FunctionalInterface
+	public interface IBackgroundTask {
+
+		/**
+		 * Run this task.
+		 *
+		 * @param throwables	array to put request failures in
+		 * @throws IOException	if an I/O error occurs
+		 */
+		void run(Throwable[] throwables) throws IOException;
+	}
+
+	private UKreedzExecutors() {
+		throw new UnsupportedOperationException();
+	}
+}
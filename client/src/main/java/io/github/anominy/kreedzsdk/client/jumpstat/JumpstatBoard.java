@@ -0,0 +1,408 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.jumpstat;
+
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.steamid.SteamId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * A local jumpstat board of a single jump type {@literal &} bind variant.
+ *
+ * <p>Keeps a personal best of every player in a set ordered
+ * by the distance, longest first, {@literal &} counts them in a binned
+ * distance histogram w/ a Fenwick tree over it, so top queries
+ * take {@code O(count)} time {@literal &} percentile queries
+ * take {@code O(log b)} time, where {@code b} is the bin count.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class JumpstatBoard {
+
+	/**
+	 * A histogram bin width in units.
+	 */
+	public static final float BIN_WIDTH = 0.1f;
+
+	/**
+	 * A histogram bin count.
+	 *
+	 * <p>Longer distances fall into the last bin.
+	 */
+	public static final int BIN_COUNT = 4096;
+
+	/**
+	 * A comparator of entries, longest distance first,
+	 * then the earliest identifier.
+	 */
+	private static final Comparator<Entry> ENTRY_COMPARATOR = (a, b) -> {
+		int result = Float.compare(b.distance, a.distance);
+
+		return result != 0 ? result
+				: Integer.compare(a.id, b.id);
+	};
+
+	/**
+	 * A jumpstat key.
+	 */
+	private final JumpstatKey key;
+
+	/**
+	 * A set of entries ordered by {@link #ENTRY_COMPARATOR}.
+	 */
+	private final NavigableSet<Entry> entries;
+
+	/**
+	 * A map of entries by their type-64 person identifiers.
+	 */
+	private final Map<Long, Entry> entriesBySteamId64;
+
+	/**
+	 * A map of entries by their jump identifiers.
+	 */
+	private final Map<Integer, Entry> entriesById;
+
+	/**
+	 * An array of distance histogram bins.
+	 */
+	private final int[] histogram;
+
+	/**
+	 * A Fenwick tree of {@link #histogram} prefix sums, one-based.
+	 */
+	private final int[] histogramTree;
+
+	/**
+	 * Initialize a {@link JumpstatBoard} instance.
+	 *
+	 * @param key	jumpstat key
+	 */
+	JumpstatBoard(JumpstatKey key) {
+		this.key = key;
+
+		this.entries = new TreeSet<>(ENTRY_COMPARATOR);
+		this.entriesBySteamId64 = new HashMap<>();
+		this.entriesById = new HashMap<>();
+
+		this.histogram = new int[BIN_COUNT];
+		this.histogramTree = new int[BIN_COUNT + 1];
+	}
+
+	/**
+	 * Get a histogram bin index of the provided distance.
+	 *
+	 * @param distance	distance in units
+	 * @return			bin index
+	 */
+	public static int getBinIndex(float distance) {
+		if (!(distance > 0.0f)) {
+			return 0;
+		}
+
+		return (int) Math.min(distance / BIN_WIDTH, BIN_COUNT - 1);
+	}
+
+	/**
+	 * Get this jumpstat key.
+	 *
+	 * @return	jumpstat key
+	 */
+	public JumpstatKey getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get this jump count.
+	 *
+	 * @return	jump count
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Get this top jumps.
+	 *
+	 * @param count		maximum jump count
+	 * @return			unmodifiable list of jumps, longest first
+	 */
+	public synchronized List<JumpstatEntity> getTop(int count) {
+		count = Math.min(Math.max(count, 0), this.entries.size());
+
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+
+		List<JumpstatEntity> jumpstats = new ArrayList<>(count);
+		Iterator<Entry> iterator = this.entries.iterator();
+
+		while (jumpstats.size() < count) {
+			jumpstats.add(iterator.next().jumpstat);
+		}
+
+		return Collections.unmodifiableList(jumpstats);
+	}
+
+	/**
+	 * Get a player personal best.
+	 *
+	 * @param steamId	person identifier
+	 * @return			jump or {@code null}
+	 */
+	public synchronized JumpstatEntity getBySteamId(SteamId steamId) {
+		Long steamId64 = SteamId.toSteam64OrNull(steamId);
+
+		Entry entry = steamId64 == null ? null
+				: this.entriesBySteamId64.get(steamId64);
+
+		return entry == null ? null
+				: entry.jumpstat;
+	}
+
+	/**
+	 * Get a percentile of the provided distance.
+	 *
+	 * <p>Stands for the share of personal bests shorter than the distance,
+	 * interpolated linearly within its histogram bin.
+	 *
+	 * @param distance	distance in units
+	 * @return			percentile from {@code 0} to {@code 100}
+	 */
+	public synchronized double getPercentile(float distance) {
+		int size = this.entries.size();
+
+		if (size == 0) {
+			return 0.0d;
+		}
+
+		int binIndex = getBinIndex(distance);
+		double binFraction = Math.min(Math.max(distance / BIN_WIDTH - binIndex, 0.0d), 1.0d);
+
+		double shorterCount = this.sumBins(binIndex)
+				+ this.histogram[binIndex] * binFraction;
+
+		return Math.min(shorterCount * 100.0d / size, 100.0d);
+	}
+
+	/**
+	 * Get a count of personal bests within the provided distance range.
+	 *
+	 * <p>Is rounded to whole histogram bins.
+	 *
+	 * @param fromDistance	minimum distance in units, inclusive
+	 * @param toDistance	maximum distance in units, exclusive
+	 * @return				jump count
+	 */
+	public synchronized int getCountBetween(float fromDistance, float toDistance) {
+		int fromIndex = getBinIndex(fromDistance);
+		int toIndex = getBinIndex(toDistance);
+
+		return fromIndex >= toIndex ? 0
+				: this.sumBins(toIndex) - this.sumBins(fromIndex);
+	}
+
+	/**
+	 * Get this distance histogram.
+	 *
+	 * @return	array of personal best counts by their bin indices
+	 * @see		#getBinIndex(float)
+	 */
+	public synchronized int[] getHistogram() {
+		return this.histogram.clone();
+	}
+
+	/**
+	 * Offer a jump to this board.
+	 *
+	 * <p>Replaces the player personal best if the jump is longer
+	 * or is an updated version of it.
+	 *
+	 * @param jumpstat	jump
+	 * @return			boolean value as a result,
+	 * 					true - the board has changed, false - otherwise
+	 */
+	synchronized boolean offer(JumpstatEntity jumpstat) {
+		Entry entry = Entry.ofOrNull(jumpstat);
+
+		if (entry == null) {
+			return false;
+		}
+
+		Entry prevEntry = this.entriesBySteamId64.get(entry.steamId64);
+
+		if (prevEntry != null) {
+			if (prevEntry.id != entry.id && entry.distance <= prevEntry.distance) {
+				return false;
+			}
+
+			if (prevEntry.id == entry.id && prevEntry.jumpstat.equals(jumpstat)) {
+				return false;
+			}
+
+			this.remove(prevEntry);
+		}
+
+		Entry prevIdEntry = this.entriesById.get(entry.id);
+
+		if (prevIdEntry != null) {
+			this.remove(prevIdEntry);
+		}
+
+		this.entries.add(entry);
+		this.entriesBySteamId64.put(entry.steamId64, entry);
+		this.entriesById.put(entry.id, entry);
+
+		this.addToBin(getBinIndex(entry.distance), 1);
+
+		return true;
+	}
+
+	/**
+	 * Replace all jumps of this board.
+	 *
+	 * @param jumpstats		list of jumps
+	 */
+	synchronized void reset(List<JumpstatEntity> jumpstats) {
+		this.entries.clear();
+		this.entriesBySteamId64.clear();
+		this.entriesById.clear();
+
+		Arrays.fill(this.histogram, 0);
+		Arrays.fill(this.histogramTree, 0);
+
+		jumpstats.forEach(this::offer);
+	}
+
+	/**
+	 * Remove the provided entry from this board.
+	 *
+	 * @param entry		entry
+	 */
+	private void remove(Entry entry) {
+		this.entries.remove(entry);
+		this.entriesBySteamId64.remove(entry.steamId64);
+		this.entriesById.remove(entry.id);
+
+		this.addToBin(getBinIndex(entry.distance), -1);
+	}
+
+	/**
+	 * Add the provided delta to a histogram bin.
+	 *
+	 * @param binIndex	bin index
+	 * @param delta		count delta
+	 */
+	private void addToBin(int binIndex, int delta) {
+		this.histogram[binIndex] += delta;
+
+		for (int i = binIndex + 1; i <= BIN_COUNT; i += i & -i) {
+			this.histogramTree[i] += delta;
+		}
+	}
+
+	/**
+	 * Sum histogram bins below the provided one.
+	 *
+	 * @param binIndex	bin index, exclusive
+	 * @return			personal best count
+	 */
+	private int sumBins(int binIndex) {
+		int sum = 0;
+
+		for (int i = binIndex; i > 0; i -= i & -i) {
+			sum += this.histogramTree[i];
+		}
+
+		return sum;
+	}
+
+	/**
+	 * A board entry.
+	 */
+	private static final class Entry {
+
+		/**
+		 * A jump identifier.
+		 */
+		private final int id;
+
+		/**
+		 * A type-64 person identifier.
+		 */
+		private final long steamId64;
+
+		/**
+		 * A distance in units.
+		 */
+		private final float distance;
+
+		/**
+		 * A jump.
+		 */
+		private final JumpstatEntity jumpstat;
+
+		/**
+		 * Initialize an {@link Entry} instance.
+		 *
+		 * @param id			jump identifier
+		 * @param steamId64		type-64 person identifier
+		 * @param distance		distance in units
+		 * @param jumpstat		jump
+		 */
+		private Entry(int id, long steamId64, float distance, JumpstatEntity jumpstat) {
+			this.id = id;
+			this.steamId64 = steamId64;
+			this.distance = distance;
+			this.jumpstat = jumpstat;
+		}
+
+		/**
+		 * Create an {@link Entry} instance of the provided jump.
+		 *
+		 * @param jumpstat	jump, may be null
+		 * @return			entry or {@code null} if the jump
+		 * 					has no identifier, person or distance
+		 */
+		private static Entry ofOrNull(JumpstatEntity jumpstat) {
+			if (jumpstat == null) {
+				return null;
+			}
+
+			int id = jumpstat.getId();
+			Long steamId64 = SteamId.toSteam64OrNull(jumpstat.getSteamId());
+			Float distance = jumpstat.getDistance();
+
+			if (id == 0 || steamId64 == null
+					|| distance == null || distance.isNaN()) {
+				return null;
+			}
+
+			return new Entry(id, steamId64, distance, jumpstat);
+		}
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.jumpstat;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.services.JumpstatService;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An index of local {@link JumpstatBoard} instances.
+ *
+ * <p>A board is bootstrapped from the /jumpstats/{jump_type}/top/
+ * endpoint once it's tracked and then kept current by polling
+ * the /jumpstats/ endpoint for jumps updated since the last poll,
+ * so top {@literal &} percentile queries don't hit the API.
+ */
+@SuppressWarnings("unused")
+public final class JumpstatIndex implements Closeable {
+
+	/**
+	 * A default poll interval.
+	 */
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * A duration the updated since date of a poll is moved back by,
+	 * so jumps updated during a previous poll aren't missed.
+	 *
+	 * <p>Offering a jump twice doesn't change a board.
+	 */
+	private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-jumpstat-index";
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A poll interval.
+	 */
+	private final Duration pollInterval;
+
+	/**
+	 * A poll executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A map of boards by their keys.
+	 */
+	private final Map<JumpstatKey, JumpstatBoard> boards;
+
+	/**
+	 * An update date of the latest polled jump.
+	 */
+	private volatile DateTime pollDate;
+
+	/**
+	 * Initialize a {@link JumpstatIndex} instance.
+	 *
+	 * @param client		kreedz client
+	 * @param pollInterval	poll interval
+	 */
+	public JumpstatIndex(KreedzClient client, Duration pollInterval) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+			throw new IllegalArgumentException("Poll interval must be positive");
+		}
+
+		this.client = client;
+		this.pollInterval = pollInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.boards = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Initialize a {@link JumpstatIndex} instance.
+	 *
+	 * <p>Wraps {@link #JumpstatIndex(KreedzClient, Duration)}
+	 * w/ {@link #DEFAULT_POLL_INTERVAL} as the poll interval.
+	 *
+	 * @param client	kreedz client
+	 */
+	public JumpstatIndex(KreedzClient client) {
+		this(client, DEFAULT_POLL_INTERVAL);
+	}
+
+	/**
+	 * Schedule background polls of this index.
+	 *
+	 * @return	this instance
+	 */
+	public JumpstatIndex start() {
+		long intervalMillis = this.pollInterval.toMillis();
+
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::poll, 1),
+				intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Track a board of the provided key.
+	 *
+	 * <p>Bootstraps the board from the API
+	 * if it isn't tracked yet.
+	 *
+	 * @param key			jumpstat key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				board or {@code null} if failed to bootstrap
+	 */
+	public JumpstatBoard track(JumpstatKey key, Throwable[] throwables) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key mustn't be <null>");
+		}
+
+		JumpstatBoard board = this.boards.get(key);
+
+		if (board != null) {
+			return board;
+		}
+
+		DateTime bootstrapDate = DateTime.now(DateTimeZone.UTC);
+
+		List<JumpstatEntity> jumpstats = this.fetchTop(key, throwables);
+
+		if (jumpstats == null) {
+			return null;
+		}
+
+		board = new JumpstatBoard(key);
+		board.reset(jumpstats);
+
+		synchronized (this) {
+			if (this.pollDate == null) {
+				this.pollDate = bootstrapDate;
+			}
+
+			JumpstatBoard prevBoard = this.boards.putIfAbsent(key, board);
+
+			return prevBoard != null ? prevBoard
+					: board;
+		}
+	}
+
+	/**
+	 * Stop tracking a board of the provided key.
+	 *
+	 * @param key	jumpstat key
+	 */
+	public void untrack(JumpstatKey key) {
+		if (key == null) {
+			return;
+		}
+
+		this.boards.remove(key);
+	}
+
+	/**
+	 * Get a tracked board of the provided key.
+	 *
+	 * @param key	jumpstat key
+	 * @return		board or {@code null} if isn't tracked
+	 */
+	public JumpstatBoard get(JumpstatKey key) {
+		if (key == null) {
+			return null;
+		}
+
+		return this.boards.get(key);
+	}
+
+	/**
+	 * Get all tracked jumpstat keys.
+	 *
+	 * @return	unmodifiable set of jumpstat keys
+	 */
+	public Set<JumpstatKey> getKeys() {
+		return Collections.unmodifiableSet(this.boards.keySet());
+	}
+
+	/**
+	 * Poll jumps updated since the last poll
+	 * and offer them to the tracked boards.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				changed board entry count
+	 * 						or {@code -1} if failed to poll
+	 */
+	public synchronized int poll(Throwable[] throwables) {
+		DateTime pollDate = this.pollDate;
+
+		if (pollDate == null || this.boards.isEmpty()) {
+			return 0;
+		}
+
+		DateTime sinceDate = new DateTime(pollDate.getMillis() - POLL_OVERLAP.toMillis(), DateTimeZone.UTC);
+		JumpstatService jumpstatService = this.client.getJumpstatService();
+
+		List<JumpstatEntity> jumpstats = UKreedzCommon.fetchAll(offset -> jumpstatService.jumpstats()
+				.setUpdatedSinceDate(sinceDate)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		if (jumpstats == null) {
+			return -1;
+		}
+
+		int changeCount = 0;
+
+		for (JumpstatEntity jumpstat : jumpstats) {
+			JumpstatKey key = JumpstatKey.ofOrNull(jumpstat);
+			JumpstatBoard board = key == null ? null
+					: this.boards.get(key);
+
+			if (board != null && board.offer(jumpstat)) {
+				changeCount++;
+			}
+
+			DateTime updateDate = jumpstat.getUpdateDate();
+
+			if (updateDate != null && updateDate.isAfter(pollDate)) {
+				pollDate = updateDate;
+			}
+		}
+
+		this.pollDate = pollDate;
+
+		return changeCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background polls, the boards stay available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Fetch all top jumps of the provided key.
+	 *
+	 * @param key			jumpstat key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of jumps or {@code null} if failed
+	 */
+	private List<JumpstatEntity> fetchTop(JumpstatKey key, Throwable[] throwables) {
+		JumpstatService jumpstatService = this.client.getJumpstatService();
+
+		return UKreedzCommon.fetchAll(offset -> jumpstatService.jumpstatsTop()
+				.setJumpType(key.getJumpType())
+				.setIsCrouchBind(key.getIsCrouchBind())
+				.setIsForwardBind(key.getIsForwardBind())
+				.setIsCrouchBoost(key.getIsCrouchBoost())
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.jumpstat;
+
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.types.EJumpType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A jumpstat board key, the jump type {@literal &} bind variant
+ * a {@link JumpstatBoard} is built for.
+ */
+@SuppressWarnings("unused")
+public final class JumpstatKey implements Serializable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = JumpstatKey.class.getSimpleName();
+
+	/**
+	 * A jump type.
+	 */
+	private final EJumpType jumpType;
+
+	/**
+	 * A boolean value of whether the jumps are crouch binded.
+	 */
+	private final boolean isCrouchBind;
+
+	/**
+	 * A boolean value of whether the jumps are forward binded.
+	 */
+	private final boolean isForwardBind;
+
+	/**
+	 * A boolean value of whether the jumps are crouch boosted.
+	 */
+	private final boolean isCrouchBoost;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link JumpstatKey} instance.
+	 *
+	 * @param jumpType			jump type
+	 * @param isCrouchBind		boolean value of whether the jumps are crouch binded
+	 * @param isForwardBind		boolean value of whether the jumps are forward binded
+	 * @param isCrouchBoost		boolean value of whether the jumps are crouch boosted
+	 */
+	public JumpstatKey(EJumpType jumpType, boolean isCrouchBind, boolean isForwardBind, boolean isCrouchBoost) {
+		if (jumpType == null) {
+			throw new IllegalArgumentException("Jump type mustn't be <null>");
+		}
+
+		this.jumpType = jumpType;
+		this.isCrouchBind = isCrouchBind;
+		this.isForwardBind = isForwardBind;
+		this.isCrouchBoost = isCrouchBoost;
+	}
+
+	/**
+	 * Initialize a {@link JumpstatKey} instance w/o any binds.
+	 *
+	 * @param jumpType	jump type
+	 */
+	public JumpstatKey(EJumpType jumpType) {
+		this(jumpType, false, false, false);
+	}
+
+	/**
+	 * Create a {@link JumpstatKey} instance of the provided jump.
+	 *
+	 * <p>Missing bind flags are treated as unset.
+	 *
+	 * @param jumpstat	jump
+	 * @return			jumpstat key or {@code null}
+	 * 					if the jump has no jump type
+	 */
+	public static JumpstatKey ofOrNull(JumpstatEntity jumpstat) {
+		if (jumpstat == null || jumpstat.getJumpType() == null) {
+			return null;
+		}
+
+		return new JumpstatKey(
+				jumpstat.getJumpType(),
+				Boolean.TRUE.equals(jumpstat.getIsCrouchBind()),
+				Boolean.TRUE.equals(jumpstat.getIsForwardBind()),
+				Boolean.TRUE.equals(jumpstat.getIsCrouchBoost())
+		);
+	}
+
+	/**
+	 * Get this jump type.
+	 *
+	 * @return	jump type
+	 */
+	public EJumpType getJumpType() {
+		return this.jumpType;
+	}
+
+	/**
+	 * Get this boolean value of whether the jumps are crouch binded.
+	 *
+	 * @return	boolean value of whether the jumps are crouch binded
+	 */
+	public boolean getIsCrouchBind() {
+		return this.isCrouchBind;
+	}
+
+	/**
+	 * Get this boolean value of whether the jumps are forward binded.
+	 *
+	 * @return	boolean value of whether the jumps are forward binded
+	 */
+	public boolean getIsForwardBind() {
+		return this.isForwardBind;
+	}
+
+	/**
+	 * Get this boolean value of whether the jumps are crouch boosted.
+	 *
+	 * @return	boolean value of whether the jumps are crouch boosted
+	 */
+	public boolean getIsCrouchBoost() {
+		return this.isCrouchBoost;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		JumpstatKey that = (JumpstatKey) obj;
+
+		return this.jumpType == that.jumpType
+				&& this.isCrouchBind == that.isCrouchBind
+				&& this.isForwardBind == that.isForwardBind
+				&& this.isCrouchBoost == that.isCrouchBoost;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.jumpType,
+						this.isCrouchBind,
+						this.isForwardBind,
+						this.isCrouchBoost
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "jumpType=" + this.jumpType
+				+ ", isCrouchBind=" + this.isCrouchBind
+				+ ", isForwardBind=" + this.isForwardBind
+				+ ", isCrouchBoost=" + this.isCrouchBoost
+				+ "]");
+	}
+}
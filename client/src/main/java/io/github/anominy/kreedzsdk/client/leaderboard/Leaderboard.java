@@ -0,0 +1,568 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.leaderboard;
+
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A local leaderboard of a single record filter.
+ *
+ * <p>Keeps a personal best of every player in an order-statistic
+ * treap ordered by the run time, then by the creation date
+ * {@literal &} the identifier, so rank {@literal &} range queries
+ * take {@code O(log n)} time.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class Leaderboard {
+
+	/**
+	 * A rank of a record that isn't on the leaderboard.
+	 */
+	public static final int NO_RANK = -1;
+
+	/**
+	 * A leaderboard key.
+	 */
+	private final LeaderboardKey key;
+
+	/**
+	 * A map of nodes by their type-64 person identifiers.
+	 */
+	private final Map<Long, Node> nodesBySteamId64;
+
+	/**
+	 * A map of nodes by their record identifiers.
+	 */
+	private final Map<Integer, Node> nodesById;
+
+	/**
+	 * A treap root node.
+	 */
+	private Node root;
+
+	/**
+	 * Initialize a {@link Leaderboard} instance.
+	 *
+	 * @param key	leaderboard key
+	 */
+	Leaderboard(LeaderboardKey key) {
+		this.key = key;
+
+		this.nodesBySteamId64 = new HashMap<>();
+		this.nodesById = new HashMap<>();
+	}
+
+	/**
+	 * Get this leaderboard key.
+	 *
+	 * @return	leaderboard key
+	 */
+	public LeaderboardKey getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get this record count.
+	 *
+	 * @return	record count
+	 */
+	public synchronized int size() {
+		return sizeOf(this.root);
+	}
+
+	/**
+	 * Get this top records.
+	 *
+	 * @param count		maximum record count
+	 * @return			unmodifiable list of records
+	 */
+	public List<RecordEntity> getTop(int count) {
+		return this.getRange(1, count);
+	}
+
+	/**
+	 * Get this records starting from the provided rank.
+	 *
+	 * @param fromRank	first rank, one-based
+	 * @param count		maximum record count
+	 * @return			unmodifiable list of records
+	 */
+	public synchronized List<RecordEntity> getRange(int fromRank, int count) {
+		int from = Math.max(fromRank, 1) - 1;
+		int to = (int) Math.min((long) from + Math.max(count, 0), sizeOf(this.root));
+
+		if (from >= to) {
+			return Collections.emptyList();
+		}
+
+		List<RecordEntity> records = new ArrayList<>(to - from);
+
+		collect(this.root, from, to, records);
+
+		return Collections.unmodifiableList(records);
+	}
+
+	/**
+	 * Get this records around the provided rank.
+	 *
+	 * @param rank		rank, one-based
+	 * @param radius	maximum record count above {@literal &} below the rank
+	 * @return			unmodifiable list of records
+	 */
+	public List<RecordEntity> getAround(int rank, int radius) {
+		radius = Math.max(radius, 0);
+
+		int fromRank = Math.max(rank - radius, 1);
+
+		return this.getRange(fromRank, rank + radius - fromRank + 1);
+	}
+
+	/**
+	 * Get a record by its rank.
+	 *
+	 * @param rank	rank, one-based
+	 * @return		record or {@code null}
+	 */
+	public synchronized RecordEntity getByRank(int rank) {
+		Node node = this.root;
+		int index = rank - 1;
+
+		while (node != null) {
+			int leftSize = sizeOf(node.left);
+
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				node = node.right;
+			} else {
+				return node.record;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get a rank of a record by its identifier.
+	 *
+	 * @param recordId	record identifier
+	 * @return			rank, one-based, or {@link #NO_RANK}
+	 */
+	public synchronized int getRankById(int recordId) {
+		return this.rankOf(this.nodesById.get(recordId));
+	}
+
+	/**
+	 * Get a rank of a player personal best.
+	 *
+	 * @param steamId	person identifier
+	 * @return			rank, one-based, or {@link #NO_RANK}
+	 */
+	public synchronized int getRankBySteamId(SteamId steamId) {
+		Long steamId64 = SteamId.toSteam64OrNull(steamId);
+
+		return steamId64 == null ? NO_RANK
+				: this.rankOf(this.nodesBySteamId64.get(steamId64));
+	}
+
+	/**
+	 * Get a player personal best.
+	 *
+	 * @param steamId	person identifier
+	 * @return			record or {@code null}
+	 */
+	public synchronized RecordEntity getBySteamId(SteamId steamId) {
+		Long steamId64 = SteamId.toSteam64OrNull(steamId);
+
+		Node node = steamId64 == null ? null
+				: this.nodesBySteamId64.get(steamId64);
+
+		return node == null ? null
+				: node.record;
+	}
+
+	/**
+	 * Offer a record to this leaderboard.
+	 *
+	 * <p>Replaces the player personal best if the record is faster.
+	 *
+	 * @param record	record
+	 * @return			boolean value as a result,
+	 * 					true - the leaderboard has changed, false - otherwise
+	 */
+	synchronized boolean offer(RecordEntity record) {
+		Node node = Node.ofOrNull(record);
+
+		if (node == null || this.nodesById.containsKey(node.id)) {
+			return false;
+		}
+
+		Node prevNode = this.nodesBySteamId64.get(node.steamId64);
+
+		if (prevNode != null) {
+			if (compare(node, prevNode) >= 0) {
+				return false;
+			}
+
+			this.root = remove(this.root, prevNode);
+			this.nodesById.remove(prevNode.id);
+		}
+
+		this.root = insert(this.root, node);
+
+		this.nodesBySteamId64.put(node.steamId64, node);
+		this.nodesById.put(node.id, node);
+
+		return true;
+	}
+
+	/**
+	 * Replace all records of this leaderboard.
+	 *
+	 * @param records	list of records
+	 */
+	synchronized void reset(List<RecordEntity> records) {
+		this.root = null;
+
+		this.nodesBySteamId64.clear();
+		this.nodesById.clear();
+
+		records.forEach(this::offer);
+	}
+
+	/**
+	 * Get a rank of the provided node.
+	 *
+	 * @param target	node, may be null
+	 * @return			rank, one-based, or {@link #NO_RANK}
+	 */
+	private int rankOf(Node target) {
+		if (target == null) {
+			return NO_RANK;
+		}
+
+		Node node = this.root;
+		int rank = 0;
+
+		while (node != null) {
+			int cmp = compare(target, node);
+
+			if (cmp < 0) {
+				node = node.left;
+			} else if (cmp > 0) {
+				rank += sizeOf(node.left) + 1;
+				node = node.right;
+			} else {
+				return rank + sizeOf(node.left) + 1;
+			}
+		}
+
+		return NO_RANK;
+	}
+
+	/**
+	 * Collect records of the provided subtree in the index range.
+	 *
+	 * @param node		subtree root node, may be null
+	 * @param from		first index in the subtree, inclusive
+	 * @param to		last index in the subtree, exclusive
+	 * @param records	list to put records in
+	 */
+	private static void collect(Node node, int from, int to, List<RecordEntity> records) {
+		while (node != null && from < to) {
+			int leftSize = sizeOf(node.left);
+
+			if (from < leftSize) {
+				collect(node.left, from, Math.min(to, leftSize), records);
+			}
+
+			if (from <= leftSize && leftSize < to) {
+				records.add(node.record);
+			}
+
+			from = Math.max(from - leftSize - 1, 0);
+			to -= leftSize + 1;
+			node = node.right;
+		}
+	}
+
+	/**
+	 * Insert a node into the provided subtree.
+	 *
+	 * @param node		subtree root node, may be null
+	 * @param target	node to insert
+	 * @return			new subtree root node
+	 */
+	private static Node insert(Node node, Node target) {
+		if (node == null) {
+			return target;
+		}
+
+		if (compare(target, node) < 0) {
+			node.left = insert(node.left, target);
+
+			if (node.left.priority > node.priority) {
+				node = rotateRight(node);
+			}
+		} else {
+			node.right = insert(node.right, target);
+
+			if (node.right.priority > node.priority) {
+				node = rotateLeft(node);
+			}
+		}
+
+		return node.update();
+	}
+
+	/**
+	 * Remove a node from the provided subtree.
+	 *
+	 * @param node		subtree root node, may be null
+	 * @param target	node to remove
+	 * @return			new subtree root node
+	 */
+	private static Node remove(Node node, Node target) {
+		if (node == null) {
+			return null;
+		}
+
+		int cmp = compare(target, node);
+
+		if (cmp < 0) {
+			node.left = remove(node.left, target);
+		} else if (cmp > 0) {
+			node.right = remove(node.right, target);
+		} else {
+			return merge(node.left, node.right);
+		}
+
+		return node.update();
+	}
+
+	/**
+	 * Merge the provided subtrees.
+	 *
+	 * <p>All nodes of the left subtree must precede
+	 * the ones of the right subtree.
+	 *
+	 * @param left		left subtree root node, may be null
+	 * @param right		right subtree root node, may be null
+	 * @return			merged subtree root node
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+
+		if (right == null) {
+			return left;
+		}
+
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+
+			return left.update();
+		}
+
+		right.left = merge(left, right.left);
+
+		return right.update();
+	}
+
+	/**
+	 * Rotate the provided subtree to the right.
+	 *
+	 * @param node	subtree root node
+	 * @return		new subtree root node
+	 */
+	private static Node rotateRight(Node node) {
+		Node left = node.left;
+
+		node.left = left.right;
+		left.right = node.update();
+
+		return left;
+	}
+
+	/**
+	 * Rotate the provided subtree to the left.
+	 *
+	 * @param node	subtree root node
+	 * @return		new subtree root node
+	 */
+	private static Node rotateLeft(Node node) {
+		Node right = node.right;
+
+		node.right = right.left;
+		right.left = node.update();
+
+		return right;
+	}
+
+	/**
+	 * Compare nodes by their run times, creation dates {@literal &} identifiers.
+	 *
+	 * @param a		first node
+	 * @param b		second node
+	 * @return		comparison result
+	 */
+	private static int compare(Node a, Node b) {
+		int cmp = Float.compare(a.time, b.time);
+
+		if (cmp != 0) {
+			return cmp;
+		}
+
+		cmp = Long.compare(a.createDateMillis, b.createDateMillis);
+
+		if (cmp != 0) {
+			return cmp;
+		}
+
+		return Integer.compare(a.id, b.id);
+	}
+
+	/**
+	 * Get a size of the provided subtree.
+	 *
+	 * @param node	subtree root node, may be null
+	 * @return		subtree size
+	 */
+	private static int sizeOf(Node node) {
+		return node == null ? 0
+				: node.size;
+	}
+
+	/**
+	 * A treap node.
+	 */
+	private static final class Node {
+
+		/**
+		 * A record.
+		 */
+		private final RecordEntity record;
+
+		/**
+		 * A record identifier.
+		 */
+		private final int id;
+
+		/**
+		 * A type-64 person identifier.
+		 */
+		private final long steamId64;
+
+		/**
+		 * A run time in seconds.
+		 */
+		private final float time;
+
+		/**
+		 * A creation date in epoch milliseconds.
+		 */
+		private final long createDateMillis;
+
+		/**
+		 * A heap priority.
+		 */
+		private final int priority;
+
+		/**
+		 * A subtree size.
+		 */
+		private int size;
+
+		/**
+		 * A left child node.
+		 */
+		private Node left;
+
+		/**
+		 * A right child node.
+		 */
+		private Node right;
+
+		/**
+		 * Initialize a {@link Node} instance.
+		 *
+		 * @param record			record
+		 * @param steamId64			type-64 person identifier
+		 * @param time				run time in seconds
+		 * @param createDateMillis	creation date in epoch milliseconds
+		 */
+		private Node(RecordEntity record, long steamId64, float time, long createDateMillis) {
+			this.record = record;
+			this.id = record.getId();
+			this.steamId64 = steamId64;
+			this.time = time;
+			this.createDateMillis = createDateMillis;
+			this.priority = ThreadLocalRandom.current().nextInt();
+			this.size = 1;
+		}
+
+		/**
+		 * Create a {@link Node} instance of the provided record.
+		 *
+		 * @param record	record, may be null
+		 * @return			node or {@code null} if the record has no identifier,
+		 * 					person identifier or valid run time
+		 */
+		private static Node ofOrNull(RecordEntity record) {
+			if (record == null || record.getId() == 0) {
+				return null;
+			}
+
+			Long steamId64 = SteamId.toSteam64OrNull(record.getSteamId());
+			RunTime time = record.getTime();
+
+			if (steamId64 == null || time == null || !time.isValid()) {
+				return null;
+			}
+
+			DateTime createDate = record.getCreateDate();
+
+			return new Node(record, steamId64, time.getTime(),
+					createDate == null ? Long.MAX_VALUE : createDate.getMillis());
+		}
+
+		/**
+		 * Update this subtree size.
+		 *
+		 * @return	this instance
+		 */
+		private Node update() {
+			this.size = sizeOf(this.left) + sizeOf(this.right) + 1;
+
+			return this;
+		}
+	}
+}
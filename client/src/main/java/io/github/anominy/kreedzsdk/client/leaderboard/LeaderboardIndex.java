@@ -0,0 +1,320 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.leaderboard;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.services.RecordService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An index of local {@link Leaderboard} instances.
+ *
+ * <p>A leaderboard is bootstrapped from the /records/top/ endpoint
+ * once it's tracked and then kept current by polling the
+ * /records/top/recent/ endpoint for records created since
+ * the last poll, so rank queries don't hit the API.
+ */
+@SuppressWarnings("unused")
+public final class LeaderboardIndex implements Closeable {
+
+	/**
+	 * A default poll interval.
+	 */
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * A duration the created since date of a poll is moved back by,
+	 * so records created during a previous poll aren't missed.
+	 *
+	 * <p>Offering a record twice doesn't change a leaderboard.
+	 */
+	private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-leaderboard-index";
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A poll interval.
+	 */
+	private final Duration pollInterval;
+
+	/**
+	 * A poll executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A map of leaderboards by their keys.
+	 */
+	private final Map<LeaderboardKey, Leaderboard> leaderboards;
+
+	/**
+	 * A creation date of the latest polled record.
+	 */
+	private volatile DateTime pollDate;
+
+	/**
+	 * Initialize a {@link LeaderboardIndex} instance.
+	 *
+	 * @param client		kreedz client
+	 * @param pollInterval	poll interval
+	 */
+	public LeaderboardIndex(KreedzClient client, Duration pollInterval) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+			throw new IllegalArgumentException("Poll interval must be positive");
+		}
+
+		this.client = client;
+		this.pollInterval = pollInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.leaderboards = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Initialize a {@link LeaderboardIndex} instance.
+	 *
+	 * <p>Wraps {@link #LeaderboardIndex(KreedzClient, Duration)}
+	 * w/ {@link #DEFAULT_POLL_INTERVAL} as the poll interval.
+	 *
+	 * @param client	kreedz client
+	 */
+	public LeaderboardIndex(KreedzClient client) {
+		this(client, DEFAULT_POLL_INTERVAL);
+	}
+
+	/**
+	 * Schedule background polls of this index.
+	 *
+	 * @return	this instance
+	 */
+	public LeaderboardIndex start() {
+		long intervalMillis = this.pollInterval.toMillis();
+
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::poll, 1),
+				intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Track a leaderboard of the provided key.
+	 *
+	 * <p>Bootstraps the leaderboard from the API
+	 * if it isn't tracked yet.
+	 *
+	 * @param key			leaderboard key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				leaderboard or {@code null} if failed to bootstrap
+	 */
+	public Leaderboard track(LeaderboardKey key, Throwable[] throwables) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key mustn't be <null>");
+		}
+
+		Leaderboard leaderboard = this.leaderboards.get(key);
+
+		if (leaderboard != null) {
+			return leaderboard;
+		}
+
+		DateTime bootstrapDate = DateTime.now(DateTimeZone.UTC);
+
+		List<RecordEntity> records = this.fetchTop(key, throwables);
+
+		if (records == null) {
+			return null;
+		}
+
+		leaderboard = new Leaderboard(key);
+		leaderboard.reset(records);
+
+		synchronized (this) {
+			if (this.pollDate == null) {
+				this.pollDate = bootstrapDate;
+			}
+
+			Leaderboard prevLeaderboard = this.leaderboards.putIfAbsent(key, leaderboard);
+
+			return prevLeaderboard != null ? prevLeaderboard
+					: leaderboard;
+		}
+	}
+
+	/**
+	 * Stop tracking a leaderboard of the provided key.
+	 *
+	 * @param key	leaderboard key
+	 */
+	public void untrack(LeaderboardKey key) {
+		if (key == null) {
+			return;
+		}
+
+		this.leaderboards.remove(key);
+	}
+
+	/**
+	 * Get a tracked leaderboard of the provided key.
+	 *
+	 * @param key	leaderboard key
+	 * @return		leaderboard or {@code null} if isn't tracked
+	 */
+	public Leaderboard get(LeaderboardKey key) {
+		if (key == null) {
+			return null;
+		}
+
+		return this.leaderboards.get(key);
+	}
+
+	/**
+	 * Get all tracked leaderboard keys.
+	 *
+	 * @return	unmodifiable set of leaderboard keys
+	 */
+	public Set<LeaderboardKey> getKeys() {
+		return Collections.unmodifiableSet(this.leaderboards.keySet());
+	}
+
+	/**
+	 * Poll records created since the last poll
+	 * and offer them to the tracked leaderboards.
+	 *
+	 * <p>A record is offered both to the leaderboard of its run type
+	 * and to the overall one.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				changed leaderboard entry count
+	 * 						or {@code -1} if failed to poll
+	 */
+	public synchronized int poll(Throwable[] throwables) {
+		DateTime pollDate = this.pollDate;
+
+		if (pollDate == null || this.leaderboards.isEmpty()) {
+			return 0;
+		}
+
+		DateTime sinceDate = new DateTime(pollDate.getMillis() - POLL_OVERLAP.toMillis(), DateTimeZone.UTC);
+		RecordService recordService = this.client.getRecordService();
+
+		List<RecordEntity> records = UKreedzCommon.fetchAll(offset -> recordService.recentRecords()
+				.setCreatedSinceDate(sinceDate)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		if (records == null) {
+			return -1;
+		}
+
+		int changeCount = 0;
+
+		for (RecordEntity record : records) {
+			ERunType runType = ERunType.fromHasTeleports(record.getTeleportCount() > 0);
+
+			changeCount += this.offer(LeaderboardKey.ofOrNull(record, runType), record);
+			changeCount += this.offer(LeaderboardKey.ofOrNull(record, ERunType.NUB), record);
+
+			DateTime createDate = record.getCreateDate();
+
+			if (createDate != null && createDate.isAfter(pollDate)) {
+				pollDate = createDate;
+			}
+		}
+
+		this.pollDate = pollDate;
+
+		return changeCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background polls, the leaderboards stay available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Offer a record to a tracked leaderboard of the provided key.
+	 *
+	 * @param key		leaderboard key, may be null
+	 * @param record	record
+	 * @return			{@code 1} if the leaderboard has changed, {@code 0} otherwise
+	 */
+	private int offer(LeaderboardKey key, RecordEntity record) {
+		Leaderboard leaderboard = key == null ? null
+				: this.leaderboards.get(key);
+
+		return leaderboard != null && leaderboard.offer(record) ? 1
+				: 0;
+	}
+
+	/**
+	 * Fetch all top records of the provided key.
+	 *
+	 * @param key			leaderboard key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of records or {@code null} if failed
+	 */
+	private List<RecordEntity> fetchTop(LeaderboardKey key, Throwable[] throwables) {
+		RecordService recordService = this.client.getRecordService();
+
+		return UKreedzCommon.fetchAll(offset -> recordService.recordsTop()
+				.setMapId(key.getMapId())
+				.setStage(key.getStage())
+				.setMode(key.getMode())
+				.setTickrate(key.getTickrate())
+				.setRunType(key.getRunType())
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+	}
+}
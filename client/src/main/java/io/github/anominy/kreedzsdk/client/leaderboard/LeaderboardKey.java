@@ -0,0 +1,390 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.leaderboard;
+
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A leaderboard key, the record filter a {@link Leaderboard} is built for.
+ *
+ * <p>The {@link ERunType#NUB} run type stands for the overall
+ * leaderboard, which contains both pro {@literal &} teleport runs.
+ */
+@SuppressWarnings("unused")
+public final class LeaderboardKey implements Serializable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = LeaderboardKey.class.getSimpleName();
+
+	/**
+	 * An array of {@link EMode} instances.
+	 */
+	private static final EMode[] MODES = EMode.values();
+
+	/**
+	 * An array of {@link ETickrate} instances.
+	 */
+	private static final ETickrate[] TICKRATES = ETickrate.values();
+
+	/**
+	 * An array of {@link ERunType} instances.
+	 */
+	private static final ERunType[] RUN_TYPES = ERunType.values();
+
+	/**
+	 * A map identifier.
+	 */
+	private final int mapId;
+
+	/**
+	 * A stage identifier.
+	 */
+	private final int stage;
+
+	/**
+	 * A game mode.
+	 */
+	private final EMode mode;
+
+	/**
+	 * A tickrate.
+	 */
+	private final ETickrate tickrate;
+
+	/**
+	 * A run type.
+	 */
+	private final ERunType runType;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link LeaderboardKey} instance.
+	 *
+	 * @param mapId		map identifier
+	 * @param stage		stage identifier
+	 * @param mode		game mode
+	 * @param tickrate	tickrate
+	 * @param runType	run type
+	 */
+	public LeaderboardKey(int mapId, int stage, EMode mode, ETickrate tickrate, ERunType runType) {
+		if (mode == null) {
+			throw new IllegalArgumentException("Mode mustn't be <null>");
+		}
+
+		if (tickrate == null) {
+			throw new IllegalArgumentException("Tickrate mustn't be <null>");
+		}
+
+		if (runType == null) {
+			throw new IllegalArgumentException("Run type mustn't be <null>");
+		}
+
+		this.mapId = mapId;
+		this.stage = stage;
+		this.mode = mode;
+		this.tickrate = tickrate;
+		this.runType = runType;
+	}
+
+	/**
+	 * Create a {@link LeaderboardKey} instance of the provided record.
+	 *
+	 * @param record	record
+	 * @param runType	run type
+	 * @return			leaderboard key or {@code null}
+	 * 					if the record has no mode or tickrate
+	 */
+	public static LeaderboardKey ofOrNull(RecordEntity record, ERunType runType) {
+		if (record == null || runType == null
+				|| record.getMode() == null
+				|| record.getTickrate() == null) {
+			return null;
+		}
+
+		return new LeaderboardKey(
+				record.getMapId(),
+				record.getStage(),
+				record.getMode(),
+				record.getTickrate(),
+				runType
+		);
+	}
+
+	/**
+	 * Pack a leaderboard key tuple into a {@code long} key.
+	 *
+	 * <p>Layout, from the high bits: 32-bit map identifier, 16-bit stage
+	 * identifier, 8-bit mode ordinal, 6-bit tickrate ordinal, 2-bit run type ordinal.
+	 *
+	 * @param mapId				map identifier
+	 * @param stage				stage identifier
+	 * @param modeOrdinal		game mode ordinal
+	 * @param tickrateOrdinal	tickrate ordinal
+	 * @param runTypeOrdinal	run type ordinal
+	 * @return					packed key
+	 */
+	public static long pack(int mapId, int stage, int modeOrdinal, int tickrateOrdinal, int runTypeOrdinal) {
+		return ((long) mapId << 32)
+				| ((long) (stage & 0xFFFF) << 16)
+				| ((long) (modeOrdinal & 0xFF) << 8)
+				| ((long) (tickrateOrdinal & 0x3F) << 2)
+				| (runTypeOrdinal & 0x3);
+	}
+
+	/**
+	 * Pack a leaderboard key tuple into a {@code long} key.
+	 *
+	 * <p>Wraps {@link #pack(int, int, int, int, int)}
+	 * w/ the ordinals of the provided types.
+	 *
+	 * @param mapId		map identifier
+	 * @param stage		stage identifier
+	 * @param mode		game mode
+	 * @param tickrate	tickrate
+	 * @param runType	run type
+	 * @return			packed key
+	 */
+	public static long pack(int mapId, int stage, EMode mode, ETickrate tickrate, ERunType runType) {
+		if (mode == null) {
+			throw new IllegalArgumentException("Mode mustn't be <null>");
+		}
+
+		if (tickrate == null) {
+			throw new IllegalArgumentException("Tickrate mustn't be <null>");
+		}
+
+		if (runType == null) {
+			throw new IllegalArgumentException("Run type mustn't be <null>");
+		}
+
+		return pack(mapId, stage, mode.ordinal(), tickrate.ordinal(), runType.ordinal());
+	}
+
+	/**
+	 * Unpack a {@code long} key into a leaderboard key.
+	 *
+	 * @param packed	packed key
+	 * @return			leaderboard key or {@code null} if the key is malformed
+	 */
+	public static LeaderboardKey unpackOrNull(long packed) {
+		int modeOrdinal = unpackModeOrdinal(packed);
+		int tickrateOrdinal = unpackTickrateOrdinal(packed);
+		int runTypeOrdinal = unpackRunTypeOrdinal(packed);
+
+		if (modeOrdinal >= MODES.length
+				|| tickrateOrdinal >= TICKRATES.length
+				|| runTypeOrdinal >= RUN_TYPES.length) {
+			return null;
+		}
+
+		return new LeaderboardKey(
+				unpackMapId(packed),
+				unpackStage(packed),
+				MODES[modeOrdinal],
+				TICKRATES[tickrateOrdinal],
+				RUN_TYPES[runTypeOrdinal]
+		);
+	}
+
+	/**
+	 * Unpack a map identifier of a {@code long} key.
+	 *
+	 * @param packed	packed key
+	 * @return			map identifier
+	 */
+	public static int unpackMapId(long packed) {
+		return (int) (packed >>> 32);
+	}
+
+	/**
+	 * Unpack a stage identifier of a {@code long} key.
+	 *
+	 * @param packed	packed key
+	 * @return			stage identifier
+	 */
+	public static int unpackStage(long packed) {
+		return (int) (packed >>> 16) & 0xFFFF;
+	}
+
+	/**
+	 * Unpack a game mode ordinal of a {@code long} key.
+	 *
+	 * @param packed	packed key
+	 * @return			game mode ordinal
+	 */
+	public static int unpackModeOrdinal(long packed) {
+		return (int) (packed >>> 8) & 0xFF;
+	}
+
+	/**
+	 * Unpack a tickrate ordinal of a {@code long} key.
+	 *
+	 * @param packed	packed key
+	 * @return			tickrate ordinal
+	 */
+	public static int unpackTickrateOrdinal(long packed) {
+		return (int) (packed >>> 2) & 0x3F;
+	}
+
+	/**
+	 * Unpack a run type ordinal of a {@code long} key.
+	 *
+	 * @param packed	packed key
+	 * @return			run type ordinal
+	 */
+	public static int unpackRunTypeOrdinal(long packed) {
+		return (int) packed & 0x3;
+	}
+
+	/**
+	 * Pack this leaderboard key into a {@code long} key.
+	 *
+	 * @return	packed key
+	 * @see #pack(int, int, EMode, ETickrate, ERunType)
+	 */
+	public long pack() {
+		return pack(this.mapId, this.stage, this.mode, this.tickrate, this.runType);
+	}
+
+	/**
+	 * Get this map identifier.
+	 *
+	 * @return	map identifier
+	 */
+	public int getMapId() {
+		return this.mapId;
+	}
+
+	/**
+	 * Get this stage identifier.
+	 *
+	 * @return	stage identifier
+	 */
+	public int getStage() {
+		return this.stage;
+	}
+
+	/**
+	 * Get this game mode.
+	 *
+	 * @return	game mode
+	 */
+	public EMode getMode() {
+		return this.mode;
+	}
+
+	/**
+	 * Get this tickrate.
+	 *
+	 * @return	tickrate
+	 */
+	public ETickrate getTickrate() {
+		return this.tickrate;
+	}
+
+	/**
+	 * Get this run type.
+	 *
+	 * @return	run type
+	 */
+	public ERunType getRunType() {
+		return this.runType;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		LeaderboardKey that = (LeaderboardKey) obj;
+
+		return this.mapId == that.mapId
+				&& this.stage == that.stage
+				&& this.mode == that.mode
+				&& this.tickrate == that.tickrate
+				&& this.runType == that.runType;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.mapId,
+						this.stage,
+						this.mode,
+						this.tickrate,
+						this.runType
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "mapId=" + this.mapId
+				+ ", stage=" + this.stage
+				+ ", mode=" + this.mode
+				+ ", tickrate=" + this.tickrate
+				+ ", runType=" + this.runType
+				+ "]");
+	}
+}
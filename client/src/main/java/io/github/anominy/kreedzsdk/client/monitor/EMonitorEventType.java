@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.monitor;
+
+/**
+ * A status monitor event type.
+ */
+@SuppressWarnings("unused")
+public enum EMonitorEventType {
+
+	/**
+	 * An overall status indicator change.
+	 *
+	 * <p>Event values are {@link io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator} instances.
+	 */
+	INDICATOR_CHANGED,
+
+	/**
+	 * A status component status change.
+	 *
+	 * <p>Event values are {@link io.github.anominy.kreedzsdk.structs.entities.status.StatusComponentEntity} instances.
+	 */
+	COMPONENT_CHANGED,
+
+	/**
+	 * A new unresolved incident.
+	 *
+	 * <p>An event value is a {@link io.github.anominy.kreedzsdk.structs.entities.status.StatusIncidentEntity} instance.
+	 */
+	INCIDENT_CREATED,
+
+	/**
+	 * An incident no longer listed as unresolved.
+	 *
+	 * <p>An event previous value is a {@link io.github.anominy.kreedzsdk.structs.entities.status.StatusIncidentEntity} instance.
+	 */
+	INCIDENT_RESOLVED,
+
+	/**
+	 * A health condition of an endpoint started failing.
+	 *
+	 * <p>Event values are {@link io.github.anominy.kreedzsdk.structs.entities.health.HealthConditionEntity} instances.
+	 */
+	CONDITION_FAILED,
+
+	/**
+	 * A failing health condition of an endpoint succeeded again.
+	 *
+	 * <p>Event values are {@link io.github.anominy.kreedzsdk.structs.entities.health.HealthConditionEntity} instances.
+	 */
+	CONDITION_RECOVERED
+}
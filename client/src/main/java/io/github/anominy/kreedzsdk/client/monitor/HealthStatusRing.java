@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.monitor;
+
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthStatusEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed capacity ring buffer of health statuses.
+ *
+ * <p>Overwrites the oldest health status once full.
+ *
+ * <p>Isn't thread-safe.
+ */
+final class HealthStatusRing {
+
+	/**
+	 * An array of health statuses.
+	 */
+	private final HealthStatusEntity[] statuses;
+
+	/**
+	 * An index of the next health status slot.
+	 */
+	private int next;
+
+	/**
+	 * A health status count.
+	 */
+	private int size;
+
+	/**
+	 * Initialize a {@link HealthStatusRing} instance.
+	 *
+	 * @param capacity	health status capacity
+	 */
+	HealthStatusRing(int capacity) {
+		this.statuses = new HealthStatusEntity[capacity];
+	}
+
+	/**
+	 * Add a health status, overwriting the oldest one if full.
+	 *
+	 * @param status	health status
+	 */
+	void add(HealthStatusEntity status) {
+		this.statuses[this.next] = status;
+		this.next = (this.next + 1) % this.statuses.length;
+
+		if (this.size < this.statuses.length) {
+			this.size++;
+		}
+	}
+
+	/**
+	 * Get the latest health status.
+	 *
+	 * @return	health status or {@code null} if empty
+	 */
+	HealthStatusEntity getLatest() {
+		if (this.size == 0) {
+			return null;
+		}
+
+		return this.statuses[(this.next - 1 + this.statuses.length) % this.statuses.length];
+	}
+
+	/**
+	 * Copy health statuses to a list.
+	 *
+	 * @return	list of health statuses, oldest first
+	 */
+	List<HealthStatusEntity> toList() {
+		List<HealthStatusEntity> statuses = new ArrayList<>(this.size);
+
+		int first = (this.next - this.size + this.statuses.length) % this.statuses.length;
+
+		for (int i = 0; i < this.size; i++) {
+			statuses.add(this.statuses[(first + i) % this.statuses.length]);
+		}
+
+		return statuses;
+	}
+
+	/**
+	 * Get this health status count.
+	 *
+	 * @return	health status count
+	 */
+	int size() {
+		return this.size;
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.monitor;
+
+/**
+ * A status monitor event listener.
+ */
+@FunctionalInterface
+public interface IMonitorListener {
+
+	/**
+	 * Handle a status monitor event.
+	 *
+	 * <p>Called on the monitor poll thread,
+	 * must not block for long.
+	 *
+	 * @param event		status monitor event
+	 */
+	void onMonitorEvent(MonitorEvent event);
+}
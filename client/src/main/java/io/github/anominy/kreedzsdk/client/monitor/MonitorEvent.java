@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.monitor;
+
+import io.github.anominy.kreedzsdk.structs.types.health.EHealthEndpoint;
+
+import java.util.Objects;
+
+/**
+ * A status or health change noticed by a {@link StatusMonitor}.
+ *
+ * <p>Value types depend on the event type,
+ * see {@link EMonitorEventType} constants.
+ */
+@SuppressWarnings("unused")
+public final class MonitorEvent {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = MonitorEvent.class.getSimpleName();
+
+	/**
+	 * An event type.
+	 */
+	private final EMonitorEventType type;
+
+	/**
+	 * A health endpoint.
+	 */
+	private final EHealthEndpoint endpoint;
+
+	/**
+	 * A previous value.
+	 */
+	private final Object prevValue;
+
+	/**
+	 * A current value.
+	 */
+	private final Object value;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link MonitorEvent} instance.
+	 *
+	 * @param type			event type
+	 * @param endpoint		health endpoint, may be null
+	 * @param prevValue		previous value, may be null
+	 * @param value			current value, may be null
+	 */
+	MonitorEvent(EMonitorEventType type, EHealthEndpoint endpoint, Object prevValue, Object value) {
+		this.type = type;
+		this.endpoint = endpoint;
+		this.prevValue = prevValue;
+		this.value = value;
+	}
+
+	/**
+	 * Get this event type.
+	 *
+	 * @return	event type
+	 */
+	public EMonitorEventType getType() {
+		return this.type;
+	}
+
+	/**
+	 * Get this health endpoint.
+	 *
+	 * @return	health endpoint or {@code null} for a status event
+	 */
+	public EHealthEndpoint getEndpoint() {
+		return this.endpoint;
+	}
+
+	/**
+	 * Get this previous value.
+	 *
+	 * @return	previous value or {@code null} for a new one
+	 */
+	public Object getPrevValue() {
+		return this.prevValue;
+	}
+
+	/**
+	 * Get this current value.
+	 *
+	 * @return	current value or {@code null} for a removed one
+	 */
+	public Object getValue() {
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		MonitorEvent that = (MonitorEvent) obj;
+
+		return this.type == that.type
+				&& this.endpoint == that.endpoint
+				&& Objects.equals(this.prevValue, that.prevValue)
+				&& Objects.equals(this.value, that.value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.type,
+						this.endpoint,
+						this.prevValue,
+						this.value
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "type=" + this.type
+				+ ", endpoint=" + this.endpoint
+				+ ", prevValue=" + this.prevValue
+				+ ", value=" + this.value
+				+ "]");
+	}
+}
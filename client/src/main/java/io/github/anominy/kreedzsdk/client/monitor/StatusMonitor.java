@@ -0,0 +1,560 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.monitor;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthConditionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthStatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusComponentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusIncidentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusPageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import io.github.anominy.kreedzsdk.structs.types.health.EHealthEndpoint;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator;
+import org.joda.time.DateTime;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A status {@literal &} health monitor.
+ *
+ * <p>Polls the status page summary {@literal &} the health statuses of all
+ * endpoints on a single background thread, keeps the latest summary {@literal &}
+ * a bounded health status history per endpoint, and emits events on status
+ * indicator, component {@literal &} incident changes and on health condition
+ * failures, so a process needs a single monitor instead of a poller per consumer.
+ *
+ * <p>A summary w/ an unchanged page update date isn't diffed again.
+ * The first poll sets the baseline state w/o emitting events.
+ */
+@SuppressWarnings("unused")
+public final class StatusMonitor implements Closeable {
+
+	/**
+	 * A default poll interval.
+	 */
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * A default health status history capacity per endpoint.
+	 */
+	public static final int DEFAULT_HISTORY_CAPACITY = 64;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-status-monitor";
+
+	/**
+	 * A comparator of health statuses by their dates.
+	 */
+	private static final Comparator<HealthStatusEntity> DATE_ORDER = Comparator.comparing(HealthStatusEntity::getDate,
+			Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A poll interval.
+	 */
+	private final Duration pollInterval;
+
+	/**
+	 * A poll executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A list of listeners.
+	 */
+	private final List<IMonitorListener> listeners;
+
+	/**
+	 * A map of health status histories by their endpoints.
+	 */
+	private final Map<EHealthEndpoint, HealthStatusRing> histories;
+
+	/**
+	 * A map of failing health conditions by their names, by their endpoints.
+	 */
+	private final Map<EHealthEndpoint, Map<String, HealthConditionEntity>> failingConditions;
+
+	/**
+	 * A latest status page summary.
+	 */
+	private volatile StatusSummaryResponseEntity summary;
+
+	/**
+	 * Initialize a {@link StatusMonitor} instance.
+	 *
+	 * @param client			kreedz client
+	 * @param pollInterval		poll interval
+	 * @param historyCapacity	health status history capacity per endpoint
+	 */
+	public StatusMonitor(KreedzClient client, Duration pollInterval, int historyCapacity) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+			throw new IllegalArgumentException("Poll interval must be positive");
+		}
+
+		if (historyCapacity <= 0) {
+			throw new IllegalArgumentException("History capacity must be positive");
+		}
+
+		this.client = client;
+		this.pollInterval = pollInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.histories = new EnumMap<>(EHealthEndpoint.class);
+		this.failingConditions = new EnumMap<>(EHealthEndpoint.class);
+
+		for (EHealthEndpoint endpoint : EHealthEndpoint.values()) {
+			this.histories.put(endpoint, new HealthStatusRing(historyCapacity));
+			this.failingConditions.put(endpoint, new HashMap<>());
+		}
+	}
+
+	/**
+	 * Initialize a {@link StatusMonitor} instance.
+	 *
+	 * <p>Wraps {@link #StatusMonitor(KreedzClient, Duration, int)}
+	 * w/ {@link #DEFAULT_POLL_INTERVAL} {@literal &} {@link #DEFAULT_HISTORY_CAPACITY}
+	 * as the poll interval {@literal &} health status history capacity per endpoint.
+	 *
+	 * @param client	kreedz client
+	 */
+	public StatusMonitor(KreedzClient client) {
+		this(client, DEFAULT_POLL_INTERVAL, DEFAULT_HISTORY_CAPACITY);
+	}
+
+	/**
+	 * Schedule background polls of this monitor.
+	 *
+	 * <p>The first poll runs immediately.
+	 *
+	 * @return	this instance
+	 */
+	public StatusMonitor start() {
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::poll, 2),
+				0L, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Add a status monitor event listener.
+	 *
+	 * @param listener	status monitor event listener
+	 * @return			this instance
+	 */
+	public StatusMonitor addListener(IMonitorListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener mustn't be <null>");
+		}
+
+		this.listeners.add(listener);
+
+		return this;
+	}
+
+	/**
+	 * Remove a status monitor event listener.
+	 *
+	 * @param listener	status monitor event listener
+	 * @return			this instance
+	 */
+	public StatusMonitor removeListener(IMonitorListener listener) {
+		this.listeners.remove(listener);
+
+		return this;
+	}
+
+	/**
+	 * Get the latest status page summary.
+	 *
+	 * @return	status page summary or {@code null} if not polled yet
+	 */
+	public StatusSummaryResponseEntity getSummary() {
+		return this.summary;
+	}
+
+	/**
+	 * Get the latest health status of an endpoint.
+	 *
+	 * @param endpoint	health endpoint
+	 * @return			health status or {@code null} if not polled yet
+	 */
+	public synchronized HealthStatusEntity getHealthStatus(EHealthEndpoint endpoint) {
+		HealthStatusRing history = this.histories.get(endpoint);
+
+		return history == null ? null
+				: history.getLatest();
+	}
+
+	/**
+	 * Get the health status history of an endpoint.
+	 *
+	 * @param endpoint	health endpoint
+	 * @return			unmodifiable list of health statuses, oldest first
+	 */
+	public synchronized List<HealthStatusEntity> getHealthHistory(EHealthEndpoint endpoint) {
+		HealthStatusRing history = this.histories.get(endpoint);
+
+		return history == null ? Collections.emptyList()
+				: Collections.unmodifiableList(history.toList());
+	}
+
+	/**
+	 * Get the currently failing health conditions of an endpoint.
+	 *
+	 * @param endpoint	health endpoint
+	 * @return			unmodifiable list of health conditions
+	 */
+	public synchronized List<HealthConditionEntity> getFailingConditions(EHealthEndpoint endpoint) {
+		Map<String, HealthConditionEntity> conditions = this.failingConditions.get(endpoint);
+
+		return conditions == null ? Collections.emptyList()
+				: Collections.unmodifiableList(new ArrayList<>(conditions.values()));
+	}
+
+	/**
+	 * Poll the status page summary {@literal &} health statuses
+	 * and notify listeners of their changes.
+	 *
+	 * <p>Events of a successful half are emitted even if the other one failed.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				emitted event count or {@code -1} if failed to poll
+	 */
+	public int poll(Throwable[] throwables) {
+		List<MonitorEvent> events = new ArrayList<>();
+
+		boolean isPolled;
+
+		synchronized (this) {
+			isPolled = this.pollSummary(events, throwables)
+					& this.pollHealth(events, throwables);
+		}
+
+		for (MonitorEvent event : events) {
+			this.dispatch(event);
+		}
+
+		return isPolled ? events.size()
+				: -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background polls, the polled state stays available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Poll the status page summary.
+	 *
+	 * @param events		list to put status monitor events in
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				boolean value as a result,
+	 * 						true - polled, false - failed
+	 */
+	private boolean pollSummary(List<MonitorEvent> events, Throwable[] throwables) {
+		StatusSummaryResponseEntity summary = this.client.getStatusService()
+				.summary()
+				.execute(throwables);
+
+		if (summary == null) {
+			return false;
+		}
+
+		StatusSummaryResponseEntity prevSummary = this.summary;
+		this.summary = summary;
+
+		if (prevSummary == null) {
+			return true;
+		}
+
+		DateTime prevUpdateDate = getUpdateDateOrNull(prevSummary);
+
+		if (prevUpdateDate != null && prevUpdateDate.equals(getUpdateDateOrNull(summary))) {
+			return true;
+		}
+
+		EStatusIndicator prevIndicator = getIndicatorOrNull(prevSummary);
+		EStatusIndicator indicator = getIndicatorOrNull(summary);
+
+		if (prevIndicator != indicator) {
+			events.add(new MonitorEvent(EMonitorEventType.INDICATOR_CHANGED, null, prevIndicator, indicator));
+		}
+
+		Map<String, StatusComponentEntity> prevComponents = mapComponents(prevSummary.getComponents());
+
+		for (StatusComponentEntity component : mapComponents(summary.getComponents()).values()) {
+			StatusComponentEntity prevComponent = prevComponents.get(component.getId());
+
+			if (prevComponent == null || prevComponent.getStatus() != component.getStatus()) {
+				events.add(new MonitorEvent(EMonitorEventType.COMPONENT_CHANGED, null, prevComponent, component));
+			}
+		}
+
+		Map<String, StatusIncidentEntity> prevIncidents = mapIncidents(prevSummary.getIncidents());
+		Map<String, StatusIncidentEntity> incidents = mapIncidents(summary.getIncidents());
+
+		for (StatusIncidentEntity incident : incidents.values()) {
+			if (!prevIncidents.containsKey(incident.getId())) {
+				events.add(new MonitorEvent(EMonitorEventType.INCIDENT_CREATED, null, null, incident));
+			}
+		}
+
+		for (StatusIncidentEntity prevIncident : prevIncidents.values()) {
+			if (!incidents.containsKey(prevIncident.getId())) {
+				events.add(new MonitorEvent(EMonitorEventType.INCIDENT_RESOLVED, null, prevIncident, null));
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Poll health statuses of all endpoints in a single request.
+	 *
+	 * @param events		list to put status monitor events in
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				boolean value as a result,
+	 * 						true - polled, false - failed
+	 */
+	private boolean pollHealth(List<MonitorEvent> events, Throwable[] throwables) {
+		List<HealthStatusResponseEntity> responses = this.client.getHealthService()
+				.status()
+				.execute(throwables);
+
+		if (responses == null) {
+			return false;
+		}
+
+		for (HealthStatusResponseEntity response : responses) {
+			if (response == null || response.getResults() == null) {
+				continue;
+			}
+
+			EHealthEndpoint endpoint = EHealthEndpoint.fromKeyOrNull(response.getKey());
+
+			if (endpoint == null) {
+				endpoint = EHealthEndpoint.fromNameOrNull(response.getName());
+			}
+
+			if (endpoint == null) {
+				continue;
+			}
+
+			this.offer(endpoint, response.getResults(), events);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Offer health statuses newer than the latest kept one to an endpoint history.
+	 *
+	 * @param endpoint	health endpoint
+	 * @param statuses	list of health statuses
+	 * @param events	list to put status monitor events in
+	 */
+	private void offer(EHealthEndpoint endpoint, List<HealthStatusEntity> statuses, List<MonitorEvent> events) {
+		HealthStatusRing history = this.histories.get(endpoint);
+
+		boolean isBaseline = history.size() == 0;
+
+		HealthStatusEntity latest = history.getLatest();
+		DateTime latestDate = latest == null ? null
+				: latest.getDate();
+
+		List<HealthStatusEntity> sortedStatuses = new ArrayList<>(statuses);
+		sortedStatuses.removeIf(Objects::isNull);
+		sortedStatuses.sort(DATE_ORDER);
+
+		for (HealthStatusEntity status : sortedStatuses) {
+			DateTime date = status.getDate();
+
+			if (latestDate != null && (date == null || !date.isAfter(latestDate))) {
+				continue;
+			}
+
+			history.add(status);
+
+			if (date != null) {
+				latestDate = date;
+			}
+
+			this.offer(endpoint, status, isBaseline ? null : events);
+		}
+	}
+
+	/**
+	 * Track failing health conditions of a health status.
+	 *
+	 * @param endpoint	health endpoint
+	 * @param status	health status
+	 * @param events	list to put status monitor events in, null to not emit any
+	 */
+	private void offer(EHealthEndpoint endpoint, HealthStatusEntity status, List<MonitorEvent> events) {
+		List<HealthConditionEntity> conditions = status.getConditions();
+
+		if (conditions == null) {
+			return;
+		}
+
+		Map<String, HealthConditionEntity> failingConditions = this.failingConditions.get(endpoint);
+
+		for (HealthConditionEntity condition : conditions) {
+			if (condition == null || condition.getCondition() == null) {
+				continue;
+			}
+
+			String name = condition.getCondition();
+			HealthConditionEntity prevCondition = failingConditions.get(name);
+
+			if (Boolean.FALSE.equals(condition.getIsSuccessful())) {
+				failingConditions.put(name, condition);
+
+				if (prevCondition == null && events != null) {
+					events.add(new MonitorEvent(EMonitorEventType.CONDITION_FAILED, endpoint, null, condition));
+				}
+
+				continue;
+			}
+
+			if (prevCondition != null) {
+				failingConditions.remove(name);
+
+				if (events != null) {
+					events.add(new MonitorEvent(EMonitorEventType.CONDITION_RECOVERED, endpoint, prevCondition, condition));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Notify listeners of the provided event.
+	 *
+	 * @param event		status monitor event
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	private void dispatch(MonitorEvent event) {
+		for (IMonitorListener listener : this.listeners) {
+			try {
+				listener.onMonitorEvent(event);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Get the page update date of a status page summary.
+	 *
+	 * @param summary	status page summary
+	 * @return			page update date or {@code null}
+	 */
+	private static DateTime getUpdateDateOrNull(StatusSummaryResponseEntity summary) {
+		StatusPageEntity page = summary.getPage();
+
+		return page == null ? null
+				: page.getUpdateDate();
+	}
+
+	/**
+	 * Get the overall status indicator of a status page summary.
+	 *
+	 * @param summary	status page summary
+	 * @return			status indicator or {@code null}
+	 */
+	private static EStatusIndicator getIndicatorOrNull(StatusSummaryResponseEntity summary) {
+		StatusEntity status = summary.getStatus();
+
+		return status == null ? null
+				: status.getIndicator();
+	}
+
+	/**
+	 * Map status components by their identifiers.
+	 *
+	 * @param components	list of status components, may be null
+	 * @return				map of status components in the list order
+	 */
+	private static Map<String, StatusComponentEntity> mapComponents(List<StatusComponentEntity> components) {
+		Map<String, StatusComponentEntity> map = new LinkedHashMap<>();
+
+		if (components != null) {
+			for (StatusComponentEntity component : components) {
+				if (component != null && component.getId() != null) {
+					map.put(component.getId(), component);
+				}
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Map incidents by their identifiers.
+	 *
+	 * @param incidents		list of incidents, may be null
+	 * @return				map of incidents in the list order
+	 */
+	private static Map<String, StatusIncidentEntity> mapIncidents(List<StatusIncidentEntity> incidents) {
+		Map<String, StatusIncidentEntity> map = new LinkedHashMap<>();
+
+		if (incidents != null) {
+			for (StatusIncidentEntity incident : incidents) {
+				if (incident != null && incident.getId() != null) {
+					map.put(incident.getId(), incident);
+				}
+			}
+		}
+
+		return map;
+	}
+}
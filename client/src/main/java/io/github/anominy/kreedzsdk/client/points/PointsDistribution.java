@@ -0,0 +1,312 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.points;
+
+import io.github.anominy.kreedzsdk.structs.entities.RecordDistributionEntity;
+
+import java.io.Serializable;
+
+/**
+ * A fitted run time distribution of a record filter.
+ *
+ * <p>The API fits a Burr type III distribution w/ the {@code c}
+ * {@literal &} {@code d} shape parameters, the location {@literal &}
+ * the scale, so its survival function gives the share of players
+ * that are slower than a time. Points are the survival function
+ * normalized by the top scale, the survival value of the top times.
+ */
+@SuppressWarnings("unused")
+public final class PointsDistribution implements Serializable {
+
+	/**
+	 * A maximum point count of a run.
+	 */
+	public static final int MAX_POINTS = 1000;
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = PointsDistribution.class.getSimpleName();
+
+	/**
+	 * A record filter identifier.
+	 */
+	private final int recordFilterId;
+
+	/**
+	 * A `c` shape parameter.
+	 */
+	private final double c;
+
+	/**
+	 * A `d` shape parameter.
+	 */
+	private final double d;
+
+	/**
+	 * A location parameter.
+	 */
+	private final double location;
+
+	/**
+	 * A scale parameter.
+	 */
+	private final double scale;
+
+	/**
+	 * A top scale parameter.
+	 */
+	private final double topScale;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link PointsDistribution} instance.
+	 *
+	 * @param recordFilterId	record filter identifier
+	 * @param c					`c` shape parameter
+	 * @param d					`d` shape parameter
+	 * @param location			location parameter
+	 * @param scale				scale parameter
+	 * @param topScale			top scale parameter
+	 */
+	public PointsDistribution(int recordFilterId, double c, double d, double location, double scale, double topScale) {
+		if (!(c > 0d) || !(d > 0d)) {
+			throw new IllegalArgumentException("Shape parameters must be positive");
+		}
+
+		if (!(scale > 0d)) {
+			throw new IllegalArgumentException("Scale must be positive");
+		}
+
+		if (!(topScale > 0d)) {
+			throw new IllegalArgumentException("Top scale must be positive");
+		}
+
+		this.recordFilterId = recordFilterId;
+		this.c = c;
+		this.d = d;
+		this.location = location;
+		this.scale = scale;
+		this.topScale = topScale;
+	}
+
+	/**
+	 * Create a {@link PointsDistribution} instance of the provided entity.
+	 *
+	 * @param entity	record distribution entity, may be null
+	 * @return			distribution or {@code null} if the entity
+	 * 					has missing or invalid parameters
+	 */
+	public static PointsDistribution ofOrNull(RecordDistributionEntity entity) {
+		if (entity == null || entity.getRecordFilterId() == null
+				|| entity.getC() == null || entity.getD() == null
+				|| entity.getLocation() == null || entity.getScale() == null
+				|| entity.getTopScale() == null) {
+			return null;
+		}
+
+		try {
+			return new PointsDistribution(
+					entity.getRecordFilterId(),
+					entity.getC(),
+					entity.getD(),
+					entity.getLocation(),
+					entity.getScale(),
+					entity.getTopScale()
+			);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get this record filter identifier.
+	 *
+	 * @return	record filter identifier
+	 */
+	public int getRecordFilterId() {
+		return this.recordFilterId;
+	}
+
+	/**
+	 * Get this `c` shape parameter.
+	 *
+	 * @return	`c` shape parameter
+	 */
+	public double getC() {
+		return this.c;
+	}
+
+	/**
+	 * Get this `d` shape parameter.
+	 *
+	 * @return	`d` shape parameter
+	 */
+	public double getD() {
+		return this.d;
+	}
+
+	/**
+	 * Get this location parameter.
+	 *
+	 * @return	location parameter
+	 */
+	public double getLocation() {
+		return this.location;
+	}
+
+	/**
+	 * Get this scale parameter.
+	 *
+	 * @return	scale parameter
+	 */
+	public double getScale() {
+		return this.scale;
+	}
+
+	/**
+	 * Get this top scale parameter.
+	 *
+	 * @return	top scale parameter
+	 */
+	public double getTopScale() {
+		return this.topScale;
+	}
+
+	/**
+	 * Evaluate this cumulative distribution function.
+	 *
+	 * @param time	run time in seconds
+	 * @return		share of runs faster than the time, from 0 to 1
+	 */
+	public double cdf(double time) {
+		return 1d - this.sf(time);
+	}
+
+	/**
+	 * Evaluate this survival function.
+	 *
+	 * <p>Computed as {@code 1 - (1 + x^-c)^-d} through
+	 * {@link Math#expm1(double)} {@literal &} {@link Math#log1p(double)}
+	 * to keep the precision of the top times.
+	 *
+	 * @param time	run time in seconds
+	 * @return		share of runs slower than the time, from 0 to 1
+	 */
+	public double sf(double time) {
+		double x = (time - this.location) / this.scale;
+
+		if (!(x > 0d)) {
+			return 1d;
+		}
+
+		return -Math.expm1(-this.d * Math.log1p(Math.pow(x, -this.c)));
+	}
+
+	/**
+	 * Compute a point fraction of the provided time.
+	 *
+	 * @param time	run time in seconds
+	 * @return		point fraction, from 0 to 1
+	 */
+	public double fraction(double time) {
+		double fraction = this.sf(time) / this.topScale;
+
+		return fraction >= 1d ? 1d
+				: Math.max(fraction, 0d);
+	}
+
+	/**
+	 * Compute a point count of the provided time.
+	 *
+	 * @param time	run time in seconds
+	 * @return		point count, from 0 to {@link #MAX_POINTS},
+	 * 				always {@code 0} for an invalid time
+	 */
+	public int points(double time) {
+		if (!(time > 0d)) {
+			return 0;
+		}
+
+		return (int) Math.round(MAX_POINTS * this.fraction(time));
+	}
+
+	/**
+	 * Compute point counts of the provided times.
+	 *
+	 * <p>Same as {@link #points(double)} for each time,
+	 * w/ the parameters hoisted out of the loop.
+	 *
+	 * @param times		array of run times in seconds
+	 * @param points	array to put point counts in
+	 * @param from		first index, inclusive
+	 * @param to		last index, exclusive
+	 * @throws IndexOutOfBoundsException	if the range is out of any array bounds
+	 */
+	public void points(float[] times, int[] points, int from, int to) {
+		if (from < 0 || to > times.length || to > points.length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is out of bounds");
+		}
+
+		double location = this.location;
+		double invScale = 1d / this.scale;
+		double negC = -this.c;
+		double negD = -this.d;
+		double maxPointsPerTopScale = MAX_POINTS / this.topScale;
+
+		for (int i = from; i < to; i++) {
+			float time = times[i];
+
+			if (!(time > 0f)) {
+				points[i] = 0;
+				continue;
+			}
+
+			double x = (time - location) * invScale;
+
+			double sf = x > 0d ? -Math.expm1(negD * Math.log1p(Math.pow(x, negC)))
+					: 1d;
+
+			points[i] = (int) Math.round(Math.min(sf * maxPointsPerTopScale, MAX_POINTS));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "recordFilterId=" + this.recordFilterId
+				+ ", c=" + this.c
+				+ ", d=" + this.d
+				+ ", location=" + this.location
+				+ ", scale=" + this.scale
+				+ ", topScale=" + this.topScale
+				+ "]");
+	}
+}
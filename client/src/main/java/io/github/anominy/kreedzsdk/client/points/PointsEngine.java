@@ -0,0 +1,244 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.points;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.services.RecordFilterService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.RecordDistributionEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local points computation engine.
+ *
+ * <p>Caches {@link PointsDistribution} instances by their record
+ * filter identifiers, so points of any time are computed
+ * w/o any requests once the distributions are loaded.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class PointsEngine {
+
+	/**
+	 * A point count of a record w/o a loaded distribution.
+	 */
+	public static final int NO_POINTS = -1;
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A map of distributions by their record filter identifiers.
+	 */
+	private final Map<Integer, PointsDistribution> distributions;
+
+	/**
+	 * Initialize a {@link PointsEngine} instance.
+	 *
+	 * @param client	kreedz client
+	 */
+	public PointsEngine(KreedzClient client) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		this.client = client;
+		this.distributions = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Load all record distributions.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				loaded distribution count or {@code -1} if failed
+	 */
+	public int load(Throwable[] throwables) {
+		RecordFilterService recordFilterService = this.client.getRecordFilterService();
+
+		return this.put(UKreedzCommon.fetchAll(offset -> recordFilterService.recordDistributions()
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables));
+	}
+
+	/**
+	 * Load record distributions of the provided record filters.
+	 *
+	 * @param recordFilterIds	collection of record filter identifiers
+	 * @param throwables		array to put request failures in, may be null
+	 * @return					loaded distribution count or {@code -1} if failed
+	 */
+	public int load(Collection<Integer> recordFilterIds, Throwable[] throwables) {
+		if (recordFilterIds == null || recordFilterIds.isEmpty()) {
+			return 0;
+		}
+
+		RecordFilterService recordFilterService = this.client.getRecordFilterService();
+
+		return this.put(UKreedzCommon.fetchAll(offset -> recordFilterService.recordDistributions()
+				.setIds(recordFilterIds)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables));
+	}
+
+	/**
+	 * Put a distribution into this engine.
+	 *
+	 * <p>Replaces a previously loaded distribution
+	 * of the same record filter.
+	 *
+	 * @param distribution	distribution
+	 */
+	public void put(PointsDistribution distribution) {
+		if (distribution == null) {
+			throw new IllegalArgumentException("Distribution mustn't be <null>");
+		}
+
+		this.distributions.put(distribution.getRecordFilterId(), distribution);
+	}
+
+	/**
+	 * Get a distribution of the provided record filter.
+	 *
+	 * @param recordFilterId	record filter identifier
+	 * @return					distribution or {@code null} if isn't loaded
+	 */
+	public PointsDistribution getDistribution(int recordFilterId) {
+		return this.distributions.get(recordFilterId);
+	}
+
+	/**
+	 * Compute a point count of the provided time.
+	 *
+	 * @param recordFilterId	record filter identifier
+	 * @param time				run time in seconds
+	 * @return					point count or {@link #NO_POINTS}
+	 * 							if the distribution isn't loaded
+	 */
+	public int computePoints(int recordFilterId, float time) {
+		PointsDistribution distribution = this.distributions.get(recordFilterId);
+
+		return distribution == null ? NO_POINTS
+				: distribution.points(time);
+	}
+
+	/**
+	 * Compute point counts of the provided times.
+	 *
+	 * <p>Runs of the same record filter are computed together,
+	 * records w/o a loaded distribution get {@link #NO_POINTS}.
+	 *
+	 * @param recordFilterIds	array of record filter identifiers
+	 * @param times				array of run times in seconds
+	 * @param points			array to put point counts in
+	 * @param length			record count
+	 * @throws IndexOutOfBoundsException	if the length is out of any array bounds
+	 */
+	public void computePoints(int[] recordFilterIds, float[] times, int[] points, int length) {
+		if (length < 0 || length > recordFilterIds.length) {
+			throw new IndexOutOfBoundsException("Length <" + length + "> is out of bounds");
+		}
+
+		int from = 0;
+
+		while (from < length) {
+			int recordFilterId = recordFilterIds[from];
+			int to = from + 1;
+
+			while (to < length && recordFilterIds[to] == recordFilterId) {
+				to++;
+			}
+
+			PointsDistribution distribution = this.distributions.get(recordFilterId);
+
+			if (distribution == null) {
+				for (int i = from; i < to; i++) {
+					points[i] = NO_POINTS;
+				}
+			} else {
+				distribution.points(times, points, from, to);
+			}
+
+			from = to;
+		}
+	}
+
+	/**
+	 * Compute point counts of the provided record batch.
+	 *
+	 * @param batch		record batch
+	 * @return			array of point counts in the batch row order
+	 */
+	public int[] computePoints(RecordBatch batch) {
+		if (batch == null) {
+			throw new IllegalArgumentException("Batch mustn't be <null>");
+		}
+
+		int size = batch.size();
+
+		int[] recordFilterIds = new int[size];
+		float[] times = new float[size];
+
+		for (int i = 0; i < size; i++) {
+			recordFilterIds[i] = batch.getRecordFilterId(i);
+			times[i] = batch.getTimeSeconds(i);
+		}
+
+		int[] points = new int[size];
+
+		this.computePoints(recordFilterIds, times, points, size);
+
+		return points;
+	}
+
+	/**
+	 * Put distributions of the provided entities into this engine.
+	 *
+	 * @param entities	list of record distribution entities, may be null
+	 * @return			put distribution count or {@code -1} if null
+	 */
+	private int put(List<RecordDistributionEntity> entities) {
+		if (entities == null) {
+			return -1;
+		}
+
+		int count = 0;
+
+		for (RecordDistributionEntity entity : entities) {
+			PointsDistribution distribution = PointsDistribution.ofOrNull(entity);
+
+			if (distribution != null) {
+				this.put(distribution);
+				count++;
+			}
+		}
+
+		return count;
+	}
+}
@@ -0,0 +1,528 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.recordfilter;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.leaderboard.LeaderboardKey;
+import io.github.anominy.kreedzsdk.client.services.RecordFilterService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.utils.LongIntTable;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A local resolver of record filter identifiers.
+ *
+ * <p>Maps (map, stage, mode, tickrate, run type) tuples packed into
+ * {@code long} keys by {@link LeaderboardKey#pack(int, int, EMode, ETickrate, ERunType)} to record filter identifiers through a primitive
+ * hash table {@literal &} back through an array indexed by the identifier,
+ * so requests taking record filter identifiers don't need
+ * a /record_filters/ round-trip first.
+ *
+ * <p>The endpoint has no date filters, so a refresh fetches only the
+ * tail past the previously fetched row count, relying on new filters
+ * being appended, {@literal &} refetches all filters once a day.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class RecordFilterResolver implements Closeable {
+
+	/**
+	 * An identifier of a tuple that has no record filter.
+	 */
+	public static final int NO_ID = -1;
+
+	/**
+	 * A key of an identifier that isn't resolved.
+	 */
+	public static final long NO_KEY = -1L;
+
+	/**
+	 * A default refresh interval.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(15);
+
+	/**
+	 * An interval of full refreshes.
+	 */
+	private static final Duration FULL_REFRESH_INTERVAL = Duration.ofDays(1);
+
+	/**
+	 * A row count the tail of a refresh is moved back by,
+	 * so filters shifted by a concurrent insert aren't missed.
+	 *
+	 * <p>Putting a filter twice doesn't change this resolver.
+	 */
+	private static final int REFRESH_OVERLAP = 100;
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-record-filter-resolver";
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A refresh interval.
+	 */
+	private final Duration refreshInterval;
+
+	/**
+	 * A refresh executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A lock guarding the tables.
+	 */
+	private final ReadWriteLock lock;
+
+	/**
+	 * A table of record filter identifiers by their keys.
+	 */
+	private final LongIntTable idsByKey;
+
+	/**
+	 * An array of record filter keys by their identifiers.
+	 */
+	private long[] keysById;
+
+	/**
+	 * A resolvable record filter count.
+	 */
+	private int size;
+
+	/**
+	 * A row count fetched by the last refresh.
+	 */
+	private int fetchedCount;
+
+	/**
+	 * A date of the last full refresh.
+	 */
+	private DateTime fullRefreshDate;
+
+	/**
+	 * Initialize a {@link RecordFilterResolver} instance.
+	 *
+	 * @param client			kreedz client
+	 * @param refreshInterval	refresh interval
+	 */
+	public RecordFilterResolver(KreedzClient client, Duration refreshInterval) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+			throw new IllegalArgumentException("Refresh interval must be positive");
+		}
+
+		this.client = client;
+		this.refreshInterval = refreshInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.lock = new ReentrantReadWriteLock();
+		this.idsByKey = new LongIntTable(NO_ID);
+		this.keysById = new long[0];
+	}
+
+	/**
+	 * Initialize a {@link RecordFilterResolver} instance.
+	 *
+	 * <p>Wraps {@link #RecordFilterResolver(KreedzClient, Duration)}
+	 * w/ {@link #DEFAULT_REFRESH_INTERVAL} as the refresh interval.
+	 *
+	 * @param client	kreedz client
+	 */
+	public RecordFilterResolver(KreedzClient client) {
+		this(client, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Schedule background refreshes of this resolver, the first one right away.
+	 *
+	 * @return	this instance
+	 */
+	public RecordFilterResolver start() {
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::refresh, 1),
+				0L, this.refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Resolve a record filter identifier.
+	 *
+	 * @param key	record filter key
+	 * @return		record filter identifier or {@link #NO_ID}
+	 */
+	public int resolve(long key) {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+			return this.idsByKey.get(key);
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Resolve a record filter identifier.
+	 *
+	 * @param mapId		map identifier
+	 * @param stage		stage identifier
+	 * @param mode		game mode
+	 * @param tickrate	tickrate
+	 * @param runType	run type
+	 * @return			record filter identifier or {@link #NO_ID}
+	 */
+	public int resolve(int mapId, int stage, EMode mode, ETickrate tickrate, ERunType runType) {
+		return this.resolve(LeaderboardKey.pack(mapId, stage, mode, tickrate, runType));
+	}
+
+	/**
+	 * Resolve a record filter identifier.
+	 *
+	 * @param key	leaderboard key
+	 * @return		record filter identifier or {@link #NO_ID}
+	 */
+	public int resolve(LeaderboardKey key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key mustn't be <null>");
+		}
+
+		return this.resolve(key.pack());
+	}
+
+	/**
+	 * Resolve record filter identifiers in bulk.
+	 *
+	 * @param keys		array of record filter keys
+	 * @param ids		array to put record filter identifiers
+	 * 					or {@link #NO_ID} values in by the key indices
+	 * @param length	key count
+	 * @return			resolved identifier count
+	 */
+	public int resolveAll(long[] keys, int[] ids, int length) {
+		if (keys == null) {
+			throw new IllegalArgumentException("Keys mustn't be <null>");
+		}
+
+		if (ids == null) {
+			throw new IllegalArgumentException("Identifiers mustn't be <null>");
+		}
+
+		if (length < 0 || length > keys.length || length > ids.length) {
+			throw new IllegalArgumentException("Length is out of the array bounds");
+		}
+
+		int resolvedCount = 0;
+
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+			for (int i = 0; i < length; i++) {
+				int id = this.idsByKey.get(keys[i]);
+
+				if (id != NO_ID) {
+					resolvedCount++;
+				}
+
+				ids[i] = id;
+			}
+		} finally {
+			readLock.unlock();
+		}
+
+		return resolvedCount;
+	}
+
+	/**
+	 * Resolve record filter identifiers in bulk.
+	 *
+	 * @param keys	array of record filter keys
+	 * @return		array of record filter identifiers
+	 * 				or {@link #NO_ID} values by the key indices
+	 */
+	public int[] resolveAll(long[] keys) {
+		if (keys == null) {
+			throw new IllegalArgumentException("Keys mustn't be <null>");
+		}
+
+		int[] ids = new int[keys.length];
+
+		this.resolveAll(keys, ids, keys.length);
+
+		return ids;
+	}
+
+	/**
+	 * Get a record filter key by its identifier.
+	 *
+	 * @param id	record filter identifier
+	 * @return		record filter key or {@link #NO_KEY}
+	 */
+	public long getKey(int id) {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+			return id < 0 || id >= this.keysById.length ? NO_KEY
+					: this.keysById[id];
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Get record filter keys by their identifiers in bulk.
+	 *
+	 * @param ids	array of record filter identifiers
+	 * @return		array of record filter keys
+	 * 				or {@link #NO_KEY} values by the identifier indices
+	 */
+	public long[] getKeys(int[] ids) {
+		if (ids == null) {
+			throw new IllegalArgumentException("Identifiers mustn't be <null>");
+		}
+
+		long[] keys = new long[ids.length];
+
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+			long[] keysById = this.keysById;
+
+			for (int i = 0; i < ids.length; i++) {
+				int id = ids[i];
+
+				keys[i] = id < 0 || id >= keysById.length ? NO_KEY
+						: keysById[id];
+			}
+		} finally {
+			readLock.unlock();
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Get a leaderboard key by its record filter identifier.
+	 *
+	 * @param id	record filter identifier
+	 * @return		leaderboard key or {@code null}
+	 */
+	public LeaderboardKey getLeaderboardKey(int id) {
+		long key = this.getKey(id);
+
+		return key == NO_KEY ? null
+				: LeaderboardKey.unpackOrNull(key);
+	}
+
+	/**
+	 * Get this resolvable record filter count.
+	 *
+	 * @return	record filter count
+	 */
+	public int size() {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+			return this.size;
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Put the provided record filters.
+	 *
+	 * <p>Filters w/o an identifier, a map, a stage, a mode,
+	 * a tickrate or a run type are skipped.
+	 *
+	 * @param recordFilters		list of record filters, e.g. of a reference snapshot
+	 * @return					put record filter count
+	 */
+	public int putAll(List<RecordFilterEntity> recordFilters) {
+		if (recordFilters == null) {
+			throw new IllegalArgumentException("Record filters mustn't be <null>");
+		}
+
+		return this.putAll(recordFilters, false);
+	}
+
+	/**
+	 * Refresh this resolver from the API.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				put record filter count
+	 * 						or {@code -1} if failed to refresh
+	 */
+	public synchronized int refresh(Throwable[] throwables) {
+		RecordFilterService recordFilterService = this.client.getRecordFilterService();
+		DateTime now = DateTime.now(DateTimeZone.UTC);
+
+		boolean isFull = this.fullRefreshDate == null
+				|| now.getMillis() - this.fullRefreshDate.getMillis() > FULL_REFRESH_INTERVAL.toMillis();
+
+		int fromOffset = isFull ? 0
+				: Math.max(this.fetchedCount - REFRESH_OVERLAP, 0);
+
+		List<RecordFilterEntity> recordFilters = UKreedzCommon.fetchAll(offset -> recordFilterService.recordFilters()
+				.setOffset(fromOffset + offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		if (recordFilters == null) {
+			return -1;
+		}
+
+		if (isFull) {
+			this.fullRefreshDate = now;
+		}
+
+		this.fetchedCount = fromOffset + recordFilters.size();
+
+		return this.putAll(recordFilters, isFull);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background refreshes, resolved filters stay available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Put the provided record filters.
+	 *
+	 * @param recordFilters		list of record filters
+	 * @param isReplacing		boolean value of whether to drop the current filters first
+	 * @return					put record filter count
+	 */
+	private int putAll(List<RecordFilterEntity> recordFilters, boolean isReplacing) {
+		int putCount = 0;
+
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+
+		try {
+			if (isReplacing) {
+				this.idsByKey.clear();
+				Arrays.fill(this.keysById, NO_KEY);
+
+				this.size = 0;
+			}
+
+			for (RecordFilterEntity recordFilter : recordFilters) {
+				if (this.put(recordFilter)) {
+					putCount++;
+				}
+			}
+		} finally {
+			writeLock.unlock();
+		}
+
+		return putCount;
+	}
+
+	/**
+	 * Put the provided record filter.
+	 *
+	 * <p>Must be called under the write lock.
+	 *
+	 * @param recordFilter	record filter, may be null
+	 * @return				boolean value as a result,
+	 * 						true - if put, false - if skipped
+	 */
+	private boolean put(RecordFilterEntity recordFilter) {
+		if (recordFilter == null
+				|| recordFilter.getId() == null
+				|| recordFilter.getMapId() == null
+				|| recordFilter.getStage() == null
+				|| recordFilter.getMode() == null
+				|| recordFilter.getTickrate() == null
+				|| recordFilter.getRunType() == null) {
+			return false;
+		}
+
+		int id = recordFilter.getId();
+
+		if (id < 0) {
+			return false;
+		}
+
+		long key = LeaderboardKey.pack(
+				recordFilter.getMapId(),
+				recordFilter.getStage(),
+				recordFilter.getMode(),
+				recordFilter.getTickrate(),
+				recordFilter.getRunType()
+		);
+
+		if (id >= this.keysById.length) {
+			int prevLength = this.keysById.length;
+
+			this.keysById = Arrays.copyOf(this.keysById, Math.max(id + 1, prevLength + (prevLength >> 1)));
+			Arrays.fill(this.keysById, prevLength, this.keysById.length, NO_KEY);
+		}
+
+		long prevKey = this.keysById[id];
+
+		if (prevKey == NO_KEY) {
+			this.size++;
+		} else if (prevKey != key && this.idsByKey.get(prevKey) == id) {
+			this.idsByKey.put(prevKey, NO_ID);
+		}
+
+		this.keysById[id] = key;
+		this.idsByKey.put(key, id);
+
+		return true;
+	}
+}
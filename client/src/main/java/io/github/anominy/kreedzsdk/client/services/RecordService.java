@@ -57,6 +57,16 @@ public final class RecordService extends RetrofitServiceWrapper<IRecordService>
 		return new GetRecordsTopRequest.Manager(this.service);
 	}
 
+	/**
+	 * Create a request manager for /records/top/ endpoint
+	 * w/ the response decoded into a {@code RecordBatch} instance.
+	 *
+	 * @return	request manager
+	 */
+	public GetRecordsTopRequest.BatchManager recordsTopBatch() {
+		return new GetRecordsTopRequest.BatchManager(this.service);
+	}
+
 	/**
 	 * Create a request manager for /records/top/world_records/ endpoint.
 	 *
@@ -75,6 +85,16 @@ public final class RecordService extends RetrofitServiceWrapper<IRecordService>
 		return new GetRecentRecordsRequest.Manager(this.service);
 	}
 
+	/**
+	 * Create a request manager for /records/top/recent/ endpoint
+	 * w/ the response decoded into a {@code RecordBatch} instance.
+	 *
+	 * @return	request manager
+	 */
+	public GetRecentRecordsRequest.BatchManager recentRecordsBatch() {
+		return new GetRecentRecordsRequest.BatchManager(this.service);
+	}
+
 	/**
 	 * Create a request manager for /records/../ endpoint.
 	 *
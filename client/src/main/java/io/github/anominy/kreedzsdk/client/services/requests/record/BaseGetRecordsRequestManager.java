@@ -16,24 +16,22 @@
 
 package io.github.anominy.kreedzsdk.client.services.requests.record;
 
-import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
 import io.github.anominy.kreedzsdk.structs.types.EMode;
 import io.github.anominy.kreedzsdk.structs.types.ERunType;
 import io.github.anominy.kreedzsdk.structs.types.ETickrate;
 import io.github.anominy.steamid.SteamId;
 import io.github.anominy.uwretrofit.services.requests.impl.BaseRequestManager;
 
-import java.util.List;
-
 /**
  * A base request manager for /records/top/{@literal **}/ endpoints.
  *
  * @param <T>	manager type
  * @param <U>	request type
+ * @param <R>	response type
  */
 @SuppressWarnings("unused")
-public abstract class BaseGetRecordsRequestManager<T extends BaseGetRecordsRequestManager<T, U>, U extends GetRecordsRequest>
-		extends BaseRequestManager<T, U, List<RecordEntity>> {
+public abstract class BaseGetRecordsRequestManager<T extends BaseGetRecordsRequestManager<T, U, R>, U extends GetRecordsRequest, R>
+		extends BaseRequestManager<T, U, R> {
 
 	/**
 	 * A person identifier.
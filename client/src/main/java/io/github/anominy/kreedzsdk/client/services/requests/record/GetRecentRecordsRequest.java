@@ -17,6 +17,7 @@
 package io.github.anominy.kreedzsdk.client.services.requests.record;
 
 import io.github.anominy.kreedzsdk.clientapi.IRecordService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
 import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
 import io.github.anominy.kreedzsdk.structs.types.EMode;
 import io.github.anominy.kreedzsdk.structs.types.ERunType;
@@ -238,15 +239,18 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 	}
 
 	/**
-	 * A request manager for /records/top/recent/ endpoint.
+	 * A base request manager for /records/top/recent/ endpoint.
+	 *
+	 * @param <T>	manager type
+	 * @param <R>	response type
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecentRecordsRequest> {
+	public abstract static class BaseManager<T extends BaseManager<T, R>, R> extends BaseGetRecordsRequestManager<T, GetRecentRecordsRequest, R> {
 
 		/**
 		 * A record service.
 		 */
-		private final IRecordService recordService;
+		protected final IRecordService recordService;
 
 		/**
 		 * A left place threshold.
@@ -264,11 +268,11 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 		private DateTime createdSinceDate;
 
 		/**
-		 * Initialize a {@link GetRecentRecordsRequest.Manager} instance.
+		 * Initialize a {@link GetRecentRecordsRequest.BaseManager} instance.
 		 *
 		 * @param recordService		record service
 		 */
-		public Manager(IRecordService recordService) {
+		BaseManager(IRecordService recordService) {
 			if (recordService == null) {
 				throw new IllegalArgumentException("Record service mustn't be <null>");
 			}
@@ -280,7 +284,7 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 		 * {@inheritDoc}
 		 */
 		@Override
-		public GetRecentRecordsRequest build() {
+		public final GetRecentRecordsRequest build() {
 			Long steamId64 = UwObject.ifNotNull(this.steamId, SteamId::toSteam64OrNull);
 			String modeName = UwObject.ifNotNull(this.mode, EMode::getApiName);
 
@@ -300,6 +304,55 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 			);
 		}
 
+		/**
+		 * Set this left place threshold.
+		 *
+		 * @param minPlace	left place threshold, may be null
+		 * @return			this instance
+		 */
+		public final T setMinPlace(Integer minPlace) {
+			this.minPlace = minPlace;
+			return this.asT;
+		}
+
+		/**
+		 * Set this left overall place threshold.
+		 *
+		 * @param minOverallPlace	left overall place threshold, may be null
+		 * @return					this instance
+		 */
+		public final T setMinOverallPlace(Integer minOverallPlace) {
+			this.minOverallPlace = minOverallPlace;
+			return this.asT;
+		}
+
+		/**
+		 * Set this created since date.
+		 *
+		 * @param createdSinceDate	created since date, may be null
+		 * @return					this instance
+		 */
+		public final T setCreatedSinceDate(DateTime createdSinceDate) {
+			this.createdSinceDate = createdSinceDate;
+			return this.asT;
+		}
+	}
+
+	/**
+	 * A request manager for /records/top/recent/ endpoint.
+	 */
+	@SuppressWarnings("unused")
+	public static final class Manager extends BaseManager<Manager, List<RecordEntity>> {
+
+		/**
+		 * Initialize a {@link GetRecentRecordsRequest.Manager} instance.
+		 *
+		 * @param recordService		record service
+		 */
+		public Manager(IRecordService recordService) {
+			super(recordService);
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -320,38 +373,43 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 					request.limit
 			);
 		}
+	}
 
-		/**
-		 * Set this left place threshold.
-		 *
-		 * @param minPlace	left place threshold, may be null
-		 * @return			this instance
-		 */
-		public Manager setMinPlace(Integer minPlace) {
-			this.minPlace = minPlace;
-			return this;
-		}
+	/**
+	 * A request manager for /records/top/recent/ endpoint
+	 * w/ the response decoded into a {@link RecordBatch} instance.
+	 */
+	@SuppressWarnings("unused")
+	public static final class BatchManager extends BaseManager<BatchManager, RecordBatch> {
 
 		/**
-		 * Set this left overall place threshold.
+		 * Initialize a {@link GetRecentRecordsRequest.BatchManager} instance.
 		 *
-		 * @param minOverallPlace	left overall place threshold, may be null
-		 * @return					this instance
+		 * @param recordService		record service
 		 */
-		public Manager setMinOverallPlace(Integer minOverallPlace) {
-			this.minOverallPlace = minOverallPlace;
-			return this;
+		public BatchManager(IRecordService recordService) {
+			super(recordService);
 		}
 
 		/**
-		 * Set this created since date.
-		 *
-		 * @param createdSinceDate	created since date, may be null
-		 * @return					this instance
+		 * {@inheritDoc}
 		 */
-		public Manager setCreatedSinceDate(DateTime createdSinceDate) {
-			this.createdSinceDate = createdSinceDate;
-			return this;
+		@Override
+		public Call<RecordBatch> call(GetRecentRecordsRequest request) {
+			return this.recordService.getRecentRecordsBatch(
+					request.steamId64,
+					request.mapId,
+					request.mapName,
+					request.runType,
+					request.tickrate,
+					request.stage,
+					request.modeName,
+					request.minPlace,
+					request.minOverallPlace,
+					request.createdSinceDate,
+					request.offset,
+					request.limit
+			);
 		}
 	}
 }
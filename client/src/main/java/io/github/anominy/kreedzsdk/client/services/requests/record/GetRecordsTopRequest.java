@@ -17,6 +17,7 @@
 package io.github.anominy.kreedzsdk.client.services.requests.record;
 
 import io.github.anominy.kreedzsdk.clientapi.IRecordService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
 import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
 import io.github.anominy.kreedzsdk.structs.types.EMode;
 import io.github.anominy.kreedzsdk.structs.types.ERunType;
@@ -234,15 +235,18 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 	}
 
 	/**
-	 * A request manager for /records/top/ endpoint.
+	 * A base request manager for /records/top/ endpoint.
+	 *
+	 * @param <T>	manager type
+	 * @param <R>	response type
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecordsTopRequest> {
+	public abstract static class BaseManager<T extends BaseManager<T, R>, R> extends BaseGetRecordsRequestManager<T, GetRecordsTopRequest, R> {
 
 		/**
 		 * A record service.
 		 */
-		private final IRecordService recordService;
+		protected final IRecordService recordService;
 
 		/**
 		 * A server identifier.
@@ -255,11 +259,11 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 		private String playerName;
 
 		/**
-		 * Initialize a {@link GetRecordsTopRequest.Manager} instance.
+		 * Initialize a {@link GetRecordsTopRequest.BaseManager} instance.
 		 *
 		 * @param recordService		record service
 		 */
-		public Manager(IRecordService recordService) {
+		BaseManager(IRecordService recordService) {
 			if (recordService == null) {
 				throw new IllegalArgumentException("Record service mustn't be <null>");
 			}
@@ -271,7 +275,7 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 		 * {@inheritDoc}
 		 */
 		@Override
-		public GetRecordsTopRequest build() {
+		public final GetRecordsTopRequest build() {
 			Long steamId64 = UwObject.ifNotNull(this.steamId, SteamId::toSteam64OrNull);
 			String modeName = UwObject.ifNotNull(this.mode, EMode::getApiName);
 
@@ -294,6 +298,44 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 			);
 		}
 
+		/**
+		 * Set this server identifier.
+		 *
+		 * @param serverId	server identifier, may be null
+		 * @return			this instance
+		 */
+		public final T setServerId(Integer serverId) {
+			this.serverId = serverId;
+			return this.asT;
+		}
+
+		/**
+		 * Set this player name.
+		 *
+		 * @param playerName	player name, may be null
+		 * @return				this instance
+		 */
+		public final T setPlayerName(String playerName) {
+			this.playerName = playerName;
+			return this.asT;
+		}
+	}
+
+	/**
+	 * A request manager for /records/top/ endpoint.
+	 */
+	@SuppressWarnings("unused")
+	public static final class Manager extends BaseManager<Manager, List<RecordEntity>> {
+
+		/**
+		 * Initialize a {@link GetRecordsTopRequest.Manager} instance.
+		 *
+		 * @param recordService		record service
+		 */
+		public Manager(IRecordService recordService) {
+			super(recordService);
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -314,27 +356,43 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 					request.limit
 			);
 		}
+	}
+
+	/**
+	 * A request manager for /records/top/ endpoint
+	 * w/ the response decoded into a {@link RecordBatch} instance.
+	 */
+	@SuppressWarnings("unused")
+	public static final class BatchManager extends BaseManager<BatchManager, RecordBatch> {
 
 		/**
-		 * Set this server identifier.
+		 * Initialize a {@link GetRecordsTopRequest.BatchManager} instance.
 		 *
-		 * @param serverId	server identifier, may be null
-		 * @return			this instance
+		 * @param recordService		record service
 		 */
-		public Manager setServerId(Integer serverId) {
-			this.serverId = serverId;
-			return this;
+		public BatchManager(IRecordService recordService) {
+			super(recordService);
 		}
 
 		/**
-		 * Set this player name.
-		 *
-		 * @param playerName	player name, may be null
-		 * @return				this instance
+		 * {@inheritDoc}
 		 */
-		public Manager setPlayerName(String playerName) {
-			this.playerName = playerName;
-			return this;
+		@Override
+		public Call<RecordBatch> call(GetRecordsTopRequest request) {
+			return this.recordService.getRecordsTopBatch(
+					request.serverId,
+					request.steamId64,
+					request.mapId,
+					request.mapName,
+					request.tickrate,
+					request.isOverall,
+					request.stage,
+					request.modeName,
+					request.runType,
+					request.playerName,
+					request.offset,
+					request.limit
+			);
 		}
 	}
 }
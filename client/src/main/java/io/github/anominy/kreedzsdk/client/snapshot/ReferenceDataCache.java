@@ -0,0 +1,381 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.snapshot;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.catalog.MapCatalog;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.services.MapService;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ModeEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ServerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.uwutils.UwObject;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of slow-changing kreedz reference data
+ * backed by a local {@link ReferenceSnapshot} file.
+ *
+ * <p>Serves the last persisted snapshot right away, so the startup
+ * doesn't depend on the network, and refreshes it in the background.
+ * Maps are fetched incrementally by their creation {@literal &} update
+ * dates, other reference data is small enough to be fetched as a whole.
+ */
+@SuppressWarnings("unused")
+public final class ReferenceDataCache implements Closeable {
+
+	/**
+	 * A default refresh interval.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(15);
+
+	/**
+	 * An interval after which maps are fetched as a whole
+	 * to drop the removed ones.
+	 */
+	private static final Duration FULL_REFRESH_INTERVAL = Duration.ofDays(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-reference-data";
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A snapshot file path.
+	 */
+	private final Path path;
+
+	/**
+	 * A refresh interval.
+	 */
+	private final Duration refreshInterval;
+
+	/**
+	 * A refresh executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A current snapshot.
+	 */
+	private volatile ReferenceSnapshot snapshot;
+
+	/**
+	 * A date of the last full maps fetch.
+	 *
+	 * <p>Is restored from the persisted snapshot, so a restart
+	 * doesn't force a full fetch.
+	 */
+	private DateTime fullRefreshDate;
+
+	/**
+	 * Initialize a {@link ReferenceDataCache} instance.
+	 *
+	 * <p>Loads the persisted snapshot if it exists,
+	 * doesn't perform any requests.
+	 *
+	 * @param client			kreedz client
+	 * @param path				snapshot file path
+	 * @param refreshInterval	refresh interval
+	 */
+	public ReferenceDataCache(KreedzClient client, Path path, Duration refreshInterval) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (path == null) {
+			throw new IllegalArgumentException("Path mustn't be <null>");
+		}
+
+		if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+			throw new IllegalArgumentException("Refresh interval must be positive");
+		}
+
+		this.client = client;
+		this.path = path;
+		this.refreshInterval = refreshInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.snapshot = this.load();
+		this.snapshot.getMapCatalog();
+
+		this.fullRefreshDate = this.snapshot.getFullRefreshDate();
+	}
+
+	/**
+	 * Initialize a {@link ReferenceDataCache} instance.
+	 *
+	 * <p>Wraps {@link #ReferenceDataCache(KreedzClient, Path, Duration)}
+	 * w/ {@link #DEFAULT_REFRESH_INTERVAL} as the refresh interval.
+	 *
+	 * @param client	kreedz client
+	 * @param path		snapshot file path
+	 */
+	public ReferenceDataCache(KreedzClient client, Path path) {
+		this(client, path, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Schedule background refreshes of this cache.
+	 *
+	 * <p>The first refresh is due when the persisted snapshot
+	 * gets older than the refresh interval, w/ a random jitter
+	 * of up to a tenth of it, so restarted instances don't
+	 * hit the API all at once.
+	 *
+	 * @return	this instance
+	 */
+	public ReferenceDataCache start() {
+		long intervalMillis = this.refreshInterval.toMillis();
+		long delayMillis = 0L;
+
+		DateTime refreshDate = this.snapshot.getRefreshDate();
+
+		if (refreshDate != null) {
+			long ageMillis = System.currentTimeMillis() - refreshDate.getMillis();
+
+			delayMillis = Math.max(0L, intervalMillis - ageMillis);
+		}
+
+		delayMillis += ThreadLocalRandom.current()
+				.nextLong(intervalMillis / 10 + 1);
+
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::refresh, 1),
+				delayMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Get this current snapshot.
+	 *
+	 * @return	current snapshot, always not null
+	 */
+	public ReferenceSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Get a map catalog of this current snapshot.
+	 *
+	 * <p>Is built before the snapshot is swapped,
+	 * so lookups never wait for it.
+	 *
+	 * @return	map catalog
+	 */
+	public MapCatalog getMapCatalog() {
+		return this.snapshot.getMapCatalog();
+	}
+
+	/**
+	 * Get this snapshot file path.
+	 *
+	 * @return	snapshot file path
+	 */
+	public Path getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Refresh this snapshot from the API and persist it.
+	 *
+	 * <p>Data that failed to be fetched is kept
+	 * from the previous snapshot.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				refreshed snapshot
+	 * @throws IOException	if failed to persist the snapshot
+	 */
+	public synchronized ReferenceSnapshot refresh(Throwable[] throwables) throws IOException {
+		ReferenceSnapshot prevSnapshot = this.snapshot;
+
+		List<ModeEntity> modes = this.client.getModeService()
+				.modes()
+				.execute(throwables);
+
+		List<ServerEntity> servers = UKreedzCommon.fetchAll(offset -> this.client.getServerService()
+				.servers()
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		List<RecordFilterEntity> recordFilters = UKreedzCommon.fetchAll(offset -> this.client.getRecordFilterService()
+				.recordFilters()
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		List<MapInfoEntity> mapsInfo = this.client.getMapInfoService()
+				.all()
+				.execute(throwables);
+
+		List<MapImageEntity> mapImages = this.client.getMapImageService()
+				.mapImages()
+				.execute(throwables);
+
+		List<MapEntity> maps = this.fetchMaps(prevSnapshot.getMaps(), throwables);
+
+		ReferenceSnapshot snapshot = new ReferenceSnapshot(
+				DateTime.now(DateTimeZone.UTC),
+				this.fullRefreshDate,
+				UwObject.ifNull(modes, prevSnapshot.getModes()),
+				UwObject.ifNull(maps, prevSnapshot.getMaps()),
+				UwObject.ifNull(servers, prevSnapshot.getServers()),
+				UwObject.ifNull(recordFilters, prevSnapshot.getRecordFilters()),
+				UwObject.ifNull(mapsInfo, prevSnapshot.getMapsInfo()),
+				UwObject.ifNull(mapImages, prevSnapshot.getMapImages())
+		);
+
+		snapshot.writeTo(this.path);
+		snapshot.getMapCatalog();
+
+		return (this.snapshot = snapshot);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background refreshes, the snapshot stays available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Fetch maps created or updated since the provided maps were fetched
+	 * and merge them by their identifiers.
+	 *
+	 * <p>Fetches all maps if there are no provided ones
+	 * or the last full fetch is too old.
+	 *
+	 * @param maps			list of previously fetched maps
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of merged maps or {@code null} if failed
+	 */
+	private List<MapEntity> fetchMaps(List<MapEntity> maps, Throwable[] throwables) {
+		MapService mapService = this.client.getMapService();
+		DateTime now = DateTime.now(DateTimeZone.UTC);
+
+		DateTime sinceDate = null;
+
+		for (MapEntity map : maps) {
+			sinceDate = latestOf(sinceDate, map.getCreateDate());
+			sinceDate = latestOf(sinceDate, map.getUpdateDate());
+		}
+
+		if (sinceDate == null || this.fullRefreshDate == null
+				|| now.getMillis() - this.fullRefreshDate.getMillis() > FULL_REFRESH_INTERVAL.toMillis()) {
+			List<MapEntity> allMaps = UKreedzCommon.fetchAll(offset -> mapService.maps()
+					.setOffset(offset)
+					.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+			if (allMaps != null) {
+				this.fullRefreshDate = now;
+			}
+
+			return allMaps;
+		}
+
+		DateTime finalSinceDate = sinceDate;
+
+		List<MapEntity> createdMaps = UKreedzCommon.fetchAll(offset -> mapService.maps()
+				.setCreatedSinceDate(finalSinceDate)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		List<MapEntity> updatedMaps = UKreedzCommon.fetchAll(offset -> mapService.maps()
+				.setUpdatedSinceDate(finalSinceDate)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		if (createdMaps == null || updatedMaps == null) {
+			return null;
+		}
+
+		Map<Integer, MapEntity> mapsById = new LinkedHashMap<>();
+
+		maps.forEach(map -> mapsById.put(map.getId(), map));
+		createdMaps.forEach(map -> mapsById.put(map.getId(), map));
+		updatedMaps.forEach(map -> mapsById.put(map.getId(), map));
+
+		return new ArrayList<>(mapsById.values());
+	}
+
+	/**
+	 * Load the persisted snapshot or return an empty one if failed.
+	 *
+	 * @return	snapshot, always not null
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	private ReferenceSnapshot load() {
+		if (!Files.isRegularFile(this.path)) {
+			return ReferenceSnapshot.EMPTY;
+		}
+
+		try {
+			return ReferenceSnapshot.readFrom(this.path);
+		} catch (IOException | RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return ReferenceSnapshot.EMPTY;
+	}
+
+	/**
+	 * Get the latest of the provided dates.
+	 *
+	 * @param a		first date, may be null
+	 * @param b		second date, may be null
+	 * @return		latest date or {@code null} if both are null
+	 */
+	private static DateTime latestOf(DateTime a, DateTime b) {
+		if (a == null) {
+			return b;
+		}
+
+		return b == null || a.isAfter(b) ? a
+				: b;
+	}
+}
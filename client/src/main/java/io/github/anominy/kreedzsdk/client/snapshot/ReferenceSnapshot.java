@@ -0,0 +1,327 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.snapshot;
+
+import io.github.anominy.kreedzsdk.client.catalog.MapCatalog;
+import io.github.anominy.kreedzsdk.codecs.KreedzBinaryDecoder;
+import io.github.anominy.kreedzsdk.codecs.KreedzBinaryEncoder;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ModeEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ServerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import org.joda.time.DateTime;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A snapshot of slow-changing kreedz reference data.
+ *
+ * <p>Holds modes, maps, servers, record filters, maps information
+ * {@literal &} map images w/ the date they were fetched at
+ * {@literal &} the date maps were last fetched as a whole.
+ */
+@SuppressWarnings("unused")
+public final class ReferenceSnapshot {
+
+	/**
+	 * A snapshot layout version.
+	 */
+	public static final int VERSION = 3;
+
+	/**
+	 * An empty snapshot.
+	 */
+	public static final ReferenceSnapshot EMPTY = new ReferenceSnapshot(
+			null, null, null, null, null, null, null, null
+	);
+
+	/**
+	 * A refresh date.
+	 */
+	private final DateTime refreshDate;
+
+	/**
+	 * A full maps refresh date.
+	 */
+	private final DateTime fullRefreshDate;
+
+	/**
+	 * A list of modes.
+	 */
+	private final List<ModeEntity> modes;
+
+	/**
+	 * A list of maps.
+	 */
+	private final List<MapEntity> maps;
+
+	/**
+	 * A list of servers.
+	 */
+	private final List<ServerEntity> servers;
+
+	/**
+	 * A list of record filters.
+	 */
+	private final List<RecordFilterEntity> recordFilters;
+
+	/**
+	 * A list of maps information.
+	 */
+	private final List<MapInfoEntity> mapsInfo;
+
+	/**
+	 * A list of map images.
+	 */
+	private final List<MapImageEntity> mapImages;
+
+	/**
+	 * A {@link #getMapCatalog()} cache.
+	 */
+	private volatile MapCatalog mapCatalogCache;
+
+	/**
+	 * Initialize a {@link ReferenceSnapshot} instance.
+	 *
+	 * @param refreshDate		refresh date, may be null
+	 * @param fullRefreshDate	full maps refresh date, may be null
+	 * @param modes				list of modes, may be null
+	 * @param maps				list of maps, may be null
+	 * @param servers			list of servers, may be null
+	 * @param recordFilters		list of record filters, may be null
+	 * @param mapsInfo			list of maps information, may be null
+	 * @param mapImages			list of map images, may be null
+	 */
+	public ReferenceSnapshot(
+			DateTime refreshDate,
+			DateTime fullRefreshDate,
+			List<ModeEntity> modes,
+			List<MapEntity> maps,
+			List<ServerEntity> servers,
+			List<RecordFilterEntity> recordFilters,
+			List<MapInfoEntity> mapsInfo,
+			List<MapImageEntity> mapImages
+	) {
+		this.refreshDate = refreshDate;
+		this.fullRefreshDate = fullRefreshDate;
+		this.modes = toUnmodifiable(modes);
+		this.maps = toUnmodifiable(maps);
+		this.servers = toUnmodifiable(servers);
+		this.recordFilters = toUnmodifiable(recordFilters);
+		this.mapsInfo = toUnmodifiable(mapsInfo);
+		this.mapImages = toUnmodifiable(mapImages);
+	}
+
+	/**
+	 * Read a snapshot from the provided file.
+	 *
+	 * @param path	snapshot file path
+	 * @return		snapshot
+	 * @throws IOException	if failed to read or decode the file,
+	 * 						or the snapshot version isn't supported
+	 */
+	public static ReferenceSnapshot readFrom(Path path) throws IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("Path mustn't be <null>");
+		}
+
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(path));
+				KreedzBinaryDecoder decoder = new KreedzBinaryDecoder(in)) {
+			int version = decoder.readVarInt();
+
+			if (version != VERSION) {
+				throw new IOException("Unsupported reference snapshot version <" + version + ">");
+			}
+
+			return new ReferenceSnapshot(
+					decoder.readDate(),
+					decoder.readDate(),
+					decoder.decodeList(ModeEntity.class),
+					decoder.decodeList(MapEntity.class),
+					decoder.decodeList(ServerEntity.class),
+					decoder.decodeList(RecordFilterEntity.class),
+					decoder.decodeList(MapInfoEntity.class),
+					decoder.decodeList(MapImageEntity.class)
+			);
+		}
+	}
+
+	/**
+	 * Write this snapshot to the provided file.
+	 *
+	 * <p>Writes to a temporary sibling file first and moves it
+	 * over the target, so readers never see a partial snapshot.
+	 *
+	 * @param path	snapshot file path
+	 * @throws IOException	if failed to write the file
+	 */
+	public void writeTo(Path path) throws IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("Path mustn't be <null>");
+		}
+
+		Path parent = path.toAbsolutePath()
+				.getParent();
+
+		Files.createDirectories(parent);
+
+		Path tempPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+					KreedzBinaryEncoder encoder = new KreedzBinaryEncoder(out)) {
+				encoder.writeVarInt(VERSION);
+				encoder.writeDate(this.refreshDate);
+				encoder.writeDate(this.fullRefreshDate);
+
+				encoder.encodeList(this.modes, ModeEntity.class);
+				encoder.encodeList(this.maps, MapEntity.class);
+				encoder.encodeList(this.servers, ServerEntity.class);
+				encoder.encodeList(this.recordFilters, RecordFilterEntity.class);
+				encoder.encodeList(this.mapsInfo, MapInfoEntity.class);
+				encoder.encodeList(this.mapImages, MapImageEntity.class);
+			}
+
+			Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	/**
+	 * Get this refresh date.
+	 *
+	 * @return	refresh date or {@code null} if never refreshed
+	 */
+	public DateTime getRefreshDate() {
+		return this.refreshDate;
+	}
+
+	/**
+	 * Get this full maps refresh date.
+	 *
+	 * @return	full maps refresh date or {@code null}
+	 * 			if maps were never fetched as a whole
+	 */
+	public DateTime getFullRefreshDate() {
+		return this.fullRefreshDate;
+	}
+
+	/**
+	 * Get this list of modes.
+	 *
+	 * @return	unmodifiable list of modes
+	 */
+	public List<ModeEntity> getModes() {
+		return this.modes;
+	}
+
+	/**
+	 * Get this list of maps.
+	 *
+	 * @return	unmodifiable list of maps
+	 */
+	public List<MapEntity> getMaps() {
+		return this.maps;
+	}
+
+	/**
+	 * Get this list of servers.
+	 *
+	 * @return	unmodifiable list of servers
+	 */
+	public List<ServerEntity> getServers() {
+		return this.servers;
+	}
+
+	/**
+	 * Get this list of record filters.
+	 *
+	 * @return	unmodifiable list of record filters
+	 */
+	public List<RecordFilterEntity> getRecordFilters() {
+		return this.recordFilters;
+	}
+
+	/**
+	 * Get this list of maps information.
+	 *
+	 * @return	unmodifiable list of maps information
+	 */
+	public List<MapInfoEntity> getMapsInfo() {
+		return this.mapsInfo;
+	}
+
+	/**
+	 * Get this list of map images.
+	 *
+	 * @return	unmodifiable list of map images
+	 */
+	public List<MapImageEntity> getMapImages() {
+		return this.mapImages;
+	}
+
+	/**
+	 * Get this map catalog.
+	 *
+	 * <p>Is built once on the first call.
+	 *
+	 * @return	map catalog
+	 */
+	public MapCatalog getMapCatalog() {
+		MapCatalog mapCatalog = this.mapCatalogCache;
+
+		if (mapCatalog != null) {
+			return mapCatalog;
+		}
+
+		return (this.mapCatalogCache = MapCatalog.of(this));
+	}
+
+	/**
+	 * Check if this snapshot was never refreshed.
+	 *
+	 * @return	boolean value as a result,
+	 * 			true - yes, false - no
+	 */
+	public boolean isEmpty() {
+		return this.refreshDate == null;
+	}
+
+	/**
+	 * Wrap the provided list as an unmodifiable one.
+	 *
+	 * @param list	list to wrap, may be null
+	 * @param <T>	element type
+	 * @return		unmodifiable list, always not null
+	 */
+	private static <T> List<T> toUnmodifiable(List<T> list) {
+		return list == null ? Collections.emptyList()
+				: Collections.unmodifiableList(list);
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import io.github.anominy.kreedzsdk.codecs.KreedzBinaryDecoder;
+import io.github.anominy.kreedzsdk.codecs.KreedzBinaryEncoder;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A local {@link IBanSink} kept in a binary snapshot file.
+ *
+ * <p>Holds bans by their identifiers in memory {@literal &}
+ * rewrites the snapshot on each flush after an upsert through
+ * a temporary sibling file, so a crash never leaves a partial
+ * snapshot and a sync of many pages writes it once.
+ */
+@SuppressWarnings("unused")
+public final class BanSnapshotSink implements IBanSink {
+
+	/**
+	 * A snapshot format version.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * A snapshot file path.
+	 */
+	private final Path path;
+
+	/**
+	 * A map of bans by their identifiers.
+	 */
+	private final Map<Integer, BanEntity> bans;
+
+	/**
+	 * A "isDirty" boolean value.
+	 *
+	 * <p>Set when bans were upserted since the last flush.
+	 */
+	private boolean isDirty;
+
+	/**
+	 * Initialize a {@link BanSnapshotSink} instance.
+	 *
+	 * <p>Reads the snapshot if the file exists.
+	 *
+	 * @param path	snapshot file path
+	 * @throws IOException	if failed to read or decode the file,
+	 * 						or the snapshot version isn't supported
+	 */
+	public BanSnapshotSink(Path path) throws IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("Path mustn't be <null>");
+		}
+
+		this.path = path;
+		this.bans = new LinkedHashMap<>();
+
+		if (!Files.exists(path)) {
+			return;
+		}
+
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(path));
+				KreedzBinaryDecoder decoder = new KreedzBinaryDecoder(in)) {
+			int version = decoder.readVarInt();
+
+			if (version != VERSION) {
+				throw new IOException("Unsupported ban snapshot version <" + version + ">");
+			}
+
+			List<BanEntity> bans = decoder.decodeList(BanEntity.class);
+
+			if (bans != null) {
+				this.putAll(bans);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void upsert(List<BanEntity> bans) throws IOException {
+		if (bans == null) {
+			throw new IllegalArgumentException("Bans mustn't be <null>");
+		}
+
+		this.putAll(bans);
+		this.isDirty = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Rewrites the snapshot file if any bans were upserted since the last flush.
+	 */
+	@Override
+	public synchronized void flush() throws IOException {
+		if (!this.isDirty) {
+			return;
+		}
+
+		this.write();
+		this.isDirty = false;
+	}
+
+	/**
+	 * Get this snapshot file path.
+	 *
+	 * @return	snapshot file path
+	 */
+	public Path getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Get a ban by its identifier.
+	 *
+	 * @param id	ban identifier
+	 * @return		ban or {@code null} if not stored
+	 */
+	public synchronized BanEntity getBan(int id) {
+		return this.bans.get(id);
+	}
+
+	/**
+	 * Get a list of stored bans.
+	 *
+	 * @return	unmodifiable list of bans in their first-seen order
+	 */
+	public synchronized List<BanEntity> getBans() {
+		return Collections.unmodifiableList(new ArrayList<>(this.bans.values()));
+	}
+
+	/**
+	 * Get a stored ban count.
+	 *
+	 * @return	ban count
+	 */
+	public synchronized int size() {
+		return this.bans.size();
+	}
+
+	/**
+	 * Put the provided bans by their identifiers.
+	 *
+	 * @param bans	list of bans
+	 */
+	private void putAll(List<BanEntity> bans) {
+		for (BanEntity ban : bans) {
+			if (ban == null) {
+				continue;
+			}
+
+			this.bans.put(ban.getId(), ban);
+		}
+	}
+
+	/**
+	 * Write stored bans to this snapshot file.
+	 *
+	 * @throws IOException	if failed to write the file
+	 */
+	private void write() throws IOException {
+		Path parent = this.path.toAbsolutePath()
+				.getParent();
+
+		Files.createDirectories(parent);
+
+		Path tempPath = Files.createTempFile(parent, this.path.getFileName().toString(), ".tmp");
+
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+					KreedzBinaryEncoder encoder = new KreedzBinaryEncoder(out)) {
+				encoder.writeVarInt(VERSION);
+				encoder.encodeList(new ArrayList<>(this.bans.values()), BanEntity.class);
+			}
+
+			Files.move(tempPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+}
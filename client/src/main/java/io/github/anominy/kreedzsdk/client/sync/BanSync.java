@@ -0,0 +1,322 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.services.BanService;
+import io.github.anominy.kreedzsdk.client.services.requests.ban.GetBansRequest;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * An incremental ban synchronization.
+ *
+ * <p>Follows two feeds of the /bans/ endpoint, bans created since
+ * {@literal &} bans updated since the feed watermark, pages through them
+ * {@literal &} applies each page to an {@link IBanSink} instance. The sink
+ * is flushed once per sync {@literal &} feed watermarks are persisted to
+ * a {@link WatermarkStore} only after that, so a sync resumed after a crash
+ * fetches the missed bans again instead of skipping them, while the idempotent
+ * upserts keep the sink free of duplicates.
+ *
+ * <p>The first sync fetches all bans through the created feed
+ * {@literal &} starts the updated feed from the moment it began.
+ */
+@SuppressWarnings("unused")
+public final class BanSync implements Closeable {
+
+	/**
+	 * A feed name of created bans.
+	 */
+	public static final String CREATED_FEED = "bans.created";
+
+	/**
+	 * A feed name of updated bans.
+	 */
+	public static final String UPDATED_FEED = "bans.updated";
+
+	/**
+	 * A default sync interval.
+	 */
+	public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMinutes(1);
+
+	/**
+	 * A duration the since date of a feed is moved back by,
+	 * so bans sharing the watermark date aren't missed.
+	 */
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-ban-sync";
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A ban sink.
+	 */
+	private final IBanSink sink;
+
+	/**
+	 * A watermark store.
+	 */
+	private final WatermarkStore watermarkStore;
+
+	/**
+	 * A sync interval.
+	 */
+	private final Duration syncInterval;
+
+	/**
+	 * A sync executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Initialize a {@link BanSync} instance.
+	 *
+	 * @param client			kreedz client
+	 * @param sink				ban sink
+	 * @param watermarkStore	watermark store
+	 * @param syncInterval		sync interval
+	 */
+	public BanSync(KreedzClient client, IBanSink sink, WatermarkStore watermarkStore, Duration syncInterval) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (sink == null) {
+			throw new IllegalArgumentException("Sink mustn't be <null>");
+		}
+
+		if (watermarkStore == null) {
+			throw new IllegalArgumentException("Watermark store mustn't be <null>");
+		}
+
+		if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+			throw new IllegalArgumentException("Sync interval must be positive");
+		}
+
+		this.client = client;
+		this.sink = sink;
+		this.watermarkStore = watermarkStore;
+		this.syncInterval = syncInterval;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+	}
+
+	/**
+	 * Initialize a {@link BanSync} instance.
+	 *
+	 * <p>Wraps {@link #BanSync(KreedzClient, IBanSink, WatermarkStore, Duration)}
+	 * w/ {@link #DEFAULT_SYNC_INTERVAL} as the sync interval.
+	 *
+	 * @param client			kreedz client
+	 * @param sink				ban sink
+	 * @param watermarkStore	watermark store
+	 */
+	public BanSync(KreedzClient client, IBanSink sink, WatermarkStore watermarkStore) {
+		this(client, sink, watermarkStore, DEFAULT_SYNC_INTERVAL);
+	}
+
+	/**
+	 * Schedule background syncs, the first one right away.
+	 *
+	 * @return	this instance
+	 */
+	public BanSync start() {
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::sync, 1),
+				0L, this.syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Sync bans created or updated since the feed watermarks.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				applied ban count or {@code -1} if a feed failed
+	 * @throws IOException	if failed to apply bans or persist a watermark
+	 */
+	public synchronized int sync(Throwable[] throwables) throws IOException {
+		DateTime createdWatermark = this.watermarkStore.get(CREATED_FEED);
+		DateTime syncDate = DateTime.now(DateTimeZone.UTC);
+
+		Map<String, DateTime> watermarks = new LinkedHashMap<>();
+
+		int createdCount = this.syncFeed(CREATED_FEED, BanEntity::getCreateDate,
+				GetBansRequest.Manager::setCreatedSinceDate, watermarks, throwables);
+
+		if (createdCount < 0) {
+			this.commit(watermarks);
+
+			return -1;
+		}
+
+		if (createdWatermark == null) {
+			if (this.watermarkStore.get(UPDATED_FEED) == null) {
+				watermarks.put(UPDATED_FEED, syncDate);
+			}
+
+			this.commit(watermarks);
+
+			return createdCount;
+		}
+
+		int updatedCount = this.syncFeed(UPDATED_FEED, BanEntity::getUpdateDate,
+				GetBansRequest.Manager::setUpdatedSinceDate, watermarks, throwables);
+
+		this.commit(watermarks);
+
+		if (updatedCount < 0) {
+			return -1;
+		}
+
+		return createdCount + updatedCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background syncs.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Flush the sink {@literal &} persist the provided feed watermarks.
+	 *
+	 * @param watermarks	map of watermarks by their feed names
+	 * @throws IOException	if failed to flush the sink or persist a watermark
+	 */
+	private void commit(Map<String, DateTime> watermarks) throws IOException {
+		this.sink.flush();
+
+		for (Map.Entry<String, DateTime> entry : watermarks.entrySet()) {
+			this.watermarkStore.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Sync a single feed.
+	 *
+	 * <p>Applies all pages of the feed, its next watermark
+	 * is put to the provided map instead of being persisted.
+	 *
+	 * @param feed				feed name
+	 * @param dateFunction		function to get a feed date of a ban
+	 * @param sinceFunction		function to set a since date of a request manager
+	 * @param watermarks		map to put the next feed watermark in
+	 * @param throwables		array to put request failures in, may be null
+	 * @return					applied ban count or {@code -1} if failed
+	 * @throws IOException		if failed to apply bans
+	 */
+	private int syncFeed(String feed, Function<BanEntity, DateTime> dateFunction,
+			ISinceFunction sinceFunction, Map<String, DateTime> watermarks,
+			Throwable[] throwables) throws IOException {
+		DateTime watermark = this.watermarkStore.get(feed);
+		DateTime syncDate = DateTime.now(DateTimeZone.UTC);
+
+		DateTime sinceDate = watermark == null ? null
+				: new DateTime(watermark.getMillis() - SYNC_OVERLAP.toMillis(), DateTimeZone.UTC);
+
+		BanService banService = this.client.getBanService();
+		DateTime nextWatermark = watermark;
+
+		int count = 0;
+
+		for (int offset = 0; ; offset += PAGE_SIZE) {
+			GetBansRequest.Manager manager = banService.bans()
+					.setOffset(offset)
+					.setLimit(PAGE_SIZE);
+
+			List<BanEntity> page = sinceFunction.apply(manager, sinceDate)
+					.execute(throwables);
+
+			if (page == null) {
+				return -1;
+			}
+
+			if (!page.isEmpty()) {
+				this.sink.upsert(page);
+			}
+
+			for (BanEntity ban : page) {
+				DateTime date = dateFunction.apply(ban);
+
+				if (date != null && (nextWatermark == null || date.isAfter(nextWatermark))) {
+					nextWatermark = date;
+				}
+			}
+
+			count += page.size();
+
+			if (page.size() < PAGE_SIZE) {
+				break;
+			}
+		}
+
+		if (nextWatermark == null) {
+			nextWatermark = syncDate;
+		}
+
+		if (!nextWatermark.equals(watermark)) {
+			watermarks.put(feed, nextWatermark);
+		}
+
+		return count;
+	}
+
+	/**
+	 * A function to set a since date of a request manager.
+	 */
+	@FunctionalInterface
+	private interface ISinceFunction {
+
+		/**
+		 * Set a since date of the provided request manager.
+		 *
+		 * @param manager	request manager
+		 * @param sinceDate	since date, may be null
+		 * @return			request manager
+		 */
+		GetBansRequest.Manager apply(GetBansRequest.Manager manager, DateTime sinceDate);
+	}
+}
@@ -0,0 +1,650 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An adaptive change data capture scheduler of incremental feeds.
+ *
+ * <p>Polls every {@link IChangeFeed} since its watermark, pages through
+ * the changes, skips the ones delivered already {@literal &} hands the new
+ * ones to the feed listeners ordered by their feed dates. A feed watermark
+ * is persisted to a {@link WatermarkStore} only after all of its listeners
+ * return, so changes are delivered at least once.
+ *
+ * <p>A feed poll interval follows the observed change rate, it shrinks
+ * when a feed is busy {@literal &} grows when it's quiet, bounded by the feed
+ * min {@literal &} max poll intervals. If the feeds would exceed the global
+ * request budget, all poll intervals are stretched proportionally.
+ *
+ * <p>A feed w/o a watermark starts from the moment it was added.
+ *
+ * <p>Polls are serialized by a separate lock, requests {@literal &} listener
+ * calls are performed w/o holding this instance monitor, which guards only
+ * the scheduling state, so feeds can be added {@literal &} inspected mid-poll.
+ *
+ * <p>The fixed-interval pollers, such as {@link BanSync} or the leaderboard
+ * {@literal &} jumpstat indexes, aren't driven by this scheduler, as they keep
+ * state a since-date feed can't express, e.g. a bootstrap from the top
+ * endpoints, a sink flushed before the watermark is persisted or a status
+ * baseline to diff against. The same endpoints are exposed as feeds by
+ * {@link ChangeFeeds} for processes sharing a single request budget.
+ */
+@SuppressWarnings("unused")
+public final class ChangeFeedScheduler implements Closeable {
+
+	/**
+	 * A default global request budget per minute.
+	 */
+	public static final int DEFAULT_REQUESTS_PER_MINUTE = 60;
+
+	/**
+	 * A default min poll interval.
+	 */
+	public static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofSeconds(5);
+
+	/**
+	 * A default max poll interval.
+	 */
+	public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofMinutes(5);
+
+	/**
+	 * A duration the since date of a feed is moved back by,
+	 * so changes sharing the watermark date aren't missed.
+	 */
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A change count a poll interval aims at.
+	 */
+	private static final double TARGET_CHANGES_PER_POLL = 10.0d;
+
+	/**
+	 * A weight of the latest poll in the smoothed change rate.
+	 */
+	private static final double RATE_SMOOTHING = 0.3d;
+
+	/**
+	 * A scheduler tick interval in milliseconds.
+	 */
+	private static final long TICK_INTERVAL_MILLIS = 500L;
+
+	/**
+	 * A request budget burst in minutes.
+	 */
+	private static final double BURST_MINUTES = 1.0d / 6.0d;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-change-feed-scheduler";
+
+	/**
+	 * A watermark store.
+	 */
+	private final WatermarkStore watermarkStore;
+
+	/**
+	 * A request budget per millisecond.
+	 */
+	private final double requestsPerMilli;
+
+	/**
+	 * A request budget burst capacity.
+	 */
+	private final double burstCapacity;
+
+	/**
+	 * A list of feed states.
+	 */
+	private final List<FeedState<?>> feeds;
+
+	/**
+	 * A poll executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A poll lock.
+	 *
+	 * <p>Serializes polls, so changes are delivered in order,
+	 * w/o holding this instance monitor during requests.
+	 */
+	private final Lock pollLock;
+
+	/**
+	 * An available request count.
+	 */
+	private double tokens;
+
+	/**
+	 * A last request budget refill time in epoch milliseconds.
+	 */
+	private long refilledAtMillis;
+
+	/**
+	 * Initialize a {@link ChangeFeedScheduler} instance.
+	 *
+	 * @param watermarkStore		watermark store
+	 * @param requestsPerMinute		global request budget per minute
+	 */
+	public ChangeFeedScheduler(WatermarkStore watermarkStore, int requestsPerMinute) {
+		if (watermarkStore == null) {
+			throw new IllegalArgumentException("Watermark store mustn't be <null>");
+		}
+
+		if (requestsPerMinute <= 0) {
+			throw new IllegalArgumentException("Requests per minute must be positive");
+		}
+
+		this.watermarkStore = watermarkStore;
+		this.requestsPerMilli = requestsPerMinute / (double) TimeUnit.MINUTES.toMillis(1L);
+		this.burstCapacity = Math.max(1.0d, requestsPerMinute * BURST_MINUTES);
+		this.feeds = new CopyOnWriteArrayList<>();
+		this.tokens = this.burstCapacity;
+		this.refilledAtMillis = System.currentTimeMillis();
+		this.pollLock = new ReentrantLock();
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+	}
+
+	/**
+	 * Initialize a {@link ChangeFeedScheduler} instance.
+	 *
+	 * <p>Wraps {@link #ChangeFeedScheduler(WatermarkStore, int)}
+	 * w/ {@link #DEFAULT_REQUESTS_PER_MINUTE} as the request budget.
+	 *
+	 * @param watermarkStore	watermark store
+	 */
+	public ChangeFeedScheduler(WatermarkStore watermarkStore) {
+		this(watermarkStore, DEFAULT_REQUESTS_PER_MINUTE);
+	}
+
+	/**
+	 * Add a feed polled due right away.
+	 *
+	 * @param feed				change feed
+	 * @param minPollInterval	min poll interval
+	 * @param maxPollInterval	max poll interval
+	 * @return					this instance
+	 */
+	public synchronized ChangeFeedScheduler addFeed(IChangeFeed<?> feed,
+			Duration minPollInterval, Duration maxPollInterval) {
+		if (feed == null) {
+			throw new IllegalArgumentException("Feed mustn't be <null>");
+		}
+
+		if (feed.getName() == null) {
+			throw new IllegalArgumentException("Feed name mustn't be <null>");
+		}
+
+		if (minPollInterval == null || minPollInterval.isNegative() || minPollInterval.isZero()) {
+			throw new IllegalArgumentException("Min poll interval must be positive");
+		}
+
+		if (maxPollInterval == null || maxPollInterval.compareTo(minPollInterval) < 0) {
+			throw new IllegalArgumentException("Max poll interval mustn't be less than the min one");
+		}
+
+		for (FeedState<?> state : this.feeds) {
+			if (state.feed.getName().equals(feed.getName())) {
+				throw new IllegalArgumentException("Feed is already added: " + feed.getName());
+			}
+		}
+
+		this.feeds.add(new FeedState<>(feed, minPollInterval.toMillis(),
+				maxPollInterval.toMillis(), System.currentTimeMillis()));
+
+		return this;
+	}
+
+	/**
+	 * Add a feed polled due right away.
+	 *
+	 * <p>Wraps {@link #addFeed(IChangeFeed, Duration, Duration)}
+	 * w/ {@link #DEFAULT_MIN_POLL_INTERVAL} {@literal &} {@link #DEFAULT_MAX_POLL_INTERVAL}.
+	 *
+	 * @param feed	change feed
+	 * @return		this instance
+	 */
+	public ChangeFeedScheduler addFeed(IChangeFeed<?> feed) {
+		return this.addFeed(feed, DEFAULT_MIN_POLL_INTERVAL, DEFAULT_MAX_POLL_INTERVAL);
+	}
+
+	/**
+	 * Subscribe a listener to an added feed.
+	 *
+	 * @param feed		change feed
+	 * @param listener	change listener
+	 * @param <T>		change type
+	 * @return			this instance
+	 */
+	public <T> ChangeFeedScheduler subscribe(IChangeFeed<T> feed, IChangeListener<? super T> listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener mustn't be <null>");
+		}
+
+		this.stateOf(feed).listeners.add(listener);
+
+		return this;
+	}
+
+	/**
+	 * Unsubscribe a listener from an added feed.
+	 *
+	 * @param feed		change feed
+	 * @param listener	change listener
+	 * @param <T>		change type
+	 */
+	public <T> void unsubscribe(IChangeFeed<T> feed, IChangeListener<? super T> listener) {
+		this.stateOf(feed).listeners.remove(listener);
+	}
+
+	/**
+	 * Get the current poll interval of an added feed,
+	 * stretched by the global request budget.
+	 *
+	 * @param feed	change feed
+	 * @return		poll interval
+	 */
+	public synchronized Duration getPollInterval(IChangeFeed<?> feed) {
+		return Duration.ofMillis(Math.round(this.stateOf(feed).intervalMillis * this.getBudgetScale()));
+	}
+
+	/**
+	 * Get the smoothed change rate of an added feed.
+	 *
+	 * @param feed	change feed
+	 * @return		change count per second
+	 */
+	public synchronized double getChangeRate(IChangeFeed<?> feed) {
+		return this.stateOf(feed).changesPerMilli * TimeUnit.SECONDS.toMillis(1L);
+	}
+
+	/**
+	 * Schedule background polls of the due feeds.
+	 *
+	 * @return	this instance
+	 */
+	public ChangeFeedScheduler start() {
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::poll, 1),
+				0L, TICK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Poll the due feeds, the most overdue one first.
+	 *
+	 * <p>Stops at the first feed a listener of which failed,
+	 * the feed is polled again after its next interval.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				delivered change count
+	 * @throws IOException	if a listener failed or a watermark couldn't be persisted
+	 */
+	public int poll(Throwable[] throwables) throws IOException {
+		this.pollLock.lock();
+
+		try {
+			return this.pollLocked(throwables);
+		} finally {
+			this.pollLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background polls.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Poll the due feeds w/ the poll lock held.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				delivered change count
+	 * @throws IOException	if a listener failed or a watermark couldn't be persisted
+	 */
+	private int pollLocked(Throwable[] throwables) throws IOException {
+		long nowMillis = System.currentTimeMillis();
+
+		List<FeedState<?>> dueFeeds = new ArrayList<>();
+
+		synchronized (this) {
+			for (FeedState<?> state : this.feeds) {
+				if (state.nextPollMillis <= nowMillis) {
+					dueFeeds.add(state);
+				}
+			}
+
+			dueFeeds.sort(Comparator.comparingLong(state -> state.nextPollMillis));
+		}
+
+		int count = 0;
+
+		for (FeedState<?> state : dueFeeds) {
+			synchronized (this) {
+				this.refill(nowMillis);
+
+				if (this.tokens < 1.0d) {
+					break;
+				}
+			}
+
+			count += Math.max(0, this.poll(state, throwables));
+		}
+
+		return count;
+	}
+
+	/**
+	 * Poll a single feed and schedule its next poll.
+	 *
+	 * <p>Must be called w/ the poll lock held {@literal &} w/o this instance monitor.
+	 *
+	 * @param state			feed state
+	 * @param throwables	array to put request failures in, may be null
+	 * @param <T>			change type
+	 * @return				delivered change count or {@code -1} if failed
+	 * @throws IOException	if a listener failed or the watermark couldn't be persisted
+	 */
+	private <T> int poll(FeedState<T> state, Throwable[] throwables) throws IOException {
+		IChangeFeed<T> feed = state.feed;
+		long pollMillis = System.currentTimeMillis();
+
+		DateTime watermark = this.watermarkStore.get(feed.getName());
+		long watermarkMillis = watermark == null ? state.addedAtMillis
+				: watermark.getMillis();
+
+		DateTime sinceDate = new DateTime(watermarkMillis - SYNC_OVERLAP.toMillis(), DateTimeZone.UTC);
+
+		List<T> changes = new ArrayList<>();
+		long nextWatermarkMillis = watermarkMillis;
+		int pageCount = 0;
+
+		for (int offset = 0; ; offset += PAGE_SIZE) {
+			synchronized (this) {
+				this.tokens -= 1.0d;
+			}
+
+			pageCount++;
+
+			List<T> page = feed.fetch(sinceDate, offset, PAGE_SIZE, throwables);
+
+			if (page == null) {
+				synchronized (this) {
+					state.backOff();
+					state.nextPollMillis = pollMillis + Math.round(state.intervalMillis * this.getBudgetScale());
+				}
+
+				return -1;
+			}
+
+			for (T change : page) {
+				DateTime date = change == null ? null
+						: feed.getDate(change);
+
+				if (date == null || date.getMillis() < sinceDate.getMillis()) {
+					continue;
+				}
+
+				nextWatermarkMillis = Math.max(nextWatermarkMillis, date.getMillis());
+
+				if (!state.recentKeys.containsKey(feed.getKey(change))) {
+					changes.add(change);
+				}
+			}
+
+			if (page.size() < PAGE_SIZE) {
+				break;
+			}
+		}
+
+		changes.sort(Comparator.comparingLong(change -> feed.getDate(change).getMillis()));
+
+		synchronized (this) {
+			state.pageCount = pageCount;
+
+			// keeps the current interval if a listener fails
+			state.nextPollMillis = pollMillis + Math.round(state.intervalMillis * this.getBudgetScale());
+		}
+
+		if (!changes.isEmpty()) {
+			List<T> view = Collections.unmodifiableList(changes);
+
+			for (IChangeListener<? super T> listener : state.listeners) {
+				listener.onChanges(feed.getName(), view);
+			}
+		}
+
+		if (watermark == null || nextWatermarkMillis != watermarkMillis) {
+			this.watermarkStore.put(feed.getName(), new DateTime(nextWatermarkMillis, DateTimeZone.UTC));
+		}
+
+		for (T change : changes) {
+			state.recentKeys.put(feed.getKey(change), feed.getDate(change).getMillis());
+		}
+
+		long oldestKeyMillis = nextWatermarkMillis - SYNC_OVERLAP.toMillis();
+		state.recentKeys.values().removeIf(millis -> millis < oldestKeyMillis);
+
+		synchronized (this) {
+			state.adapt(pollMillis, changes.size());
+			state.nextPollMillis = pollMillis + Math.round(state.intervalMillis * this.getBudgetScale());
+		}
+
+		return changes.size();
+	}
+
+	/**
+	 * Refill the request budget.
+	 *
+	 * @param nowMillis		current time in epoch milliseconds
+	 */
+	private void refill(long nowMillis) {
+		this.tokens = Math.min(this.burstCapacity,
+				this.tokens + (nowMillis - this.refilledAtMillis) * this.requestsPerMilli);
+		this.refilledAtMillis = nowMillis;
+	}
+
+	/**
+	 * Get a factor all poll intervals are stretched by
+	 * to keep the feeds within the request budget.
+	 *
+	 * @return	budget scale, at least {@code 1}
+	 */
+	private double getBudgetScale() {
+		double demand = 0.0d;
+
+		for (FeedState<?> state : this.feeds) {
+			demand += state.pageCount / (double) state.intervalMillis;
+		}
+
+		return Math.max(1.0d, demand / this.requestsPerMilli);
+	}
+
+	/**
+	 * Get a state of an added feed.
+	 *
+	 * @param feed	change feed
+	 * @param <T>	change type
+	 * @return		feed state
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> FeedState<T> stateOf(IChangeFeed<T> feed) {
+		if (feed == null) {
+			throw new IllegalArgumentException("Feed mustn't be <null>");
+		}
+
+		for (FeedState<?> state : this.feeds) {
+			if (state.feed == feed) {
+				return (FeedState<T>) state;
+			}
+		}
+
+		throw new IllegalArgumentException("Feed isn't added: " + feed.getName());
+	}
+
+	/**
+	 * A scheduling state of a feed.
+	 *
+	 * @param <T>	change type
+	 */
+	private static final class FeedState<T> {
+
+		/**
+		 * A change feed.
+		 */
+		private final IChangeFeed<T> feed;
+
+		/**
+		 * A min poll interval in milliseconds.
+		 */
+		private final long minIntervalMillis;
+
+		/**
+		 * A max poll interval in milliseconds.
+		 */
+		private final long maxIntervalMillis;
+
+		/**
+		 * A time the feed was added at in epoch milliseconds.
+		 */
+		private final long addedAtMillis;
+
+		/**
+		 * A list of change listeners.
+		 */
+		private final List<IChangeListener<? super T>> listeners;
+
+		/**
+		 * A map of feed dates in epoch milliseconds by identity
+		 * keys of the changes delivered within the sync overlap.
+		 */
+		private final Map<Object, Long> recentKeys;
+
+		/**
+		 * A poll interval in milliseconds.
+		 */
+		private long intervalMillis;
+
+		/**
+		 * A next poll time in epoch milliseconds.
+		 */
+		private long nextPollMillis;
+
+		/**
+		 * A last poll time in epoch milliseconds.
+		 */
+		private long lastPollMillis;
+
+		/**
+		 * A request count of the last poll.
+		 */
+		private int pageCount;
+
+		/**
+		 * A smoothed change count per millisecond.
+		 */
+		private double changesPerMilli;
+
+		/**
+		 * Initialize a {@link ChangeFeedScheduler.FeedState} instance.
+		 *
+		 * @param feed					change feed
+		 * @param minIntervalMillis		min poll interval in milliseconds
+		 * @param maxIntervalMillis		max poll interval in milliseconds
+		 * @param addedAtMillis			time the feed was added at in epoch milliseconds
+		 */
+		private FeedState(IChangeFeed<T> feed, long minIntervalMillis, long maxIntervalMillis, long addedAtMillis) {
+			this.feed = feed;
+			this.minIntervalMillis = minIntervalMillis;
+			this.maxIntervalMillis = maxIntervalMillis;
+			this.addedAtMillis = addedAtMillis;
+			this.listeners = new CopyOnWriteArrayList<>();
+			this.recentKeys = new HashMap<>();
+			this.intervalMillis = minIntervalMillis;
+			this.nextPollMillis = addedAtMillis;
+			this.lastPollMillis = addedAtMillis;
+			this.pageCount = 1;
+		}
+
+		/**
+		 * Adapt this poll interval to the change count of a poll.
+		 *
+		 * <p>Aims at {@link #TARGET_CHANGES_PER_POLL} changes per poll,
+		 * polls at the min interval while a poll takes more than one page
+		 * {@literal &} doubles the interval while the feed stays quiet.
+		 *
+		 * @param pollMillis	poll time in epoch milliseconds
+		 * @param changeCount	new change count
+		 */
+		private void adapt(long pollMillis, int changeCount) {
+			long elapsedMillis = Math.max(1L, pollMillis - this.lastPollMillis);
+
+			this.changesPerMilli = RATE_SMOOTHING * changeCount / elapsedMillis
+					+ (1.0d - RATE_SMOOTHING) * this.changesPerMilli;
+			this.lastPollMillis = pollMillis;
+
+			if (this.pageCount > 1) {
+				this.intervalMillis = this.minIntervalMillis;
+			} else if (changeCount == 0) {
+				this.intervalMillis = Math.min(this.maxIntervalMillis, this.intervalMillis * 2L);
+			} else {
+				long targetMillis = Math.round(TARGET_CHANGES_PER_POLL / this.changesPerMilli);
+
+				this.intervalMillis = Math.max(this.minIntervalMillis, Math.min(this.maxIntervalMillis, targetMillis));
+			}
+		}
+
+		/**
+		 * Back off this poll interval after a failed poll.
+		 */
+		private void backOff() {
+			this.intervalMillis = Math.min(this.maxIntervalMillis, this.intervalMillis * 2L);
+		}
+	}
+}
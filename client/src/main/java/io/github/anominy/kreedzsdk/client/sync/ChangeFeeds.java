@@ -0,0 +1,339 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthStatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusPageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import io.github.anominy.kreedzsdk.structs.types.health.EHealthEndpoint;
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A factory of the {@link IChangeFeed} instances of the client endpoints.
+ */
+@SuppressWarnings("unused")
+public final class ChangeFeeds {
+
+	/**
+	 * A feed name of recent records.
+	 */
+	public static final String RECENT_RECORDS_FEED = "changes.records.recent";
+
+	/**
+	 * A feed name of created bans.
+	 */
+	public static final String CREATED_BANS_FEED = "changes.bans.created";
+
+	/**
+	 * A feed name of updated bans.
+	 */
+	public static final String UPDATED_BANS_FEED = "changes.bans.updated";
+
+	/**
+	 * A feed name of created jumpstats.
+	 */
+	public static final String CREATED_JUMPSTATS_FEED = "changes.jumpstats.created";
+
+	/**
+	 * A feed name of status summaries.
+	 */
+	public static final String STATUS_SUMMARY_FEED = "changes.status.summary";
+
+	/**
+	 * A feed name prefix of health statuses.
+	 */
+	public static final String HEALTH_STATUS_FEED_PREFIX = "changes.health.";
+
+	/**
+	 * Create a feed of records created since the watermark.
+	 *
+	 * @param client	kreedz client
+	 * @return			change feed
+	 */
+	public static IChangeFeed<RecordEntity> recentRecords(KreedzClient client) {
+		requireClient(client);
+
+		return new RequestFeed<>(RECENT_RECORDS_FEED,
+				(sinceDate, offset, limit, throwables) -> client.getRecordService()
+						.recentRecords()
+						.setCreatedSinceDate(sinceDate)
+						.setOffset(offset)
+						.setLimit(limit)
+						.execute(throwables),
+				RecordEntity::getCreateDate, RecordEntity::getId);
+	}
+
+	/**
+	 * Create a feed of bans created since the watermark.
+	 *
+	 * @param client	kreedz client
+	 * @return			change feed
+	 */
+	public static IChangeFeed<BanEntity> createdBans(KreedzClient client) {
+		requireClient(client);
+
+		return new RequestFeed<>(CREATED_BANS_FEED,
+				(sinceDate, offset, limit, throwables) -> client.getBanService()
+						.bans()
+						.setCreatedSinceDate(sinceDate)
+						.setOffset(offset)
+						.setLimit(limit)
+						.execute(throwables),
+				BanEntity::getCreateDate, BanEntity::getId);
+	}
+
+	/**
+	 * Create a feed of bans updated since the watermark.
+	 *
+	 * <p>A ban updated twice is delivered twice,
+	 * its identity key includes the update date.
+	 *
+	 * @param client	kreedz client
+	 * @return			change feed
+	 */
+	public static IChangeFeed<BanEntity> updatedBans(KreedzClient client) {
+		requireClient(client);
+
+		return new RequestFeed<>(UPDATED_BANS_FEED,
+				(sinceDate, offset, limit, throwables) -> client.getBanService()
+						.bans()
+						.setUpdatedSinceDate(sinceDate)
+						.setOffset(offset)
+						.setLimit(limit)
+						.execute(throwables),
+				BanEntity::getUpdateDate, ban -> ban.getId() + "@" + ban.getUpdateDate());
+	}
+
+	/**
+	 * Create a feed of jumpstats created since the watermark.
+	 *
+	 * @param client	kreedz client
+	 * @return			change feed
+	 */
+	public static IChangeFeed<JumpstatEntity> createdJumpstats(KreedzClient client) {
+		requireClient(client);
+
+		return new RequestFeed<>(CREATED_JUMPSTATS_FEED,
+				(sinceDate, offset, limit, throwables) -> client.getJumpstatService()
+						.jumpstats()
+						.setCreatedSinceDate(sinceDate)
+						.setOffset(offset)
+						.setLimit(limit)
+						.execute(throwables),
+				JumpstatEntity::getCreateDate, JumpstatEntity::getId);
+	}
+
+	/**
+	 * Create a feed of status summaries, a summary
+	 * is a change when its page update date advances.
+	 *
+	 * @param client	kreedz client
+	 * @return			change feed
+	 */
+	public static IChangeFeed<StatusSummaryResponseEntity> statusSummaries(KreedzClient client) {
+		requireClient(client);
+
+		return new RequestFeed<>(STATUS_SUMMARY_FEED,
+				(sinceDate, offset, limit, throwables) -> {
+					if (offset > 0) {
+						return Collections.emptyList();
+					}
+
+					StatusSummaryResponseEntity summary = client.getStatusService()
+							.summary()
+							.execute(throwables);
+
+					return summary == null ? null
+							: Collections.singletonList(summary);
+				},
+				ChangeFeeds::getUpdateDateOrNull, ChangeFeeds::getUpdateDateOrNull);
+	}
+
+	/**
+	 * Create a feed of health statuses of an endpoint.
+	 *
+	 * <p>The health endpoint keeps only the latest statuses, so statuses
+	 * older than them are lost if the feed isn't polled often enough.
+	 *
+	 * @param client	kreedz client
+	 * @param endpoint	health endpoint
+	 * @return			change feed
+	 */
+	public static IChangeFeed<HealthStatusEntity> healthStatuses(KreedzClient client, EHealthEndpoint endpoint) {
+		requireClient(client);
+
+		if (endpoint == null) {
+			throw new IllegalArgumentException("Endpoint mustn't be <null>");
+		}
+
+		return new RequestFeed<>(HEALTH_STATUS_FEED_PREFIX + endpoint.name().toLowerCase(Locale.ROOT),
+				(sinceDate, offset, limit, throwables) -> {
+					if (offset > 0) {
+						return Collections.emptyList();
+					}
+
+					HealthStatusResponseEntity response = client.getHealthService()
+							.statusByEndpoint()
+							.setEndpoint(endpoint)
+							.execute(throwables);
+
+					if (response == null) {
+						return null;
+					}
+
+					return response.getResults() == null ? Collections.emptyList()
+							: new ArrayList<>(response.getResults());
+				},
+				HealthStatusEntity::getDate, HealthStatusEntity::getDate);
+	}
+
+	/**
+	 * Check the provided kreedz client.
+	 *
+	 * @param client	kreedz client
+	 */
+	private static void requireClient(KreedzClient client) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+	}
+
+	/**
+	 * Get a page update date of a status summary.
+	 *
+	 * @param summary	status summary
+	 * @return			page update date or {@code null}
+	 */
+	private static DateTime getUpdateDateOrNull(StatusSummaryResponseEntity summary) {
+		StatusPageEntity page = summary.getPage();
+
+		return page == null ? null
+				: page.getUpdateDate();
+	}
+
+	/**
+	 * A page fetcher of a request feed.
+	 *
+	 * @param <T>	change type
+	 */
+	@FunctionalInterface
+	private interface IPageFetcher<T> {
+
+		/**
+		 * Fetch a page of changes since the provided date.
+		 *
+		 * @param sinceDate		since date, may be null
+		 * @param offset		page offset
+		 * @param limit			page limit
+		 * @param throwables	array to put request failures in, may be null
+		 * @return				list of changes or {@code null} if failed
+		 */
+		List<T> fetch(DateTime sinceDate, int offset, int limit, Throwable[] throwables);
+	}
+
+	/**
+	 * A change feed backed by a client request.
+	 *
+	 * @param <T>	change type
+	 */
+	private static final class RequestFeed<T> implements IChangeFeed<T> {
+
+		/**
+		 * A feed name.
+		 */
+		private final String name;
+
+		/**
+		 * A page fetcher.
+		 */
+		private final IPageFetcher<T> fetcher;
+
+		/**
+		 * A function to get a feed date of a change.
+		 */
+		private final Function<T, DateTime> dateFunction;
+
+		/**
+		 * A function to get an identity key of a change.
+		 */
+		private final Function<T, Object> keyFunction;
+
+		/**
+		 * Initialize a {@link ChangeFeeds.RequestFeed} instance.
+		 *
+		 * @param name				feed name
+		 * @param fetcher			page fetcher
+		 * @param dateFunction		function to get a feed date of a change
+		 * @param keyFunction		function to get an identity key of a change
+		 */
+		private RequestFeed(String name, IPageFetcher<T> fetcher,
+				Function<T, DateTime> dateFunction, Function<T, Object> keyFunction) {
+			this.name = name;
+			this.fetcher = fetcher;
+			this.dateFunction = dateFunction;
+			this.keyFunction = keyFunction;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<T> fetch(DateTime sinceDate, int offset, int limit, Throwable[] throwables) {
+			return this.fetcher.fetch(sinceDate, offset, limit, throwables);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public DateTime getDate(T change) {
+			return this.dateFunction.apply(change);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object getKey(T change) {
+			return this.keyFunction.apply(change);
+		}
+	}
+
+	private ChangeFeeds() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A ban sink, the target of a {@link BanSync} instance.
+ *
+ * <p>Upserts must be idempotent by the ban identifier, bans
+ * may be applied again after a failed or interrupted sync.
+ */
+@FunctionalInterface
+public interface IBanSink {
+
+	/**
+	 * Insert or replace the provided bans by their identifiers.
+	 *
+	 * <p>May buffer the bans until {@link #flush()} is called.
+	 *
+	 * @param bans	list of bans, always not empty
+	 * @throws IOException	if failed to apply the bans
+	 */
+	void upsert(List<BanEntity> bans) throws IOException;
+
+	/**
+	 * Make all upserted bans durable.
+	 *
+	 * <p>Called once per sync, the sync watermarks
+	 * are advanced right after it.
+	 *
+	 * @throws IOException	if failed to persist the bans
+	 */
+	default void flush() throws IOException {
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import org.joda.time.DateTime;
+
+import java.util.List;
+
+/**
+ * An incremental change feed, a source of a {@link ChangeFeedScheduler} instance.
+ *
+ * @param <T>	change type
+ */
+public interface IChangeFeed<T> {
+
+	/**
+	 * Get this feed name, the key of its watermark.
+	 *
+	 * @return	feed name
+	 */
+	String getName();
+
+	/**
+	 * Fetch a page of changes since the provided date.
+	 *
+	 * @param sinceDate		since date, may be null for the whole feed
+	 * @param offset		page offset
+	 * @param limit			page limit
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of changes in any order or {@code null} if failed
+	 */
+	List<T> fetch(DateTime sinceDate, int offset, int limit, Throwable[] throwables);
+
+	/**
+	 * Get a feed date of the provided change.
+	 *
+	 * @param change	change
+	 * @return			feed date or {@code null}
+	 */
+	DateTime getDate(T change);
+
+	/**
+	 * Get an identity key of the provided change.
+	 *
+	 * <p>Used to skip changes delivered already, which
+	 * are fetched again by the overlapping since date.
+	 *
+	 * @param change	change
+	 * @return			identity key
+	 */
+	Object getKey(T change);
+}
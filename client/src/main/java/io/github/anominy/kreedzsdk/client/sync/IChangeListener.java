@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A change listener, a subscriber of a {@link ChangeFeedScheduler} feed.
+ *
+ * @param <T>	change type
+ */
+@FunctionalInterface
+public interface IChangeListener<T> {
+
+	/**
+	 * Handle new changes of a feed.
+	 *
+	 * <p>Changes are ordered by their feed dates, the feed watermark
+	 * is advanced only after all listeners of the feed return,
+	 * so changes may be delivered again after a crash.
+	 *
+	 * @param feed		feed name
+	 * @param changes	list of changes, always not empty
+	 * @throws IOException	if failed to handle the changes
+	 */
+	void onChanges(String feed, List<? extends T> changes) throws IOException;
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.sync;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * A durable store of sync feed watermarks.
+ *
+ * <p>Keeps watermarks as epoch milliseconds in a properties file,
+ * which is replaced atomically on every update, so a crash leaves
+ * either the previous or the next watermarks.
+ *
+ * <p>Is thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class WatermarkStore {
+
+	/**
+	 * A properties file comment.
+	 */
+	private static final String COMMENT = "kreedz-sdk sync watermarks";
+
+	/**
+	 * A watermarks file path.
+	 */
+	private final Path path;
+
+	/**
+	 * A watermarks properties.
+	 */
+	private final Properties properties;
+
+	/**
+	 * Initialize a {@link WatermarkStore} instance.
+	 *
+	 * <p>Loads the persisted watermarks if the file exists.
+	 *
+	 * @param path	watermarks file path
+	 * @throws IOException	if failed to read the file
+	 */
+	public WatermarkStore(Path path) throws IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("Path mustn't be <null>");
+		}
+
+		this.path = path;
+		this.properties = new Properties();
+
+		if (Files.isRegularFile(path)) {
+			try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+				this.properties.load(in);
+			}
+		}
+	}
+
+	/**
+	 * Get this watermarks file path.
+	 *
+	 * @return	watermarks file path
+	 */
+	public Path getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Get a watermark of the provided feed.
+	 *
+	 * @param feed	feed name
+	 * @return		watermark or {@code null} if the feed
+	 * 				wasn't synced yet or the value is corrupted
+	 */
+	public synchronized DateTime get(String feed) {
+		if (feed == null) {
+			throw new IllegalArgumentException("Feed mustn't be <null>");
+		}
+
+		String value = this.properties.getProperty(feed);
+
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return new DateTime(Long.parseLong(value), DateTimeZone.UTC);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Set a watermark of the provided feed and persist all watermarks.
+	 *
+	 * @param feed			feed name
+	 * @param watermark		watermark, {@code null} to reset the feed
+	 * @throws IOException	if failed to write the file
+	 */
+	public synchronized void put(String feed, DateTime watermark) throws IOException {
+		if (feed == null) {
+			throw new IllegalArgumentException("Feed mustn't be <null>");
+		}
+
+		Properties properties = new Properties();
+		properties.putAll(this.properties);
+
+		if (watermark == null) {
+			properties.remove(feed);
+		} else {
+			properties.setProperty(feed, Long.toString(watermark.getMillis()));
+		}
+
+		this.write(properties);
+
+		this.properties.clear();
+		this.properties.putAll(properties);
+	}
+
+	/**
+	 * Write the provided properties to this file atomically.
+	 *
+	 * @param properties	watermarks properties
+	 * @throws IOException	if failed to write the file
+	 */
+	private void write(Properties properties) throws IOException {
+		Path parent = this.path.toAbsolutePath()
+				.getParent();
+
+		Files.createDirectories(parent);
+
+		Path tempPath = Files.createTempFile(parent, this.path.getFileName().toString(), ".tmp");
+
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+				properties.store(out, COMMENT);
+			}
+
+			Files.move(tempPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.wr;
+
+/**
+ * A world record event type.
+ */
+@SuppressWarnings("unused")
+public enum EWorldRecordEventType {
+
+	/**
+	 * A first record of a record filter w/o records.
+	 */
+	NEW,
+
+	/**
+	 * A record faster than the previous world record.
+	 */
+	IMPROVED,
+
+	/**
+	 * A world record removed from the API,
+	 * the next record, if any, takes its place.
+	 */
+	REMOVED
+}
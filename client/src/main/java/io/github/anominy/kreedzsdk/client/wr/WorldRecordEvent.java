@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.wr;
+
+import io.github.anominy.kreedzsdk.client.leaderboard.LeaderboardKey;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A world record change of a record filter.
+ */
+@SuppressWarnings("unused")
+public final class WorldRecordEvent implements Serializable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = WorldRecordEvent.class.getSimpleName();
+
+	/**
+	 * An event type.
+	 */
+	private final EWorldRecordEventType type;
+
+	/**
+	 * A record filter key.
+	 */
+	private final LeaderboardKey key;
+
+	/**
+	 * A previous world record.
+	 */
+	private final RecordEntity prevRecord;
+
+	/**
+	 * A current world record.
+	 */
+	private final RecordEntity record;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link WorldRecordEvent} instance.
+	 *
+	 * @param type			event type
+	 * @param key			record filter key
+	 * @param prevRecord	previous world record
+	 * @param record		current world record
+	 */
+	WorldRecordEvent(EWorldRecordEventType type, LeaderboardKey key, RecordEntity prevRecord, RecordEntity record) {
+		this.type = type;
+		this.key = key;
+		this.prevRecord = prevRecord;
+		this.record = record;
+	}
+
+	/**
+	 * Get this event type.
+	 *
+	 * @return	event type
+	 */
+	public EWorldRecordEventType getType() {
+		return this.type;
+	}
+
+	/**
+	 * Get this record filter key.
+	 *
+	 * @return	record filter key
+	 */
+	public LeaderboardKey getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get this previous world record.
+	 *
+	 * @return	previous world record or {@code null} for a new one
+	 */
+	public RecordEntity getPrevRecord() {
+		return this.prevRecord;
+	}
+
+	/**
+	 * Get this current world record.
+	 *
+	 * @return	current world record or {@code null}
+	 * 			if the removed one was the only record
+	 */
+	public RecordEntity getRecord() {
+		return this.record;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		WorldRecordEvent that = (WorldRecordEvent) obj;
+
+		return this.type == that.type
+				&& Objects.equals(this.key, that.key)
+				&& Objects.equals(this.prevRecord, that.prevRecord)
+				&& Objects.equals(this.record, that.record);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.type,
+						this.key,
+						this.prevRecord,
+						this.record
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "type=" + this.type
+				+ ", key=" + this.key
+				+ ", prevRecord=" + this.prevRecord
+				+ ", record=" + this.record
+				+ "]");
+	}
+}
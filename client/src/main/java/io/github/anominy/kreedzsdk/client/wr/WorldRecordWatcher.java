@@ -0,0 +1,611 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.client.wr;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.anominy.kreedzsdk.client.internal.UKreedzExecutors;
+import io.github.anominy.kreedzsdk.client.leaderboard.LeaderboardKey;
+import io.github.anominy.kreedzsdk.client.services.RecordService;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A world record watcher.
+ *
+ * <p>Keeps the current world record of every watched record filter
+ * {@literal &} polls the /records/top/recent/ endpoint for first place
+ * records created since the last poll, so the polling cost doesn't depend
+ * on the watched record filter count. A few watched record filters are
+ * verified against the /records/top/ endpoint per poll in turn to notice
+ * removed world records, a removal is reported only once two verifications
+ * in a row agree, so a transiently empty response isn't reported.
+ */
+@SuppressWarnings("unused")
+public final class WorldRecordWatcher implements Closeable {
+
+	/**
+	 * A default poll interval.
+	 */
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * A default count of record filters verified per poll.
+	 */
+	public static final int DEFAULT_VERIFY_COUNT = 2;
+
+	/**
+	 * A duration the created since date of a poll is moved back by,
+	 * so records created during a previous poll aren't missed.
+	 */
+	private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+	/**
+	 * A paged request limit.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
+	/**
+	 * A background thread name.
+	 */
+	private static final String THREAD_NAME = "kreedz-world-record-watcher";
+
+	/**
+	 * A comparator of records by their creation dates.
+	 */
+	private static final Comparator<RecordEntity> CREATE_DATE_ORDER = Comparator.comparing(RecordEntity::getCreateDate,
+			Comparator.nullsLast(Comparator.naturalOrder()));
+
+	/**
+	 * A kreedz client.
+	 */
+	private final KreedzClient client;
+
+	/**
+	 * A poll interval.
+	 */
+	private final Duration pollInterval;
+
+	/**
+	 * A count of record filters verified per poll.
+	 */
+	private final int verifyCount;
+
+	/**
+	 * A poll executor.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * A poll lock.
+	 *
+	 * <p>Serializes polls, so events are dispatched in order,
+	 * w/o holding this instance monitor during requests.
+	 */
+	private final Lock pollLock;
+
+	/**
+	 * A list of listeners.
+	 */
+	private final List<IWorldRecordListener> listeners;
+
+	/**
+	 * A map of world records by their record filter keys.
+	 *
+	 * <p>A {@code null} value stands for a watched record filter w/o records.
+	 */
+	private final Map<LeaderboardKey, RecordEntity> worldRecords;
+
+	/**
+	 * A queue of record filter keys to verify.
+	 */
+	private final Deque<LeaderboardKey> verifyQueue;
+
+	/**
+	 * A set of record filter keys whose world record
+	 * was found removed by the last verification.
+	 */
+	private final Set<LeaderboardKey> pendingRemovals;
+
+	/**
+	 * A creation date of the latest polled record.
+	 */
+	private DateTime pollDate;
+
+	/**
+	 * Initialize a {@link WorldRecordWatcher} instance.
+	 *
+	 * @param client		kreedz client
+	 * @param pollInterval	poll interval
+	 * @param verifyCount	count of record filters verified per poll
+	 */
+	public WorldRecordWatcher(KreedzClient client, Duration pollInterval, int verifyCount) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+			throw new IllegalArgumentException("Poll interval must be positive");
+		}
+
+		if (verifyCount < 0) {
+			throw new IllegalArgumentException("Verify count mustn't be negative");
+		}
+
+		this.client = client;
+		this.pollInterval = pollInterval;
+		this.verifyCount = verifyCount;
+
+		this.executor = UKreedzExecutors.newDaemonScheduledExecutor(THREAD_NAME);
+
+		this.pollLock = new ReentrantLock();
+
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.worldRecords = new HashMap<>();
+		this.verifyQueue = new ArrayDeque<>();
+		this.pendingRemovals = new HashSet<>();
+	}
+
+	/**
+	 * Initialize a {@link WorldRecordWatcher} instance.
+	 *
+	 * <p>Wraps {@link #WorldRecordWatcher(KreedzClient, Duration, int)}
+	 * w/ {@link #DEFAULT_POLL_INTERVAL} {@literal &} {@link #DEFAULT_VERIFY_COUNT}
+	 * as the poll interval {@literal &} count of record filters verified per poll.
+	 *
+	 * @param client	kreedz client
+	 */
+	public WorldRecordWatcher(KreedzClient client) {
+		this(client, DEFAULT_POLL_INTERVAL, DEFAULT_VERIFY_COUNT);
+	}
+
+	/**
+	 * Schedule background polls of this watcher.
+	 *
+	 * @return	this instance
+	 */
+	public WorldRecordWatcher start() {
+		long intervalMillis = this.pollInterval.toMillis();
+
+		this.executor.scheduleWithFixedDelay(UKreedzExecutors.quietly(this::poll, 1),
+				intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+		return this;
+	}
+
+	/**
+	 * Add a world record event listener.
+	 *
+	 * @param listener	world record event listener
+	 * @return			this instance
+	 */
+	public WorldRecordWatcher addListener(IWorldRecordListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener mustn't be <null>");
+		}
+
+		this.listeners.add(listener);
+
+		return this;
+	}
+
+	/**
+	 * Remove a world record event listener.
+	 *
+	 * @param listener	world record event listener
+	 * @return			this instance
+	 */
+	public WorldRecordWatcher removeListener(IWorldRecordListener listener) {
+		this.listeners.remove(listener);
+
+		return this;
+	}
+
+	/**
+	 * Watch a record filter.
+	 *
+	 * <p>Fetches the current world record
+	 * if the record filter isn't watched yet.
+	 *
+	 * @param key			record filter key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				boolean value as a result,
+	 * 						true - watched, false - failed to fetch the world record
+	 */
+	public boolean watch(LeaderboardKey key, Throwable[] throwables) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key mustn't be <null>");
+		}
+
+		synchronized (this) {
+			if (this.worldRecords.containsKey(key)) {
+				return true;
+			}
+		}
+
+		DateTime watchDate = DateTime.now(DateTimeZone.UTC);
+
+		List<RecordEntity> records = this.fetchTop(key, throwables);
+
+		if (records == null) {
+			return false;
+		}
+
+		synchronized (this) {
+			if (this.pollDate == null) {
+				this.pollDate = watchDate;
+			}
+
+			if (!this.worldRecords.containsKey(key)) {
+				this.worldRecords.put(key, records.isEmpty() ? null : records.get(0));
+				this.verifyQueue.addLast(key);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Stop watching a record filter.
+	 *
+	 * @param key	record filter key
+	 */
+	public synchronized void unwatch(LeaderboardKey key) {
+		if (key == null) {
+			return;
+		}
+
+		this.worldRecords.remove(key);
+		this.verifyQueue.remove(key);
+		this.pendingRemovals.remove(key);
+	}
+
+	/**
+	 * Get a current world record of a watched record filter.
+	 *
+	 * @param key	record filter key
+	 * @return		world record or {@code null} if there is
+	 * 				no one or the record filter isn't watched
+	 */
+	public synchronized RecordEntity getWorldRecord(LeaderboardKey key) {
+		return this.worldRecords.get(key);
+	}
+
+	/**
+	 * Poll first place records created since the last poll, verify
+	 * the next watched record filters {@literal &} notify listeners.
+	 *
+	 * <p>A record is offered both to the record filter of its run type
+	 * and to the overall one. Polls are serialized by a separate lock,
+	 * requests are performed w/o holding this instance monitor,
+	 * which is taken only to apply the results.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				emitted event count or {@code -1} if failed to poll
+	 */
+	public int poll(Throwable[] throwables) {
+		this.pollLock.lock();
+
+		try {
+			return this.pollLocked(throwables);
+		} finally {
+			this.pollLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Stops background polls, the world records stay available.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Poll w/ the poll lock held.
+	 *
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				emitted event count or {@code -1} if failed to poll
+	 */
+	private int pollLocked(Throwable[] throwables) {
+		DateTime pollDate;
+
+		List<LeaderboardKey> verifyKeys = new ArrayList<>();
+		List<RecordEntity> verifyRecords = new ArrayList<>();
+
+		synchronized (this) {
+			if (this.pollDate == null || this.worldRecords.isEmpty()) {
+				return 0;
+			}
+
+			pollDate = this.pollDate;
+
+			this.takeNextVerified(verifyKeys, verifyRecords);
+		}
+
+		List<RecordEntity> records = this.fetchRecent(pollDate, throwables);
+
+		if (records == null) {
+			return -1;
+		}
+
+		List<List<RecordEntity>> verifyTops = this.fetchTops(verifyKeys, throwables);
+		List<WorldRecordEvent> events = new ArrayList<>();
+
+		synchronized (this) {
+			this.applyRecent(records, events);
+			this.applyVerified(verifyKeys, verifyRecords, verifyTops, events);
+		}
+
+		for (WorldRecordEvent event : events) {
+			this.dispatch(event);
+		}
+
+		return events.size();
+	}
+
+	/**
+	 * Take the next watched record filters to verify
+	 * {@literal &} rotate them to the end of the queue.
+	 *
+	 * @param keys		list to put record filter keys in
+	 * @param records	list to put their current world records in
+	 */
+	private void takeNextVerified(List<LeaderboardKey> keys, List<RecordEntity> records) {
+		for (int i = Math.min(this.verifyCount, this.verifyQueue.size()); i > 0; i--) {
+			LeaderboardKey key = this.verifyQueue.pollFirst();
+			this.verifyQueue.addLast(key);
+
+			keys.add(key);
+			records.add(this.worldRecords.get(key));
+		}
+	}
+
+	/**
+	 * Fetch first place records created since the provided date.
+	 *
+	 * @param pollDate		creation date of the latest polled record
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of records ordered by their creation dates
+	 * 						or {@code null} if failed
+	 */
+	private List<RecordEntity> fetchRecent(DateTime pollDate, Throwable[] throwables) {
+		DateTime sinceDate = new DateTime(pollDate.getMillis() - POLL_OVERLAP.toMillis(), DateTimeZone.UTC);
+
+		RecordService recordService = this.client.getRecordService();
+
+		List<RecordEntity> records = UKreedzCommon.fetchAll(offset -> recordService.recentRecords()
+				.setMinPlace(1)
+				.setCreatedSinceDate(sinceDate)
+				.setOffset(offset)
+				.setLimit(PAGE_SIZE), PAGE_SIZE, throwables);
+
+		if (records != null) {
+			records.sort(CREATE_DATE_ORDER);
+		}
+
+		return records;
+	}
+
+	/**
+	 * Fetch the top records of the provided keys.
+	 *
+	 * <p>Stops on the first failure.
+	 *
+	 * @param keys			list of record filter keys
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of top records of the leading keys
+	 */
+	private List<List<RecordEntity>> fetchTops(List<LeaderboardKey> keys, Throwable[] throwables) {
+		List<List<RecordEntity>> tops = new ArrayList<>(keys.size());
+
+		for (LeaderboardKey key : keys) {
+			List<RecordEntity> records = this.fetchTop(key, throwables);
+
+			if (records == null) {
+				break;
+			}
+
+			tops.add(records);
+		}
+
+		return tops;
+	}
+
+	/**
+	 * Apply polled first place records.
+	 *
+	 * @param records	list of records ordered by their creation dates
+	 * @param events	list to put world record events in
+	 */
+	private void applyRecent(List<RecordEntity> records, List<WorldRecordEvent> events) {
+		DateTime pollDate = this.pollDate;
+
+		for (RecordEntity record : records) {
+			ERunType runType = ERunType.fromHasTeleports(record.getTeleportCount() > 0);
+
+			this.offer(LeaderboardKey.ofOrNull(record, runType), record, events);
+			this.offer(LeaderboardKey.ofOrNull(record, ERunType.NUB), record, events);
+
+			DateTime createDate = record.getCreateDate();
+
+			if (createDate != null && createDate.isAfter(pollDate)) {
+				pollDate = createDate;
+			}
+		}
+
+		this.pollDate = pollDate;
+	}
+
+	/**
+	 * Apply verified top records of the watched record filters.
+	 *
+	 * <p>Record filters unwatched or changed since
+	 * they were taken for verification are skipped,
+	 * a removal is applied once it's verified twice in a row.
+	 *
+	 * @param keys			list of record filter keys
+	 * @param prevRecords	list of their world records taken for verification
+	 * @param tops			list of their fetched top records
+	 * @param events		list to put world record events in
+	 */
+	private void applyVerified(List<LeaderboardKey> keys, List<RecordEntity> prevRecords,
+			List<List<RecordEntity>> tops, List<WorldRecordEvent> events) {
+		for (int i = 0; i < tops.size(); i++) {
+			LeaderboardKey key = keys.get(i);
+			RecordEntity prevRecord = prevRecords.get(i);
+
+			if (!this.worldRecords.containsKey(key) || this.worldRecords.get(key) != prevRecord) {
+				continue;
+			}
+
+			List<RecordEntity> records = tops.get(i);
+			RecordEntity record = records.isEmpty() ? null : records.get(0);
+
+			if (prevRecord == null) {
+				this.offer(key, record, events);
+				continue;
+			}
+
+			if (record != null && record.getId() != 0 && record.getId() == prevRecord.getId()) {
+				this.pendingRemovals.remove(key);
+				continue;
+			}
+
+			EWorldRecordEventType type = record != null && isFaster(record, prevRecord) ? EWorldRecordEventType.IMPROVED
+					: EWorldRecordEventType.REMOVED;
+
+			if (type == EWorldRecordEventType.REMOVED && this.pendingRemovals.add(key)) {
+				continue;
+			}
+
+			this.pendingRemovals.remove(key);
+			this.worldRecords.put(key, record);
+
+			events.add(new WorldRecordEvent(type, key, prevRecord, record));
+		}
+	}
+
+	/**
+	 * Offer a record to a watched record filter of the provided key.
+	 *
+	 * @param key		record filter key, may be null
+	 * @param record	record, may be null
+	 * @param events	list to put a world record event in
+	 */
+	private void offer(LeaderboardKey key, RecordEntity record, List<WorldRecordEvent> events) {
+		if (key == null || record == null || !this.worldRecords.containsKey(key)) {
+			return;
+		}
+
+		RecordEntity prevRecord = this.worldRecords.get(key);
+
+		if (prevRecord == null) {
+			this.worldRecords.put(key, record);
+
+			events.add(new WorldRecordEvent(EWorldRecordEventType.NEW, key, null, record));
+
+			return;
+		}
+
+		if ((record.getId() != 0 && prevRecord.getId() == record.getId()) || !isFaster(record, prevRecord)) {
+			return;
+		}
+
+		this.worldRecords.put(key, record);
+		this.pendingRemovals.remove(key);
+
+		events.add(new WorldRecordEvent(EWorldRecordEventType.IMPROVED, key, prevRecord, record));
+	}
+
+	/**
+	 * Notify listeners of the provided event.
+	 *
+	 * @param event		world record event
+	 */
+	@SuppressWarnings("CallToPrintStackTrace")
+	private void dispatch(WorldRecordEvent event) {
+		for (IWorldRecordListener listener : this.listeners) {
+			try {
+				listener.onWorldRecordEvent(event);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Fetch the top record of the provided key.
+	 *
+	 * @param key			record filter key
+	 * @param throwables	array to put request failures in, may be null
+	 * @return				list of at most one record or {@code null} if failed
+	 */
+	private List<RecordEntity> fetchTop(LeaderboardKey key, Throwable[] throwables) {
+		return this.client.getRecordService()
+				.recordsTop()
+				.setMapId(key.getMapId())
+				.setStage(key.getStage())
+				.setMode(key.getMode())
+				.setTickrate(key.getTickrate())
+				.setRunType(key.getRunType())
+				.setLimit(1)
+				.execute(throwables);
+	}
+
+	/**
+	 * Check if the first record is faster than the second one.
+	 *
+	 * @param a		first record
+	 * @param b		second record
+	 * @return		boolean value as a result,
+	 * 				true - yes, false - no
+	 */
+	private static boolean isFaster(RecordEntity a, RecordEntity b) {
+		RunTime aTime = a.getTime();
+		RunTime bTime = b.getTime();
+
+		if (aTime == null || !aTime.isValid()) {
+			return false;
+		}
+
+		return bTime == null || !bTime.isValid()
+				|| aTime.getTime() < bTime.getTime();
+	}
+}
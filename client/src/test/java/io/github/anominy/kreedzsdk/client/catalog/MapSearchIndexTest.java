@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.catalog;
+
+import com.google.gson.Gson;
+import io.github.anominy.kreedzsdk.adapters.engines.StreamingJsonEngine;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class MapSearchIndexTest {
+
+	private static final Gson GSON = new StreamingJsonEngine().getGson();
+
+	private static final MapSearchIndex INDEX = new MapSearchIndex(listOf(
+			entryOf(1, "kz_grotto", 2, true),
+			entryOf(2, "kz_bhop_badges", 3, true),
+			entryOf(3, "kz_bhop_benchmark", 5, false),
+			entryOf(4, "bkz_goldbhop", 4, true),
+			entryOf(5, "kz_beginnerblock_go", 1, true),
+			entryOf(6, "kz_colors_v2", 2, true)
+	));
+
+	@Test
+	void ranksNamePrefixesFirst() {
+		assertEquals(listOf("kz_bhop_badges", "kz_bhop_benchmark", "kz_beginnerblock_go"),
+				namesOf(INDEX.search("kz_b").execute()).subList(0, 3));
+		assertEquals(listOf("bkz_goldbhop"),
+				namesOf(INDEX.search("bkz").execute()).subList(0, 1));
+	}
+
+	@Test
+	void ranksSuffixPrefixesBeforeFuzzyMatches() {
+		List<String> names = namesOf(INDEX.search("bhop").execute());
+
+		assertEquals(listOf("kz_bhop_badges", "kz_bhop_benchmark"), names.subList(0, 2));
+		assertTrue(names.contains("bkz_goldbhop"), names.toString());
+	}
+
+	@Test
+	void ranksNamePrefixAboveSuffixPrefix() {
+		MapSearchIndex index = new MapSearchIndex(listOf(
+				entryOf(1, "kz_go", 1, true),
+				entryOf(2, "go_kz", 1, true)
+		));
+
+		assertEquals(listOf("go_kz", "kz_go"), namesOf(index.search("go").execute()));
+	}
+
+	@Test
+	void findsTyposByTrigrams() {
+		assertEquals(listOf("kz_grotto"), namesOf(INDEX.search("grottto").execute()));
+		assertTrue(INDEX.search("xyzzy").execute().isEmpty());
+	}
+
+	@Test
+	void ignoresCaseAndPadding() {
+		assertEquals(listOf("kz_grotto"), namesOf(INDEX.search("  KZ_Grotto ").execute()).subList(0, 1));
+		assertTrue(INDEX.search("   ").execute().isEmpty());
+		assertTrue(INDEX.search(null).execute().isEmpty());
+	}
+
+	@Test
+	void filtersAndLimits() {
+		List<String> validatedNames = namesOf(INDEX.search("kz_bhop")
+				.setIsValidated(true)
+				.execute());
+
+		assertEquals("kz_bhop_badges", validatedNames.get(0));
+		assertFalse(validatedNames.contains("kz_bhop_benchmark"), validatedNames.toString());
+
+		assertEquals(listOf("kz_bhop_benchmark"), namesOf(INDEX.search("kz_bhop")
+				.setDifficulties(EDifficulty.VERY_HARD)
+				.execute()));
+
+		assertEquals(1, INDEX.search("kz_").setLimit(1).execute().size());
+		assertTrue(INDEX.search("kz_").setLimit(0).execute().isEmpty());
+	}
+
+	private static MapCatalogEntry entryOf(int id, String name, int difficultyId, boolean isValidated) {
+		String json = String.format(Locale.ROOT, "{\"id\":%d,\"name\":\"%s\",\"difficulty\":%d,\"validated\":%b}",
+				id, name, difficultyId, isValidated);
+
+		return new MapCatalogEntry(GSON.fromJson(json, MapEntity.class), null, null);
+	}
+
+	private static List<String> namesOf(List<MapCatalogEntry> entries) {
+		List<String> names = new ArrayList<>();
+
+		for (MapCatalogEntry entry : entries) {
+			names.add(entry.getName());
+		}
+
+		return names;
+	}
+
+	@SafeVarargs
+	private static <T> List<T> listOf(T... values) {
+		List<T> list = new ArrayList<>();
+
+		for (T value : values) {
+			list.add(value);
+		}
+
+		return list;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.delta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SnapshotDifferTest {
+
+	@Test
+	void addsEverythingFirst() {
+		SnapshotDiffer<String, String> differ = newDiffer();
+		List<SnapshotDelta<String, String>> deltas = listenTo(differ);
+
+		SnapshotDelta<String, String> delta = differ.update(Arrays.asList("a=1", "b=2"));
+
+		assertEquals(mapOf("a", "a=1", "b", "b=2"), delta.getAdded());
+		assertTrue(delta.getRemoved().isEmpty());
+		assertTrue(delta.getChanged().isEmpty());
+		assertEquals(2, delta.size());
+		assertEquals(Collections.singletonList(delta), deltas);
+		assertEquals(2, differ.size());
+		assertEquals("b=2", differ.get("b"));
+	}
+
+	@Test
+	void detectsAddedRemovedAndChanged() {
+		SnapshotDiffer<String, String> differ = newDiffer();
+
+		differ.update(Arrays.asList("a=1", "b=2", "c=3"));
+
+		SnapshotDelta<String, String> delta = differ.update(Arrays.asList("a=1", "b=20", "d=4"));
+
+		assertEquals(mapOf("d", "d=4"), delta.getAdded());
+		assertEquals(mapOf("c", "c=3"), delta.getRemoved());
+		assertEquals(mapOf("b", "b=20"), delta.getChanged());
+		assertEquals(mapOf("b", "b=2"), delta.getChangedPrev());
+		assertEquals(3, delta.size());
+		assertNull(differ.get("c"));
+	}
+
+	@Test
+	void skipsUnchangedUpdates() {
+		SnapshotDiffer<String, String> differ = newDiffer();
+		List<SnapshotDelta<String, String>> deltas = listenTo(differ);
+
+		differ.update(Arrays.asList("a=1", "b=2"));
+
+		Map<String, String> snapshot = differ.getSnapshot();
+		SnapshotDelta<String, String> delta = differ.update(Arrays.asList(new String("b=2"), "a=1"));
+
+		assertTrue(delta.isEmpty());
+		assertEquals(1, deltas.size());
+		assertSame(snapshot, differ.getSnapshot());
+	}
+
+	@Test
+	void skipsValuesWithoutKeys() {
+		SnapshotDiffer<String, String> differ = new SnapshotDiffer<>(value -> value.isEmpty() ? null
+				: value.substring(0, 1));
+
+		SnapshotDelta<String, String> delta = differ.update(Arrays.asList("a", null, "", "b"));
+
+		assertEquals(mapOf("a", "a", "b", "b"), delta.getAdded());
+		assertEquals(2, differ.size());
+	}
+
+	@Test
+	void addsEverythingAfterReset() {
+		SnapshotDiffer<String, String> differ = newDiffer();
+
+		differ.update(Arrays.asList("a=1", "b=2"));
+		differ.reset();
+
+		assertEquals(0, differ.size());
+		assertEquals(2, differ.update(Arrays.asList("a=1", "b=2")).getAdded().size());
+	}
+
+	@Test
+	void appliesDeltasToPreviousSnapshot() {
+		Random random = new Random(42L);
+		SnapshotDiffer<String, String> differ = newDiffer();
+		Map<String, String> values = new HashMap<>();
+
+		for (int i = 0; i < 200; i++) {
+			List<String> next = new ArrayList<>();
+
+			for (int key = 0; key < 50; key++) {
+				if (random.nextInt(4) != 0) {
+					next.add(key + "=" + random.nextInt(3));
+				}
+			}
+
+			differ.update(next).applyTo(values);
+
+			assertEquals(differ.getSnapshot(), values);
+		}
+	}
+
+	@Test
+	void rejectsNulls() {
+		assertThrows(IllegalArgumentException.class, () -> new SnapshotDiffer<String, String>(null));
+		assertThrows(IllegalArgumentException.class, () -> newDiffer().update(null));
+		assertThrows(IllegalArgumentException.class, () -> newDiffer().addListener(null));
+	}
+
+	private static SnapshotDiffer<String, String> newDiffer() {
+		return new SnapshotDiffer<>(value -> value.substring(0, value.indexOf('=')));
+	}
+
+	private static List<SnapshotDelta<String, String>> listenTo(SnapshotDiffer<String, String> differ) {
+		List<SnapshotDelta<String, String>> deltas = new ArrayList<>();
+
+		differ.addListener(deltas::add);
+
+		return deltas;
+	}
+
+	private static Map<String, String> mapOf(String... keysAndValues) {
+		Map<String, String> map = new HashMap<>();
+
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			map.put(keysAndValues[i], keysAndValues[i + 1]);
+		}
+
+		return map;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.jumpstat;
+
+import com.google.gson.Gson;
+import io.github.anominy.kreedzsdk.adapters.engines.StreamingJsonEngine;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.types.EJumpType;
+import io.github.anominy.steamid.SteamId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class JumpstatBoardTest {
+
+	private static final long STEAM_ID_64_BASE = 76561197960265728L;
+
+	private static final Gson GSON = new StreamingJsonEngine().getGson();
+
+	@Test
+	void keepsLongestJumpPerPlayer() {
+		JumpstatBoard board = newBoard();
+
+		assertTrue(board.offer(jumpstatOf(1, 1, 250.5f)));
+		assertTrue(board.offer(jumpstatOf(2, 2, 260.0f)));
+		assertTrue(board.offer(jumpstatOf(3, 3, 255.0f)));
+
+		assertFalse(board.offer(jumpstatOf(4, 1, 240.0f)));
+		assertTrue(board.offer(jumpstatOf(5, 1, 270.0f)));
+
+		assertEquals(3, board.size());
+		assertEquals(listOf(5, 2, 3), idsOf(board.getTop(10)));
+		assertEquals(5, board.getBySteamId(steamIdOf(1)).getId());
+		assertEquals(3, sumOf(board.getHistogram()));
+	}
+
+	@Test
+	void movesUpdatedJumpBetweenBins() {
+		JumpstatBoard board = newBoard();
+
+		board.offer(jumpstatOf(1, 1, 250.0f));
+
+		assertFalse(board.offer(jumpstatOf(1, 1, 250.0f)));
+		assertTrue(board.offer(jumpstatOf(1, 1, 230.0f)));
+
+		int[] histogram = board.getHistogram();
+
+		assertEquals(1, board.size());
+		assertEquals(0, histogram[JumpstatBoard.getBinIndex(250.0f)]);
+		assertEquals(1, histogram[JumpstatBoard.getBinIndex(230.0f)]);
+		assertEquals(1, board.getCountBetween(200.0f, 240.0f));
+		assertEquals(0, board.getCountBetween(240.0f, 300.0f));
+	}
+
+	@Test
+	void clampsBinIndices() {
+		assertEquals(0, JumpstatBoard.getBinIndex(-1.0f));
+		assertEquals(0, JumpstatBoard.getBinIndex(Float.NaN));
+		assertEquals(JumpstatBoard.BIN_COUNT - 1, JumpstatBoard.getBinIndex(1e6f));
+	}
+
+	@Test
+	void boundsPercentiles() {
+		JumpstatBoard board = newBoard();
+
+		assertEquals(0.0d, board.getPercentile(250.0f));
+
+		for (int player = 1; player <= 10; player++) {
+			board.offer(jumpstatOf(player, player, 240.0f + player));
+		}
+
+		assertEquals(0.0d, board.getPercentile(100.0f));
+		assertEquals(100.0d, board.getPercentile(300.0f));
+		assertEquals(50.0d, board.getPercentile(245.95f), 1e-6d);
+	}
+
+	@Test
+	void matchesNaiveCounts() {
+		Random random = new Random(42L);
+		JumpstatBoard board = newBoard();
+		Map<Integer, Float> distances = new HashMap<>();
+
+		for (int id = 1; id <= 3000; id++) {
+			int player = random.nextInt(500);
+			float distance = 200.0f + random.nextInt(10000) / 100.0f;
+			Float prevDistance = distances.get(player);
+
+			if (board.offer(jumpstatOf(id, player, distance))) {
+				assertTrue(prevDistance == null || distance > prevDistance);
+
+				distances.put(player, distance);
+			}
+		}
+
+		int[] bins = new int[JumpstatBoard.BIN_COUNT];
+
+		for (float distance : distances.values()) {
+			bins[JumpstatBoard.getBinIndex(distance)]++;
+		}
+
+		assertEquals(distances.size(), board.size());
+
+		for (int i = 0; i < 200; i++) {
+			float from = 195.0f + random.nextInt(11000) / 100.0f;
+			float to = from + random.nextInt(3000) / 100.0f;
+
+			int expected = 0;
+
+			for (int bin = JumpstatBoard.getBinIndex(from); bin < JumpstatBoard.getBinIndex(to); bin++) {
+				expected += bins[bin];
+			}
+
+			assertEquals(expected, board.getCountBetween(from, to), from + " - " + to);
+
+			int binIndex = JumpstatBoard.getBinIndex(from);
+			double binFraction = Math.min(Math.max(from / JumpstatBoard.BIN_WIDTH - binIndex, 0.0d), 1.0d);
+			double shorterCount = bins[binIndex] * binFraction;
+
+			for (int bin = 0; bin < binIndex; bin++) {
+				shorterCount += bins[bin];
+			}
+
+			assertEquals(shorterCount * 100.0d / distances.size(), board.getPercentile(from), 1e-9d);
+		}
+	}
+
+	private static JumpstatBoard newBoard() {
+		return new JumpstatBoard(new JumpstatKey(EJumpType.LJ));
+	}
+
+	private static JumpstatEntity jumpstatOf(int id, int player, float distance) {
+		String json = String.format(Locale.ROOT, "{\"id\":%d,\"steamid64\":\"%d\",\"distance\":%s}",
+				id, STEAM_ID_64_BASE + player, distance);
+
+		return GSON.fromJson(json, JumpstatEntity.class);
+	}
+
+	private static SteamId steamIdOf(int player) {
+		return SteamId.fromSteam64OrNull(STEAM_ID_64_BASE + player);
+	}
+
+	private static int sumOf(int[] values) {
+		int sum = 0;
+
+		for (int value : values) {
+			sum += value;
+		}
+
+		return sum;
+	}
+
+	private static List<Integer> idsOf(List<JumpstatEntity> jumpstats) {
+		List<Integer> ids = new ArrayList<>();
+
+		for (JumpstatEntity jumpstat : jumpstats) {
+			ids.add(jumpstat.getId());
+		}
+
+		return ids;
+	}
+
+	private static List<Integer> listOf(Integer... values) {
+		List<Integer> list = new ArrayList<>();
+
+		for (Integer value : values) {
+			list.add(value);
+		}
+
+		return list;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.leaderboard;
+
+import com.google.gson.Gson;
+import io.github.anominy.kreedzsdk.adapters.engines.StreamingJsonEngine;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.steamid.SteamId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LeaderboardTest {
+
+	private static final long STEAM_ID_64_BASE = 76561197960265728L;
+
+	private static final Gson GSON = new StreamingJsonEngine().getGson();
+
+	private static final Comparator<RecordEntity> RECORD_ORDER = Comparator
+			.comparingDouble((RecordEntity record) -> record.getTime().getTime())
+			.thenComparingLong(record -> record.getCreateDate().getMillis())
+			.thenComparingInt(RecordEntity::getId);
+
+	@Test
+	void ranksByTimeThenCreateDateThenId() {
+		Leaderboard leaderboard = newLeaderboard();
+
+		assertTrue(leaderboard.offer(recordOf(1, 1, 30f, 0)));
+		assertTrue(leaderboard.offer(recordOf(2, 2, 10f, 5)));
+		assertTrue(leaderboard.offer(recordOf(3, 3, 20f, 0)));
+		assertTrue(leaderboard.offer(recordOf(4, 4, 10f, 1)));
+
+		assertEquals(4, leaderboard.size());
+		assertEquals(listOf(4, 2, 3, 1), idsOf(leaderboard.getTop(10)));
+
+		assertEquals(1, leaderboard.getRankById(4));
+		assertEquals(2, leaderboard.getRankById(2));
+		assertEquals(4, leaderboard.getRankBySteamId(steamIdOf(1)));
+		assertEquals(3, leaderboard.getByRank(3).getId());
+	}
+
+	@Test
+	void replacesPersonalBestOnlyWhenFaster() {
+		Leaderboard leaderboard = newLeaderboard();
+
+		leaderboard.offer(recordOf(1, 1, 30f, 0));
+		leaderboard.offer(recordOf(2, 2, 20f, 0));
+		leaderboard.offer(recordOf(3, 3, 10f, 0));
+
+		assertFalse(leaderboard.offer(recordOf(4, 1, 40f, 1)));
+		assertFalse(leaderboard.offer(recordOf(1, 1, 30f, 0)));
+		assertEquals(Leaderboard.NO_RANK, leaderboard.getRankById(4));
+
+		assertTrue(leaderboard.offer(recordOf(5, 1, 5f, 2)));
+
+		assertEquals(3, leaderboard.size());
+		assertEquals(listOf(5, 3, 2), idsOf(leaderboard.getTop(10)));
+		assertEquals(Leaderboard.NO_RANK, leaderboard.getRankById(1));
+		assertEquals(1, leaderboard.getRankBySteamId(steamIdOf(1)));
+		assertEquals(5, leaderboard.getBySteamId(steamIdOf(1)).getId());
+	}
+
+	@Test
+	void clampsRanges() {
+		Leaderboard leaderboard = newLeaderboard();
+
+		for (int id = 1; id <= 5; id++) {
+			leaderboard.offer(recordOf(id, id, id, 0));
+		}
+
+		assertEquals(listOf(2, 3, 4), idsOf(leaderboard.getRange(2, 3)));
+		assertEquals(listOf(4, 5), idsOf(leaderboard.getRange(4, 10)));
+		assertEquals(listOf(1, 2), idsOf(leaderboard.getRange(-3, 2)));
+		assertTrue(leaderboard.getRange(6, 1).isEmpty());
+		assertTrue(leaderboard.getRange(1, 0).isEmpty());
+
+		assertEquals(listOf(1, 2, 3), idsOf(leaderboard.getAround(1, 2)));
+		assertEquals(listOf(3, 4, 5), idsOf(leaderboard.getAround(4, 1)));
+
+		assertNull(leaderboard.getByRank(0));
+		assertNull(leaderboard.getByRank(6));
+	}
+
+	@Test
+	void matchesSortedPersonalBests() {
+		Random random = new Random(42L);
+		Leaderboard leaderboard = newLeaderboard();
+		Map<Integer, RecordEntity> bests = new HashMap<>();
+
+		for (int id = 1; id <= 2000; id++) {
+			int player = random.nextInt(300);
+			RecordEntity record = recordOf(id, player, 1 + random.nextInt(500), random.nextInt(3600));
+			RecordEntity best = bests.get(player);
+
+			boolean isFaster = best == null || RECORD_ORDER.compare(record, best) < 0;
+
+			assertEquals(isFaster, leaderboard.offer(record));
+
+			if (isFaster) {
+				bests.put(player, record);
+			}
+		}
+
+		List<RecordEntity> expected = new ArrayList<>(bests.values());
+		expected.sort(RECORD_ORDER);
+
+		assertEquals(expected.size(), leaderboard.size());
+		assertEquals(idsOf(expected), idsOf(leaderboard.getTop(expected.size())));
+		assertEquals(idsOf(expected.subList(100, 150)), idsOf(leaderboard.getRange(101, 50)));
+
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(i + 1, leaderboard.getRankById(expected.get(i).getId()));
+		}
+	}
+
+	private static Leaderboard newLeaderboard() {
+		return new Leaderboard(new LeaderboardKey(1, 0, EMode.KZT, ETickrate.T128, ERunType.PRO));
+	}
+
+	private static RecordEntity recordOf(int id, int player, float time, int createdSecond) {
+		String json = String.format(Locale.ROOT,
+				"{\"id\":%d,\"steamid64\":\"%d\",\"time\":%s,\"created_on\":\"2023-05-14T%02d:%02d:%02d\"}",
+				id, STEAM_ID_64_BASE + player, time,
+				createdSecond / 3600, createdSecond / 60 % 60, createdSecond % 60);
+
+		return GSON.fromJson(json, RecordEntity.class);
+	}
+
+	private static SteamId steamIdOf(int player) {
+		return SteamId.fromSteam64OrNull(STEAM_ID_64_BASE + player);
+	}
+
+	private static List<Integer> idsOf(List<RecordEntity> records) {
+		List<Integer> ids = new ArrayList<>();
+
+		for (RecordEntity record : records) {
+			ids.add(record.getId());
+		}
+
+		return ids;
+	}
+
+	private static List<Integer> listOf(Integer... values) {
+		List<Integer> list = new ArrayList<>();
+
+		for (Integer value : values) {
+			list.add(value);
+		}
+
+		return list;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.client.points;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PointsDistributionTest {
+
+	private static final double DELTA = 1e-12d;
+
+	@Test
+	void isCertainAtOrBelowLocation() {
+		PointsDistribution distribution = new PointsDistribution(1, 2d, 1d, 10d, 5d, 1d);
+
+		assertEquals(1d, distribution.sf(10d));
+		assertEquals(1d, distribution.sf(-1d));
+		assertEquals(0d, distribution.cdf(10d));
+		assertEquals(PointsDistribution.MAX_POINTS, distribution.points(10d));
+		assertEquals(PointsDistribution.MAX_POINTS, distribution.points(5d));
+	}
+
+	@Test
+	void splitsAtScaledMedian() {
+		PointsDistribution distribution = new PointsDistribution(1, 3d, 1d, 10d, 5d, 1d);
+
+		assertEquals(0.5d, distribution.sf(15d), DELTA);
+		assertEquals(0.5d, distribution.cdf(15d), DELTA);
+		assertEquals(PointsDistribution.MAX_POINTS / 2, distribution.points(15d));
+	}
+
+	@Test
+	void vanishesForSlowTimes() {
+		PointsDistribution distribution = new PointsDistribution(1, 2d, 1.5d, 0d, 1d, 1d);
+
+		assertTrue(distribution.sf(1e9d) < 1e-12d);
+		assertEquals(1d, distribution.cdf(1e9d), DELTA);
+		assertEquals(0, distribution.points(1e9d));
+	}
+
+	@Test
+	void decreasesWithTime() {
+		PointsDistribution distribution = new PointsDistribution(1, 2.5d, 0.7d, 3d, 20d, 0.8d);
+
+		double prevSf = 1d;
+
+		for (double time = 0d; time < 200d; time += 0.5d) {
+			double sf = distribution.sf(time);
+
+			assertTrue(sf <= prevSf, "sf(" + time + ")");
+			assertEquals(1d, sf + distribution.cdf(time), DELTA);
+
+			prevSf = sf;
+		}
+	}
+
+	@Test
+	void clampsFractionToTopScale() {
+		PointsDistribution distribution = new PointsDistribution(1, 3d, 1d, 10d, 5d, 0.5d);
+
+		assertEquals(1d, distribution.fraction(15d), DELTA);
+		assertEquals(1d, distribution.fraction(12d));
+		assertEquals(PointsDistribution.MAX_POINTS, distribution.points(15d));
+		assertTrue(distribution.points(20d) < PointsDistribution.MAX_POINTS);
+	}
+
+	@Test
+	void givesNoPointsWithoutTime() {
+		PointsDistribution distribution = new PointsDistribution(1, 2d, 1d, -5d, 5d, 1d);
+
+		assertEquals(0, distribution.points(0d));
+		assertEquals(0, distribution.points(-3d));
+		assertEquals(0, distribution.points(Double.NaN));
+	}
+
+	@Test
+	void matchesScalarPointsInBulk() {
+		PointsDistribution distribution = new PointsDistribution(1, 2.5d, 0.7d, 3d, 20d, 0.8d);
+
+		float[] times = {0f, -1f, 1f, 3f, 3.5f, 10f, 23f, 57.25f, 400f, Float.NaN};
+		int[] expected = new int[times.length];
+		int[] actual = new int[times.length];
+
+		for (int i = 0; i < times.length; i++) {
+			expected[i] = distribution.points(times[i]);
+		}
+
+		distribution.points(times, actual, 0, times.length);
+
+		assertArrayEquals(expected, actual);
+		assertThrows(IndexOutOfBoundsException.class, () -> distribution.points(times, actual, 2, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> distribution.points(times, actual, 0, times.length + 1));
+	}
+
+	@Test
+	void rejectsInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new PointsDistribution(1, 0d, 1d, 0d, 1d, 1d));
+		assertThrows(IllegalArgumentException.class, () -> new PointsDistribution(1, 1d, Double.NaN, 0d, 1d, 1d));
+		assertThrows(IllegalArgumentException.class, () -> new PointsDistribution(1, 1d, 1d, 0d, 0d, 1d));
+		assertThrows(IllegalArgumentException.class, () -> new PointsDistribution(1, 1d, 1d, 0d, 1d, -1d));
+
+		assertNull(PointsDistribution.ofOrNull(null));
+	}
+}
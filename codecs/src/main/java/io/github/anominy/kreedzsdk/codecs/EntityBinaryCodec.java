@@ -0,0 +1,340 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An entity binary codec.
+ *
+ * <p>Encodes the fields listed by the entity schema in the listed order,
+ * prefixed by the schema version, and decodes them back by their names.
+ * An entity is initialized through its widest non-copy constructor w/ blank
+ * arguments, so neither the field declaration order nor the constructor
+ * parameter order take part in the layout.
+ *
+ * @param <T>	entity type
+ */
+@SuppressWarnings("unchecked")
+final class EntityBinaryCodec<T> implements IKreedzBinaryCodec<T> {
+
+	/**
+	 * A schema version.
+	 */
+	private final int version;
+
+	/**
+	 * A widest entity constructor.
+	 */
+	private final Constructor<T> constructor;
+
+	/**
+	 * An array of blank constructor arguments.
+	 */
+	private final Object[] blankArgs;
+
+	/**
+	 * An array of schema fields.
+	 */
+	private final Field[] fields;
+
+	/**
+	 * An array of field codecs.
+	 */
+	private final IKreedzBinaryCodec<Object>[] codecs;
+
+	/**
+	 * Initialize an {@link EntityBinaryCodec} instance.
+	 *
+	 * @param type		entity type
+	 * @param schema	entity schema
+	 * @throws IllegalArgumentException	if the schema doesn't list every persistent field
+	 * 									of the entity, a field type has no codec or the entity
+	 * 									has no single widest non-copy constructor
+	 */
+	EntityBinaryCodec(Class<T> type, Schema schema) {
+		this.version = schema.version;
+		this.fields = new Field[schema.fieldNames.length];
+		this.codecs = new IKreedzBinaryCodec[this.fields.length];
+
+		Set<Field> unlistedFields = new HashSet<>();
+		collectFields(type, unlistedFields);
+
+		for (int i = 0; i < this.fields.length; i++) {
+			Field field = findField(type, schema.fieldNames[i]);
+
+			if (field == null || !unlistedFields.remove(field)) {
+				throw new IllegalArgumentException("Type <" + type.getName() + "> has no persistent field <"
+						+ schema.fieldNames[i] + "> or it's listed twice");
+			}
+
+			field.setAccessible(true);
+
+			this.fields[i] = field;
+			this.codecs[i] = (IKreedzBinaryCodec<Object>) codecOf(field.getGenericType());
+		}
+
+		if (!unlistedFields.isEmpty()) {
+			throw new IllegalArgumentException("Type <" + type.getName() + "> schema doesn't list <"
+					+ unlistedFields.iterator().next().getName() + "> field");
+		}
+
+		Constructor<T> constructor = null;
+		boolean isAmbiguous = false;
+
+		for (Constructor<?> declaredConstructor : type.getDeclaredConstructors()) {
+			Class<?>[] parameterTypes = declaredConstructor.getParameterTypes();
+
+			// copy constructors dereference their argument
+			if (parameterTypes.length == 1 && parameterTypes[0] == type) {
+				continue;
+			}
+
+			int difference = constructor == null ? 1
+					: parameterTypes.length - constructor.getParameterCount();
+
+			if (difference > 0) {
+				constructor = (Constructor<T>) declaredConstructor;
+				isAmbiguous = false;
+			} else if (difference == 0) {
+				isAmbiguous = true;
+			}
+		}
+
+		if (constructor == null) {
+			throw new IllegalArgumentException("Type <" + type.getName() + "> has no constructor");
+		}
+
+		if (isAmbiguous) {
+			throw new IllegalArgumentException("Type <" + type.getName() + "> has more than one widest constructor");
+		}
+
+		constructor.setAccessible(true);
+
+		this.constructor = constructor;
+		this.blankArgs = blankArgsOf(constructor.getParameterTypes());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void encode(KreedzBinaryEncoder encoder, T value) throws IOException {
+		if (value == null) {
+			encoder.writeVarInt(0);
+
+			return;
+		}
+
+		encoder.writeVarInt(this.version);
+
+		try {
+			for (int i = 0; i < this.fields.length; i++) {
+				this.codecs[i].encode(encoder, this.fields[i].get(value));
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T decode(KreedzBinaryDecoder decoder) throws IOException {
+		int version = decoder.readVarInt();
+
+		if (version == 0) {
+			return null;
+		}
+
+		if (version != this.version) {
+			throw new IOException("Unsupported <" + this.constructor.getDeclaringClass().getName()
+					+ "> schema version <" + version + ">, expected <" + this.version + ">");
+		}
+
+		Object[] values = new Object[this.codecs.length];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = this.codecs[i].decode(decoder);
+		}
+
+		try {
+			T value = this.constructor.newInstance(this.blankArgs);
+
+			for (int i = 0; i < values.length; i++) {
+				this.fields[i].set(value, values[i]);
+			}
+
+			return value;
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			throw new IOException("Failed to initialize <" + this.constructor.getDeclaringClass().getName() + ">", e);
+		}
+	}
+
+	/**
+	 * Collect persistent fields of the provided type, superclass fields included.
+	 *
+	 * @param type		type to collect fields of
+	 * @param fields	set to collect fields to
+	 */
+	private static void collectFields(Class<?> type, Set<Field> fields) {
+		for (; type != null && type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				if (isPersistent(field)) {
+					fields.add(field);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Find a persistent field by its name in the provided type or its superclasses.
+	 *
+	 * @param type	type to find the field in
+	 * @param name	field name
+	 * @return		field or {@code null}
+	 */
+	private static Field findField(Class<?> type, String name) {
+		for (; type != null && type != Object.class; type = type.getSuperclass()) {
+			try {
+				Field field = type.getDeclaredField(name);
+
+				return isPersistent(field) ? field
+						: null;
+			} catch (NoSuchFieldException ignored) {
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Check if the provided field is persistent.
+	 *
+	 * @param field		field to check
+	 * @return			boolean value as a result,
+	 * 					true - yes, false - no
+	 */
+	private static boolean isPersistent(Field field) {
+		int modifiers = field.getModifiers();
+
+		return !Modifier.isStatic(modifiers)
+				&& !Modifier.isTransient(modifiers)
+				&& !field.isSynthetic();
+	}
+
+	/**
+	 * Create blank arguments for the provided parameter types.
+	 *
+	 * @param types		array of parameter types
+	 * @return			array of zero, false or {@code null} values
+	 */
+	private static Object[] blankArgsOf(Class<?>[] types) {
+		Object[] args = new Object[types.length];
+
+		for (int i = 0; i < types.length; i++) {
+			Class<?> type = types[i];
+
+			if (!type.isPrimitive()) {
+				continue;
+			}
+
+			if (type == boolean.class) {
+				args[i] = false;
+			} else if (type == char.class) {
+				args[i] = '\0';
+			} else if (type == byte.class) {
+				args[i] = (byte) 0;
+			} else if (type == short.class) {
+				args[i] = (short) 0;
+			} else if (type == int.class) {
+				args[i] = 0;
+			} else if (type == long.class) {
+				args[i] = 0L;
+			} else if (type == float.class) {
+				args[i] = 0.0F;
+			} else {
+				args[i] = 0.0D;
+			}
+		}
+
+		return args;
+	}
+
+	/**
+	 * Get a codec of the provided field type.
+	 *
+	 * @param type	field type
+	 * @return		field codec
+	 * @throws IllegalArgumentException	if the field type isn't supported
+	 */
+	private static IKreedzBinaryCodec<?> codecOf(Type type) {
+		if (type instanceof Class) {
+			return KreedzBinaryCodecs.codecOf((Class<?>) type);
+		}
+
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+
+			if (parameterizedType.getRawType() == List.class) {
+				return new ListBinaryCodec<>(codecOf(parameterizedType.getActualTypeArguments()[0]));
+			}
+		}
+
+		throw new IllegalArgumentException("Unsupported field type <" + type.getTypeName() + ">");
+	}
+
+	/**
+	 * An entity binary schema.
+	 *
+	 * <p>Lists the persistent entity fields by their names in the encoded order.
+	 * The version must be bumped on any change of the list.
+	 */
+	static final class Schema {
+
+		/**
+		 * A schema version.
+		 */
+		final int version;
+
+		/**
+		 * An array of field names in the encoded order.
+		 */
+		final String[] fieldNames;
+
+		/**
+		 * Initialize a {@link Schema} instance.
+		 *
+		 * @param version		schema version, positive
+		 * @param fieldNames	array of field names in the encoded order
+		 */
+		Schema(int version, String[] fieldNames) {
+			this.version = version;
+			this.fieldNames = fieldNames;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import java.io.IOException;
+
+/**
+ * An enum binary codec.
+ *
+ * <p>Encodes enum instances as their ordinals.
+ *
+ * @param <E>	enum type
+ */
+final class EnumBinaryCodec<E extends Enum<E>> implements IKreedzBinaryCodec<E> {
+
+	/**
+	 * An array of enum instances.
+	 */
+	private final E[] values;
+
+	/**
+	 * Initialize an {@link EnumBinaryCodec} instance.
+	 *
+	 * @param type	enum type
+	 */
+	EnumBinaryCodec(Class<E> type) {
+		this.values = type.getEnumConstants();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void encode(KreedzBinaryEncoder encoder, E value) throws IOException {
+		encoder.writeEnum(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E decode(KreedzBinaryDecoder decoder) throws IOException {
+		return decoder.readEnum(this.values);
+	}
+}
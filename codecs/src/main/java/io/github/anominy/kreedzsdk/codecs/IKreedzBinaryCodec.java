@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import java.io.IOException;
+
+/**
+ * A kreedz binary codec.
+ *
+ * <p>Codecs must be null-safe, i.e. encode {@code null}
+ * values {@literal &} decode them back.
+ *
+ * @param <T>	value type
+ */
+public interface IKreedzBinaryCodec<T> {
+
+	/**
+	 * Encode the provided value.
+	 *
+	 * @param encoder	encoder to write the value to
+	 * @param value		value to encode, may be null
+	 * @throws IOException	if failed to write the value
+	 */
+	void encode(KreedzBinaryEncoder encoder, T value) throws IOException;
+
+	/**
+	 * Decode a value.
+	 *
+	 * @param decoder	decoder to read the value from
+	 * @return			decoded value or {@code null}
+	 * @throws IOException	if failed to read or decode the value
+	 */
+	T decode(KreedzBinaryDecoder decoder) throws IOException;
+}
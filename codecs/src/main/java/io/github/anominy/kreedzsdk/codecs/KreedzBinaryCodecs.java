@@ -0,0 +1,495 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ModeEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerRankEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.RecordCountEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordDistributionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ServerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthConditionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthStatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.entities.inner.Mapper;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.ScrollPattern;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.GokzBanStats;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.KztimerBanStats;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusAffectedComponentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusComponentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusIncidentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusPageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusScheduledIncidentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusUpdateEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusComponentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusScheduledIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import io.github.anominy.kreedzsdk.structs.types.EPluginType;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A kreedz binary codec registry.
+ *
+ * <p>Has built-in codecs for the boxed primitives, strings, dates,
+ * person identifiers {@literal &} entities w/ custom construction,
+ * and built-in schemas of the structs module entities; codecs of enums
+ * and entities w/ a registered schema are created on first use.
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class KreedzBinaryCodecs {
+
+	/**
+	 * An array of {@link EPluginType} instances.
+	 */
+	private static final EPluginType[] PLUGIN_TYPES = EPluginType.values();
+
+	/**
+	 * A table of codecs by their value types.
+	 */
+	private static final Map<Class<?>, IKreedzBinaryCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+	/**
+	 * A table of entity schemas by their entity types.
+	 */
+	private static final Map<Class<?>, EntityBinaryCodec.Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+	static {
+		register(int.class, KreedzBinaryEncoder::writeSignedVarInt, KreedzBinaryDecoder::readSignedVarInt);
+		register(long.class, KreedzBinaryEncoder::writeSignedVarLong, KreedzBinaryDecoder::readSignedVarLong);
+		register(float.class, KreedzBinaryEncoder::writeFloat, KreedzBinaryDecoder::readFloat);
+		register(double.class, KreedzBinaryEncoder::writeDouble, KreedzBinaryDecoder::readDouble);
+		register(boolean.class, KreedzBinaryEncoder::writeBoolean, KreedzBinaryDecoder::readBoolean);
+
+		register(Integer.class, KreedzBinaryEncoder::writeNullableInt, KreedzBinaryDecoder::readNullableInt);
+		register(Long.class, KreedzBinaryEncoder::writeNullableLong, KreedzBinaryDecoder::readNullableLong);
+		register(Float.class, KreedzBinaryEncoder::writeNullableFloat, KreedzBinaryDecoder::readNullableFloat);
+		register(Double.class, KreedzBinaryEncoder::writeNullableDouble, KreedzBinaryDecoder::readNullableDouble);
+		register(Boolean.class, KreedzBinaryEncoder::writeNullableBoolean, KreedzBinaryDecoder::readNullableBoolean);
+		register(String.class, KreedzBinaryEncoder::writeString, KreedzBinaryDecoder::readString);
+		register(DateTime.class, KreedzBinaryEncoder::writeDate, KreedzBinaryDecoder::readDate);
+		register(SteamId.class, KreedzBinaryEncoder::writeSteamId, KreedzBinaryDecoder::readSteamId);
+
+		register(RunTime.class, KreedzBinaryCodecs::encodeRunTime, KreedzBinaryCodecs::decodeRunTime);
+		register(ScrollPattern.class, KreedzBinaryCodecs::encodeScrollPattern, KreedzBinaryCodecs::decodeScrollPattern);
+		register(BanStats.class, KreedzBinaryCodecs::encodeBanStats, KreedzBinaryCodecs::decodeBanStats);
+		register(RecordBatch.class, new RecordBatchBinaryCodec());
+
+		registerEntity(BanEntity.class, 1, "id", "banType", "expireDate", "steamId", "notes",
+				"stats", "serverId", "dataUpdater", "createDate", "updateDate");
+		registerEntity(JumpstatEntity.class, 1, "id", "serverId", "steamId", "playerName", "jumpType",
+				"distance", "tickrate", "mslCount", "strafeCount", "isCrouchBind", "isForwardBind",
+				"isCrouchBoost", "dataUpdater", "createDate", "updateDate");
+		registerEntity(MapEntity.class, 1, "id", "name", "fileSize", "isValidated", "difficulty",
+				"createDate", "updateDate", "workshopUrl", "downloadUrl");
+		registerEntity(ModeEntity.class, 1, "id", "name", "description", "latestVersion",
+				"latestVersionDescription", "websiteDomain", "repositoryUrl", "contactSteamId",
+				"supportedTickrates", "createDate", "updateDate", "dataUpdater");
+		registerEntity(PlayerEntity.class, 1, "steamId", "isBanned", "recordCount", "name");
+		registerEntity(PlayerRankEntity.class, 1, "pointCount", "avgPointCount", "rating", "finishCount", "steamId");
+		registerEntity(RecordCountEntity.class, 1, "recordCount", "steamId", "playerName");
+		registerEntity(RecordDistributionEntity.class, 1, "recordFilterId", "c", "d", "location", "scale",
+				"topScale", "createDate", "updateDate", "dataUpdater");
+		registerEntity(RecordEntity.class, 1, "id", "steamId", "playerName", "serverId", "mapId", "stage",
+				"mode", "tickrate", "time", "teleportCount", "createDate", "updateDate", "dataUpdater",
+				"recordFilterId", "serverName", "mapName", "pointCount", "replayId");
+		registerEntity(RecordFilterEntity.class, 1, "id", "mapId", "stage", "mode", "tickrate", "runType",
+				"createDate", "updateDate", "dataUpdater");
+		registerEntity(ServerEntity.class, 1, "id", "port", "ip", "name", "ownerSteamId");
+
+		registerEntity(DataUpdater.class, 1, "id");
+		registerEntity(Mapper.class, 1, "name", "steamId");
+		registerEntity(JumpInput.class, 1, "preInputCount", "postInputCount", "isPerf");
+
+		registerEntity(MapImageEntity.class, 1, "mapName", "sourceUrl", "jpgHighResolutionUrl",
+				"jpgMediumResolutionUrl", "jpgLowResolutionUrl", "webpHighResolutionUrl",
+				"webpMediumResolutionUrl", "webpLowResolutionUrl");
+		registerEntity(MapInfoEntity.class, 1, "id", "name", "difficulty", "workshopUrl", "mappers");
+
+		registerEntity(HealthConditionEntity.class, 1, "condition", "isSuccessful");
+		registerEntity(HealthStatusEntity.class, 1, "code", "hostName", "duration", "conditions",
+				"isSuccessful", "date");
+		registerEntity(HealthStatusResponseEntity.class, 1, "name", "key", "results");
+
+		registerEntity(StatusAffectedComponentEntity.class, 1, "id", "name", "prevStatus", "currStatus");
+		registerEntity(StatusComponentEntity.class, 1, "id", "name", "status", "createDate", "updateDate",
+				"description", "pageId");
+		registerEntity(StatusEntity.class, 1, "indicator", "description");
+		registerEntity(StatusIncidentEntity.class, 1, "id", "name", "status", "createDate", "updateDate",
+				"monitorDate", "resolveDate", "impact", "shortUrl", "pageId", "updates", "components");
+		registerEntity(StatusPageEntity.class, 1, "id", "name", "url", "updateDate");
+		registerEntity(StatusScheduledIncidentEntity.class, 1, "id", "name", "status", "createDate",
+				"updateDate", "monitorDate", "resolveDate", "impact", "shortUrl", "pageId", "updates",
+				"components", "scheduleForDate", "scheduleUntilDate");
+		registerEntity(StatusUpdateEntity.class, 1, "id", "status", "body", "incidentId", "createDate",
+				"updateDate", "displayDate", "affectedComponents");
+		registerEntity(StatusComponentsResponseEntity.class, 1, "page", "components");
+		registerEntity(StatusIncidentsResponseEntity.class, 1, "page", "incidents");
+		registerEntity(StatusResponseEntity.class, 1, "page", "status");
+		registerEntity(StatusScheduledIncidentsResponseEntity.class, 1, "page", "incidents");
+		registerEntity(StatusSummaryResponseEntity.class, 1, "page", "components", "incidents",
+				"scheduledIncidents", "status");
+	}
+
+	private KreedzBinaryCodecs() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Register a codec for the provided type.
+	 *
+	 * <p>Replaces a previously registered or created codec.
+	 *
+	 * @param type		value type
+	 * @param codec		value codec
+	 * @param <T>		value type
+	 */
+	public static <T> void register(Class<T> type, IKreedzBinaryCodec<T> codec) {
+		if (type == null) {
+			throw new IllegalArgumentException("Type mustn't be <null>");
+		}
+
+		if (codec == null) {
+			throw new IllegalArgumentException("Codec mustn't be <null>");
+		}
+
+		CODECS.put(type, codec);
+	}
+
+	/**
+	 * Register a binary schema for the provided entity type.
+	 *
+	 * <p>Fields are encoded in the listed order {@literal &} decoded back
+	 * by their names, the version is written before each entity and must
+	 * be bumped on any change of the list. Replaces a previously registered
+	 * or created codec of the type.
+	 *
+	 * @param type			entity type
+	 * @param version		schema version, positive
+	 * @param fieldNames	persistent field names in the encoded order
+	 * @param <T>			entity type
+	 */
+	public static <T> void registerEntity(Class<T> type, int version, String... fieldNames) {
+		if (type == null) {
+			throw new IllegalArgumentException("Type mustn't be <null>");
+		}
+
+		if (version <= 0) {
+			throw new IllegalArgumentException("Version must be positive");
+		}
+
+		if (fieldNames == null) {
+			throw new IllegalArgumentException("Field names mustn't be <null>");
+		}
+
+		SCHEMAS.put(type, new EntityBinaryCodec.Schema(version, fieldNames.clone()));
+		CODECS.remove(type);
+	}
+
+	/**
+	 * Get a codec of the provided type.
+	 *
+	 * <p>Creates an enum codec for enum types, or an entity codec
+	 * bound to the registered schema for other types.
+	 *
+	 * @param type	value type
+	 * @param <T>	value type
+	 * @return		value codec
+	 * @throws IllegalArgumentException	if the type isn't supported
+	 * 									or has no registered schema
+	 */
+	public static <T> IKreedzBinaryCodec<T> codecOf(Class<T> type) {
+		if (type == null) {
+			throw new IllegalArgumentException("Type mustn't be <null>");
+		}
+
+		IKreedzBinaryCodec<?> codec = CODECS.get(type);
+
+		if (codec != null) {
+			return (IKreedzBinaryCodec<T>) codec;
+		}
+
+		if (BanStats.class.isAssignableFrom(type)) {
+			codec = CODECS.get(BanStats.class);
+		} else if (type.isEnum()) {
+			codec = new EnumBinaryCodec<>(type.asSubclass(Enum.class));
+		} else {
+			EntityBinaryCodec.Schema schema = SCHEMAS.get(type);
+
+			if (schema == null) {
+				throw new IllegalArgumentException("Type <" + type.getName() + "> has no binary schema");
+			}
+
+			codec = new EntityBinaryCodec<>(type, schema);
+		}
+
+		IKreedzBinaryCodec<?> prevCodec = CODECS.putIfAbsent(type, codec);
+
+		return (IKreedzBinaryCodec<T>) (prevCodec != null ? prevCodec : codec);
+	}
+
+	/**
+	 * Encode the provided value to a byte array.
+	 *
+	 * @param value		value to encode, may be null
+	 * @param type		value type
+	 * @param <T>		value type
+	 * @return			byte array w/ the stream header
+	 */
+	public static <T> byte[] toByteArray(T value, Class<T> type) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (KreedzBinaryEncoder encoder = new KreedzBinaryEncoder(out)) {
+			encoder.encode(value, type);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decode a value from the provided byte array.
+	 *
+	 * @param bytes		byte array w/ the stream header
+	 * @param type		value type
+	 * @param <T>		value type
+	 * @return			decoded value or {@code null}
+	 * @throws IOException	if failed to decode the value
+	 */
+	public static <T> T fromByteArray(byte[] bytes, Class<T> type) throws IOException {
+		if (bytes == null) {
+			throw new IllegalArgumentException("Byte array mustn't be <null>");
+		}
+
+		try (KreedzBinaryDecoder decoder = new KreedzBinaryDecoder(new ByteArrayInputStream(bytes))) {
+			return decoder.decode(type);
+		}
+	}
+
+	/**
+	 * Register a codec for the provided type from its functions.
+	 *
+	 * @param type		value type
+	 * @param encoder	value encode function
+	 * @param decoder	value decode function
+	 * @param <T>		value type
+	 */
+	private static <T> void register(Class<T> type, IEncodeFunction<T> encoder, IDecodeFunction<T> decoder) {
+		register(type, new IKreedzBinaryCodec<T>() {
+
+			@Override
+			public void encode(KreedzBinaryEncoder out, T value) throws IOException {
+				encoder.encode(out, value);
+			}
+
+			@Override
+			public T decode(KreedzBinaryDecoder in) throws IOException {
+				return decoder.decode(in);
+			}
+		});
+	}
+
+	/**
+	 * Encode a run time as a nullable float.
+	 *
+	 * @param encoder	encoder to write the value to
+	 * @param value		run time, may be null
+	 * @throws IOException	if failed to write the value
+	 */
+	private static void encodeRunTime(KreedzBinaryEncoder encoder, RunTime value) throws IOException {
+		encoder.writeNullableFloat(value == null ? null
+				: value.getTime());
+	}
+
+	/**
+	 * Decode a run time from a nullable float.
+	 *
+	 * @param decoder	decoder to read the value from
+	 * @return			run time or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	private static RunTime decodeRunTime(KreedzBinaryDecoder decoder) throws IOException {
+		Float time = decoder.readNullableFloat();
+
+		return time == null ? null
+				: new RunTime(time);
+	}
+
+	/**
+	 * Encode a scroll pattern as packed jump inputs.
+	 *
+	 * <p>A jump input takes a pre-input count w/ the "isPerf"
+	 * bit {@literal &} a post-input count as two signed variable-length
+	 * integers, so negative bind-jump pre-input counts are kept intact.
+	 *
+	 * @param encoder	encoder to write the value to
+	 * @param value		scroll pattern, may be null
+	 * @throws IOException	if failed to write the value
+	 */
+	private static void encodeScrollPattern(KreedzBinaryEncoder encoder, ScrollPattern value) throws IOException {
+		if (value == null) {
+			encoder.writeVarInt(0);
+
+			return;
+		}
+
+		int size = value.getTotalJumpCount();
+
+		encoder.writeVarInt(size + 1);
+
+		for (int i = 0; i < size; i++) {
+			encoder.writeSignedVarLong(((long) value.getPreInputCount(i) << 1) | (value.isPerf(i) ? 1L : 0L));
+			encoder.writeSignedVarInt(value.getPostInputCount(i));
+		}
+	}
+
+	/**
+	 * Decode a scroll pattern from packed jump inputs.
+	 *
+	 * @param decoder	decoder to read the value from
+	 * @return			scroll pattern or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	private static ScrollPattern decodeScrollPattern(KreedzBinaryDecoder decoder) throws IOException {
+		int size = decoder.readVarInt() - 1;
+
+		if (size == -1) {
+			return null;
+		}
+
+		if (size < 0) {
+			throw new IOException("Malformed scroll pattern size <" + size + ">");
+		}
+
+		long[] jumpInputs = new long[Math.min(size, 1 << 10)];
+
+		for (int i = 0; i < size; i++) {
+			long preInput = decoder.readSignedVarLong();
+
+			if (i == jumpInputs.length) {
+				jumpInputs = Arrays.copyOf(jumpInputs, Math.min(size, i << 1));
+			}
+
+			jumpInputs[i] = JumpInput.pack((int) (preInput >> 1), decoder.readSignedVarInt(), (preInput & 1L) != 0L);
+		}
+
+		return new ScrollPattern(jumpInputs);
+	}
+
+	/**
+	 * Encode ban stats as a plugin type {@literal &} raw stats.
+	 *
+	 * @param encoder	encoder to write the value to
+	 * @param value		ban stats, may be null
+	 * @throws IOException	if failed to write the value
+	 */
+	private static void encodeBanStats(KreedzBinaryEncoder encoder, BanStats value) throws IOException {
+		if (value == null) {
+			encoder.writeEnum(null);
+
+			return;
+		}
+
+		encoder.writeEnum(value.getPluginType());
+		encoder.writeString(value.getRawStats());
+	}
+
+	/**
+	 * Decode ban stats from a plugin type {@literal &} raw stats.
+	 *
+	 * @param decoder	decoder to read the value from
+	 * @return			ban stats or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	private static BanStats decodeBanStats(KreedzBinaryDecoder decoder) throws IOException {
+		EPluginType pluginType = decoder.readEnum(PLUGIN_TYPES);
+
+		if (pluginType == null) {
+			return null;
+		}
+
+		String rawStats = decoder.readString();
+
+		switch (pluginType) {
+			case GOKZ:
+				return new GokzBanStats(rawStats);
+			case KZTIMER:
+				return new KztimerBanStats(rawStats);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * A value encode function.
+	 *
+	 * @param <T>	value type
+	 */
+	@FunctionalInterface
+	private interface IEncodeFunction<T> {
+
+		/**
+		 * Encode the provided value.
+		 *
+		 * @param encoder	encoder to write the value to
+		 * @param value		value to encode, may be null
+		 * @throws IOException	if failed to write the value
+		 */
+		void encode(KreedzBinaryEncoder encoder, T value) throws IOException;
+	}
+
+	/**
+	 * A value decode function.
+	 *
+	 * @param <T>	value type
+	 */
+	@FunctionalInterface
+	private interface IDecodeFunction<T> {
+
+		/**
+		 * Decode a value.
+		 *
+		 * @param decoder	decoder to read the value from
+		 * @return			decoded value or {@code null}
+		 * @throws IOException	if failed to read the value
+		 */
+		T decode(KreedzBinaryDecoder decoder) throws IOException;
+	}
+}
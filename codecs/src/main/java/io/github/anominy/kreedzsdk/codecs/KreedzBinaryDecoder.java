@@ -0,0 +1,499 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A kreedz binary stream decoder.
+ *
+ * <p>Reads {@link KreedzBinaryEncoder} streams, dates
+ * are restored in the UTC timezone.
+ *
+ * <p>Isn't thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class KreedzBinaryDecoder implements Closeable {
+
+	/**
+	 * A buffer size in bytes.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * An input stream.
+	 */
+	private final InputStream in;
+
+	/**
+	 * A read buffer.
+	 */
+	private final byte[] buffer;
+
+	/**
+	 * A read buffer position.
+	 */
+	private int position;
+
+	/**
+	 * A read buffer limit.
+	 */
+	private int limit;
+
+	/**
+	 * A list of table strings by their indexes.
+	 */
+	private final List<String> strings;
+
+	/**
+	 * Initialize a {@link KreedzBinaryDecoder} instance.
+	 *
+	 * @param in	input stream to decode from
+	 * @throws IOException	if failed to read or validate the stream header
+	 */
+	public KreedzBinaryDecoder(InputStream in) throws IOException {
+		if (in == null) {
+			throw new IllegalArgumentException("Input stream mustn't be <null>");
+		}
+
+		this.in = in;
+		this.buffer = new byte[BUFFER_SIZE];
+		this.strings = new ArrayList<>();
+
+		if (this.readFixedInt() != KreedzBinaryEncoder.MAGIC) {
+			throw new IOException("Not a kreedz binary stream");
+		}
+
+		int version = this.readVarInt();
+
+		if (version < KreedzBinaryEncoder.VERSION) {
+			throw new IOException("Outdated kreedz binary stream version <" + version + ">, "
+					+ "expected <" + KreedzBinaryEncoder.VERSION + ">, re-encode it");
+		}
+
+		if (version != KreedzBinaryEncoder.VERSION) {
+			throw new IOException("Unsupported kreedz binary stream version <" + version + ">");
+		}
+	}
+
+	/**
+	 * Decode a value w/ a codec of the provided type.
+	 *
+	 * @param type	value type
+	 * @param <T>	value type
+	 * @return		decoded value or {@code null}
+	 * @throws IOException	if failed to read or decode the value
+	 */
+	public <T> T decode(Class<T> type) throws IOException {
+		return KreedzBinaryCodecs.codecOf(type)
+				.decode(this);
+	}
+
+	/**
+	 * Decode a list w/ a codec of the provided element type.
+	 *
+	 * @param type	element type
+	 * @param <T>	element type
+	 * @return		decoded list or {@code null}
+	 * @throws IOException	if failed to read or decode the list
+	 */
+	public <T> List<T> decodeList(Class<T> type) throws IOException {
+		return this.readList(KreedzBinaryCodecs.codecOf(type));
+	}
+
+	/**
+	 * Read a byte.
+	 *
+	 * @return	byte value
+	 * @throws IOException	if failed to read the value
+	 */
+	public byte readByte() throws IOException {
+		if (this.position == this.limit) {
+			this.fill();
+		}
+
+		return this.buffer[this.position++];
+	}
+
+	/**
+	 * Read a boolean value.
+	 *
+	 * @return	boolean value
+	 * @throws IOException	if failed to read the value
+	 */
+	public boolean readBoolean() throws IOException {
+		return this.readByte() != 0;
+	}
+
+	/**
+	 * Read a nullable boolean value.
+	 *
+	 * @return	boolean value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public Boolean readNullableBoolean() throws IOException {
+		byte value = this.readByte();
+
+		return value == 0 ? null
+				: value == 2;
+	}
+
+	/**
+	 * Read an unsigned variable-length integer.
+	 *
+	 * @return	integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public int readVarInt() throws IOException {
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = this.readByte();
+
+			value |= (b & 0x7F) << shift;
+
+			if (b >= 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable-length integer");
+	}
+
+	/**
+	 * Read a zig-zag encoded variable-length integer.
+	 *
+	 * @return	integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public int readSignedVarInt() throws IOException {
+		int value = this.readVarInt();
+
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Read a nullable zig-zag encoded variable-length integer.
+	 *
+	 * @return	integer value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public Integer readNullableInt() throws IOException {
+		long tag = this.readVarLong();
+
+		if (tag == 0L) {
+			return null;
+		}
+
+		int value = (int) (tag - 1L);
+
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Read an unsigned variable-length long integer.
+	 *
+	 * @return	long integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public long readVarLong() throws IOException {
+		long value = 0L;
+
+		for (int shift = 0; shift < 70; shift += 7) {
+			byte b = this.readByte();
+
+			value |= (long) (b & 0x7F) << shift;
+
+			if (b >= 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable-length long integer");
+	}
+
+	/**
+	 * Read a zig-zag encoded variable-length long integer.
+	 *
+	 * @return	long integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public long readSignedVarLong() throws IOException {
+		long value = this.readVarLong();
+
+		return (value >>> 1) ^ -(value & 1L);
+	}
+
+	/**
+	 * Read a nullable zig-zag encoded variable-length long integer.
+	 *
+	 * @return	long integer value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public Long readNullableLong() throws IOException {
+		return this.readBoolean() ? this.readSignedVarLong()
+				: null;
+	}
+
+	/**
+	 * Read a fixed-width little-endian integer.
+	 *
+	 * @return	integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public int readFixedInt() throws IOException {
+		return (this.readByte() & 0xFF)
+				| (this.readByte() & 0xFF) << 8
+				| (this.readByte() & 0xFF) << 16
+				| (this.readByte() & 0xFF) << 24;
+	}
+
+	/**
+	 * Read a fixed-width little-endian long integer.
+	 *
+	 * @return	long integer value
+	 * @throws IOException	if failed to read the value
+	 */
+	public long readFixedLong() throws IOException {
+		return (this.readFixedInt() & 0xFFFFFFFFL)
+				| (long) this.readFixedInt() << 32;
+	}
+
+	/**
+	 * Read a fixed-width float.
+	 *
+	 * @return	float value
+	 * @throws IOException	if failed to read the value
+	 */
+	public float readFloat() throws IOException {
+		return Float.intBitsToFloat(this.readFixedInt());
+	}
+
+	/**
+	 * Read a nullable fixed-width float.
+	 *
+	 * @return	float value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public Float readNullableFloat() throws IOException {
+		return this.readBoolean() ? this.readFloat()
+				: null;
+	}
+
+	/**
+	 * Read a fixed-width double.
+	 *
+	 * @return	double value
+	 * @throws IOException	if failed to read the value
+	 */
+	public double readDouble() throws IOException {
+		return Double.longBitsToDouble(this.readFixedLong());
+	}
+
+	/**
+	 * Read a nullable fixed-width double.
+	 *
+	 * @return	double value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public Double readNullableDouble() throws IOException {
+		return this.readBoolean() ? this.readDouble()
+				: null;
+	}
+
+	/**
+	 * Read a string.
+	 *
+	 * @return	string value or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public String readString() throws IOException {
+		int tag = this.readVarInt();
+
+		if (tag == KreedzBinaryEncoder.STRING_NULL) {
+			return null;
+		}
+
+		if (tag != KreedzBinaryEncoder.STRING_NEW) {
+			int index = tag - KreedzBinaryEncoder.STRING_NEW - 1;
+
+			if (index < 0 || index >= this.strings.size()) {
+				throw new IOException("Unknown string reference <" + index + ">");
+			}
+
+			return this.strings.get(index);
+		}
+
+		int length = this.readVarInt();
+
+		if (length < 0 || length > KreedzBinaryEncoder.MAX_STRING_LENGTH) {
+			throw new IOException("Malformed string length <" + length + ">");
+		}
+
+		byte[] bytes = new byte[length];
+		this.readBytes(bytes);
+
+		String value = new String(bytes, StandardCharsets.UTF_8);
+
+		if (length <= KreedzBinaryEncoder.MAX_TABLE_STRING_LENGTH) {
+			this.strings.add(value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Read a date.
+	 *
+	 * @return	date value in the UTC timezone or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public DateTime readDate() throws IOException {
+		if (!this.readBoolean()) {
+			return null;
+		}
+
+		long value = this.readSignedVarLong();
+
+		long millis = (value & 1L) == 0L ? (value >> 1) * 1000L
+				: value >> 1;
+
+		return new DateTime(millis, DateTimeZone.UTC);
+	}
+
+	/**
+	 * Read a person identifier.
+	 *
+	 * @return	person identifier or {@code null}
+	 * @throws IOException	if failed to read the value
+	 */
+	public SteamId readSteamId() throws IOException {
+		if (!this.readBoolean()) {
+			return null;
+		}
+
+		return SteamId.fromSteam64OrNull(this.readSignedVarLong()
+				+ KreedzBinaryEncoder.STEAM_ID_64_BASE);
+	}
+
+	/**
+	 * Read an enum instance by its ordinal.
+	 *
+	 * @param values	array of enum instances
+	 * @param <E>		enum type
+	 * @return			enum instance or {@code null}
+	 * @throws IOException	if failed to read the value or the ordinal is unknown
+	 */
+	public <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+		int index = this.readVarInt() - 1;
+
+		if (index == -1) {
+			return null;
+		}
+
+		if (index < 0 || index >= values.length) {
+			throw new IOException("Unknown enum ordinal <" + index + ">");
+		}
+
+		return values[index];
+	}
+
+	/**
+	 * Read a list w/ the provided element codec.
+	 *
+	 * @param codec		element codec
+	 * @param <T>		element type
+	 * @return			list of values or {@code null}
+	 * @throws IOException	if failed to read the list
+	 */
+	public <T> List<T> readList(IKreedzBinaryCodec<T> codec) throws IOException {
+		int size = this.readVarInt() - 1;
+
+		if (size == -1) {
+			return null;
+		}
+
+		if (size < 0) {
+			throw new IOException("Malformed list size <" + size + ">");
+		}
+
+		List<T> values = new ArrayList<>(Math.min(size, BUFFER_SIZE));
+
+		for (int i = 0; i < size; i++) {
+			values.add(codec.decode(this));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Read bytes to fill the provided array.
+	 *
+	 * @param bytes		byte array to fill
+	 * @throws IOException	if failed to read the bytes
+	 */
+	public void readBytes(byte[] bytes) throws IOException {
+		int offset = 0;
+
+		while (offset < bytes.length) {
+			if (this.position == this.limit) {
+				this.fill();
+			}
+
+			int length = Math.min(bytes.length - offset, this.limit - this.position);
+
+			System.arraycopy(this.buffer, this.position, bytes, offset, length);
+
+			this.position += length;
+			offset += length;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+
+	/**
+	 * Refill the read buffer from the input stream.
+	 *
+	 * @throws IOException	if failed to read or the stream has ended
+	 */
+	private void fill() throws IOException {
+		int count = this.in.read(this.buffer, 0, BUFFER_SIZE);
+
+		if (count <= 0) {
+			throw new EOFException("Unexpected end of kreedz binary stream");
+		}
+
+		this.position = 0;
+		this.limit = count;
+	}
+}
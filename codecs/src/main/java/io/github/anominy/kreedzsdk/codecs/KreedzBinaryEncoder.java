@@ -0,0 +1,555 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A kreedz binary stream encoder.
+ *
+ * <p>Writes the stream header on initialization, then values
+ * w/ variable-length integers, fixed-width floats, type-64 person
+ * identifiers as offset longs, enum ordinals, epoch dates and
+ * short strings through a table of back-references.
+ *
+ * <p>Isn't thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class KreedzBinaryEncoder implements Closeable, Flushable {
+
+	/**
+	 * A stream magic number.
+	 */
+	public static final int MAGIC = 0x4B5A4243;
+
+	/**
+	 * A stream format version.
+	 *
+	 * <p>Bumped on any layout change, including
+	 * a reorder of the encoded enum constants.
+	 *
+	 * <p>Version 2 encodes scroll pattern inputs
+	 * as signed variable-length integers, version 3
+	 * encodes entities by their explicit schemas.
+	 */
+	public static final int VERSION = 3;
+
+	/**
+	 * A maximum UTF-8 length of a string put to the string table.
+	 */
+	static final int MAX_TABLE_STRING_LENGTH = 64;
+
+	/**
+	 * A maximum UTF-8 length of a string.
+	 *
+	 * <p>Bounds the buffer a decoder allocates for a string,
+	 * so a corrupted length can't exhaust the heap.
+	 */
+	static final int MAX_STRING_LENGTH = 1 << 24;
+
+	/**
+	 * A type-64 person identifier base.
+	 */
+	static final long STEAM_ID_64_BASE = 76561197960265728L;
+
+	/**
+	 * A null string tag.
+	 */
+	static final int STRING_NULL = 0;
+
+	/**
+	 * A new string tag.
+	 *
+	 * <p>Tags above stand for table references.
+	 */
+	static final int STRING_NEW = 1;
+
+	/**
+	 * A buffer size in bytes.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * An output stream.
+	 */
+	private final OutputStream out;
+
+	/**
+	 * A write buffer.
+	 */
+	private final byte[] buffer;
+
+	/**
+	 * A write buffer position.
+	 */
+	private int position;
+
+	/**
+	 * A table of string indexes by their values.
+	 */
+	private final Map<String, Integer> strings;
+
+	/**
+	 * Initialize a {@link KreedzBinaryEncoder} instance.
+	 *
+	 * @param out	output stream to encode to
+	 * @throws IOException	if failed to write the stream header
+	 */
+	public KreedzBinaryEncoder(OutputStream out) throws IOException {
+		if (out == null) {
+			throw new IllegalArgumentException("Output stream mustn't be <null>");
+		}
+
+		this.out = out;
+		this.buffer = new byte[BUFFER_SIZE];
+		this.strings = new HashMap<>();
+
+		this.writeFixedInt(MAGIC);
+		this.writeVarInt(VERSION);
+	}
+
+	/**
+	 * Encode the provided value w/ a codec of the provided type.
+	 *
+	 * @param value		value to encode, may be null
+	 * @param type		value type
+	 * @param <T>		value type
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public <T> KreedzBinaryEncoder encode(T value, Class<T> type) throws IOException {
+		KreedzBinaryCodecs.codecOf(type)
+				.encode(this, value);
+
+		return this;
+	}
+
+	/**
+	 * Encode the provided list w/ a codec of the provided element type.
+	 *
+	 * @param values	list of values to encode, may be null
+	 * @param type		element type
+	 * @param <T>		element type
+	 * @return			this instance
+	 * @throws IOException	if failed to write the list
+	 */
+	public <T> KreedzBinaryEncoder encodeList(List<T> values, Class<T> type) throws IOException {
+		return this.writeList(values, KreedzBinaryCodecs.codecOf(type));
+	}
+
+	/**
+	 * Write a byte.
+	 *
+	 * @param value		byte value in its lower bits
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeByte(int value) throws IOException {
+		if (this.position == BUFFER_SIZE) {
+			this.drain();
+		}
+
+		this.buffer[this.position++] = (byte) value;
+
+		return this;
+	}
+
+	/**
+	 * Write a boolean value as a byte.
+	 *
+	 * @param value		boolean value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeBoolean(boolean value) throws IOException {
+		return this.writeByte(value ? 1 : 0);
+	}
+
+	/**
+	 * Write a nullable boolean value as a byte.
+	 *
+	 * @param value		boolean value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeNullableBoolean(Boolean value) throws IOException {
+		return this.writeByte(value == null ? 0
+				: value ? 2 : 1);
+	}
+
+	/**
+	 * Write an unsigned variable-length integer.
+	 *
+	 * @param value		integer value, treated as unsigned
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeVarInt(int value) throws IOException {
+		if (this.position > BUFFER_SIZE - 5) {
+			this.drain();
+		}
+
+		while ((value & ~0x7F) != 0) {
+			this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		this.buffer[this.position++] = (byte) value;
+
+		return this;
+	}
+
+	/**
+	 * Write a zig-zag encoded variable-length integer.
+	 *
+	 * @param value		integer value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeSignedVarInt(int value) throws IOException {
+		return this.writeVarInt((value << 1) ^ (value >> 31));
+	}
+
+	/**
+	 * Write a nullable zig-zag encoded variable-length integer.
+	 *
+	 * @param value		integer value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeNullableInt(Integer value) throws IOException {
+		if (value == null) {
+			return this.writeVarLong(0L);
+		}
+
+		int zigZag = (value << 1) ^ (value >> 31);
+
+		return this.writeVarLong((zigZag & 0xFFFFFFFFL) + 1L);
+	}
+
+	/**
+	 * Write an unsigned variable-length long integer.
+	 *
+	 * @param value		long integer value, treated as unsigned
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeVarLong(long value) throws IOException {
+		if (this.position > BUFFER_SIZE - 10) {
+			this.drain();
+		}
+
+		while ((value & ~0x7FL) != 0L) {
+			this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		this.buffer[this.position++] = (byte) value;
+
+		return this;
+	}
+
+	/**
+	 * Write a zig-zag encoded variable-length long integer.
+	 *
+	 * @param value		long integer value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeSignedVarLong(long value) throws IOException {
+		return this.writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Write a nullable zig-zag encoded variable-length long integer.
+	 *
+	 * @param value		long integer value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeNullableLong(Long value) throws IOException {
+		this.writeBoolean(value != null);
+
+		return value == null ? this
+				: this.writeSignedVarLong(value);
+	}
+
+	/**
+	 * Write a fixed-width little-endian integer.
+	 *
+	 * @param value		integer value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeFixedInt(int value) throws IOException {
+		if (this.position > BUFFER_SIZE - 4) {
+			this.drain();
+		}
+
+		this.buffer[this.position++] = (byte) value;
+		this.buffer[this.position++] = (byte) (value >>> 8);
+		this.buffer[this.position++] = (byte) (value >>> 16);
+		this.buffer[this.position++] = (byte) (value >>> 24);
+
+		return this;
+	}
+
+	/**
+	 * Write a fixed-width little-endian long integer.
+	 *
+	 * @param value		long integer value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeFixedLong(long value) throws IOException {
+		this.writeFixedInt((int) value);
+
+		return this.writeFixedInt((int) (value >>> 32));
+	}
+
+	/**
+	 * Write a fixed-width float.
+	 *
+	 * @param value		float value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeFloat(float value) throws IOException {
+		return this.writeFixedInt(Float.floatToRawIntBits(value));
+	}
+
+	/**
+	 * Write a nullable fixed-width float.
+	 *
+	 * @param value		float value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeNullableFloat(Float value) throws IOException {
+		this.writeBoolean(value != null);
+
+		return value == null ? this
+				: this.writeFloat(value);
+	}
+
+	/**
+	 * Write a fixed-width double.
+	 *
+	 * @param value		double value
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeDouble(double value) throws IOException {
+		return this.writeFixedLong(Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Write a nullable fixed-width double.
+	 *
+	 * @param value		double value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeNullableDouble(Double value) throws IOException {
+		this.writeBoolean(value != null);
+
+		return value == null ? this
+				: this.writeDouble(value);
+	}
+
+	/**
+	 * Write a string.
+	 *
+	 * <p>Strings up to {@link #MAX_TABLE_STRING_LENGTH} UTF-8 bytes
+	 * are put to the string table, so their repeats are written
+	 * as back-references.
+	 *
+	 * @param value		string value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value or it's
+	 * 						longer than {@link #MAX_STRING_LENGTH} UTF-8 bytes
+	 */
+	public KreedzBinaryEncoder writeString(String value) throws IOException {
+		if (value == null) {
+			return this.writeVarInt(STRING_NULL);
+		}
+
+		Integer index = this.strings.get(value);
+
+		if (index != null) {
+			return this.writeVarInt(STRING_NEW + 1 + index);
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+		if (bytes.length > MAX_STRING_LENGTH) {
+			throw new IOException("String length <" + bytes.length + "> exceeds <" + MAX_STRING_LENGTH + ">");
+		}
+
+		if (bytes.length <= MAX_TABLE_STRING_LENGTH) {
+			this.strings.put(value, this.strings.size());
+		}
+
+		this.writeVarInt(STRING_NEW);
+		this.writeVarInt(bytes.length);
+
+		return this.writeBytes(bytes);
+	}
+
+	/**
+	 * Write a date as epoch seconds.
+	 *
+	 * <p>Falls back to epoch milliseconds if the date
+	 * has a millisecond part, the lowest bit tells which.
+	 *
+	 * @param value		date value, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeDate(DateTime value) throws IOException {
+		this.writeBoolean(value != null);
+
+		if (value == null) {
+			return this;
+		}
+
+		long millis = value.getMillis();
+
+		return (millis % 1000L) == 0L ? this.writeSignedVarLong((millis / 1000L) << 1)
+				: this.writeSignedVarLong((millis << 1) | 1L);
+	}
+
+	/**
+	 * Write a person identifier as an offset type-64 identifier.
+	 *
+	 * @param value		person identifier, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeSteamId(SteamId value) throws IOException {
+		Long steamId64 = SteamId.toSteam64OrNull(value);
+
+		this.writeBoolean(steamId64 != null);
+
+		return steamId64 == null ? this
+				: this.writeSignedVarLong(steamId64 - STEAM_ID_64_BASE);
+	}
+
+	/**
+	 * Write an enum instance as its ordinal.
+	 *
+	 * @param value		enum instance, may be null
+	 * @return			this instance
+	 * @throws IOException	if failed to write the value
+	 */
+	public KreedzBinaryEncoder writeEnum(Enum<?> value) throws IOException {
+		return this.writeVarInt(value == null ? 0
+				: value.ordinal() + 1);
+	}
+
+	/**
+	 * Write a list w/ the provided element codec.
+	 *
+	 * @param values	list of values, may be null
+	 * @param codec		element codec
+	 * @param <T>		element type
+	 * @return			this instance
+	 * @throws IOException	if failed to write the list
+	 */
+	public <T> KreedzBinaryEncoder writeList(List<T> values, IKreedzBinaryCodec<T> codec) throws IOException {
+		if (values == null) {
+			return this.writeVarInt(0);
+		}
+
+		this.writeVarInt(values.size() + 1);
+
+		for (T value : values) {
+			codec.encode(this, value);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Write a byte array as is.
+	 *
+	 * @param bytes		byte array
+	 * @return			this instance
+	 * @throws IOException	if failed to write the bytes
+	 */
+	public KreedzBinaryEncoder writeBytes(byte[] bytes) throws IOException {
+		if (bytes.length > BUFFER_SIZE - this.position) {
+			this.drain();
+
+			if (bytes.length > BUFFER_SIZE) {
+				this.out.write(bytes);
+
+				return this;
+			}
+		}
+
+		System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+		this.position += bytes.length;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.drain();
+		this.out.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			this.drain();
+		} finally {
+			this.out.close();
+		}
+	}
+
+	/**
+	 * Write the buffered bytes to the output stream.
+	 *
+	 * @throws IOException	if failed to write the bytes
+	 */
+	private void drain() throws IOException {
+		if (this.position == 0) {
+			return;
+		}
+
+		this.out.write(this.buffer, 0, this.position);
+		this.position = 0;
+	}
+}
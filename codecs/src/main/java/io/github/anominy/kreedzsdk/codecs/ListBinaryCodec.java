@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A list binary codec.
+ *
+ * @param <T>	element type
+ */
+final class ListBinaryCodec<T> implements IKreedzBinaryCodec<List<T>> {
+
+	/**
+	 * An element codec.
+	 */
+	private final IKreedzBinaryCodec<T> codec;
+
+	/**
+	 * Initialize a {@link ListBinaryCodec} instance.
+	 *
+	 * @param codec		element codec
+	 */
+	ListBinaryCodec(IKreedzBinaryCodec<T> codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void encode(KreedzBinaryEncoder encoder, List<T> value) throws IOException {
+		encoder.writeList(value, this.codec);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<T> decode(KreedzBinaryDecoder decoder) throws IOException {
+		return decoder.readList(this.codec);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+
+import java.io.IOException;
+
+/**
+ * A {@link RecordBatch} binary codec.
+ *
+ * <p>Encodes rows one by one, identifiers {@literal &} dates
+ * as deltas from the previous row, so sorted batches
+ * take a byte or two per such a field.
+ */
+final class RecordBatchBinaryCodec implements IKreedzBinaryCodec<RecordBatch> {
+
+	/**
+	 * A maximum initial row capacity of a decoded batch.
+	 *
+	 * <p>Keeps a corrupted size from allocating up front.
+	 */
+	private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+	/**
+	 * An array of {@link EMode} instances.
+	 */
+	private static final EMode[] MODES = EMode.values();
+
+	/**
+	 * An array of {@link ETickrate} instances.
+	 */
+	private static final ETickrate[] TICKRATES = ETickrate.values();
+
+	/**
+	 * Initialize a {@link RecordBatchBinaryCodec} instance.
+	 */
+	RecordBatchBinaryCodec() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void encode(KreedzBinaryEncoder encoder, RecordBatch value) throws IOException {
+		if (value == null) {
+			encoder.writeVarInt(0);
+
+			return;
+		}
+
+		int size = value.size();
+
+		encoder.writeVarInt(size + 1);
+
+		int prevId = 0;
+		long prevCreateDate = 0L;
+		long prevUpdateDate = 0L;
+
+		for (int i = 0; i < size; i++) {
+			int id = value.getId(i);
+			long createDate = value.getCreateDateSeconds(i);
+			long updateDate = value.getUpdateDateSeconds(i);
+
+			encoder.writeSignedVarInt(id - prevId);
+			encoder.writeSignedVarLong(value.getSteamId64(i) - KreedzBinaryEncoder.STEAM_ID_64_BASE);
+			encoder.writeString(value.getPlayerName(i));
+			encoder.writeSignedVarInt(value.getServerId(i));
+			encoder.writeSignedVarInt(value.getMapId(i));
+			encoder.writeSignedVarInt(value.getStage(i));
+			encoder.writeEnum(value.getMode(i));
+			encoder.writeEnum(value.getTickrate(i));
+			encoder.writeFloat(value.getTimeSeconds(i));
+			encoder.writeSignedVarInt(value.getTeleportCount(i));
+			encoder.writeSignedVarLong(createDate - prevCreateDate);
+			encoder.writeSignedVarLong(updateDate - prevUpdateDate);
+			encoder.writeSignedVarInt(value.getRecordFilterId(i));
+			encoder.writeString(value.getMapName(i));
+			encoder.writeSignedVarInt(value.getPointCount(i));
+			encoder.writeSignedVarInt(value.getReplayId(i));
+
+			prevId = id;
+			prevCreateDate = createDate;
+			prevUpdateDate = updateDate;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RecordBatch decode(KreedzBinaryDecoder decoder) throws IOException {
+		int size = decoder.readVarInt() - 1;
+
+		if (size == -1) {
+			return null;
+		}
+
+		if (size < 0) {
+			throw new IOException("Malformed record batch size <" + size + ">");
+		}
+
+		RecordBatch.Builder builder = new RecordBatch.Builder(Math.min(size, MAX_INITIAL_CAPACITY));
+
+		int id = 0;
+		long createDate = 0L;
+		long updateDate = 0L;
+
+		for (int i = 0; i < size; i++) {
+			id += decoder.readSignedVarInt();
+
+			builder.addRow()
+					.setId(id)
+					.setSteamId64(decoder.readSignedVarLong() + KreedzBinaryEncoder.STEAM_ID_64_BASE)
+					.setPlayerName(decoder.readString())
+					.setServerId(decoder.readSignedVarInt())
+					.setMapId(decoder.readSignedVarInt())
+					.setStage(decoder.readSignedVarInt())
+					.setMode(decoder.readEnum(MODES))
+					.setTickrate(decoder.readEnum(TICKRATES))
+					.setTime(decoder.readFloat())
+					.setTeleportCount(decoder.readSignedVarInt());
+
+			createDate += decoder.readSignedVarLong();
+			updateDate += decoder.readSignedVarLong();
+
+			builder.setCreateDate(createDate)
+					.setUpdateDate(updateDate)
+					.setRecordFilterId(decoder.readSignedVarInt())
+					.setMapName(decoder.readString())
+					.setPointCount(decoder.readSignedVarInt())
+					.setReplayId(decoder.readSignedVarInt());
+		}
+
+		return builder.build();
+	}
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.codecs;
+
+import io.github.anominy.kreedzsdk.structs.entities.BanEntity;
+import io.github.anominy.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.anominy.kreedzsdk.structs.entities.MapEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ModeEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.PlayerRankEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordCountEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordDistributionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.entities.RecordFilterEntity;
+import io.github.anominy.kreedzsdk.structs.entities.ServerEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthConditionEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.HealthStatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.entities.inner.Mapper;
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.GokzBanStats;
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats.KztimerBanStats;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapInfoEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusAffectedComponentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusComponentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusIncidentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusPageEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusScheduledIncidentEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.StatusUpdateEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusComponentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusScheduledIncidentsResponseEntity;
+import io.github.anominy.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import io.github.anominy.kreedzsdk.structs.types.EApprovalStatus;
+import io.github.anominy.kreedzsdk.structs.types.EBanType;
+import io.github.anominy.kreedzsdk.structs.types.EDifficulty;
+import io.github.anominy.kreedzsdk.structs.types.EJumpType;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.EPluginType;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.types.EVersion;
+import io.github.anominy.kreedzsdk.structs.types.health.EHealthEndpoint;
+import io.github.anominy.kreedzsdk.structs.types.mapimage.EMapImageFormat;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatus;
+import io.github.anominy.kreedzsdk.structs.types.status.EStatusIndicator;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class KreedzBinaryCodecsTest {
+
+	private static final Class<?>[] ENTITY_TYPES = {
+			BanEntity.class,
+			JumpstatEntity.class,
+			MapEntity.class,
+			ModeEntity.class,
+			PlayerEntity.class,
+			PlayerRankEntity.class,
+			RecordCountEntity.class,
+			RecordDistributionEntity.class,
+			RecordEntity.class,
+			RecordFilterEntity.class,
+			ServerEntity.class,
+			DataUpdater.class,
+			Mapper.class,
+			JumpInput.class,
+			MapImageEntity.class,
+			MapInfoEntity.class,
+			HealthConditionEntity.class,
+			HealthStatusEntity.class,
+			HealthStatusResponseEntity.class,
+			StatusAffectedComponentEntity.class,
+			StatusComponentEntity.class,
+			StatusEntity.class,
+			StatusIncidentEntity.class,
+			StatusPageEntity.class,
+			StatusScheduledIncidentEntity.class,
+			StatusUpdateEntity.class,
+			StatusComponentsResponseEntity.class,
+			StatusIncidentsResponseEntity.class,
+			StatusResponseEntity.class,
+			StatusScheduledIncidentsResponseEntity.class,
+			StatusSummaryResponseEntity.class
+	};
+
+	private static final Class<?>[] ENUM_TYPES = {
+			EApprovalStatus.class,
+			EBanType.class,
+			EDifficulty.class,
+			EJumpType.class,
+			EMode.class,
+			EPluginType.class,
+			ERunType.class,
+			ETickrate.class,
+			EVersion.class,
+			EHealthEndpoint.class,
+			EMapImageFormat.class,
+			EStatus.class,
+			EStatusIndicator.class
+	};
+
+	private static final String GOKZ_RAW_STATS = "Perfs: 25/30, Average: 3.19, "
+			+ "Scroll pattern: (1*3)(0*4)(4*0)(1 0)(3*0)(4*3)";
+
+	private static final String KZTIMER_RAW_STATS = "Perfs: 8/10, "
+			+ "Scroll pattern: 11 9 11 12 9 10 8 11 10 9, Tickrate: 128";
+
+	@Test
+	void roundTripsEveryEntity() throws IOException {
+		for (Class<?> type : ENTITY_TYPES) {
+			for (int seed = 1; seed <= 2; seed++) {
+				assertRoundTrip(type, new Sampler(seed).sampleOf(type));
+			}
+
+			assertRoundTrip(type, null);
+		}
+	}
+
+	@Test
+	void roundTripsEveryEnum() throws IOException {
+		for (Class<?> type : ENUM_TYPES) {
+			for (Object constant : type.getEnumConstants()) {
+				assertRoundTrip(type, constant);
+			}
+
+			assertRoundTrip(type, null);
+		}
+	}
+
+	@Test
+	void roundTripsBanStatsOfEveryPlugin() throws IOException {
+		assertRoundTrip(BanStats.class, new GokzBanStats(GOKZ_RAW_STATS));
+		assertRoundTrip(BanStats.class, new KztimerBanStats(KZTIMER_RAW_STATS));
+	}
+
+	@Test
+	void bindsFieldsByName() throws IOException {
+		KreedzBinaryCodecs.registerEntity(SwappedPair.class, 1, "first", "second");
+
+		SwappedPair pair = KreedzBinaryCodecs.fromByteArray(
+				KreedzBinaryCodecs.toByteArray(new SwappedPair("b", "a"), SwappedPair.class),
+				SwappedPair.class);
+
+		assertEquals("a", pair.first);
+		assertEquals("b", pair.second);
+	}
+
+	@Test
+	void skipsCopyConstructor() throws IOException {
+		KreedzBinaryCodecs.registerEntity(CopyablePair.class, 1, "first");
+
+		CopyablePair pair = KreedzBinaryCodecs.fromByteArray(
+				KreedzBinaryCodecs.toByteArray(new CopyablePair("a"), CopyablePair.class),
+				CopyablePair.class);
+
+		assertEquals("a", pair.first);
+	}
+
+	@Test
+	void rejectsAmbiguousConstructors() {
+		KreedzBinaryCodecs.registerEntity(AmbiguousPair.class, 1, "first");
+
+		assertThrows(IllegalArgumentException.class, () -> KreedzBinaryCodecs.codecOf(AmbiguousPair.class));
+	}
+
+	@Test
+	void rejectsOversizedStringLength() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (KreedzBinaryEncoder encoder = new KreedzBinaryEncoder(out)) {
+			encoder.writeVarInt(KreedzBinaryEncoder.STRING_NEW);
+			encoder.writeVarInt(Integer.MAX_VALUE);
+		}
+
+		try (KreedzBinaryDecoder decoder = new KreedzBinaryDecoder(new ByteArrayInputStream(out.toByteArray()))) {
+			assertThrows(IOException.class, decoder::readString);
+		}
+	}
+
+	@Test
+	void rejectsIncompleteSchema() {
+		KreedzBinaryCodecs.registerEntity(IncompletePair.class, 1, "first");
+
+		assertThrows(IllegalArgumentException.class, () -> KreedzBinaryCodecs.codecOf(IncompletePair.class));
+	}
+
+	@Test
+	void rejectsUnknownField() {
+		KreedzBinaryCodecs.registerEntity(MisspelledPair.class, 1, "first", "secnod");
+
+		assertThrows(IllegalArgumentException.class, () -> KreedzBinaryCodecs.codecOf(MisspelledPair.class));
+	}
+
+	@Test
+	void rejectsEntityWithoutSchema() {
+		assertThrows(IllegalArgumentException.class, () -> KreedzBinaryCodecs.codecOf(UnregisteredPair.class));
+	}
+
+	@Test
+	void rejectsOtherSchemaVersion() {
+		KreedzBinaryCodecs.registerEntity(VersionedPair.class, 1, "first", "second");
+
+		byte[] bytes = KreedzBinaryCodecs.toByteArray(new VersionedPair("a", "b"), VersionedPair.class);
+
+		KreedzBinaryCodecs.registerEntity(VersionedPair.class, 2, "second", "first");
+
+		assertThrows(IOException.class, () -> KreedzBinaryCodecs.fromByteArray(bytes, VersionedPair.class));
+	}
+
+	@Test
+	void rejectsOutdatedStream() {
+		byte[] bytes = KreedzBinaryCodecs.toByteArray(EMode.KZT, EMode.class);
+
+		assertEquals(KreedzBinaryEncoder.VERSION, bytes[4]);
+
+		bytes[4] = 1;
+
+		assertThrows(IOException.class, () -> KreedzBinaryCodecs.fromByteArray(bytes, EMode.class));
+	}
+
+	private static <T> void assertRoundTrip(Class<T> type, Object value) throws IOException {
+		T expected = type.cast(value);
+		T actual = KreedzBinaryCodecs.fromByteArray(KreedzBinaryCodecs.toByteArray(expected, type), type);
+
+		if (expected == null) {
+			assertNull(actual, type.getSimpleName());
+
+			return;
+		}
+
+		assertEquals(expected, actual, type.getSimpleName());
+
+		if (type.isEnum()) {
+			return;
+		}
+
+		for (Field field : persistentFieldsOf(type)) {
+			try {
+				assertTrue(Objects.deepEquals(field.get(expected), field.get(actual)),
+						type.getSimpleName() + "." + field.getName());
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static List<Field> persistentFieldsOf(Class<?> type) {
+		List<Field> fields = new ArrayList<>();
+
+		for (; type != null && type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+					continue;
+				}
+
+				field.setAccessible(true);
+				fields.add(field);
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Fills every persistent field w/ a distinct non-blank value.
+	 */
+	private static final class Sampler {
+
+		private int next;
+
+		private Sampler(int seed) {
+			this.next = seed * 1000;
+		}
+
+		private Object sampleOf(Type type) {
+			int next = ++this.next;
+
+			if (type instanceof ParameterizedType) {
+				ParameterizedType parameterizedType = (ParameterizedType) type;
+
+				if (parameterizedType.getRawType() != List.class) {
+					throw new IllegalArgumentException("Unsupported field type <" + type.getTypeName() + ">");
+				}
+
+				List<Object> values = new ArrayList<>();
+
+				values.add(this.sampleOf(parameterizedType.getActualTypeArguments()[0]));
+				values.add(this.sampleOf(parameterizedType.getActualTypeArguments()[0]));
+
+				return values;
+			}
+
+			Class<?> clazz = (Class<?>) type;
+
+			if (clazz == int.class || clazz == Integer.class) {
+				return next;
+			}
+
+			if (clazz == long.class || clazz == Long.class) {
+				return (long) next << 20;
+			}
+
+			if (clazz == float.class || clazz == Float.class) {
+				return next + 0.5F;
+			}
+
+			if (clazz == double.class || clazz == Double.class) {
+				return next + 0.25D;
+			}
+
+			if (clazz == boolean.class || clazz == Boolean.class) {
+				return (next & 1) == 0;
+			}
+
+			if (clazz == String.class) {
+				return "s" + next;
+			}
+
+			if (clazz == DateTime.class) {
+				return new DateTime(1_600_000_000_000L + next * 1_001L, DateTimeZone.UTC);
+			}
+
+			if (clazz == SteamId.class) {
+				return SteamId.fromSteam64OrNull(76561197960265728L + next);
+			}
+
+			if (clazz == RunTime.class) {
+				return new RunTime(next + 0.5F);
+			}
+
+			if (clazz == BanStats.class) {
+				return (next & 1) == 0 ? new GokzBanStats(GOKZ_RAW_STATS)
+						: new KztimerBanStats(KZTIMER_RAW_STATS);
+			}
+
+			if (clazz.isEnum()) {
+				Object[] constants = clazz.getEnumConstants();
+
+				return constants[next % constants.length];
+			}
+
+			return this.sampleEntityOf(clazz);
+		}
+
+		private Object sampleEntityOf(Class<?> type) {
+			try {
+				Object entity = newBlankInstance(type);
+
+				for (Field field : persistentFieldsOf(type)) {
+					field.set(entity, this.sampleOf(field.getGenericType()));
+				}
+
+				return entity;
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static Object newBlankInstance(Class<?> type) throws ReflectiveOperationException {
+			Constructor<?> constructor = null;
+
+			for (Constructor<?> declaredConstructor : type.getDeclaredConstructors()) {
+				if (constructor == null || declaredConstructor.getParameterCount() > constructor.getParameterCount()) {
+					constructor = declaredConstructor;
+				}
+			}
+
+			if (constructor == null) {
+				throw new IllegalStateException("No constructor found for <" + type.getName() + ">");
+			}
+
+			Class<?>[] parameterTypes = constructor.getParameterTypes();
+			Object[] args = new Object[parameterTypes.length];
+
+			for (int i = 0; i < args.length; i++) {
+				if (parameterTypes[i] == boolean.class) {
+					args[i] = false;
+				} else if (parameterTypes[i] == int.class) {
+					args[i] = 0;
+				} else if (parameterTypes[i] == long.class) {
+					args[i] = 0L;
+				} else if (parameterTypes[i] == float.class) {
+					args[i] = 0.0F;
+				} else if (parameterTypes[i] == double.class) {
+					args[i] = 0.0D;
+				}
+			}
+
+			constructor.setAccessible(true);
+
+			return constructor.newInstance(args);
+		}
+	}
+
+	private static final class SwappedPair {
+
+		private final String first;
+		private final String second;
+
+		private SwappedPair(String second, String first) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	private static final class CopyablePair {
+
+		private final String first;
+
+		private CopyablePair(String first) {
+			this.first = first;
+		}
+
+		private CopyablePair(CopyablePair that) {
+			this(that.first);
+		}
+	}
+
+	private static final class AmbiguousPair {
+
+		private final String first;
+
+		private AmbiguousPair(String first) {
+			this.first = first;
+		}
+
+		private AmbiguousPair(Integer first) {
+			this(String.valueOf(first));
+		}
+	}
+
+	private static final class IncompletePair {
+
+		private final String first;
+		private final String second;
+
+		private IncompletePair(String first, String second) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	private static final class MisspelledPair {
+
+		private final String first;
+		private final String second;
+
+		private MisspelledPair(String first, String second) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	private static final class UnregisteredPair {
+
+		private final String first;
+
+		private UnregisteredPair(String first) {
+			this.first = first;
+		}
+	}
+
+	private static final class VersionedPair {
+
+		private final String first;
+		private final String second;
+
+		private VersionedPair(String first, String second) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+}
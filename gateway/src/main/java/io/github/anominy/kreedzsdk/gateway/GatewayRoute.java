@@ -0,0 +1,218 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.gateway;
+
+import io.github.anominy.kreedzsdk.clientapi.annotations.MethodVersion;
+import io.github.anominy.kreedzsdk.clientapi.annotations.ServiceBaseUrl;
+import io.github.anominy.kreedzsdk.structs.types.EVersion;
+import retrofit2.http.GET;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A gateway route mirroring a GET method of a service interface.
+ *
+ * <p>A Global API route is served at its upstream path, a route of
+ * a service w/ its own base URL is served at its upstream host {@literal &} path,
+ * e.g. /status.global-api.com/api/v2/summary.json.
+ */
+final class GatewayRoute {
+
+	/**
+	 * A path parameter pattern.
+	 */
+	private static final Pattern PATH_PARAMETER_PATTERN = Pattern.compile("\\{[^}/]+}");
+
+	/**
+	 * A path parameter regular expression.
+	 */
+	private static final String PATH_PARAMETER_REGEX = "[^/]+";
+
+	/**
+	 * A local path prefix.
+	 */
+	private final String localPrefix;
+
+	/**
+	 * An upstream URL prefix.
+	 */
+	private final String upstreamPrefix;
+
+	/**
+	 * An endpoint pattern matching a local path w/o its prefix.
+	 */
+	private final Pattern endpointPattern;
+
+	/**
+	 * A path parameter count.
+	 */
+	private final int parameterCount;
+
+	/**
+	 * A time to live of cached responses in milliseconds.
+	 */
+	private final long ttlMillis;
+
+	/**
+	 * Initialize a {@link GatewayRoute} instance.
+	 *
+	 * @param localPrefix		local path prefix
+	 * @param upstreamPrefix	upstream URL prefix
+	 * @param endpoint			normalized endpoint template
+	 * @param ttlMillis			time to live of cached responses in milliseconds
+	 */
+	private GatewayRoute(String localPrefix, String upstreamPrefix, String endpoint, long ttlMillis) {
+		StringBuilder regex = new StringBuilder();
+		Matcher m = PATH_PARAMETER_PATTERN.matcher(endpoint);
+
+		int parameterCount = 0;
+		int end = 0;
+
+		while (m.find()) {
+			regex.append(Pattern.quote(endpoint.substring(end, m.start())))
+					.append(PATH_PARAMETER_REGEX);
+
+			end = m.end();
+			parameterCount++;
+		}
+
+		regex.append(Pattern.quote(endpoint.substring(end)))
+				.append("/?");
+
+		this.localPrefix = localPrefix;
+		this.upstreamPrefix = upstreamPrefix;
+		this.endpointPattern = Pattern.compile(regex.toString());
+		this.parameterCount = parameterCount;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * Create routes of all GET methods of a service interface.
+	 *
+	 * <p>Skips methods the client API version doesn't support.
+	 *
+	 * @param serviceClass	service interface class
+	 * @param baseUrl		Global API base URL of the client
+	 * @param version		API version of the client
+	 * @param ttl			time to live of cached responses
+	 * @return				list of routes
+	 */
+	static List<GatewayRoute> of(Class<?> serviceClass, String baseUrl, EVersion version, Duration ttl) {
+		ServiceBaseUrl baseUrlAnnotation = serviceClass.getAnnotation(ServiceBaseUrl.class);
+
+		String localPrefix;
+		String upstreamPrefix;
+
+		if (baseUrlAnnotation == null) {
+			localPrefix = URI.create(baseUrl).getPath();
+			upstreamPrefix = baseUrl;
+		} else {
+			String serviceBaseUrl = baseUrlAnnotation.value()
+					.trim()
+					.replaceFirst("^(https?)://", "")
+					.replaceAll("/+", "/")
+					.replaceAll("/$", "");
+
+			localPrefix = "/" + serviceBaseUrl + "/";
+			upstreamPrefix = "https://" + serviceBaseUrl + "/";
+		}
+
+		List<GatewayRoute> routes = new ArrayList<>();
+
+		for (Method method : serviceClass.getMethods()) {
+			GET annotation = method.getAnnotation(GET.class);
+
+			if (annotation == null || !isSupported(method, version)) {
+				continue;
+			}
+
+			String endpoint = annotation.value()
+					.trim()
+					.replaceAll("/+", "/")
+					.replaceAll("^/|/$", "");
+
+			routes.add(new GatewayRoute(localPrefix, upstreamPrefix, endpoint, ttl.toMillis()));
+		}
+
+		return routes;
+	}
+
+	/**
+	 * Get an upstream URL of a local path.
+	 *
+	 * @param localPath		local path w/o a query
+	 * @return				upstream URL w/o a query or {@code null}
+	 * 						if the path doesn't match this route
+	 */
+	String toUpstreamUrlOrNull(String localPath) {
+		if (!localPath.startsWith(this.localPrefix)) {
+			return null;
+		}
+
+		String endpoint = localPath.substring(this.localPrefix.length());
+
+		return this.endpointPattern.matcher(endpoint).matches() ? this.upstreamPrefix + endpoint
+				: null;
+	}
+
+	/**
+	 * Get this path parameter count.
+	 *
+	 * @return	path parameter count
+	 */
+	int getParameterCount() {
+		return this.parameterCount;
+	}
+
+	/**
+	 * Get this time to live of cached responses in milliseconds.
+	 *
+	 * @return	time to live in milliseconds
+	 */
+	long getTtlMillis() {
+		return this.ttlMillis;
+	}
+
+	/**
+	 * Check if the client API version supports a method.
+	 *
+	 * <p>Mirrors {@link io.github.anominy.kreedzsdk.clientapi.interceptors.MethodVersionInterceptor}.
+	 *
+	 * @param method	service method
+	 * @param version	API version of the client
+	 * @return			boolean value as a result,
+	 * 					true - yes, false - no
+	 */
+	private static boolean isSupported(Method method, EVersion version) {
+		MethodVersion annotation = method.getAnnotation(MethodVersion.class);
+
+		if (annotation == null) {
+			return true;
+		}
+
+		int compareResult = EVersion.compare(version, annotation.value());
+
+		return !(annotation.explicit() && compareResult != 0 || compareResult < 0);
+	}
+}
@@ -0,0 +1,540 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.gateway;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.clientapi.IBanService;
+import io.github.anominy.kreedzsdk.clientapi.IHealthService;
+import io.github.anominy.kreedzsdk.clientapi.IJumpstatService;
+import io.github.anominy.kreedzsdk.clientapi.IMapImageService;
+import io.github.anominy.kreedzsdk.clientapi.IMapInfoService;
+import io.github.anominy.kreedzsdk.clientapi.IMapService;
+import io.github.anominy.kreedzsdk.clientapi.IModeService;
+import io.github.anominy.kreedzsdk.clientapi.IPlayerRankService;
+import io.github.anominy.kreedzsdk.clientapi.IPlayerService;
+import io.github.anominy.kreedzsdk.clientapi.IRecordFilterService;
+import io.github.anominy.kreedzsdk.clientapi.IRecordService;
+import io.github.anominy.kreedzsdk.clientapi.IServerService;
+import io.github.anominy.kreedzsdk.clientapi.IStatusService;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An embedded HTTP gateway re-exposing the Global API from a local mirror.
+ *
+ * <p>Serves GET requests of every client service endpoint at its upstream path,
+ * e.g. /api/v2.0/maps/name/kz_beginnerblock_go, or at its upstream host {@literal &} path
+ * for services w/ their own base URL, e.g. /status.global-api.com/api/v2/summary.json.
+ *
+ * <p>Fresh cached responses are served w/o touching the upstream, concurrent
+ * misses of the same request share a single upstream fetch, upstream fetches
+ * are rate limited {@literal &} a stale response is served if the upstream fails.
+ *
+ * <p>Caches raw upstream bodies, so the gateway answers w/ byte-identical JSON.
+ */
+@SuppressWarnings("unused")
+public final class KreedzGateway implements Closeable {
+
+	/**
+	 * A default byte budget.
+	 */
+	public static final long DEFAULT_BYTE_BUDGET = 64L * 1024L * 1024L;
+
+	/**
+	 * A default upstream requests per second.
+	 */
+	public static final double DEFAULT_REQUESTS_PER_SECOND = 10.0d;
+
+	/**
+	 * A map of cached response time to live by service interfaces.
+	 */
+	private static final Map<Class<?>, Duration> SERVICE_TTLS = initServiceTtls();
+
+	/**
+	 * Initialize a map of cached response time to live by service interfaces.
+	 *
+	 * <p>Reference data changes rarely, leaderboard data
+	 * changes w/ every run {@literal &} status data is polled.
+	 *
+	 * @return	map of time to live by service interfaces
+	 */
+	private static Map<Class<?>, Duration> initServiceTtls() {
+		Map<Class<?>, Duration> ttls = new LinkedHashMap<>();
+
+		Duration reference = Duration.ofMinutes(10L);
+		Duration leaderboard = Duration.ofSeconds(30L);
+		Duration status = Duration.ofSeconds(15L);
+
+		ttls.put(IMapService.class, reference);
+		ttls.put(IModeService.class, reference);
+		ttls.put(IServerService.class, reference);
+		ttls.put(IRecordFilterService.class, reference);
+		ttls.put(IMapImageService.class, reference);
+		ttls.put(IMapInfoService.class, reference);
+		ttls.put(IRecordService.class, leaderboard);
+		ttls.put(IJumpstatService.class, leaderboard);
+		ttls.put(IBanService.class, leaderboard);
+		ttls.put(IPlayerRankService.class, leaderboard);
+		ttls.put(IPlayerService.class, leaderboard);
+		ttls.put(IStatusService.class, status);
+		ttls.put(IHealthService.class, status);
+
+		return ttls;
+	}
+
+	/**
+	 * A thread name prefix.
+	 */
+	private static final String THREAD_NAME_PREFIX = "kreedz-gateway-";
+
+	/**
+	 * A thread count.
+	 */
+	private static final int THREAD_COUNT = 8;
+
+	/**
+	 * An upstream rate limit wait timeout in nanoseconds.
+	 */
+	private static final long RATE_LIMIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+	/**
+	 * A cache status header name.
+	 */
+	private static final String CACHE_HEADER = "X-Cache";
+
+	/**
+	 * An HTTP client.
+	 */
+	private final OkHttpClient httpClient;
+
+	/**
+	 * A list of routes, most specific first.
+	 */
+	private final List<GatewayRoute> routes;
+
+	/**
+	 * A response cache.
+	 */
+	private final ResponseCache cache;
+
+	/**
+	 * An upstream rate limiter.
+	 */
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * An HTTP server.
+	 */
+	private final HttpServer server;
+
+	/**
+	 * An executor service.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * A cache hit count.
+	 */
+	private final LongAdder hitCount;
+
+	/**
+	 * A cache miss count.
+	 */
+	private final LongAdder missCount;
+
+	/**
+	 * A stale response count.
+	 */
+	private final LongAdder staleCount;
+
+	/**
+	 * An upstream request count.
+	 */
+	private final LongAdder upstreamCount;
+
+	/**
+	 * Initialize a {@link KreedzGateway} instance.
+	 *
+	 * <p>Binds exactly the provided address, a wildcard address
+	 * exposes the gateway on all network interfaces.
+	 *
+	 * @param client				kreedz client
+	 * @param address				local address to bind to
+	 * @param byteBudget			byte budget of cached responses
+	 * @param requestsPerSecond		upstream requests per second
+	 * @throws IOException	if the server couldn't be bound
+	 */
+	public KreedzGateway(KreedzClient client, InetSocketAddress address, long byteBudget,
+						 double requestsPerSecond) throws IOException {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (address == null) {
+			throw new IllegalArgumentException("Address mustn't be <null>");
+		}
+
+		if (byteBudget <= 0L) {
+			throw new IllegalArgumentException("Byte budget must be positive");
+		}
+
+		if (!(requestsPerSecond > 0.0d)) {
+			throw new IllegalArgumentException("Requests per second must be positive");
+		}
+
+		this.httpClient = client.getHttpClient();
+		this.routes = initRoutes(client);
+		this.cache = new ResponseCache(byteBudget);
+		this.rateLimiter = new RateLimiter(requestsPerSecond);
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.staleCount = new LongAdder();
+		this.upstreamCount = new LongAdder();
+
+		AtomicInteger threadCount = new AtomicInteger();
+
+		this.executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		this.server = HttpServer.create(address, 0);
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/", this::handle);
+	}
+
+	/**
+	 * Initialize a {@link KreedzGateway} instance.
+	 *
+	 * <p>Wraps {@link #KreedzGateway(KreedzClient, InetSocketAddress, long, double)}
+	 * w/ the loopback address, {@link #DEFAULT_BYTE_BUDGET} {@literal &}
+	 * {@link #DEFAULT_REQUESTS_PER_SECOND}, so the gateway is only
+	 * reachable from this host.
+	 *
+	 * @param client	kreedz client
+	 * @param port		local loopback port to bind to
+	 * @throws IOException	if the server couldn't be bound
+	 */
+	public KreedzGateway(KreedzClient client, int port) throws IOException {
+		this(client, new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+				DEFAULT_BYTE_BUDGET, DEFAULT_REQUESTS_PER_SECOND);
+	}
+
+	/**
+	 * Initialize a list of routes of all client services.
+	 *
+	 * @param client	kreedz client
+	 * @return			list of routes, most specific first
+	 */
+	private static List<GatewayRoute> initRoutes(KreedzClient client) {
+		List<GatewayRoute> routes = new ArrayList<>();
+
+		for (Map.Entry<Class<?>, Duration> entry : SERVICE_TTLS.entrySet()) {
+			routes.addAll(GatewayRoute.of(entry.getKey(), client.getBaseUrl(),
+					client.getVersion(), entry.getValue()));
+		}
+
+		routes.sort(Comparator.comparingInt(GatewayRoute::getParameterCount));
+
+		return routes;
+	}
+
+	/**
+	 * Start this gateway.
+	 */
+	public void start() {
+		this.server.start();
+	}
+
+	/**
+	 * Get this bound address.
+	 *
+	 * @return	bound address
+	 */
+	public InetSocketAddress getAddress() {
+		return this.server.getAddress();
+	}
+
+	/**
+	 * Get this cache hit count.
+	 *
+	 * @return	cache hit count
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Get this cache miss count.
+	 *
+	 * @return	cache miss count
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Get this stale response count.
+	 *
+	 * @return	stale response count
+	 */
+	public long getStaleCount() {
+		return this.staleCount.sum();
+	}
+
+	/**
+	 * Get this upstream request count.
+	 *
+	 * @return	upstream request count
+	 */
+	public long getUpstreamCount() {
+		return this.upstreamCount.sum();
+	}
+
+	/**
+	 * Get this cached response count.
+	 *
+	 * @return	cached response count
+	 */
+	public int getCachedCount() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Get this byte size of the cached responses.
+	 *
+	 * @return	byte size
+	 */
+	public long getCachedByteSize() {
+		return this.cache.getByteSize();
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public void invalidateAll() {
+		this.cache.clear();
+	}
+
+	/**
+	 * Stop this gateway.
+	 */
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Handle an HTTP exchange.
+	 *
+	 * @param exchange	HTTP exchange
+	 * @throws IOException	if the response couldn't be written
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!"GET".equals(exchange.getRequestMethod())) {
+				exchange.getResponseHeaders().set("Allow", "GET");
+				sendStatus(exchange, 405);
+
+				return;
+			}
+
+			String path = exchange.getRequestURI().getRawPath();
+			String query = exchange.getRequestURI().getRawQuery();
+			GatewayRoute route = this.findRouteOrNull(path);
+
+			if (route == null) {
+				sendStatus(exchange, 404);
+				return;
+			}
+
+			String key = toCacheKey(path, query);
+			long nowMillis = System.currentTimeMillis();
+
+			ResponseCache.Response cached = this.cache.getOrNull(key);
+
+			if (cached != null && cached.isFresh(nowMillis)) {
+				this.hitCount.increment();
+				send(exchange, cached, "HIT");
+
+				return;
+			}
+
+			this.missCount.increment();
+
+			String upstreamUrl = route.toUpstreamUrlOrNull(path);
+			String url = query == null ? upstreamUrl
+					: upstreamUrl + "?" + query;
+			long ttlMillis = route.getTtlMillis();
+
+			ResponseCache.Response fetched = this.cache.fetch(key, () -> this.fetchOrNull(url, ttlMillis));
+
+			if (fetched != null && (fetched.isCacheable() || cached == null)) {
+				send(exchange, fetched, "MISS");
+				return;
+			}
+
+			if (cached != null) {
+				this.staleCount.increment();
+				send(exchange, cached, "STALE");
+
+				return;
+			}
+
+			sendStatus(exchange, 502);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Fetch an upstream response.
+	 *
+	 * @param url			upstream URL
+	 * @param ttlMillis		time to live in milliseconds
+	 * @return				upstream response or {@code null}
+	 * 						if rate limited or failed
+	 */
+	private ResponseCache.Response fetchOrNull(String url, long ttlMillis) {
+		try {
+			if (!this.rateLimiter.tryAcquire(RATE_LIMIT_TIMEOUT_NANOS)) {
+				return null;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		this.upstreamCount.increment();
+
+		Request request = new Request.Builder()
+				.url(url)
+				.get()
+				.build();
+
+		try (Response response = this.httpClient.newCall(request).execute()) {
+			ResponseBody body = response.body();
+
+			return new ResponseCache.Response(response.code(), response.header("Content-Type"),
+					body == null ? new byte[0] : body.bytes(), System.currentTimeMillis(), ttlMillis);
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Find a route of a local path.
+	 *
+	 * @param path	local path
+	 * @return		route or {@code null}
+	 */
+	private GatewayRoute findRouteOrNull(String path) {
+		for (GatewayRoute route : this.routes) {
+			if (route.toUpstreamUrlOrNull(path) != null) {
+				return route;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Create a cache key of a local path {@literal &} query.
+	 *
+	 * <p>Sorts query parameters, so their order doesn't split the cache.
+	 *
+	 * @param path		local path
+	 * @param query		raw query, may be null
+	 * @return			cache key
+	 */
+	private static String toCacheKey(String path, String query) {
+		if (query == null || query.isEmpty()) {
+			return path;
+		}
+
+		String[] parameters = query.split("&");
+		Arrays.sort(parameters);
+
+		return path + "?" + String.join("&", parameters);
+	}
+
+	/**
+	 * Send a response.
+	 *
+	 * @param exchange		HTTP exchange
+	 * @param response		response
+	 * @param cacheStatus	cache status header value
+	 * @throws IOException	if the response couldn't be written
+	 */
+	private static void send(HttpExchange exchange, ResponseCache.Response response,
+							 String cacheStatus) throws IOException {
+		Headers headers = exchange.getResponseHeaders();
+
+		if (response.contentType != null) {
+			headers.set("Content-Type", response.contentType);
+		}
+
+		headers.set(CACHE_HEADER, cacheStatus);
+
+		exchange.sendResponseHeaders(response.code, response.body.length == 0 ? -1L
+				: response.body.length);
+
+		if (response.body.length > 0) {
+			try (OutputStream stream = exchange.getResponseBody()) {
+				stream.write(response.body);
+			}
+		}
+	}
+
+	/**
+	 * Send an empty response.
+	 *
+	 * @param exchange	HTTP exchange
+	 * @param code		status code
+	 * @throws IOException	if the response couldn't be written
+	 */
+	private static void sendStatus(HttpExchange exchange, int code) throws IOException {
+		exchange.sendResponseHeaders(code, -1L);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.gateway;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket limiting upstream requests per second.
+ */
+final class RateLimiter {
+
+	/**
+	 * A token refill rate per nanosecond.
+	 */
+	private final double tokensPerNano;
+
+	/**
+	 * A bucket capacity.
+	 */
+	private final double capacity;
+
+	/**
+	 * An available token count.
+	 */
+	private double tokens;
+
+	/**
+	 * A last refill time in nanoseconds.
+	 */
+	private long refilledAtNanos;
+
+	/**
+	 * Initialize a {@link RateLimiter} instance.
+	 *
+	 * @param requestsPerSecond		upstream requests per second
+	 */
+	RateLimiter(double requestsPerSecond) {
+		this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1L);
+		this.capacity = Math.max(1.0d, requestsPerSecond);
+		this.tokens = this.capacity;
+		this.refilledAtNanos = System.nanoTime();
+	}
+
+	/**
+	 * Acquire a token, waiting for a refill up to a timeout.
+	 *
+	 * @param timeoutNanos	timeout in nanoseconds
+	 * @return				boolean value as a result,
+	 * 						true - acquired, false - timed out
+	 * @throws InterruptedException		if interrupted while waiting
+	 */
+	boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+		long deadlineNanos = System.nanoTime() + timeoutNanos;
+
+		while (true) {
+			long waitNanos;
+
+			synchronized (this) {
+				long nowNanos = System.nanoTime();
+
+				this.tokens = Math.min(this.capacity,
+						this.tokens + (nowNanos - this.refilledAtNanos) * this.tokensPerNano);
+				this.refilledAtNanos = nowNanos;
+
+				if (this.tokens >= 1.0d) {
+					this.tokens -= 1.0d;
+					return true;
+				}
+
+				waitNanos = (long) Math.ceil((1.0d - this.tokens) / this.tokensPerNano);
+
+				if (nowNanos + waitNanos - deadlineNanos > 0L) {
+					return false;
+				}
+			}
+
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.gateway;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A byte-bounded LRU cache of upstream responses.
+ *
+ * <p>Collapses concurrent misses of the same key into a single upstream fetch.
+ */
+final class ResponseCache {
+
+	/**
+	 * A byte budget.
+	 */
+	private final long byteBudget;
+
+	/**
+	 * An access-ordered map of cached responses by keys.
+	 */
+	private final LinkedHashMap<String, Response> responses;
+
+	/**
+	 * A map of in-flight fetches by keys.
+	 */
+	private final ConcurrentHashMap<String, CompletableFuture<Response>> fetches;
+
+	/**
+	 * A byte size of the cached responses.
+	 */
+	private long byteSize;
+
+	/**
+	 * Initialize a {@link ResponseCache} instance.
+	 *
+	 * @param byteBudget	byte budget
+	 */
+	ResponseCache(long byteBudget) {
+		this.byteBudget = byteBudget;
+		this.responses = new LinkedHashMap<>(16, 0.75f, true);
+		this.fetches = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get a cached response.
+	 *
+	 * @param key	cache key
+	 * @return		cached response, may be expired, or {@code null}
+	 */
+	synchronized Response getOrNull(String key) {
+		return this.responses.get(key);
+	}
+
+	/**
+	 * Fetch a response, sharing an in-flight fetch of the same key.
+	 *
+	 * <p>Caches the fetched response if it's cacheable.
+	 *
+	 * @param key		cache key
+	 * @param fetcher	upstream fetcher, returns {@code null} on failure
+	 * @return			fetched response or {@code null}
+	 */
+	Response fetch(String key, Supplier<Response> fetcher) {
+		CompletableFuture<Response> future = new CompletableFuture<>();
+		CompletableFuture<Response> inFlight = this.fetches.putIfAbsent(key, future);
+
+		if (inFlight != null) {
+			return inFlight.join();
+		}
+
+		Response response = null;
+
+		try {
+			response = fetcher.get();
+
+			if (response != null && response.isCacheable()) {
+				this.put(key, response);
+			}
+		} finally {
+			this.fetches.remove(key, future);
+			future.complete(response);
+		}
+
+		return response;
+	}
+
+	/**
+	 * Get this cached response count.
+	 *
+	 * @return	cached response count
+	 */
+	synchronized int size() {
+		return this.responses.size();
+	}
+
+	/**
+	 * Get this byte size of the cached responses.
+	 *
+	 * @return	byte size
+	 */
+	synchronized long getByteSize() {
+		return this.byteSize;
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	synchronized void clear() {
+		this.responses.clear();
+		this.byteSize = 0L;
+	}
+
+	/**
+	 * Put a response, evicting the least recently used ones over the byte budget.
+	 *
+	 * @param key		cache key
+	 * @param response	response
+	 */
+	private synchronized void put(String key, Response response) {
+		if (response.body.length > this.byteBudget) {
+			return;
+		}
+
+		Response prev = this.responses.put(key, response);
+
+		if (prev != null) {
+			this.byteSize -= prev.body.length;
+		}
+
+		this.byteSize += response.body.length;
+
+		Iterator<Map.Entry<String, Response>> iterator = this.responses.entrySet().iterator();
+
+		while (this.byteSize > this.byteBudget && iterator.hasNext()) {
+			Response eldest = iterator.next().getValue();
+
+			iterator.remove();
+			this.byteSize -= eldest.body.length;
+		}
+	}
+
+	/**
+	 * An upstream response.
+	 */
+	static final class Response {
+
+		/**
+		 * A status code.
+		 */
+		final int code;
+
+		/**
+		 * A content type or {@code null}.
+		 */
+		final String contentType;
+
+		/**
+		 * A body.
+		 */
+		final byte[] body;
+
+		/**
+		 * A fetch time in epoch milliseconds.
+		 */
+		final long fetchedAtMillis;
+
+		/**
+		 * A time to live in milliseconds.
+		 */
+		final long ttlMillis;
+
+		/**
+		 * Initialize a {@link ResponseCache.Response} instance.
+		 *
+		 * @param code				status code
+		 * @param contentType		content type, may be null
+		 * @param body				body
+		 * @param fetchedAtMillis	fetch time in epoch milliseconds
+		 * @param ttlMillis			time to live in milliseconds
+		 */
+		Response(int code, String contentType, byte[] body, long fetchedAtMillis, long ttlMillis) {
+			this.code = code;
+			this.contentType = contentType;
+			this.body = body;
+			this.fetchedAtMillis = fetchedAtMillis;
+			this.ttlMillis = ttlMillis;
+		}
+
+		/**
+		 * Check if this response is cacheable.
+		 *
+		 * @return	boolean value as a result,
+		 * 			true - yes, false - no
+		 */
+		boolean isCacheable() {
+			return this.code == 200;
+		}
+
+		/**
+		 * Check if this response is fresh.
+		 *
+		 * @param nowMillis		current time in epoch milliseconds
+		 * @return				boolean value as a result,
+		 * 						true - yes, false - no
+		 */
+		boolean isFresh(long nowMillis) {
+			return nowMillis - this.fetchedAtMillis < this.ttlMillis;
+		}
+	}
+}
@@ -0,0 +1,780 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.images;
+
+import io.github.anominy.kreedzsdk.client.KreedzClient;
+import io.github.anominy.kreedzsdk.structs.entities.map.MapImageEntity;
+import io.github.anominy.kreedzsdk.structs.types.mapimage.EMapImageFormat;
+import io.github.anominy.kreedzsdk.structs.utils.UMapImage;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A content-addressed on-disk map image cache.
+ *
+ * <p>Downloads map images of the requested formats once {@literal &} keeps
+ * them as files named by the SHA-256 digests of their contents, so equal
+ * images of different maps or formats are stored once. Cached images are
+ * revalidated w/ their entity tags after the revalidate interval, and the
+ * least recently used ones are evicted once the stored byte count exceeds
+ * the byte budget. Images are served by {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+ * w/o copying them through the heap.
+ *
+ * <p>The index of cached images is persisted on every download
+ * and on {@link #flush()}, recently used order changes are
+ * persisted only on {@link #flush()} {@literal &} {@link #close()}.
+ *
+ * <p>Is thread-safe, downloads run outside of the index lock.
+ */
+@SuppressWarnings("unused")
+public final class MapImageCache implements Closeable {
+
+	/**
+	 * A default revalidate interval.
+	 */
+	public static final Duration DEFAULT_REVALIDATE_INTERVAL = Duration.ofDays(1);
+
+	/**
+	 * An index file name.
+	 */
+	private static final String INDEX_FILE_NAME = "index.tsv";
+
+	/**
+	 * A blob directory name.
+	 */
+	private static final String BLOB_DIRECTORY_NAME = "blobs";
+
+	/**
+	 * A digest algorithm name.
+	 */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/**
+	 * An index field separator.
+	 */
+	private static final char SEPARATOR = '\t';
+
+	/**
+	 * A hexadecimal digit array.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * A not modified HTTP status code.
+	 */
+	private static final int NOT_MODIFIED = 304;
+
+	/**
+	 * A not found HTTP status code.
+	 */
+	private static final int NOT_FOUND = 404;
+
+	/**
+	 * A cache directory path.
+	 */
+	private final Path directory;
+
+	/**
+	 * A blob directory path.
+	 */
+	private final Path blobDirectory;
+
+	/**
+	 * A byte budget.
+	 */
+	private final long byteBudget;
+
+	/**
+	 * A revalidate interval in milliseconds.
+	 */
+	private final long revalidateIntervalMillis;
+
+	/**
+	 * An HTTP client.
+	 */
+	private final OkHttpClient httpClient;
+
+	/**
+	 * A map of entries by their keys in the recently used order.
+	 */
+	private final LinkedHashMap<String, Entry> entries;
+
+	/**
+	 * A map of blob reference counts by their digests.
+	 */
+	private final Map<String, Blob> blobs;
+
+	/**
+	 * A stored byte count.
+	 */
+	private long byteSize;
+
+	/**
+	 * Initialize a {@link MapImageCache} instance.
+	 *
+	 * <p>Loads the persisted index if it exists {@literal &}
+	 * deletes blobs it doesn't reference.
+	 *
+	 * @param directory				cache directory path
+	 * @param byteBudget			byte budget
+	 * @param revalidateInterval	revalidate interval
+	 * @param httpClient			HTTP client
+	 * @throws IOException	if failed to read the index or the blob directory
+	 */
+	public MapImageCache(Path directory, long byteBudget, Duration revalidateInterval, OkHttpClient httpClient) throws IOException {
+		if (directory == null) {
+			throw new IllegalArgumentException("Directory mustn't be <null>");
+		}
+
+		if (byteBudget <= 0L) {
+			throw new IllegalArgumentException("Byte budget must be positive");
+		}
+
+		if (revalidateInterval == null || revalidateInterval.isNegative()) {
+			throw new IllegalArgumentException("Revalidate interval mustn't be negative");
+		}
+
+		if (httpClient == null) {
+			throw new IllegalArgumentException("HTTP client mustn't be <null>");
+		}
+
+		this.directory = directory;
+		this.blobDirectory = directory.resolve(BLOB_DIRECTORY_NAME);
+		this.byteBudget = byteBudget;
+		this.revalidateIntervalMillis = revalidateInterval.toMillis();
+		this.httpClient = httpClient;
+
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+		this.blobs = new HashMap<>();
+
+		Files.createDirectories(this.blobDirectory);
+
+		this.load();
+		this.deleteOrphanBlobs();
+	}
+
+	/**
+	 * Initialize a {@link MapImageCache} instance.
+	 *
+	 * <p>Wraps {@link #MapImageCache(Path, long, Duration, OkHttpClient)}
+	 * w/ {@link #DEFAULT_REVALIDATE_INTERVAL} {@literal &} a new HTTP client
+	 * as the revalidate interval {@literal &} HTTP client.
+	 *
+	 * @param directory		cache directory path
+	 * @param byteBudget	byte budget
+	 * @throws IOException	if failed to read the index or the blob directory
+	 */
+	public MapImageCache(Path directory, long byteBudget) throws IOException {
+		this(directory, byteBudget, DEFAULT_REVALIDATE_INTERVAL, new OkHttpClient());
+	}
+
+	/**
+	 * Get a file path of a map image, downloading or revalidating it if needed.
+	 *
+	 * <p>The file may be deleted by a later eviction,
+	 * prefer {@link #transferTo(String, EMapImageFormat, WritableByteChannel)}.
+	 *
+	 * @param mapName	map name
+	 * @param format	map image format
+	 * @return			file path or {@code null} if there is no such image
+	 * @throws IOException	if failed to download or store the image
+	 */
+	public Path getPath(String mapName, EMapImageFormat format) throws IOException {
+		Entry entry = this.resolve(mapName, format, true);
+
+		return entry == null ? null
+				: this.blobPathOf(entry.digest);
+	}
+
+	/**
+	 * Transfer a map image to a channel, downloading or revalidating it if needed.
+	 *
+	 * @param mapName	map name
+	 * @param format	map image format
+	 * @param target	channel to transfer the image to
+	 * @return			transferred byte count or {@code -1} if there is no such image
+	 * @throws IOException	if failed to download, store or transfer the image
+	 */
+	public long transferTo(String mapName, EMapImageFormat format, WritableByteChannel target) throws IOException {
+		if (target == null) {
+			throw new IllegalArgumentException("Target mustn't be <null>");
+		}
+
+		FileChannel channel = null;
+
+		while (channel == null) {
+			Entry entry = this.resolve(mapName, format, true);
+
+			if (entry == null) {
+				return -1L;
+			}
+
+			synchronized (this) {
+				// an open channel keeps the blob readable even if it's evicted meanwhile
+				if (this.blobs.containsKey(entry.digest)) {
+					channel = FileChannel.open(this.blobPathOf(entry.digest), StandardOpenOption.READ);
+				}
+			}
+		}
+
+		try (FileChannel in = channel) {
+			long size = in.size();
+			long position = 0L;
+
+			while (position < size) {
+				position += in.transferTo(position, size - position, target);
+			}
+
+			return size;
+		}
+	}
+
+	/**
+	 * Download map images of all maps in /public/maps.min.json/ that aren't cached yet.
+	 *
+	 * <p>Persists the index once all images are processed.
+	 * Images that failed to download are skipped.
+	 *
+	 * @param client		kreedz client
+	 * @param format		map image format
+	 * @param throwables	array to put request {@literal &} download failures in, may be null
+	 * @return				cached image count or {@code -1} if failed to fetch the map list
+	 */
+	public int prefetch(KreedzClient client, EMapImageFormat format, Throwable[] throwables) {
+		if (client == null) {
+			throw new IllegalArgumentException("Client mustn't be <null>");
+		}
+
+		if (format == null) {
+			throw new IllegalArgumentException("Format mustn't be <null>");
+		}
+
+		List<MapImageEntity> mapImages = client.getMapImageService()
+				.mapImages()
+				.execute(throwables);
+
+		if (mapImages == null) {
+			return -1;
+		}
+
+		int count = 0;
+
+		for (MapImageEntity mapImage : mapImages) {
+			if (mapImage == null || mapImage.getMapName() == null) {
+				continue;
+			}
+
+			try {
+				if (this.resolve(mapImage.getMapName(), format, false) != null) {
+					count++;
+				}
+			} catch (IOException e) {
+				putThrowable(throwables, e);
+			}
+		}
+
+		try {
+			this.flush();
+		} catch (IOException e) {
+			putThrowable(throwables, e);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Check if a map image is cached.
+	 *
+	 * <p>Doesn't affect the recently used order.
+	 *
+	 * @param mapName	map name
+	 * @param format	map image format
+	 * @return			boolean value as a result,
+	 * 					true - yes, false - no
+	 */
+	public synchronized boolean contains(String mapName, EMapImageFormat format) {
+		return this.entries.containsKey(keyOf(mapName, format));
+	}
+
+	/**
+	 * Get this cached image count.
+	 *
+	 * @return	cached image count
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Get this stored byte count.
+	 *
+	 * <p>Counts each distinct image content once.
+	 *
+	 * @return	stored byte count
+	 */
+	public synchronized long getByteSize() {
+		return this.byteSize;
+	}
+
+	/**
+	 * Get this byte budget.
+	 *
+	 * @return	byte budget
+	 */
+	public long getByteBudget() {
+		return this.byteBudget;
+	}
+
+	/**
+	 * Get this cache directory path.
+	 *
+	 * @return	cache directory path
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Persist the index in the recently used order.
+	 *
+	 * @throws IOException	if failed to write the index
+	 */
+	public synchronized void flush() throws IOException {
+		Path path = this.directory.resolve(INDEX_FILE_NAME);
+		Path tempPath = Files.createTempFile(this.directory, INDEX_FILE_NAME, ".tmp");
+
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Entry> mapEntry : this.entries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+
+					writer.append(mapEntry.getKey())
+							.append(SEPARATOR).append(entry.digest)
+							.append(SEPARATOR).append(Long.toString(entry.byteSize))
+							.append(SEPARATOR).append(Long.toString(entry.validateMillis))
+							.append(SEPARATOR).append(entry.etag == null ? "" : entry.etag);
+					writer.newLine();
+				}
+			}
+
+			Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Persists the index.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.flush();
+	}
+
+	/**
+	 * Resolve a cached entry, downloading or revalidating it if needed.
+	 *
+	 * @param mapName		map name
+	 * @param format		map image format
+	 * @param isFlushing	whether to persist the index after a download
+	 * @return				entry or {@code null} if there is no such image
+	 * @throws IOException	if failed to download or store the image
+	 */
+	private Entry resolve(String mapName, EMapImageFormat format, boolean isFlushing) throws IOException {
+		if (mapName == null) {
+			throw new IllegalArgumentException("Map name mustn't be <null>");
+		}
+
+		if (format == null) {
+			throw new IllegalArgumentException("Format mustn't be <null>");
+		}
+
+		String key = keyOf(mapName, format);
+		long nowMillis = System.currentTimeMillis();
+
+		Entry entry;
+
+		synchronized (this) {
+			entry = this.entries.get(key);
+		}
+
+		if (entry != null && nowMillis - entry.validateMillis < this.revalidateIntervalMillis) {
+			return entry;
+		}
+
+		return this.download(key, UMapImage.getUrlOrNull(mapName, format),
+				entry == null ? null : entry.etag, nowMillis, isFlushing);
+	}
+
+	/**
+	 * Download an image into the blob directory {@literal &} put its entry.
+	 *
+	 * @param key			entry key
+	 * @param url			image URL
+	 * @param etag			entity tag of the cached image, may be null
+	 * @param nowMillis		download date in epoch milliseconds
+	 * @param isFlushing	whether to persist the index after a download
+	 * @return				entry or {@code null} if there is no such image
+	 * @throws IOException	if failed to download or store the image
+	 */
+	private Entry download(String key, String url, String etag, long nowMillis, boolean isFlushing) throws IOException {
+		Request.Builder builder = new Request.Builder()
+				.url(url)
+				.get();
+
+		if (etag != null) {
+			builder.header("If-None-Match", etag);
+		}
+
+		try (Response response = this.httpClient.newCall(builder.build()).execute()) {
+			int code = response.code();
+
+			if (code == NOT_MODIFIED && etag != null) {
+				synchronized (this) {
+					Entry entry = this.entries.get(key);
+
+					if (entry != null) {
+						entry.validateMillis = nowMillis;
+
+						return entry;
+					}
+				}
+
+				// evicted while revalidating
+				return this.download(key, url, null, nowMillis, isFlushing);
+			}
+
+			if (code == NOT_FOUND) {
+				return null;
+			}
+
+			ResponseBody body = response.body();
+
+			if (!response.isSuccessful() || body == null) {
+				throw new IOException("Unable to download <" + url + ">, status code <" + code + ">");
+			}
+
+			Path tempPath = Files.createTempFile(this.blobDirectory, "download", ".tmp");
+
+			try {
+				MessageDigest digest = newDigest();
+				long byteSize = 0L;
+
+				byte[] buffer = new byte[8192];
+
+				try (InputStream in = body.byteStream();
+						OutputStream out = Files.newOutputStream(tempPath)) {
+					for (int n; (n = in.read(buffer)) != -1; ) {
+						digest.update(buffer, 0, n);
+						out.write(buffer, 0, n);
+						byteSize += n;
+					}
+				}
+
+				Entry entry = new Entry(toHex(digest.digest()), byteSize, response.header("ETag"), nowMillis);
+				Path blobPath = this.blobPathOf(entry.digest);
+
+				synchronized (this) {
+					if (!this.blobs.containsKey(entry.digest)) {
+						Files.createDirectories(blobPath.getParent());
+						Files.move(tempPath, blobPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					}
+
+					this.put(key, entry);
+
+					if (isFlushing) {
+						this.flush();
+					}
+				}
+
+				return entry;
+			} finally {
+				Files.deleteIfExists(tempPath);
+			}
+		}
+	}
+
+	/**
+	 * Put an entry {@literal &} evict the least recently used ones over the byte budget.
+	 *
+	 * @param key		entry key
+	 * @param entry		entry
+	 */
+	private void put(String key, Entry entry) {
+		Entry prevEntry = this.entries.put(key, entry);
+
+		this.blobs.computeIfAbsent(entry.digest, digest -> {
+			this.byteSize += entry.byteSize;
+
+			return new Blob();
+		}).refCount++;
+
+		if (prevEntry != null) {
+			this.release(prevEntry);
+		}
+
+		Iterator<Map.Entry<String, Entry>> iterator = this.entries.entrySet().iterator();
+
+		while (this.byteSize > this.byteBudget && iterator.hasNext()) {
+			Map.Entry<String, Entry> eldest = iterator.next();
+
+			if (eldest.getKey().equals(key)) {
+				continue;
+			}
+
+			iterator.remove();
+
+			this.release(eldest.getValue());
+		}
+	}
+
+	/**
+	 * Release a blob reference of an entry, deleting the blob if unreferenced.
+	 *
+	 * @param entry		entry
+	 */
+	private void release(Entry entry) {
+		Blob blob = this.blobs.get(entry.digest);
+
+		if (blob == null || --blob.refCount > 0) {
+			return;
+		}
+
+		this.blobs.remove(entry.digest);
+		this.byteSize -= entry.byteSize;
+
+		try {
+			Files.deleteIfExists(this.blobPathOf(entry.digest));
+		} catch (IOException ignored) {
+			// an undeleted blob is removed as an orphan on the next start
+		}
+	}
+
+	/**
+	 * Load the persisted index.
+	 *
+	 * <p>Skips malformed lines {@literal &} entries w/o blobs.
+	 *
+	 * @throws IOException	if failed to read the index
+	 */
+	private void load() throws IOException {
+		Path path = this.directory.resolve(INDEX_FILE_NAME);
+
+		if (!Files.isRegularFile(path)) {
+			return;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			for (String line; (line = reader.readLine()) != null; ) {
+				String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+
+				if (fields.length != 5) {
+					continue;
+				}
+
+				Entry entry;
+
+				try {
+					entry = new Entry(fields[1], Long.parseLong(fields[2]),
+							fields[4].isEmpty() ? null : fields[4], Long.parseLong(fields[3]));
+				} catch (NumberFormatException e) {
+					continue;
+				}
+
+				if (Files.isRegularFile(this.blobPathOf(entry.digest))) {
+					this.put(fields[0], entry);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Delete blobs that aren't referenced by the index.
+	 *
+	 * @throws IOException	if failed to list the blob directory
+	 */
+	private void deleteOrphanBlobs() throws IOException {
+		try (DirectoryStream<Path> prefixes = Files.newDirectoryStream(this.blobDirectory)) {
+			for (Path prefix : prefixes) {
+				if (!Files.isDirectory(prefix)) {
+					Files.deleteIfExists(prefix);
+					continue;
+				}
+
+				try (DirectoryStream<Path> paths = Files.newDirectoryStream(prefix)) {
+					for (Path path : paths) {
+						if (!this.blobs.containsKey(path.getFileName().toString())) {
+							Files.deleteIfExists(path);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get a blob file path of a digest.
+	 *
+	 * @param digest	hexadecimal content digest
+	 * @return			blob file path
+	 */
+	private Path blobPathOf(String digest) {
+		return this.blobDirectory.resolve(digest.substring(0, 2))
+				.resolve(digest);
+	}
+
+	/**
+	 * Get an entry key of a map image.
+	 *
+	 * @param mapName	map name
+	 * @param format	map image format
+	 * @return			entry key
+	 */
+	private static String keyOf(String mapName, EMapImageFormat format) {
+		return format + "/" + mapName;
+	}
+
+	/**
+	 * Create a new content digest.
+	 *
+	 * @return	message digest
+	 */
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Convert bytes to a lowercase hexadecimal string.
+	 *
+	 * @param bytes		array of bytes
+	 * @return			hexadecimal string
+	 */
+	private static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length << 1];
+
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i << 1] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+			chars[(i << 1) + 1] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+
+		return new String(chars);
+	}
+
+	/**
+	 * Put a throwable into the first free slot of an array.
+	 *
+	 * @param throwables	array to put the throwable in, may be null
+	 * @param throwable		throwable
+	 */
+	private static void putThrowable(Throwable[] throwables, Throwable throwable) {
+		if (throwables == null) {
+			return;
+		}
+
+		for (int i = 0; i < throwables.length; i++) {
+			if (throwables[i] == null) {
+				throwables[i] = throwable;
+
+				return;
+			}
+		}
+	}
+
+	/**
+	 * A cached map image entry.
+	 */
+	private static final class Entry {
+
+		/**
+		 * A hexadecimal content digest.
+		 */
+		private final String digest;
+
+		/**
+		 * A content byte count.
+		 */
+		private final long byteSize;
+
+		/**
+		 * An entity tag.
+		 */
+		private final String etag;
+
+		/**
+		 * A last validate date in epoch milliseconds.
+		 */
+		private long validateMillis;
+
+		/**
+		 * Initialize an {@link Entry} instance.
+		 *
+		 * @param digest			hexadecimal content digest
+		 * @param byteSize			content byte count
+		 * @param etag				entity tag, may be null
+		 * @param validateMillis	last validate date in epoch milliseconds
+		 */
+		private Entry(String digest, long byteSize, String etag, long validateMillis) {
+			this.digest = digest;
+			this.byteSize = byteSize;
+			this.etag = etag;
+			this.validateMillis = validateMillis;
+		}
+	}
+
+	/**
+	 * A stored blob.
+	 */
+	private static final class Blob {
+
+		/**
+		 * An entry reference count.
+		 */
+		private int refCount;
+	}
+}
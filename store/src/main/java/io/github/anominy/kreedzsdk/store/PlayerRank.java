@@ -0,0 +1,214 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.store;
+
+import io.github.anominy.steamid.SteamId;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A player rank aggregated from local records.
+ *
+ * <p>A local counterpart of the
+ * {@link io.github.anominy.kreedzsdk.structs.entities.PlayerRankEntity}.
+ */
+@SuppressWarnings("unused")
+public final class PlayerRank implements Serializable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = PlayerRank.class.getSimpleName();
+
+	/**
+	 * A type-64 person identifier.
+	 */
+	private final long steamId64;
+
+	/**
+	 * A point count.
+	 */
+	private final int pointCount;
+
+	/**
+	 * An average point count.
+	 */
+	private final float avgPointCount;
+
+	/**
+	 * An estimated rating.
+	 */
+	private final float estimatedRating;
+
+	/**
+	 * A finish count.
+	 */
+	private final int finishCount;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link PlayerRank} instance.
+	 *
+	 * @param steamId64			type-64 person identifier
+	 * @param pointCount		point count
+	 * @param avgPointCount		average point count
+	 * @param estimatedRating	estimated rating
+	 * @param finishCount		finish count
+	 */
+	PlayerRank(long steamId64, int pointCount, float avgPointCount, float estimatedRating, int finishCount) {
+		this.steamId64 = steamId64;
+		this.pointCount = pointCount;
+		this.avgPointCount = avgPointCount;
+		this.estimatedRating = estimatedRating;
+		this.finishCount = finishCount;
+	}
+
+	/**
+	 * Get this type-64 person identifier.
+	 *
+	 * @return	type-64 person identifier
+	 */
+	public long getSteamId64() {
+		return this.steamId64;
+	}
+
+	/**
+	 * Get this person identifier.
+	 *
+	 * @return	person identifier or {@code null}
+	 */
+	public SteamId getSteamId() {
+		return SteamId.fromSteam64OrNull(this.steamId64);
+	}
+
+	/**
+	 * Get this point count.
+	 *
+	 * @return	point count
+	 */
+	public int getPointCount() {
+		return this.pointCount;
+	}
+
+	/**
+	 * Get this average point count.
+	 *
+	 * @return	average point count
+	 */
+	public float getAvgPointCount() {
+		return this.avgPointCount;
+	}
+
+	/**
+	 * Get this estimated rating.
+	 *
+	 * <p>A local estimate, the average point count shrunk towards
+	 * zero for players w/ few finishes. Isn't comparable to the
+	 * {@link io.github.anominy.kreedzsdk.structs.entities.PlayerRankEntity#getRating()},
+	 * which is computed by the API w/ an undocumented formula.
+	 *
+	 * @return	estimated rating
+	 */
+	public float getEstimatedRating() {
+		return this.estimatedRating;
+	}
+
+	/**
+	 * Get this finish count.
+	 *
+	 * @return	finish count
+	 */
+	public int getFinishCount() {
+		return this.finishCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		PlayerRank that = (PlayerRank) obj;
+
+		return this.steamId64 == that.steamId64
+				&& this.pointCount == that.pointCount
+				&& Float.compare(this.avgPointCount, that.avgPointCount) == 0
+				&& Float.compare(this.estimatedRating, that.estimatedRating) == 0
+				&& this.finishCount == that.finishCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId64,
+						this.pointCount,
+						this.avgPointCount,
+						this.estimatedRating,
+						this.finishCount
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId64=" + this.steamId64
+				+ ", pointCount=" + this.pointCount
+				+ ", avgPointCount=" + this.avgPointCount
+				+ ", estimatedRating=" + this.estimatedRating
+				+ ", finishCount=" + this.finishCount
+				+ "]");
+	}
+}
@@ -0,0 +1,1015 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.store;
+
+import io.github.anominy.kreedzsdk.client.leaderboard.LeaderboardKey;
+import io.github.anominy.kreedzsdk.client.recordfilter.RecordFilterResolver;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ERunType;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.utils.IntIntTable;
+import io.github.anominy.kreedzsdk.structs.utils.LongIntTable;
+import io.github.anominy.steamid.SteamId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A player rank aggregator over a {@link RecordStore}.
+ *
+ * <p>Keeps a personal best row of every player for every record filter
+ * (map, stage, mode, tickrate {@literal &} whether it has teleports),
+ * so ranks are summed from the personal bests instead of the records.
+ * The first refresh builds them in parallel by walking each player row
+ * chain, the next ones apply only the rows appended since. Queries are
+ * split by player across a fork-join pool.
+ *
+ * <p>Is thread-safe, queries run concurrently w/ each other
+ * {@literal &} are blocked by refreshes.
+ */
+@SuppressWarnings("unused")
+public final class PlayerRankAggregator {
+
+	/**
+	 * A finish count the average point count is shrunk by in an estimated rating.
+	 */
+	private static final float ESTIMATED_RATING_PRIOR_FINISH_COUNT = 10f;
+
+	/**
+	 * A maximum player count of a single fork-join task.
+	 */
+	private static final int LEAF_SIZE = 256;
+
+	/**
+	 * A comparator of player ranks by their point counts
+	 * in the descending order.
+	 */
+	private static final Comparator<PlayerRank> RANK_ORDER = Comparator.comparingInt(PlayerRank::getPointCount)
+			.reversed()
+			.thenComparingLong(PlayerRank::getSteamId64);
+
+	/**
+	 * A record store.
+	 */
+	private final RecordStore store;
+
+	/**
+	 * A fork-join pool.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * A lock of the personal bests.
+	 */
+	private final ReadWriteLock lock;
+
+	/**
+	 * A list of players.
+	 */
+	private final List<PlayerBests> players;
+
+	/**
+	 * A table of player indexes by their type-64 person identifiers.
+	 */
+	private final LongIntTable indexesBySteamId64;
+
+	/**
+	 * A count of rows applied to the personal bests.
+	 */
+	private int processedSize;
+
+	/**
+	 * Initialize a {@link PlayerRankAggregator} instance.
+	 *
+	 * @param store		record store
+	 * @param pool		fork-join pool
+	 */
+	public PlayerRankAggregator(RecordStore store, ForkJoinPool pool) {
+		if (store == null) {
+			throw new IllegalArgumentException("Record store mustn't be <null>");
+		}
+
+		if (pool == null) {
+			throw new IllegalArgumentException("Fork-join pool mustn't be <null>");
+		}
+
+		this.store = store;
+		this.pool = pool;
+
+		this.lock = new ReentrantReadWriteLock();
+		this.players = new ArrayList<>();
+		this.indexesBySteamId64 = new LongIntTable(RecordStore.NO_ROW);
+	}
+
+	/**
+	 * Initialize a {@link PlayerRankAggregator} instance.
+	 *
+	 * <p>Wraps {@link #PlayerRankAggregator(RecordStore, ForkJoinPool)}
+	 * w/ {@link ForkJoinPool#commonPool()} as the fork-join pool.
+	 *
+	 * @param store		record store
+	 */
+	public PlayerRankAggregator(RecordStore store) {
+		this(store, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Apply rows appended to the store since the last refresh.
+	 *
+	 * @return	applied row count
+	 */
+	public int refresh() {
+		this.lock.writeLock().lock();
+
+		try {
+			int prevProcessedSize = this.processedSize;
+
+			if (prevProcessedSize == 0) {
+				this.build();
+			}
+
+			int size = this.store.size();
+			RecordView view = this.store.newView();
+
+			for (int row = this.processedSize; row < size; row++) {
+				view.moveTo(row);
+
+				this.playerOf(view.getSteamId64())
+						.offer(view, row);
+			}
+
+			this.processedSize = Math.max(this.processedSize, size);
+
+			return this.processedSize - prevProcessedSize;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Create a new player rank query.
+	 *
+	 * @return	player rank query
+	 */
+	public Query playerRanks() {
+		return new Query(this);
+	}
+
+	/**
+	 * Get this player count.
+	 *
+	 * @return	player count
+	 */
+	public int getPlayerCount() {
+		this.lock.readLock().lock();
+
+		try {
+			return this.players.size();
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Build the personal bests of all players in parallel.
+	 */
+	private void build() {
+		List<PlayerBests> players = new ArrayList<>();
+		IntIntTable heads = new IntIntTable(RecordStore.NO_ROW);
+
+		int size = this.store.forEachHeadBySteamId64((steamId64, head) -> {
+			heads.put(players.size(), head);
+			players.add(new PlayerBests(steamId64));
+		});
+
+		PlayerBests[] playerArray = players.toArray(new PlayerBests[0]);
+		int[] headArray = new int[playerArray.length];
+
+		for (int i = 0; i < headArray.length; i++) {
+			headArray[i] = heads.get(i);
+		}
+
+		this.pool.invoke(new BuildTask(this.store, playerArray, headArray, 0, playerArray.length));
+
+		for (PlayerBests player : playerArray) {
+			this.indexesBySteamId64.put(player.steamId64, this.players.size());
+			this.players.add(player);
+		}
+
+		this.processedSize = size;
+	}
+
+	/**
+	 * Get or create the personal bests of the provided player.
+	 *
+	 * @param steamId64		type-64 person identifier
+	 * @return				personal bests
+	 */
+	private PlayerBests playerOf(long steamId64) {
+		int index = this.indexesBySteamId64.get(steamId64);
+
+		if (index != RecordStore.NO_ROW) {
+			return this.players.get(index);
+		}
+
+		PlayerBests player = new PlayerBests(steamId64);
+
+		this.indexesBySteamId64.put(steamId64, this.players.size());
+		this.players.add(player);
+
+		return player;
+	}
+
+	/**
+	 * Execute the provided query.
+	 *
+	 * @param query		player rank query
+	 * @return			unmodifiable list of player ranks
+	 */
+	private List<PlayerRank> execute(Query query) {
+		this.lock.readLock().lock();
+
+		List<PlayerRank> ranks;
+
+		try {
+			PlayerBests[] players;
+
+			if (query.steamId64s == null) {
+				players = this.players.toArray(new PlayerBests[0]);
+			} else {
+				List<PlayerBests> playerList = new ArrayList<>(query.steamId64s.length);
+
+				for (long steamId64 : query.steamId64s) {
+					int index = this.indexesBySteamId64.get(steamId64);
+
+					if (index != RecordStore.NO_ROW) {
+						playerList.add(this.players.get(index));
+					}
+				}
+
+				players = playerList.toArray(new PlayerBests[0]);
+			}
+
+			ranks = this.pool.invoke(new RankTask(query, players, 0, players.length));
+		} finally {
+			this.lock.readLock().unlock();
+		}
+
+		ranks.sort(RANK_ORDER);
+
+		int from = Math.min(Math.max(query.offset, 0), ranks.size());
+		int to = (int) Math.min((long) from + query.limit, ranks.size());
+
+		return Collections.unmodifiableList(ranks.subList(from, to));
+	}
+
+	/**
+	 * Personal bests of a single player.
+	 */
+	private static final class PlayerBests {
+
+		/**
+		 * A type-64 person identifier.
+		 */
+		private final long steamId64;
+
+		/**
+		 * A table of slots by their record filter keys.
+		 */
+		private final LongIntTable slotsByFilterKey;
+
+		/**
+		 * An array of record filter keys by their slots.
+		 *
+		 * <p>Packed by {@link LeaderboardKey#pack(int, int, int, int, int)}
+		 * w/ the pro or teleport run type.
+		 */
+		private long[] filterKeys;
+
+		/**
+		 * An array of row indexes by their slots.
+		 */
+		private int[] rows;
+
+		/**
+		 * An array of run times by their slots.
+		 */
+		private float[] times;
+
+		/**
+		 * An array of point counts by their slots.
+		 */
+		private int[] pointCounts;
+
+		/**
+		 * A slot count.
+		 */
+		private int size;
+
+		/**
+		 * Initialize a {@link PlayerBests} instance.
+		 *
+		 * @param steamId64		type-64 person identifier
+		 */
+		private PlayerBests(long steamId64) {
+			this.steamId64 = steamId64;
+			this.slotsByFilterKey = new LongIntTable(RecordStore.NO_ROW);
+
+			this.filterKeys = new long[4];
+			this.rows = new int[4];
+			this.times = new float[4];
+			this.pointCounts = new int[4];
+		}
+
+		/**
+		 * Offer the row the provided view is positioned at.
+		 *
+		 * <p>Keeps the fastest run of a record filter,
+		 * the earliest row of equal ones.
+		 *
+		 * @param view	row view
+		 * @param row	row index
+		 */
+		private void offer(RecordView view, int row) {
+			float time = view.getTimeSeconds();
+
+			if (!(time > 0f)) {
+				return;
+			}
+
+			ERunType runType = view.getTeleportCount() > 0 ? ERunType.TP
+					: ERunType.PRO;
+
+			long filterKey = LeaderboardKey.pack(
+					view.getMapId(),
+					view.getStage(),
+					view.getModeCode(),
+					view.getTickrateCode(),
+					runType.ordinal()
+			);
+
+			int slot = this.slotsByFilterKey.get(filterKey);
+
+			if (slot == RecordStore.NO_ROW) {
+				slot = this.size++;
+
+				if (slot == this.rows.length) {
+					int capacity = slot << 1;
+
+					this.filterKeys = Arrays.copyOf(this.filterKeys, capacity);
+					this.rows = Arrays.copyOf(this.rows, capacity);
+					this.times = Arrays.copyOf(this.times, capacity);
+					this.pointCounts = Arrays.copyOf(this.pointCounts, capacity);
+				}
+
+				this.slotsByFilterKey.put(filterKey, slot);
+				this.filterKeys[slot] = filterKey;
+			} else {
+				float bestTime = this.times[slot];
+
+				if (time > bestTime || (time == bestTime && row > this.rows[slot])) {
+					return;
+				}
+			}
+
+			this.rows[slot] = row;
+			this.times[slot] = time;
+			this.pointCounts[slot] = view.getPointCount();
+		}
+	}
+
+	/**
+	 * A fork-join task building personal bests of a player range.
+	 */
+	private static final class BuildTask extends RecursiveAction {
+
+		/**
+		 * A record store.
+		 */
+		private final RecordStore store;
+
+		/**
+		 * An array of players.
+		 */
+		private final PlayerBests[] players;
+
+		/**
+		 * An array of player chain heads.
+		 */
+		private final int[] heads;
+
+		/**
+		 * A first player index, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * A last player index, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Initialize a {@link BuildTask} instance.
+		 *
+		 * @param store		record store
+		 * @param players	array of players
+		 * @param heads		array of player chain heads
+		 * @param from		first player index, inclusive
+		 * @param to		last player index, exclusive
+		 */
+		private BuildTask(RecordStore store, PlayerBests[] players, int[] heads, int from, int to) {
+			this.store = store;
+			this.players = players;
+			this.heads = heads;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (this.to - this.from > LEAF_SIZE) {
+				int middle = (this.from + this.to) >>> 1;
+
+				invokeAll(
+						new BuildTask(this.store, this.players, this.heads, this.from, middle),
+						new BuildTask(this.store, this.players, this.heads, middle, this.to)
+				);
+
+				return;
+			}
+
+			RecordView view = this.store.newView();
+
+			for (int i = this.from; i < this.to; i++) {
+				PlayerBests player = this.players[i];
+
+				for (int row = this.heads[i]; row != RecordStore.NO_ROW; row = view.getPrevRowBySteamId64()) {
+					player.offer(view.moveTo(row), row);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A fork-join task aggregating ranks of a player range.
+	 */
+	private static final class RankTask extends RecursiveTask<List<PlayerRank>> {
+
+		/**
+		 * A player rank query.
+		 */
+		private final Query query;
+
+		/**
+		 * An array of players.
+		 */
+		private final PlayerBests[] players;
+
+		/**
+		 * A first player index, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * A last player index, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Initialize a {@link RankTask} instance.
+		 *
+		 * @param query		player rank query
+		 * @param players	array of players
+		 * @param from		first player index, inclusive
+		 * @param to		last player index, exclusive
+		 */
+		private RankTask(Query query, PlayerBests[] players, int from, int to) {
+			this.query = query;
+			this.players = players;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected List<PlayerRank> compute() {
+			if (this.to - this.from > LEAF_SIZE) {
+				int middle = (this.from + this.to) >>> 1;
+
+				RankTask left = new RankTask(this.query, this.players, this.from, middle);
+				left.fork();
+
+				List<PlayerRank> ranks = new RankTask(this.query, this.players, middle, this.to)
+						.compute();
+
+				ranks.addAll(left.join());
+
+				return ranks;
+			}
+
+			List<PlayerRank> ranks = new ArrayList<>();
+
+			for (int i = this.from; i < this.to; i++) {
+				PlayerRank rank = this.query.aggregate(this.players[i]);
+
+				if (rank != null) {
+					ranks.add(rank);
+				}
+			}
+
+			return ranks;
+		}
+	}
+
+	/**
+	 * A player rank query.
+	 *
+	 * <p>Mirrors the /player_ranks/ endpoint filters
+	 * that can be resolved from the stored rows.
+	 * Record filter identifiers are resolved to their keys through
+	 * a {@link RecordFilterResolver}, map tags aren't supported.
+	 */
+	public static final class Query {
+
+		/**
+		 * A player rank aggregator.
+		 */
+		private final PlayerRankAggregator aggregator;
+
+		/**
+		 * An array of type-64 person identifiers.
+		 */
+		private long[] steamId64s;
+
+		/**
+		 * A set of packed record filter keys.
+		 */
+		private LongIntTable filterKeys;
+
+		/**
+		 * A set of map identifiers.
+		 */
+		private IntIntTable mapIds;
+
+		/**
+		 * A set of stage identifiers.
+		 */
+		private IntIntTable stages;
+
+		/**
+		 * A bit mask of game mode ordinals.
+		 */
+		private long modeMask = -1L;
+
+		/**
+		 * A bit mask of tickrate ordinals.
+		 */
+		private long tickrateMask = -1L;
+
+		/**
+		 * A run type.
+		 */
+		private ERunType runType;
+
+		/**
+		 * A left points threshold.
+		 */
+		private Integer pointsGreaterThan;
+
+		/**
+		 * A left average points threshold.
+		 */
+		private Integer avgPointsGreaterThan;
+
+		/**
+		 * A left estimated rating threshold.
+		 */
+		private Integer estimatedRatingGreaterThan;
+
+		/**
+		 * A left finish count threshold.
+		 */
+		private Integer finishCountGreaterThan;
+
+		/**
+		 * An offset.
+		 */
+		private int offset;
+
+		/**
+		 * A limit.
+		 */
+		private int limit = Integer.MAX_VALUE;
+
+		/**
+		 * Initialize a {@link Query} instance.
+		 *
+		 * @param aggregator	player rank aggregator
+		 */
+		private Query(PlayerRankAggregator aggregator) {
+			this.aggregator = aggregator;
+		}
+
+		/**
+		 * Set this collection of person identifiers.
+		 *
+		 * @param steamIds	collection of person identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setSteamIds(Collection<SteamId> steamIds) {
+			this.steamId64s = steamIds == null || steamIds.isEmpty() ? null
+					: steamIds.stream()
+							.map(SteamId::toSteam64OrNull)
+							.filter(steamId64 -> steamId64 != null)
+							.mapToLong(Long::longValue)
+							.distinct()
+							.toArray();
+
+			return this;
+		}
+
+		/**
+		 * Set this collection of record filter identifiers.
+		 *
+		 * <p>Identifiers unknown to the resolver match no records,
+		 * a NUB record filter matches records both w/ {@literal &} w/o teleports.
+		 *
+		 * @param resolver			record filter resolver
+		 * @param recordFilterIds	collection of record filter identifiers, may be null
+		 * @return					this instance
+		 */
+		public Query setRecordFilterIds(RecordFilterResolver resolver, Collection<Integer> recordFilterIds) {
+			if (resolver == null) {
+				throw new IllegalArgumentException("Record filter resolver mustn't be <null>");
+			}
+
+			if (recordFilterIds == null || recordFilterIds.isEmpty()) {
+				this.filterKeys = null;
+				return this;
+			}
+
+			LongIntTable filterKeys = new LongIntTable(recordFilterIds.size() * 2, 0);
+
+			for (Integer recordFilterId : recordFilterIds) {
+				long key = recordFilterId == null ? RecordFilterResolver.NO_KEY
+						: resolver.getKey(recordFilterId);
+
+				if (key == RecordFilterResolver.NO_KEY) {
+					continue;
+				}
+
+				if (LeaderboardKey.unpackRunTypeOrdinal(key) != ERunType.NUB.ordinal()) {
+					filterKeys.put(key, 1);
+					continue;
+				}
+
+				for (ERunType runType : new ERunType[] {ERunType.PRO, ERunType.TP}) {
+					filterKeys.put(LeaderboardKey.pack(
+							LeaderboardKey.unpackMapId(key),
+							LeaderboardKey.unpackStage(key),
+							LeaderboardKey.unpackModeOrdinal(key),
+							LeaderboardKey.unpackTickrateOrdinal(key),
+							runType.ordinal()
+					), 1);
+				}
+			}
+
+			this.filterKeys = filterKeys;
+			return this;
+		}
+
+		/**
+		 * Set this array of record filter identifiers.
+		 *
+		 * @param resolver			record filter resolver
+		 * @param recordFilterIds	array of record filter identifiers, may be null
+		 * @return					this instance
+		 */
+		public Query setRecordFilterIds(RecordFilterResolver resolver, Integer... recordFilterIds) {
+			return this.setRecordFilterIds(resolver, recordFilterIds == null ? null : Arrays.asList(recordFilterIds));
+		}
+
+		/**
+		 * Set this collection of map identifiers.
+		 *
+		 * @param mapIds	collection of map identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setMapIds(Collection<Integer> mapIds) {
+			this.mapIds = toIntSet(mapIds);
+			return this;
+		}
+
+		/**
+		 * Set this array of map identifiers.
+		 *
+		 * @param mapIds	array of map identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setMapIds(Integer... mapIds) {
+			return this.setMapIds(mapIds == null ? null : Arrays.asList(mapIds));
+		}
+
+		/**
+		 * Set this collection of stage identifiers.
+		 *
+		 * @param stages	collection of stage identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setStages(Collection<Integer> stages) {
+			this.stages = toIntSet(stages);
+			return this;
+		}
+
+		/**
+		 * Set this array of stage identifiers.
+		 *
+		 * @param stages	array of stage identifiers, may be null
+		 * @return			this instance
+		 */
+		public Query setStages(Integer... stages) {
+			return this.setStages(stages == null ? null : Arrays.asList(stages));
+		}
+
+		/**
+		 * Set this collection of game modes.
+		 *
+		 * @param modes		collection of game modes, may be null
+		 * @return			this instance
+		 */
+		public Query setModes(Collection<EMode> modes) {
+			this.modeMask = toOrdinalMask(modes);
+			return this;
+		}
+
+		/**
+		 * Set this array of game modes.
+		 *
+		 * @param modes		array of game modes, may be null
+		 * @return			this instance
+		 */
+		public Query setModes(EMode... modes) {
+			return this.setModes(modes == null ? null : Arrays.asList(modes));
+		}
+
+		/**
+		 * Set this collection of tickrates.
+		 *
+		 * @param tickrates		collection of tickrates, may be null
+		 * @return				this instance
+		 */
+		public Query setTickrates(Collection<ETickrate> tickrates) {
+			this.tickrateMask = toOrdinalMask(tickrates);
+			return this;
+		}
+
+		/**
+		 * Set this array of tickrates.
+		 *
+		 * @param tickrates		array of tickrates, may be null
+		 * @return				this instance
+		 */
+		public Query setTickrates(ETickrate... tickrates) {
+			return this.setTickrates(tickrates == null ? null : Arrays.asList(tickrates));
+		}
+
+		/**
+		 * Set this run type.
+		 *
+		 * @param runType	run type, may be null
+		 * @return			this instance
+		 */
+		public Query setRunType(ERunType runType) {
+			this.runType = runType;
+			return this;
+		}
+
+		/**
+		 * Set this left points threshold.
+		 *
+		 * @param pointsGreaterThan		left points threshold, may be null
+		 * @return						this instance
+		 */
+		public Query setPointsGreaterThan(Integer pointsGreaterThan) {
+			this.pointsGreaterThan = pointsGreaterThan;
+			return this;
+		}
+
+		/**
+		 * Set this left average points threshold.
+		 *
+		 * @param avgPointsGreaterThan	left average points threshold, may be null
+		 * @return						this instance
+		 */
+		public Query setAvgPointsGreaterThan(Integer avgPointsGreaterThan) {
+			this.avgPointsGreaterThan = avgPointsGreaterThan;
+			return this;
+		}
+
+		/**
+		 * Set this left estimated rating threshold.
+		 *
+		 * <p>Filters by {@link PlayerRank#getEstimatedRating()},
+		 * not by the API rating.
+		 *
+		 * @param estimatedRatingGreaterThan	left estimated rating threshold, may be null
+		 * @return								this instance
+		 */
+		public Query setEstimatedRatingGreaterThan(Integer estimatedRatingGreaterThan) {
+			this.estimatedRatingGreaterThan = estimatedRatingGreaterThan;
+			return this;
+		}
+
+		/**
+		 * Set this left finish count threshold.
+		 *
+		 * @param finishCountGreaterThan	left finish count threshold, may be null
+		 * @return							this instance
+		 */
+		public Query setFinishCountGreaterThan(Integer finishCountGreaterThan) {
+			this.finishCountGreaterThan = finishCountGreaterThan;
+			return this;
+		}
+
+		/**
+		 * Set this offset.
+		 *
+		 * @param offset	offset, may be null
+		 * @return			this instance
+		 */
+		public Query setOffset(Integer offset) {
+			this.offset = offset == null ? 0 : offset;
+			return this;
+		}
+
+		/**
+		 * Set this limit.
+		 *
+		 * @param limit		limit, may be null
+		 * @return			this instance
+		 */
+		public Query setLimit(Integer limit) {
+			this.limit = limit == null ? Integer.MAX_VALUE : Math.max(limit, 0);
+			return this;
+		}
+
+		/**
+		 * Execute this query.
+		 *
+		 * @return	unmodifiable list of player ranks
+		 * 			ordered by their point counts
+		 */
+		public List<PlayerRank> execute() {
+			return this.aggregator.execute(this);
+		}
+
+		/**
+		 * Aggregate a rank of the provided player.
+		 *
+		 * @param player	personal bests of a player
+		 * @return			player rank or {@code null} if filtered out
+		 */
+		private PlayerRank aggregate(PlayerBests player) {
+			long pointCount = 0L;
+			int finishCount = 0;
+
+			for (int slot = 0; slot < player.size; slot++) {
+				if (this.matches(player.filterKeys[slot])) {
+					pointCount += player.pointCounts[slot];
+					finishCount++;
+				}
+			}
+
+			if (finishCount == 0) {
+				return null;
+			}
+
+			float avgPointCount = pointCount / (float) finishCount;
+			float estimatedRating = pointCount / (finishCount + ESTIMATED_RATING_PRIOR_FINISH_COUNT);
+
+			if ((this.pointsGreaterThan != null && pointCount <= this.pointsGreaterThan)
+					|| (this.avgPointsGreaterThan != null && avgPointCount <= this.avgPointsGreaterThan)
+					|| (this.estimatedRatingGreaterThan != null && estimatedRating <= this.estimatedRatingGreaterThan)
+					|| (this.finishCountGreaterThan != null && finishCount <= this.finishCountGreaterThan)) {
+				return null;
+			}
+
+			return new PlayerRank(player.steamId64, (int) Math.min(pointCount, Integer.MAX_VALUE),
+					avgPointCount, estimatedRating, finishCount);
+		}
+
+		/**
+		 * Check if the provided record filter key matches this query.
+		 *
+		 * @param filterKey		packed record filter key
+		 * @return				boolean value as a result,
+		 * 						true - yes, false - no
+		 */
+		private boolean matches(long filterKey) {
+			if (this.filterKeys != null && !this.filterKeys.containsKey(filterKey)) {
+				return false;
+			}
+
+			boolean hasTeleports = LeaderboardKey.unpackRunTypeOrdinal(filterKey) == ERunType.TP.ordinal();
+
+			if ((this.runType == ERunType.PRO && hasTeleports)
+					|| (this.runType == ERunType.TP && !hasTeleports)) {
+				return false;
+			}
+
+			int modeCode = LeaderboardKey.unpackModeOrdinal(filterKey);
+			int tickrateCode = LeaderboardKey.unpackTickrateOrdinal(filterKey);
+
+			if (!hasBit(this.modeMask, modeCode) || !hasBit(this.tickrateMask, tickrateCode)) {
+				return false;
+			}
+
+			return (this.mapIds == null || this.mapIds.containsKey(LeaderboardKey.unpackMapId(filterKey)))
+					&& (this.stages == null || this.stages.containsKey(LeaderboardKey.unpackStage(filterKey)));
+		}
+
+		/**
+		 * Check if the provided bit mask has a bit set.
+		 *
+		 * @param mask	bit mask, {@code -1} stands for any bit
+		 * @param bit	bit index
+		 * @return		boolean value as a result,
+		 * 				true - yes, false - no
+		 */
+		private static boolean hasBit(long mask, int bit) {
+			return mask == -1L || (bit < Long.SIZE && (mask & (1L << bit)) != 0L);
+		}
+
+		/**
+		 * Convert the provided collection of integers to a set.
+		 *
+		 * @param values	collection of integers, may be null
+		 * @return			set of integers or {@code null} if null or empty
+		 */
+		private static IntIntTable toIntSet(Collection<Integer> values) {
+			if (values == null || values.isEmpty()) {
+				return null;
+			}
+
+			IntIntTable set = new IntIntTable(values.size(), 0);
+
+			for (Integer value : values) {
+				if (value != null) {
+					set.put(value, 1);
+				}
+			}
+
+			return set;
+		}
+
+		/**
+		 * Convert the provided collection of enumeration types to an ordinal bit mask.
+		 *
+		 * @param values	collection of enumeration types, may be null
+		 * @return			ordinal bit mask or {@code -1} if null or empty
+		 */
+		private static long toOrdinalMask(Collection<? extends Enum<?>> values) {
+			if (values == null || values.isEmpty()) {
+				return -1L;
+			}
+
+			long mask = 0L;
+
+			for (Enum<?> value : values) {
+				if (value != null) {
+					mask |= 1L << value.ordinal();
+				}
+			}
+
+			return mask;
+		}
+	}
+}
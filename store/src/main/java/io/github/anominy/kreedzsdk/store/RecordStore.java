@@ -0,0 +1,647 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.store;
+
+import io.github.anominy.kreedzsdk.client.services.requests.record.BaseGetRecordsRequestManager;
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.entities.RecordEntity;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.kreedzsdk.structs.utils.IntIntTable;
+import io.github.anominy.kreedzsdk.structs.utils.LongIntTable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A persistent record store backed by memory-mapped files.
+ *
+ * <p>Appends records as fixed-width rows, so the data lives in the OS page
+ * cache instead of the heap. Rows w/ the same map or person identifier are
+ * chained by their previous row index, which makes the secondary indexes
+ * part of the file; only the chain heads {@literal &} the record identifier
+ * table are rebuilt in memory by a single sequential pass on open.
+ *
+ * <p>Appends are serialized by this instance monitor, reads through
+ * {@link RecordView} instances don't copy or lock anything, chunks
+ * are published through a copy-on-write list for concurrent readers.
+ */
+@SuppressWarnings("unused")
+public final class RecordStore implements Closeable {
+
+	/**
+	 * A data file name.
+	 */
+	public static final String FILE_NAME = "records.kzs";
+
+	/**
+	 * A no row index.
+	 */
+	public static final int NO_ROW = -1;
+
+	/**
+	 * A file magic number.
+	 */
+	private static final int MAGIC = 0x4B5A5253;
+
+	/**
+	 * A file format version.
+	 *
+	 * <p>Bumped on any row layout change. A reorder of the game mode
+	 * or tickrate constants, which rows store by their ordinals,
+	 * is caught by {@link #ORDINALS_HASH} instead.
+	 *
+	 * <p>Version 2 stores the ordinals hash in the header.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * A hash of the game mode {@literal &} tickrate constant names in
+	 * their ordinal order, so a file written w/ other ordinals is rejected.
+	 */
+	private static final int ORDINALS_HASH = ordinalsHashOf(EMode.class, ETickrate.class);
+
+	/**
+	 * A file header size in bytes.
+	 */
+	private static final int HEADER_SIZE = 64;
+
+	/**
+	 * A header offset of the magic number.
+	 */
+	private static final int HEADER_MAGIC = 0;
+
+	/**
+	 * A header offset of the format version.
+	 */
+	private static final int HEADER_VERSION = 4;
+
+	/**
+	 * A header offset of the row size.
+	 */
+	private static final int HEADER_ROW_SIZE = 8;
+
+	/**
+	 * A header offset of the row count.
+	 */
+	private static final int HEADER_ROW_COUNT = 16;
+
+	/**
+	 * A header offset of the ordinals hash.
+	 */
+	private static final int HEADER_ORDINALS_HASH = 24;
+
+	/**
+	 * A row count per mapped chunk as a power of two.
+	 */
+	static final int CHUNK_SHIFT = 16;
+
+	/**
+	 * A row count per mapped chunk.
+	 */
+	static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+
+	/**
+	 * A row index mask inside of a chunk.
+	 */
+	static final int CHUNK_MASK = CHUNK_ROWS - 1;
+
+	/**
+	 * A file byte order.
+	 */
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/**
+	 * A file channel.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * A mapped file header.
+	 */
+	private final MappedByteBuffer header;
+
+	/**
+	 * A list of mapped row chunks.
+	 */
+	private final List<MappedByteBuffer> chunks;
+
+	/**
+	 * A table of row indexes by their record identifiers.
+	 */
+	private final IntIntTable rowsById;
+
+	/**
+	 * A table of the last row indexes by their map identifiers.
+	 */
+	private final IntIntTable headsByMapId;
+
+	/**
+	 * A table of the last row indexes by their type-64 person identifiers.
+	 */
+	private final LongIntTable headsBySteamId64;
+
+	/**
+	 * A row count.
+	 *
+	 * <p>Published after a row is fully written.
+	 */
+	private volatile int size;
+
+	/**
+	 * A "isClosed" boolean value.
+	 */
+	private volatile boolean isClosed;
+
+	/**
+	 * Initialize a {@link RecordStore} instance.
+	 *
+	 * @param channel	file channel
+	 * @throws IOException	if failed to map or read the file
+	 */
+	private RecordStore(FileChannel channel) throws IOException {
+		this.channel = channel;
+		this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+		this.header.order(BYTE_ORDER);
+
+		int size = this.readHeader();
+
+		this.chunks = new CopyOnWriteArrayList<>();
+
+		for (int i = 0, n = (size + CHUNK_MASK) >>> CHUNK_SHIFT; i < n; i++) {
+			this.mapChunk();
+		}
+
+		this.rowsById = new IntIntTable(size, NO_ROW);
+		this.headsByMapId = new IntIntTable(NO_ROW);
+		this.headsBySteamId64 = new LongIntTable(NO_ROW);
+
+		this.size = size;
+
+		RecordView view = new RecordView(this);
+
+		for (int row = 0; row < size; row++) {
+			view.moveTo(row);
+
+			this.rowsById.put(view.getId(), row);
+			this.headsByMapId.put(view.getMapId(), row);
+			this.headsBySteamId64.put(view.getSteamId64(), row);
+		}
+	}
+
+	/**
+	 * Open a {@link RecordStore} instance in the provided directory.
+	 *
+	 * <p>Creates the directory {@literal &} data file if they don't exist.
+	 *
+	 * @param directory		store directory
+	 * @return				record store
+	 * @throws IOException	if failed to open the data file
+	 */
+	public static RecordStore open(Path directory) throws IOException {
+		if (directory == null) {
+			throw new IllegalArgumentException("Directory mustn't be <null>");
+		}
+
+		Files.createDirectories(directory);
+
+		FileChannel channel = FileChannel.open(directory.resolve(FILE_NAME),
+				StandardOpenOption.CREATE,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE
+		);
+
+		try {
+			return new RecordStore(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Get this row count.
+	 *
+	 * @return	row count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Check if this store has no rows.
+	 *
+	 * @return	boolean value as a result,
+	 * 			true - yes, false - no
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Get a row index by its record identifier.
+	 *
+	 * @param id	record identifier
+	 * @return		row index or {@link #NO_ROW}
+	 */
+	public synchronized int rowOf(int id) {
+		return this.rowsById.get(id);
+	}
+
+	/**
+	 * Check if this store contains a record by its identifier.
+	 *
+	 * @param id	record identifier
+	 * @return		boolean value as a result,
+	 * 				true - yes, false - no
+	 */
+	public boolean contains(int id) {
+		return this.rowOf(id) != NO_ROW;
+	}
+
+	/**
+	 * Get the last row index by its map identifier.
+	 *
+	 * <p>Walk the rest by {@link RecordView#getPrevRowByMapId()}.
+	 *
+	 * @param mapId		map identifier
+	 * @return			row index or {@link #NO_ROW}
+	 */
+	public synchronized int headByMapId(int mapId) {
+		return this.headsByMapId.get(mapId);
+	}
+
+	/**
+	 * Get the last row index by its type-64 person identifier.
+	 *
+	 * <p>Walk the rest by {@link RecordView#getPrevRowBySteamId64()}.
+	 *
+	 * @param steamId64		type-64 person identifier
+	 * @return				row index or {@link #NO_ROW}
+	 */
+	public synchronized int headBySteamId64(long steamId64) {
+		return this.headsBySteamId64.get(steamId64);
+	}
+
+	/**
+	 * Perform the provided action for each type-64 person identifier
+	 * {@literal &} its last row index.
+	 *
+	 * <p>Heads are taken atomically, so chains walked from them
+	 * don't contain rows at or past the returned row count.
+	 *
+	 * @param action	action to perform
+	 * @return			row count the heads were taken at
+	 */
+	public synchronized int forEachHeadBySteamId64(LongIntTable.EntryConsumer action) {
+		this.headsBySteamId64.forEach(action);
+
+		return this.size;
+	}
+
+	/**
+	 * Create a new unpositioned row view.
+	 *
+	 * @return	row view
+	 */
+	public RecordView newView() {
+		return new RecordView(this);
+	}
+
+	/**
+	 * Create a new row view positioned at the provided row.
+	 *
+	 * @param row	row index
+	 * @return		row view
+	 */
+	public RecordView view(int row) {
+		return this.newView()
+				.moveTo(row);
+	}
+
+	/**
+	 * Perform the provided action for each row w/ the provided map identifier.
+	 *
+	 * <p>Rows are visited from the newest to the oldest
+	 * w/ a single reused view instance.
+	 *
+	 * @param mapId		map identifier
+	 * @param action	action to perform
+	 */
+	public void forEachByMapId(int mapId, Consumer<RecordView> action) {
+		RecordView view = this.newView();
+
+		for (int row = this.headByMapId(mapId); row != NO_ROW; row = view.getPrevRowByMapId()) {
+			action.accept(view.moveTo(row));
+		}
+	}
+
+	/**
+	 * Perform the provided action for each row w/ the provided type-64 person identifier.
+	 *
+	 * <p>Rows are visited from the newest to the oldest
+	 * w/ a single reused view instance.
+	 *
+	 * @param steamId64		type-64 person identifier
+	 * @param action		action to perform
+	 */
+	public void forEachBySteamId64(long steamId64, Consumer<RecordView> action) {
+		RecordView view = this.newView();
+
+		for (int row = this.headBySteamId64(steamId64); row != NO_ROW; row = view.getPrevRowBySteamId64()) {
+			action.accept(view.moveTo(row));
+		}
+	}
+
+	/**
+	 * Append a record row.
+	 *
+	 * @param record	record to append
+	 * @return			boolean value as a result,
+	 * 					true - appended, false - null or already stored
+	 * @throws IOException	if failed to grow the data file
+	 */
+	public synchronized boolean append(RecordEntity record) throws IOException {
+		if (record == null) {
+			return false;
+		}
+
+		return this.append(RecordBatch.of(Collections.singletonList(record))) != 0;
+	}
+
+	/**
+	 * Append record rows.
+	 *
+	 * @param records	list of records to append
+	 * @return			appended row count
+	 * @throws IOException	if failed to grow the data file
+	 */
+	public synchronized int appendAll(List<RecordEntity> records) throws IOException {
+		return this.append(RecordBatch.of(records));
+	}
+
+	/**
+	 * Append record rows from the provided batch.
+	 *
+	 * <p>Records already stored are skipped.
+	 *
+	 * @param batch		record batch to append
+	 * @return			appended row count
+	 * @throws IOException	if failed to grow the data file
+	 */
+	public synchronized int append(RecordBatch batch) throws IOException {
+		this.ensureOpen();
+
+		if (batch == null) {
+			return 0;
+		}
+
+		int count = 0;
+
+		for (int i = 0; i < batch.size(); i++) {
+			int id = batch.getId(i);
+
+			if (this.rowsById.containsKey(id)) {
+				continue;
+			}
+
+			int row = this.size;
+
+			if ((row >>> CHUNK_SHIFT) == this.chunks.size()) {
+				this.mapChunk();
+			}
+
+			int mapId = batch.getMapId(i);
+			long steamId64 = batch.getSteamId64(i);
+
+			MappedByteBuffer chunk = this.chunks.get(row >>> CHUNK_SHIFT);
+			int offset = (row & CHUNK_MASK) * RecordView.ROW_SIZE;
+
+			chunk.putLong(offset + RecordView.STEAM_ID_64, steamId64);
+			chunk.putLong(offset + RecordView.CREATE_DATE, batch.getCreateDateSeconds(i));
+			chunk.putInt(offset + RecordView.ID, id);
+			chunk.putInt(offset + RecordView.MAP_ID, mapId);
+			chunk.putInt(offset + RecordView.STAGE, batch.getStage(i));
+			chunk.putFloat(offset + RecordView.TIME, batch.getTimeSeconds(i));
+			chunk.putInt(offset + RecordView.TELEPORT_COUNT, batch.getTeleportCount(i));
+			chunk.putInt(offset + RecordView.POINT_COUNT, batch.getPointCount(i));
+			chunk.putInt(offset + RecordView.SERVER_ID, batch.getServerId(i));
+			chunk.putInt(offset + RecordView.PREV_BY_MAP_ID, this.headsByMapId.put(mapId, row));
+			chunk.putInt(offset + RecordView.PREV_BY_STEAM_ID_64, this.headsBySteamId64.put(steamId64, row));
+			chunk.put(offset + RecordView.MODE, (byte) batch.getModeCode(i));
+			chunk.put(offset + RecordView.TICKRATE, (byte) batch.getTickrateCode(i));
+
+			this.rowsById.put(id, row);
+
+			this.size = row + 1;
+			count++;
+		}
+
+		if (count != 0) {
+			this.header.putLong(HEADER_ROW_COUNT, this.size);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Fill this store from the provided record request manager.
+	 *
+	 * <p>Pages through the results by the offset {@literal &} limit
+	 * until a page is shorter than the page size or the request fails.
+	 *
+	 * @param manager		record batch request manager
+	 * @param pageSize		page size
+	 * @param throwables	array to put a request failure in, may be null
+	 * @return				appended row count
+	 * @throws IOException	if failed to grow the data file
+	 */
+	public int fill(BaseGetRecordsRequestManager<?, ?, RecordBatch> manager, int pageSize, Throwable[] throwables) throws IOException {
+		if (manager == null) {
+			throw new IllegalArgumentException("Request manager mustn't be <null>");
+		}
+
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Page size must be positive");
+		}
+
+		int count = 0;
+
+		for (int offset = 0; ; offset += pageSize) {
+			manager.setOffset(offset);
+			manager.setLimit(pageSize);
+
+			RecordBatch batch = manager.execute(throwables);
+
+			if (batch == null) {
+				break;
+			}
+
+			count += this.append(batch);
+
+			if (batch.size() < pageSize) {
+				break;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Force this mapped data to the storage device.
+	 */
+	public synchronized void flush() {
+		this.ensureOpen();
+
+		this.chunks.forEach(MappedByteBuffer::force);
+		this.header.force();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Flushes this data, the mappings are released by the garbage collector.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (this.isClosed) {
+			return;
+		}
+
+		this.flush();
+		this.isClosed = true;
+
+		this.channel.close();
+	}
+
+	/**
+	 * Get a mapped chunk for the provided row.
+	 *
+	 * @param row	row index
+	 * @return		mapped chunk
+	 * @throws IndexOutOfBoundsException	if the row isn't stored
+	 */
+	MappedByteBuffer chunkOf(int row) {
+		if (row < 0 || row >= this.size) {
+			throw new IndexOutOfBoundsException("Row <" + row + "> is out of <0.." + this.size + "> bounds");
+		}
+
+		return this.chunks.get(row >>> CHUNK_SHIFT);
+	}
+
+	/**
+	 * Map the next row chunk.
+	 *
+	 * <p>Grows the data file if needed.
+	 *
+	 * @throws IOException	if failed to map the chunk
+	 */
+	private void mapChunk() throws IOException {
+		long position = HEADER_SIZE + (long) this.chunks.size() * CHUNK_ROWS * RecordView.ROW_SIZE;
+
+		MappedByteBuffer chunk = this.channel.map(FileChannel.MapMode.READ_WRITE,
+				position, (long) CHUNK_ROWS * RecordView.ROW_SIZE);
+
+		chunk.order(BYTE_ORDER);
+
+		this.chunks.add(chunk);
+	}
+
+	/**
+	 * Read or initialize this file header.
+	 *
+	 * @return	stored row count
+	 * @throws IOException	if the header is invalid
+	 */
+	private int readHeader() throws IOException {
+		int magic = this.header.getInt(HEADER_MAGIC);
+
+		if (magic == 0) {
+			this.header.putInt(HEADER_MAGIC, MAGIC);
+			this.header.putInt(HEADER_VERSION, VERSION);
+			this.header.putInt(HEADER_ROW_SIZE, RecordView.ROW_SIZE);
+			this.header.putLong(HEADER_ROW_COUNT, 0L);
+			this.header.putInt(HEADER_ORDINALS_HASH, ORDINALS_HASH);
+
+			return 0;
+		}
+
+		if (magic != MAGIC) {
+			throw new IOException("Not a record store file");
+		}
+
+		int version = this.header.getInt(HEADER_VERSION);
+
+		if (version != VERSION || this.header.getInt(HEADER_ROW_SIZE) != RecordView.ROW_SIZE) {
+			throw new IOException("Unsupported record store version <" + version + ">");
+		}
+
+		if (this.header.getInt(HEADER_ORDINALS_HASH) != ORDINALS_HASH) {
+			throw new IOException("Record store was written w/ other game mode or tickrate ordinals");
+		}
+
+		long size = this.header.getLong(HEADER_ROW_COUNT);
+
+		if (size < 0 || size > Integer.MAX_VALUE) {
+			throw new IOException("Corrupted record store row count <" + size + ">");
+		}
+
+		return (int) size;
+	}
+
+	/**
+	 * Compute a hash of the constant names of the provided
+	 * enumeration types in their ordinal order.
+	 *
+	 * @param types		enumeration types
+	 * @return			ordinals hash
+	 */
+	@SafeVarargs
+	private static int ordinalsHashOf(Class<? extends Enum<?>>... types) {
+		int hash = 1;
+
+		for (Class<? extends Enum<?>> type : types) {
+			for (Enum<?> value : type.getEnumConstants()) {
+				hash = 31 * hash + value.name().hashCode();
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Ensure this store isn't closed.
+	 *
+	 * @throws IllegalStateException	if closed
+	 */
+	private void ensureOpen() {
+		if (this.isClosed) {
+			throw new IllegalStateException("Record store is closed");
+		}
+	}
+}
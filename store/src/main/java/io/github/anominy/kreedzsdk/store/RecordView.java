@@ -0,0 +1,333 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.store;
+
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.steamid.SteamId;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A zero-copy view of a {@link RecordStore} row.
+ *
+ * <p>Reads field values straight from the mapped file
+ * and may be moved between rows to avoid allocations.
+ *
+ * <p>Isn't thread-safe, use a view per thread.
+ */
+@SuppressWarnings("unused")
+public final class RecordView {
+
+	/**
+	 * A row size in bytes.
+	 */
+	static final int ROW_SIZE = 56;
+
+	/**
+	 * A row offset of the type-64 person identifier.
+	 */
+	static final int STEAM_ID_64 = 0;
+
+	/**
+	 * A row offset of the creation date in epoch seconds.
+	 */
+	static final int CREATE_DATE = 8;
+
+	/**
+	 * A row offset of the identifier.
+	 */
+	static final int ID = 16;
+
+	/**
+	 * A row offset of the map identifier.
+	 */
+	static final int MAP_ID = 20;
+
+	/**
+	 * A row offset of the stage identifier.
+	 */
+	static final int STAGE = 24;
+
+	/**
+	 * A row offset of the run time in seconds.
+	 */
+	static final int TIME = 28;
+
+	/**
+	 * A row offset of the teleport count.
+	 */
+	static final int TELEPORT_COUNT = 32;
+
+	/**
+	 * A row offset of the point count.
+	 */
+	static final int POINT_COUNT = 36;
+
+	/**
+	 * A row offset of the server identifier.
+	 */
+	static final int SERVER_ID = 40;
+
+	/**
+	 * A row offset of the previous row index w/ the same map identifier.
+	 */
+	static final int PREV_BY_MAP_ID = 44;
+
+	/**
+	 * A row offset of the previous row index w/ the same type-64 person identifier.
+	 */
+	static final int PREV_BY_STEAM_ID_64 = 48;
+
+	/**
+	 * A row offset of the game mode ordinal.
+	 */
+	static final int MODE = 52;
+
+	/**
+	 * A row offset of the tickrate ordinal.
+	 */
+	static final int TICKRATE = 53;
+
+	/**
+	 * An array of {@link EMode} instances.
+	 */
+	private static final EMode[] MODES = EMode.values();
+
+	/**
+	 * An array of {@link ETickrate} instances.
+	 */
+	private static final ETickrate[] TICKRATES = ETickrate.values();
+
+	/**
+	 * A record store.
+	 */
+	private final RecordStore store;
+
+	/**
+	 * A row index.
+	 */
+	private int row;
+
+	/**
+	 * A mapped chunk of the row.
+	 */
+	private ByteBuffer chunk;
+
+	/**
+	 * A byte offset of the row in its chunk.
+	 */
+	private int offset;
+
+	/**
+	 * Initialize a {@link RecordView} instance.
+	 *
+	 * @param store		record store
+	 */
+	RecordView(RecordStore store) {
+		this.store = store;
+		this.row = RecordStore.NO_ROW;
+	}
+
+	/**
+	 * Move this view to the provided row.
+	 *
+	 * @param row	row index
+	 * @return		this instance
+	 * @throws IndexOutOfBoundsException	if the row isn't stored
+	 */
+	public RecordView moveTo(int row) {
+		this.chunk = this.store.chunkOf(row);
+		this.offset = (row & RecordStore.CHUNK_MASK) * ROW_SIZE;
+		this.row = row;
+
+		return this;
+	}
+
+	/**
+	 * Get this row index.
+	 *
+	 * @return	row index or {@link RecordStore#NO_ROW}
+	 */
+	public int getRow() {
+		return this.row;
+	}
+
+	/**
+	 * Get this identifier.
+	 *
+	 * @return	identifier
+	 */
+	public int getId() {
+		return this.chunk.getInt(this.offset + ID);
+	}
+
+	/**
+	 * Get this type-64 person identifier.
+	 *
+	 * @return	type-64 person identifier
+	 */
+	public long getSteamId64() {
+		return this.chunk.getLong(this.offset + STEAM_ID_64);
+	}
+
+	/**
+	 * Get this person identifier.
+	 *
+	 * @return	person identifier or {@code null}
+	 */
+	public SteamId getSteamId() {
+		return SteamId.fromSteam64OrNull(this.getSteamId64());
+	}
+
+	/**
+	 * Get this map identifier.
+	 *
+	 * @return	map identifier
+	 */
+	public int getMapId() {
+		return this.chunk.getInt(this.offset + MAP_ID);
+	}
+
+	/**
+	 * Get this stage identifier.
+	 *
+	 * @return	stage identifier
+	 */
+	public int getStage() {
+		return this.chunk.getInt(this.offset + STAGE);
+	}
+
+	/**
+	 * Get this game mode.
+	 *
+	 * @return	game mode or {@code null}
+	 */
+	public EMode getMode() {
+		int code = this.chunk.get(this.offset + MODE);
+
+		return code < 0 || code >= MODES.length ? null
+				: MODES[code];
+	}
+
+	/**
+	 * Get this game mode ordinal.
+	 *
+	 * @return	game mode ordinal or a negative value
+	 */
+	int getModeCode() {
+		return this.chunk.get(this.offset + MODE);
+	}
+
+	/**
+	 * Get this tickrate.
+	 *
+	 * @return	tickrate or {@code null}
+	 */
+	public ETickrate getTickrate() {
+		int code = this.chunk.get(this.offset + TICKRATE);
+
+		return code < 0 || code >= TICKRATES.length ? null
+				: TICKRATES[code];
+	}
+
+	/**
+	 * Get this tickrate ordinal.
+	 *
+	 * @return	tickrate ordinal or a negative value
+	 */
+	int getTickrateCode() {
+		return this.chunk.get(this.offset + TICKRATE);
+	}
+
+	/**
+	 * Get this run time in seconds.
+	 *
+	 * @return	run time in seconds
+	 */
+	public float getTimeSeconds() {
+		return this.chunk.getFloat(this.offset + TIME);
+	}
+
+	/**
+	 * Get this teleport count.
+	 *
+	 * @return	teleport count
+	 */
+	public int getTeleportCount() {
+		return this.chunk.getInt(this.offset + TELEPORT_COUNT);
+	}
+
+	/**
+	 * Get this point count.
+	 *
+	 * @return	point count
+	 */
+	public int getPointCount() {
+		return this.chunk.getInt(this.offset + POINT_COUNT);
+	}
+
+	/**
+	 * Get this server identifier.
+	 *
+	 * @return	server identifier
+	 */
+	public int getServerId() {
+		return this.chunk.getInt(this.offset + SERVER_ID);
+	}
+
+	/**
+	 * Get this creation date in epoch seconds.
+	 *
+	 * @return	creation date in epoch seconds or {@code 0}
+	 */
+	public long getCreateDateSeconds() {
+		return this.chunk.getLong(this.offset + CREATE_DATE);
+	}
+
+	/**
+	 * Get this creation date.
+	 *
+	 * @return	creation date or {@code null}
+	 */
+	public DateTime getCreateDate() {
+		long seconds = this.getCreateDateSeconds();
+
+		return seconds == 0L ? null
+				: new DateTime(seconds * 1000L, DateTimeZone.UTC);
+	}
+
+	/**
+	 * Get the previous row index w/ this map identifier.
+	 *
+	 * @return	row index or {@link RecordStore#NO_ROW}
+	 */
+	public int getPrevRowByMapId() {
+		return this.chunk.getInt(this.offset + PREV_BY_MAP_ID);
+	}
+
+	/**
+	 * Get the previous row index w/ this type-64 person identifier.
+	 *
+	 * @return	row index or {@link RecordStore#NO_ROW}
+	 */
+	public int getPrevRowBySteamId64() {
+		return this.chunk.getInt(this.offset + PREV_BY_STEAM_ID_64);
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.store;
+
+import io.github.anominy.kreedzsdk.structs.entities.RecordBatch;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RecordStoreTest {
+
+	private static final long STEAM_ID_64_BASE = 76561197960265728L;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void appendsAndReadsRows() throws IOException {
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			assertTrue(store.isEmpty());
+			assertEquals(3, store.append(batchOf(1, 3)));
+			assertEquals(3, store.size());
+
+			RecordView view = store.view(store.rowOf(2));
+
+			assertEquals(2, view.getId());
+			assertEquals(STEAM_ID_64_BASE + 2, view.getSteamId64());
+			assertEquals(2 % 4, view.getMapId());
+			assertEquals(EMode.SKZ, view.getMode());
+			assertEquals(ETickrate.T128, view.getTickrate());
+			assertEquals(2.5F, view.getTimeSeconds());
+			assertEquals(2, view.getTeleportCount());
+			assertEquals(20, view.getPointCount());
+			assertEquals(1000L + 2, view.getCreateDateSeconds());
+		}
+	}
+
+	@Test
+	void skipsStoredRecords() throws IOException {
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			assertEquals(4, store.append(batchOf(1, 4)));
+			assertEquals(2, store.append(batchOf(3, 6)));
+			assertEquals(6, store.size());
+
+			assertTrue(store.contains(6));
+			assertFalse(store.contains(7));
+			assertEquals(RecordStore.NO_ROW, store.rowOf(7));
+		}
+	}
+
+	@Test
+	void chainsRowsByMapId() throws IOException {
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			store.append(batchOf(1, 12));
+
+			List<Integer> ids = new ArrayList<>();
+
+			store.forEachByMapId(1, view -> ids.add(view.getId()));
+
+			assertEquals(listOf(9, 5, 1), ids);
+		}
+	}
+
+	@Test
+	void reopensStoredRows() throws IOException {
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			store.append(batchOf(1, 12));
+		}
+
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			assertEquals(12, store.size());
+			assertEquals(11, store.view(store.rowOf(11)).getId());
+
+			List<Integer> ids = new ArrayList<>();
+
+			store.forEachBySteamId64(STEAM_ID_64_BASE + 7, view -> ids.add(view.getId()));
+
+			assertEquals(listOf(7), ids);
+			assertEquals(1, store.append(batchOf(12, 13)));
+
+			List<Integer> mapIds = new ArrayList<>();
+
+			store.forEachByMapId(1, view -> mapIds.add(view.getId()));
+
+			assertEquals(listOf(13, 9, 5, 1), mapIds);
+		}
+	}
+
+	@Test
+	void rejectsOtherOrdinals() throws IOException {
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			store.append(batchOf(1, 3));
+		}
+
+		try (FileChannel channel = FileChannel.open(this.directory.resolve(RecordStore.FILE_NAME),
+				StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(Integer.BYTES), 24L);
+		}
+
+		assertThrows(IOException.class, () -> RecordStore.open(this.directory));
+	}
+
+	@Test
+	void rejectsClosedAppends() throws IOException {
+		RecordStore store = RecordStore.open(this.directory);
+
+		store.close();
+
+		assertThrows(IllegalStateException.class, () -> store.append(batchOf(1, 1)));
+	}
+
+	@Test
+	void readsWhileAppendingAcrossChunks() throws Exception {
+		int count = RecordStore.CHUNK_ROWS * 2 + 1;
+		int step = 4096;
+
+		try (RecordStore store = RecordStore.open(this.directory)) {
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+
+			Thread reader = new Thread(() -> {
+				RecordView view = store.newView();
+
+				try {
+					while (store.size() < count) {
+						int size = store.size();
+
+						for (int row = Math.max(0, size - step); row < size; row++) {
+							if (view.moveTo(row).getId() != row + 1) {
+								throw new AssertionError("Row <" + row + "> is torn");
+							}
+						}
+					}
+				} catch (Throwable t) {
+					failure.set(t);
+				}
+			});
+
+			reader.start();
+
+			for (int id = 1; id <= count; id += step) {
+				store.append(batchOf(id, Math.min(id + step - 1, count)));
+			}
+
+			reader.join();
+
+			assertNull(failure.get());
+			assertEquals(count, store.size());
+		}
+	}
+
+	private static RecordBatch batchOf(int fromId, int toId) {
+		RecordBatch.Builder builder = new RecordBatch.Builder(toId - fromId + 1);
+
+		for (int id = fromId; id <= toId; id++) {
+			builder.addRow()
+					.setId(id)
+					.setSteamId64(STEAM_ID_64_BASE + id)
+					.setMapId(id % 4)
+					.setMode(EMode.SKZ)
+					.setTickrate(ETickrate.T128)
+					.setTime(id + 0.5F)
+					.setTeleportCount(id)
+					.setPointCount(id * 10)
+					.setCreateDate(1000L + id);
+		}
+
+		return builder.build();
+	}
+
+	private static List<Integer> listOf(Integer... values) {
+		List<Integer> list = new ArrayList<>();
+
+		for (Integer value : values) {
+			list.add(value);
+		}
+
+		return list;
+	}
+}
@@ -29,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API ban entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class BanEntity implements Serializable, Cloneable {
 
 	/**
@@ -41,7 +41,7 @@ public final class BanEntity implements Serializable, Cloneable {
 	 * An identifier.
 	 */
 	@SerializedName("id")
-	private final Integer id;
+	private final int id;
 
 	/**
 	 * A ban type.
@@ -77,7 +77,7 @@ public final class BanEntity implements Serializable, Cloneable {
 	 * A server identifier.
 	 */
 	@SerializedName("server_id")
-	private final Integer serverId;
+	private final int serverId;
 
 	/**
 	 * A data updater.
@@ -99,50 +99,22 @@ public final class BanEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
 	 *
-	 * @return	identifier
+	 * @return	identifier or {@code 0} if missing
 	 */
-	public Integer getId() {
+	public int getId() {
 		return this.id;
 	}
 
@@ -194,9 +166,9 @@ public final class BanEntity implements Serializable, Cloneable {
 	/**
 	 * Get this server identifier.
 	 *
-	 * @return	server identifier
+	 * @return	server identifier or {@code 0} if missing
 	 */
-	public Integer getServerId() {
+	public int getServerId() {
 		return this.serverId;
 	}
 
@@ -242,13 +214,13 @@ public final class BanEntity implements Serializable, Cloneable {
 
 		BanEntity that = (BanEntity) obj;
 
-		return Objects.equals(this.id, that.id)
+		return this.id == that.id
 				&& this.banType == that.banType
 				&& Objects.equals(this.expireDate, that.expireDate)
 				&& Objects.equals(this.steamId, that.steamId)
 				&& Objects.equals(this.notes, that.notes)
 				&& Objects.equals(this.stats, that.stats)
-				&& Objects.equals(this.serverId, that.serverId)
+				&& this.serverId == that.serverId
 				&& Objects.equals(this.dataUpdater, that.dataUpdater)
 				&& Objects.equals(this.createDate, that.createDate)
 				&& Objects.equals(this.updateDate, that.updateDate);
@@ -259,30 +231,26 @@ public final class BanEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.banType,
-							this.expireDate,
-							this.steamId,
-							this.notes,
-							this.stats,
-							this.serverId,
-							this.dataUpdater,
-							this.createDate,
-							this.updateDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.banType,
+						this.expireDate,
+						this.steamId,
+						this.notes,
+						this.stats,
+						this.serverId,
+						this.dataUpdater,
+						this.createDate,
+						this.updateDate
+				)
+		);
 	}
 
 	/**
@@ -290,28 +258,24 @@ public final class BanEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", banType=" + this.banType
-					+ ", expireDate=" + this.expireDate
-					+ ", steamId=" + this.steamId
-					+ ", notes=\"" + this.notes + "\""
-					+ ", stats=" + this.stats
-					+ ", serverId=" + this.serverId
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", banType=" + this.banType
+				+ ", expireDate=" + this.expireDate
+				+ ", steamId=" + this.steamId
+				+ ", notes=\"" + this.notes + "\""
+				+ ", stats=" + this.stats
+				+ ", serverId=" + this.serverId
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ "]");
 	}
 
 	/**
@@ -337,13 +301,13 @@ public final class BanEntity implements Serializable, Cloneable {
 	 * @param updateDate	update date
 	 */
 	private BanEntity(
-			Integer id,
+			int id,
 			EBanType banType,
 			DateTime expireDate,
 			SteamId steamId,
 			String notes,
 			BanStats stats,
-			Integer serverId,
+			int serverId,
 			DataUpdater dataUpdater,
 			DateTime createDate,
 			DateTime updateDate
@@ -358,8 +322,6 @@ public final class BanEntity implements Serializable, Cloneable {
 		this.dataUpdater = dataUpdater;
 		this.createDate = createDate;
 		this.updateDate = updateDate;
-
-		this.initMutexObjects();
 	}
 
 	/**
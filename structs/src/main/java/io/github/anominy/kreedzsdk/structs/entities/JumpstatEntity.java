@@ -29,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API jumpstat entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class JumpstatEntity implements Serializable, Cloneable {
 
 	/**
@@ -41,13 +41,13 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 * An identifier.
 	 */
 	@SerializedName("id")
-	private final Integer id;
+	private final int id;
 
 	/**
 	 * A server identifier.
 	 */
 	@SerializedName("server_id")
-	private final Integer serverId;
+	private final int serverId;
 
 	/**
 	 * A person identifier.
@@ -71,7 +71,7 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 * A distance.
 	 */
 	@SerializedName("distance")
-	private final Float distance;
+	private final float distance;
 
 	/**
 	 * A tickrate.
@@ -83,31 +83,31 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 * A MSL count.
 	 */
 	@SerializedName("msl_count")
-	private final Integer mslCount;
+	private final int mslCount;
 
 	/**
 	 * A strafe count.
 	 */
 	@SerializedName("strafe_count")
-	private final Integer strafeCount;
+	private final int strafeCount;
 
 	/**
 	 * An "isCrouchBind" boolean value.
 	 */
 	@SerializedName("is_crouch_bind")
-	private final Boolean isCrouchBind;
+	private final boolean isCrouchBind;
 
 	/**
 	 * An "isForwardBind" boolean value.
 	 */
 	@SerializedName("is_forward_bind")
-	private final Boolean isForwardBind;
+	private final boolean isForwardBind;
 
 	/**
 	 * An "isCrouchBoost" boolean value.
 	 */
 	@SerializedName("is_crouch_boost")
-	private final Boolean isCrouchBoost;
+	private final boolean isCrouchBoost;
 
 	/**
 	 * A data updater.
@@ -129,59 +129,31 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
 	 *
-	 * @return	identifier
+	 * @return	identifier or {@code 0} if missing
 	 */
-	public Integer getId() {
+	public int getId() {
 		return this.id;
 	}
 
 	/**
 	 * Get this server identifier.
 	 *
-	 * @return	server identifier
+	 * @return	server identifier or {@code 0} if missing
 	 */
-	public Integer getServerId() {
+	public int getServerId() {
 		return this.serverId;
 	}
 
@@ -217,7 +189,7 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 *
 	 * @return	distance
 	 */
-	public Float getDistance() {
+	public float getDistance() {
 		return this.distance;
 	}
 
@@ -233,18 +205,18 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	/**
 	 * Get this MSL count.
 	 *
-	 * @return	MSL count
+	 * @return	MSL count or {@code 0} if missing
 	 */
-	public Integer getMslCount() {
+	public int getMslCount() {
 		return this.mslCount;
 	}
 
 	/**
 	 * Get this strafe count.
 	 *
-	 * @return	strafe count
+	 * @return	strafe count or {@code 0} if missing
 	 */
-	public Integer getStrafeCount() {
+	public int getStrafeCount() {
 		return this.strafeCount;
 	}
 
@@ -253,7 +225,7 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 *
 	 * @return	"isCrouchBind" boolean value
 	 */
-	public Boolean getIsCrouchBind() {
+	public boolean getIsCrouchBind() {
 		return this.isCrouchBind;
 	}
 
@@ -262,7 +234,7 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 *
 	 * @return	"isForwardBind" boolean value
 	 */
-	public Boolean getIsForwardBind() {
+	public boolean getIsForwardBind() {
 		return this.isForwardBind;
 	}
 
@@ -271,7 +243,7 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 *
 	 * @return	"isCrouchBoost" boolean value
 	 */
-	public Boolean getIsCrouchBoost() {
+	public boolean getIsCrouchBoost() {
 		return this.isCrouchBoost;
 	}
 
@@ -317,18 +289,18 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 
 		JumpstatEntity that = (JumpstatEntity) obj;
 
-		return Objects.equals(this.id, that.id)
-				&& Objects.equals(this.serverId, that.serverId)
+		return this.id == that.id
+				&& this.serverId == that.serverId
 				&& Objects.equals(this.steamId, that.steamId)
 				&& Objects.equals(this.playerName, that.playerName)
 				&& this.jumpType == that.jumpType
-				&& Objects.equals(this.distance, that.distance)
+				&& Float.compare(this.distance, that.distance) == 0
 				&& this.tickrate == that.tickrate
-				&& Objects.equals(this.mslCount, that.mslCount)
-				&& Objects.equals(this.strafeCount, that.strafeCount)
-				&& Objects.equals(this.isCrouchBind, that.isCrouchBind)
-				&& Objects.equals(this.isForwardBind, that.isForwardBind)
-				&& Objects.equals(this.isCrouchBoost, that.isCrouchBoost)
+				&& this.mslCount == that.mslCount
+				&& this.strafeCount == that.strafeCount
+				&& this.isCrouchBind == that.isCrouchBind
+				&& this.isForwardBind == that.isForwardBind
+				&& this.isCrouchBoost == that.isCrouchBoost
 				&& Objects.equals(this.dataUpdater, that.dataUpdater)
 				&& Objects.equals(this.createDate, that.createDate)
 				&& Objects.equals(this.updateDate, that.updateDate);
@@ -339,35 +311,31 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.serverId,
-							this.steamId,
-							this.playerName,
-							this.jumpType,
-							this.distance,
-							this.tickrate,
-							this.mslCount,
-							this.strafeCount,
-							this.isCrouchBind,
-							this.isForwardBind,
-							this.isCrouchBoost,
-							this.dataUpdater,
-							this.createDate,
-							this.updateDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.serverId,
+						this.steamId,
+						this.playerName,
+						this.jumpType,
+						this.distance,
+						this.tickrate,
+						this.mslCount,
+						this.strafeCount,
+						this.isCrouchBind,
+						this.isForwardBind,
+						this.isCrouchBoost,
+						this.dataUpdater,
+						this.createDate,
+						this.updateDate
+				)
+		);
 	}
 
 	/**
@@ -375,33 +343,29 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", serverId=" + this.serverId
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ ", jumpType=" + this.jumpType
-					+ ", distance=" + this.distance
-					+ ", tickrate=" + this.tickrate
-					+ ", mslCount=" + this.mslCount
-					+ ", strafeCount=" + this.strafeCount
-					+ ", isCrouchBind=" + this.isCrouchBind
-					+ ", isForwardBind=" + this.isForwardBind
-					+ ", isCrouchBoost=" + this.isCrouchBoost
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", serverId=" + this.serverId
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ ", jumpType=" + this.jumpType
+				+ ", distance=" + this.distance
+				+ ", tickrate=" + this.tickrate
+				+ ", mslCount=" + this.mslCount
+				+ ", strafeCount=" + this.strafeCount
+				+ ", isCrouchBind=" + this.isCrouchBind
+				+ ", isForwardBind=" + this.isForwardBind
+				+ ", isCrouchBoost=" + this.isCrouchBoost
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ "]");
 	}
 
 	/**
@@ -432,18 +396,18 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 * @param updateDate		update date
 	 */
 	private JumpstatEntity(
-			Integer id,
-			Integer serverId,
+			int id,
+			int serverId,
 			SteamId steamId,
 			String playerName,
 			EJumpType jumpType,
-			Float distance,
+			float distance,
 			ETickrate tickrate,
-			Integer mslCount,
-			Integer strafeCount,
-			Boolean isCrouchBind,
-			Boolean isForwardBind,
-			Boolean isCrouchBoost,
+			int mslCount,
+			int strafeCount,
+			boolean isCrouchBind,
+			boolean isForwardBind,
+			boolean isCrouchBoost,
 			DataUpdater dataUpdater,
 			DateTime createDate,
 			DateTime updateDate
@@ -463,8 +427,6 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 		this.dataUpdater = dataUpdater;
 		this.createDate = createDate;
 		this.updateDate = updateDate;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz API map entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class MapEntity implements Serializable, Cloneable {
 
 	/**
@@ -38,7 +38,7 @@ public final class MapEntity implements Serializable, Cloneable {
 	 * An identifier.
 	 */
 	@SerializedName("id")
-	private final Integer id;
+	private final int id;
 
 	/**
 	 * A name.
@@ -50,13 +50,13 @@ public final class MapEntity implements Serializable, Cloneable {
 	 * A file size.
 	 */
 	@SerializedName("filesize")
-	private final Integer fileSize;
+	private final int fileSize;
 
 	/**
 	 * An "isValidated" boolean value.
 	 */
 	@SerializedName("validated")
-	private final Boolean isValidated;
+	private final boolean isValidated;
 
 	/**
 	 * A difficulty.
@@ -90,50 +90,22 @@ public final class MapEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
 	 *
-	 * @return	identifier
+	 * @return	identifier or {@code 0} if missing
 	 */
-	public Integer getId() {
+	public int getId() {
 		return this.id;
 	}
 
@@ -149,9 +121,9 @@ public final class MapEntity implements Serializable, Cloneable {
 	/**
 	 * Get this file size.
 	 *
-	 * @return	file size
+	 * @return	file size or {@code 0} if missing
 	 */
-	public Integer getFileSize() {
+	public int getFileSize() {
 		return this.fileSize;
 	}
 
@@ -160,7 +132,7 @@ public final class MapEntity implements Serializable, Cloneable {
 	 *
 	 * @return	"isValidated" boolean value
 	 */
-	public Boolean getIsValidated() {
+	public boolean getIsValidated() {
 		return this.isValidated;
 	}
 
@@ -224,10 +196,10 @@ public final class MapEntity implements Serializable, Cloneable {
 
 		MapEntity that = (MapEntity) obj;
 
-		return Objects.equals(this.id, that.id)
+		return this.id == that.id
 				&& Objects.equals(this.name, that.name)
-				&& Objects.equals(this.fileSize, that.fileSize)
-				&& Objects.equals(this.isValidated, that.isValidated)
+				&& this.fileSize == that.fileSize
+				&& this.isValidated == that.isValidated
 				&& this.difficulty == that.difficulty
 				&& Objects.equals(this.createDate, that.createDate)
 				&& Objects.equals(this.updateDate, that.updateDate)
@@ -240,29 +212,25 @@ public final class MapEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.fileSize,
-							this.isValidated,
-							this.difficulty,
-							this.createDate,
-							this.updateDate,
-							this.workshopUrl,
-							this.downloadUrl
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.fileSize,
+						this.isValidated,
+						this.difficulty,
+						this.createDate,
+						this.updateDate,
+						this.workshopUrl,
+						this.downloadUrl
+				)
+		);
 	}
 
 	/**
@@ -270,27 +238,23 @@ public final class MapEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", name=\"" + this.name + "\""
-					+ ", fileSize=" + this.fileSize
-					+ ", isValidated=" + this.isValidated
-					+ ", difficulty=" + this.difficulty
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", workshopUrl=\"" + this.workshopUrl + "\""
-					+ ", downloadUrl=\"" + this.downloadUrl + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", name=\"" + this.name + "\""
+				+ ", fileSize=" + this.fileSize
+				+ ", isValidated=" + this.isValidated
+				+ ", difficulty=" + this.difficulty
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", workshopUrl=\"" + this.workshopUrl + "\""
+				+ ", downloadUrl=\"" + this.downloadUrl + "\""
+				+ "]");
 	}
 
 	/**
@@ -315,10 +279,10 @@ public final class MapEntity implements Serializable, Cloneable {
 	 * @param downloadUrl	download URL
 	 */
 	private MapEntity(
-			Integer id,
+			int id,
 			String name,
-			Integer fileSize,
-			Boolean isValidated,
+			int fileSize,
+			boolean isValidated,
 			EDifficulty difficulty,
 			DateTime createDate,
 			DateTime updateDate,
@@ -334,8 +298,6 @@ public final class MapEntity implements Serializable, Cloneable {
 		this.updateDate = updateDate;
 		this.workshopUrl = workshopUrl;
 		this.downloadUrl = downloadUrl;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -29,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API game mode entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class ModeEntity implements Serializable, Cloneable {
 
 	/**
@@ -111,43 +111,15 @@ public final class ModeEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -291,32 +263,28 @@ public final class ModeEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.description,
-							this.latestVersion,
-							this.latestVersionDescription,
-							this.websiteDomain,
-							this.repositoryUrl,
-							this.contactSteamId,
-							this.supportedTickrates,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.description,
+						this.latestVersion,
+						this.latestVersionDescription,
+						this.websiteDomain,
+						this.repositoryUrl,
+						this.contactSteamId,
+						this.supportedTickrates,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater
+				)
+		);
 	}
 
 	/**
@@ -324,30 +292,26 @@ public final class ModeEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", name=\"" + this.name + "\""
-					+ ", description=\"" + this.description + "\""
-					+ ", latestVersion=" + this.latestVersion
-					+ ", latestVersionDescription=\"" + this.latestVersionDescription + "\""
-					+ ", websiteDomain=\"" + this.websiteDomain + "\""
-					+ ", repositoryUrl=\"" + this.repositoryUrl + "\""
-					+ ", contactSteamId=" + this.contactSteamId
-					+ ", supportedTickrates=" + this.supportedTickrates
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", name=\"" + this.name + "\""
+				+ ", description=\"" + this.description + "\""
+				+ ", latestVersion=" + this.latestVersion
+				+ ", latestVersionDescription=\"" + this.latestVersionDescription + "\""
+				+ ", websiteDomain=\"" + this.websiteDomain + "\""
+				+ ", repositoryUrl=\"" + this.repositoryUrl + "\""
+				+ ", contactSteamId=" + this.contactSteamId
+				+ ", supportedTickrates=" + this.supportedTickrates
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ "]");
 	}
 
 	/**
@@ -400,8 +364,6 @@ public final class ModeEntity implements Serializable, Cloneable {
 		this.createDate = createDate;
 		this.updateDate = updateDate;
 		this.dataUpdater = dataUpdater;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -0,0 +1,1294 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.structs.entities;
+
+import io.github.anominy.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
+import io.github.anominy.kreedzsdk.structs.types.ETickrate;
+import io.github.anominy.steamid.SteamId;
+import io.github.anominy.uwutils.UwObject;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A columnar batch of kreedz API record entities.
+ *
+ * <p>Stores every {@link RecordEntity} field as a primitive array
+ * (struct-of-arrays), where the modes {@literal &} tickrates are encoded
+ * by their ordinals and the person {@literal &} map names are encoded
+ * by indexes into per-batch dictionaries. Dates are stored as epoch seconds.
+ *
+ * <p>Absent numeric values are stored as {@code 0},
+ * absent dictionary values are stored as {@code -1}.
+ */
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
+public final class RecordBatch implements Serializable, Cloneable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = RecordBatch.class.getSimpleName();
+
+	/**
+	 * An empty {@link RecordBatch} instance.
+	 */
+	public static final RecordBatch EMPTY = new Builder().build();
+
+	/**
+	 * An absent dictionary value code.
+	 */
+	public static final int NO_CODE = -1;
+
+	/**
+	 * An array of {@link EMode} instances.
+	 */
+	private static final EMode[] MODES = EMode.values();
+
+	/**
+	 * An array of {@link ETickrate} instances.
+	 */
+	private static final ETickrate[] TICKRATES = ETickrate.values();
+
+	/**
+	 * A record count.
+	 */
+	private final int size;
+
+	/**
+	 * An array of identifiers.
+	 */
+	private final int[] ids;
+
+	/**
+	 * An array of type-64 person identifiers.
+	 */
+	private final long[] steamId64s;
+
+	/**
+	 * An array of person name codes.
+	 */
+	private final int[] playerNameCodes;
+
+	/**
+	 * A person name dictionary.
+	 */
+	private final String[] playerNames;
+
+	/**
+	 * An array of server identifiers.
+	 */
+	private final int[] serverIds;
+
+	/**
+	 * An array of map identifiers.
+	 */
+	private final int[] mapIds;
+
+	/**
+	 * An array of stage identifiers.
+	 */
+	private final int[] stages;
+
+	/**
+	 * An array of game mode ordinals.
+	 */
+	private final byte[] modeCodes;
+
+	/**
+	 * An array of tickrate ordinals.
+	 */
+	private final byte[] tickrateCodes;
+
+	/**
+	 * An array of run times in seconds.
+	 */
+	private final float[] times;
+
+	/**
+	 * An array of teleport counts.
+	 */
+	private final int[] teleportCounts;
+
+	/**
+	 * An array of creation dates in epoch seconds.
+	 */
+	private final long[] createDates;
+
+	/**
+	 * An array of update dates in epoch seconds.
+	 */
+	private final long[] updateDates;
+
+	/**
+	 * An array of record filter identifiers.
+	 */
+	private final int[] recordFilterIds;
+
+	/**
+	 * An array of map name codes.
+	 */
+	private final int[] mapNameCodes;
+
+	/**
+	 * A map name dictionary.
+	 */
+	private final String[] mapNames;
+
+	/**
+	 * An array of point counts.
+	 */
+	private final int[] pointCounts;
+
+	/**
+	 * An array of replay identifiers.
+	 */
+	private final int[] replayIds;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link RecordBatch} instance.
+	 *
+	 * <p>Copies the builder arrays trimmed to its row count.
+	 *
+	 * @param builder	builder to take field values from
+	 */
+	private RecordBatch(Builder builder) {
+		int size = builder.size;
+
+		this.size = size;
+		this.ids = Arrays.copyOf(builder.ids, size);
+		this.steamId64s = Arrays.copyOf(builder.steamId64s, size);
+		this.playerNameCodes = Arrays.copyOf(builder.playerNameCodes, size);
+		this.playerNames = builder.playerNames.toArray();
+		this.serverIds = Arrays.copyOf(builder.serverIds, size);
+		this.mapIds = Arrays.copyOf(builder.mapIds, size);
+		this.stages = Arrays.copyOf(builder.stages, size);
+		this.modeCodes = Arrays.copyOf(builder.modeCodes, size);
+		this.tickrateCodes = Arrays.copyOf(builder.tickrateCodes, size);
+		this.times = Arrays.copyOf(builder.times, size);
+		this.teleportCounts = Arrays.copyOf(builder.teleportCounts, size);
+		this.createDates = Arrays.copyOf(builder.createDates, size);
+		this.updateDates = Arrays.copyOf(builder.updateDates, size);
+		this.recordFilterIds = Arrays.copyOf(builder.recordFilterIds, size);
+		this.mapNameCodes = Arrays.copyOf(builder.mapNameCodes, size);
+		this.mapNames = builder.mapNames.toArray();
+		this.pointCounts = Arrays.copyOf(builder.pointCounts, size);
+		this.replayIds = Arrays.copyOf(builder.replayIds, size);
+	}
+
+	/**
+	 * Initialize a {@link RecordBatch} instance.
+	 *
+	 * <p>Defines a copy constructor, the arrays
+	 * are shared as they're never modified.
+	 *
+	 * @param that	instance to copy field values from
+	 */
+	private RecordBatch(RecordBatch that) {
+		this.size = that.size;
+		this.ids = that.ids;
+		this.steamId64s = that.steamId64s;
+		this.playerNameCodes = that.playerNameCodes;
+		this.playerNames = that.playerNames;
+		this.serverIds = that.serverIds;
+		this.mapIds = that.mapIds;
+		this.stages = that.stages;
+		this.modeCodes = that.modeCodes;
+		this.tickrateCodes = that.tickrateCodes;
+		this.times = that.times;
+		this.teleportCounts = that.teleportCounts;
+		this.createDates = that.createDates;
+		this.updateDates = that.updateDates;
+		this.recordFilterIds = that.recordFilterIds;
+		this.mapNameCodes = that.mapNameCodes;
+		this.mapNames = that.mapNames;
+		this.pointCounts = that.pointCounts;
+		this.replayIds = that.replayIds;
+
+		this.hashCodeCache = that.hashCodeCache;
+		this.stringCache = that.stringCache;
+	}
+
+	/**
+	 * Create a {@link RecordBatch} instance from the provided records.
+	 *
+	 * @param records	list of records, {@code null} elements are skipped
+	 * @return			record batch, always not null
+	 */
+	public static RecordBatch of(List<RecordEntity> records) {
+		if (records == null || records.isEmpty()) {
+			return EMPTY;
+		}
+
+		Builder builder = new Builder(records.size());
+
+		for (RecordEntity record : records) {
+			builder.add(record);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Get this record count.
+	 *
+	 * @return	record count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Check if this batch has no records.
+	 *
+	 * @return	boolean value as a result,
+	 * 			true - yes, false - no
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Get an identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			identifier
+	 */
+	public int getId(int index) {
+		return this.ids[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a type-64 person identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			type-64 person identifier or {@code 0}
+	 */
+	public long getSteamId64(int index) {
+		return this.steamId64s[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a person identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			person identifier or {@code null}
+	 */
+	public SteamId getSteamId(int index) {
+		return SteamId.fromSteam64OrNull(this.getSteamId64(index));
+	}
+
+	/**
+	 * Get a person name code at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			person name code or {@link #NO_CODE}
+	 */
+	public int getPlayerNameCode(int index) {
+		return this.playerNameCodes[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a person name at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			person name or {@code null}
+	 */
+	public String getPlayerName(int index) {
+		return this.getPlayerNameByCode(this.getPlayerNameCode(index));
+	}
+
+	/**
+	 * Get a person name by its code.
+	 *
+	 * @param code	person name code
+	 * @return		person name or {@code null}
+	 */
+	public String getPlayerNameByCode(int code) {
+		return code < 0 || code >= this.playerNames.length ? null
+				: this.playerNames[code];
+	}
+
+	/**
+	 * Get this person name dictionary size.
+	 *
+	 * @return	person name dictionary size
+	 */
+	public int getPlayerNameCount() {
+		return this.playerNames.length;
+	}
+
+	/**
+	 * Get a server identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			server identifier
+	 */
+	public int getServerId(int index) {
+		return this.serverIds[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a map identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			map identifier
+	 */
+	public int getMapId(int index) {
+		return this.mapIds[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a stage identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			stage identifier
+	 */
+	public int getStage(int index) {
+		return this.stages[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a game mode code at the provided index.
+	 *
+	 * <p>The code is an {@link EMode} ordinal.
+	 *
+	 * @param index		record index
+	 * @return			game mode code or {@link #NO_CODE}
+	 */
+	public int getModeCode(int index) {
+		return this.modeCodes[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a game mode at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			game mode or {@code null}
+	 */
+	public EMode getMode(int index) {
+		int code = this.getModeCode(index);
+
+		return code < 0 ? null
+				: MODES[code];
+	}
+
+	/**
+	 * Get a tickrate code at the provided index.
+	 *
+	 * <p>The code is an {@link ETickrate} ordinal.
+	 *
+	 * @param index		record index
+	 * @return			tickrate code or {@link #NO_CODE}
+	 */
+	public int getTickrateCode(int index) {
+		return this.tickrateCodes[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a tickrate at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			tickrate or {@code null}
+	 */
+	public ETickrate getTickrate(int index) {
+		int code = this.getTickrateCode(index);
+
+		return code < 0 ? null
+				: TICKRATES[code];
+	}
+
+	/**
+	 * Get a run time in seconds at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			run time in seconds
+	 */
+	public float getTimeSeconds(int index) {
+		return this.times[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a run time at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			run time, always not null
+	 */
+	public RunTime getTime(int index) {
+		return new RunTime(this.getTimeSeconds(index));
+	}
+
+	/**
+	 * Get a teleport count at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			teleport count
+	 */
+	public int getTeleportCount(int index) {
+		return this.teleportCounts[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a creation date in epoch seconds at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			creation date in epoch seconds or {@code 0}
+	 */
+	public long getCreateDateSeconds(int index) {
+		return this.createDates[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a creation date at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			creation date or {@code null}
+	 */
+	public DateTime getCreateDate(int index) {
+		return toDateTimeOrNull(this.getCreateDateSeconds(index));
+	}
+
+	/**
+	 * Get an update date in epoch seconds at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			update date in epoch seconds or {@code 0}
+	 */
+	public long getUpdateDateSeconds(int index) {
+		return this.updateDates[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get an update date at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			update date or {@code null}
+	 */
+	public DateTime getUpdateDate(int index) {
+		return toDateTimeOrNull(this.getUpdateDateSeconds(index));
+	}
+
+	/**
+	 * Get a record filter identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			record filter identifier
+	 */
+	public int getRecordFilterId(int index) {
+		return this.recordFilterIds[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a map name code at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			map name code or {@link #NO_CODE}
+	 */
+	public int getMapNameCode(int index) {
+		return this.mapNameCodes[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a map name at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			map name or {@code null}
+	 */
+	public String getMapName(int index) {
+		return this.getMapNameByCode(this.getMapNameCode(index));
+	}
+
+	/**
+	 * Get a map name by its code.
+	 *
+	 * @param code	map name code
+	 * @return		map name or {@code null}
+	 */
+	public String getMapNameByCode(int code) {
+		return code < 0 || code >= this.mapNames.length ? null
+				: this.mapNames[code];
+	}
+
+	/**
+	 * Get this map name dictionary size.
+	 *
+	 * @return	map name dictionary size
+	 */
+	public int getMapNameCount() {
+		return this.mapNames.length;
+	}
+
+	/**
+	 * Get a point count at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			point count
+	 */
+	public int getPointCount(int index) {
+		return this.pointCounts[this.checkIndex(index)];
+	}
+
+	/**
+	 * Get a replay identifier at the provided index.
+	 *
+	 * @param index		record index
+	 * @return			replay identifier
+	 */
+	public int getReplayId(int index) {
+		return this.replayIds[this.checkIndex(index)];
+	}
+
+	/**
+	 * Copy this identifiers to a new array.
+	 *
+	 * @return	array of identifiers
+	 */
+	public int[] copyIds() {
+		return this.ids.clone();
+	}
+
+	/**
+	 * Copy this type-64 person identifiers to a new array.
+	 *
+	 * @return	array of type-64 person identifiers
+	 */
+	public long[] copySteamId64s() {
+		return this.steamId64s.clone();
+	}
+
+	/**
+	 * Copy this map identifiers to a new array.
+	 *
+	 * @return	array of map identifiers
+	 */
+	public int[] copyMapIds() {
+		return this.mapIds.clone();
+	}
+
+	/**
+	 * Copy this run times in seconds to a new array.
+	 *
+	 * @return	array of run times in seconds
+	 */
+	public float[] copyTimes() {
+		return this.times.clone();
+	}
+
+	/**
+	 * Copy this teleport counts to a new array.
+	 *
+	 * @return	array of teleport counts
+	 */
+	public int[] copyTeleportCounts() {
+		return this.teleportCounts.clone();
+	}
+
+	/**
+	 * Copy this point counts to a new array.
+	 *
+	 * @return	array of point counts
+	 */
+	public int[] copyPointCounts() {
+		return this.pointCounts.clone();
+	}
+
+	/**
+	 * Copy this creation dates in epoch seconds to a new array.
+	 *
+	 * @return	array of creation dates in epoch seconds
+	 */
+	public long[] copyCreateDates() {
+		return this.createDates.clone();
+	}
+
+	/**
+	 * Check the provided record index.
+	 *
+	 * @param index		record index
+	 * @return			record index
+	 * @throws IndexOutOfBoundsException	if out of this batch bounds
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index <" + index + "> is out of <0.." + this.size + "> bounds");
+		}
+
+		return index;
+	}
+
+	/**
+	 * Convert epoch seconds to a {@link DateTime} instance.
+	 *
+	 * @param seconds	epoch seconds
+	 * @return			date instance or {@code null} if zero
+	 */
+	private static DateTime toDateTimeOrNull(long seconds) {
+		return seconds == 0L ? null
+				: new DateTime(seconds * 1000L, DateTimeZone.UTC);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		RecordBatch that = (RecordBatch) obj;
+
+		return this.size == that.size
+				&& Arrays.equals(this.ids, that.ids)
+				&& Arrays.equals(this.steamId64s, that.steamId64s)
+				&& Arrays.equals(this.playerNameCodes, that.playerNameCodes)
+				&& Arrays.equals(this.playerNames, that.playerNames)
+				&& Arrays.equals(this.serverIds, that.serverIds)
+				&& Arrays.equals(this.mapIds, that.mapIds)
+				&& Arrays.equals(this.stages, that.stages)
+				&& Arrays.equals(this.modeCodes, that.modeCodes)
+				&& Arrays.equals(this.tickrateCodes, that.tickrateCodes)
+				&& Arrays.equals(this.times, that.times)
+				&& Arrays.equals(this.teleportCounts, that.teleportCounts)
+				&& Arrays.equals(this.createDates, that.createDates)
+				&& Arrays.equals(this.updateDates, that.updateDates)
+				&& Arrays.equals(this.recordFilterIds, that.recordFilterIds)
+				&& Arrays.equals(this.mapNameCodes, that.mapNameCodes)
+				&& Arrays.equals(this.mapNames, that.mapNames)
+				&& Arrays.equals(this.pointCounts, that.pointCounts)
+				&& Arrays.equals(this.replayIds, that.replayIds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		hashCode = this.size;
+		hashCode = 31 * hashCode + Arrays.hashCode(this.ids);
+		hashCode = 31 * hashCode + Arrays.hashCode(this.steamId64s);
+		hashCode = 31 * hashCode + Arrays.hashCode(this.mapIds);
+		hashCode = 31 * hashCode + Arrays.hashCode(this.times);
+		hashCode = 31 * hashCode + Arrays.hashCode(this.createDates);
+		hashCode = 31 * hashCode + Arrays.hashCode(this.updateDates);
+
+		return (this.hashCodeCache = hashCode);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "size=" + this.size
+				+ ", playerNameCount=" + this.playerNames.length
+				+ ", mapNameCount=" + this.mapNames.length
+				+ "]");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RecordBatch clone() {
+		return new RecordBatch(this);
+	}
+
+	/**
+	 * A {@link RecordBatch} builder.
+	 *
+	 * <p>Appends records row by row, where the setters
+	 * apply to the last row added by {@link #addRow()}.
+	 *
+	 * <p>Isn't thread-safe.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default row capacity.
+		 */
+		private static final int DEFAULT_CAPACITY = 16;
+
+		/**
+		 * A row count.
+		 */
+		private int size;
+
+		/**
+		 * A row capacity.
+		 */
+		private int capacity;
+
+		/**
+		 * An array of identifiers.
+		 */
+		private int[] ids;
+
+		/**
+		 * An array of type-64 person identifiers.
+		 */
+		private long[] steamId64s;
+
+		/**
+		 * An array of person name codes.
+		 */
+		private int[] playerNameCodes;
+
+		/**
+		 * A person name dictionary.
+		 */
+		private final Dictionary playerNames = new Dictionary();
+
+		/**
+		 * An array of server identifiers.
+		 */
+		private int[] serverIds;
+
+		/**
+		 * An array of map identifiers.
+		 */
+		private int[] mapIds;
+
+		/**
+		 * An array of stage identifiers.
+		 */
+		private int[] stages;
+
+		/**
+		 * An array of game mode ordinals.
+		 */
+		private byte[] modeCodes;
+
+		/**
+		 * An array of tickrate ordinals.
+		 */
+		private byte[] tickrateCodes;
+
+		/**
+		 * An array of run times in seconds.
+		 */
+		private float[] times;
+
+		/**
+		 * An array of teleport counts.
+		 */
+		private int[] teleportCounts;
+
+		/**
+		 * An array of creation dates in epoch seconds.
+		 */
+		private long[] createDates;
+
+		/**
+		 * An array of update dates in epoch seconds.
+		 */
+		private long[] updateDates;
+
+		/**
+		 * An array of record filter identifiers.
+		 */
+		private int[] recordFilterIds;
+
+		/**
+		 * An array of map name codes.
+		 */
+		private int[] mapNameCodes;
+
+		/**
+		 * A map name dictionary.
+		 */
+		private final Dictionary mapNames = new Dictionary();
+
+		/**
+		 * An array of point counts.
+		 */
+		private int[] pointCounts;
+
+		/**
+		 * An array of replay identifiers.
+		 */
+		private int[] replayIds;
+
+		/**
+		 * Initialize a {@link RecordBatch.Builder} instance.
+		 *
+		 * @param capacity	initial row capacity
+		 */
+		public Builder(int capacity) {
+			this.allocate(Math.max(capacity, 0));
+		}
+
+		/**
+		 * Initialize a {@link RecordBatch.Builder} instance.
+		 *
+		 * <p>Wraps {@link #Builder(int)}
+		 * w/ {@link #DEFAULT_CAPACITY} as the initial row capacity.
+		 */
+		public Builder() {
+			this(DEFAULT_CAPACITY);
+		}
+
+		/**
+		 * Append a new row w/ absent field values.
+		 *
+		 * @return	this instance
+		 */
+		public Builder addRow() {
+			if (this.size == this.capacity) {
+				this.allocate(Math.max(this.capacity << 1, DEFAULT_CAPACITY));
+			}
+
+			int row = this.size++;
+
+			this.playerNameCodes[row] = NO_CODE;
+			this.modeCodes[row] = NO_CODE;
+			this.tickrateCodes[row] = NO_CODE;
+			this.mapNameCodes[row] = NO_CODE;
+
+			return this;
+		}
+
+		/**
+		 * Append a new row w/ field values of the provided record.
+		 *
+		 * @param record	record to append, skipped if null
+		 * @return			this instance
+		 */
+		public Builder add(RecordEntity record) {
+			if (record == null) {
+				return this;
+			}
+
+			return this.addRow()
+					.setId(record.getId())
+					.setSteamId64(UwObject.ifNotNull(record.getSteamId(), SteamId::toSteam64OrNull))
+					.setPlayerName(record.getPlayerName())
+					.setServerId(record.getServerId())
+					.setMapId(record.getMapId())
+					.setStage(record.getStage())
+					.setMode(record.getMode())
+					.setTickrate(record.getTickrate())
+					.setTime(UwObject.ifNotNull(record.getTime(), RunTime::getTime))
+					.setTeleportCount(record.getTeleportCount())
+					.setCreateDate(record.getCreateDate())
+					.setUpdateDate(record.getUpdateDate())
+					.setRecordFilterId(record.getRecordFilterId())
+					.setMapName(record.getMapName())
+					.setPointCount(record.getPointCount())
+					.setReplayId(record.getReplayId());
+		}
+
+		/**
+		 * Set the last row identifier.
+		 *
+		 * @param id	identifier
+		 * @return		this instance
+		 */
+		public Builder setId(int id) {
+			this.ids[this.lastRow()] = id;
+			return this;
+		}
+
+		/**
+		 * Set the last row type-64 person identifier.
+		 *
+		 * @param steamId64		type-64 person identifier
+		 * @return				this instance
+		 */
+		public Builder setSteamId64(long steamId64) {
+			this.steamId64s[this.lastRow()] = steamId64;
+			return this;
+		}
+
+		/**
+		 * Set the last row type-64 person identifier.
+		 *
+		 * @param steamId64		type-64 person identifier, may be null
+		 * @return				this instance
+		 */
+		public Builder setSteamId64(Long steamId64) {
+			return this.setSteamId64(UwObject.ifNull(steamId64, 0L));
+		}
+
+		/**
+		 * Set the last row person name.
+		 *
+		 * @param playerName	person name, may be null
+		 * @return				this instance
+		 */
+		public Builder setPlayerName(String playerName) {
+			this.playerNameCodes[this.lastRow()] = this.playerNames.encode(playerName);
+			return this;
+		}
+
+		/**
+		 * Set the last row server identifier.
+		 *
+		 * @param serverId	server identifier
+		 * @return			this instance
+		 */
+		public Builder setServerId(int serverId) {
+			this.serverIds[this.lastRow()] = serverId;
+			return this;
+		}
+
+		/**
+		 * Set the last row map identifier.
+		 *
+		 * @param mapId		map identifier
+		 * @return			this instance
+		 */
+		public Builder setMapId(int mapId) {
+			this.mapIds[this.lastRow()] = mapId;
+			return this;
+		}
+
+		/**
+		 * Set the last row stage identifier.
+		 *
+		 * @param stage		stage identifier
+		 * @return			this instance
+		 */
+		public Builder setStage(int stage) {
+			this.stages[this.lastRow()] = stage;
+			return this;
+		}
+
+		/**
+		 * Set the last row game mode.
+		 *
+		 * @param mode	game mode, may be null
+		 * @return		this instance
+		 */
+		public Builder setMode(EMode mode) {
+			this.modeCodes[this.lastRow()] = (byte) (mode == null ? NO_CODE : mode.ordinal());
+			return this;
+		}
+
+		/**
+		 * Set the last row tickrate.
+		 *
+		 * @param tickrate	tickrate, may be null
+		 * @return			this instance
+		 */
+		public Builder setTickrate(ETickrate tickrate) {
+			this.tickrateCodes[this.lastRow()] = (byte) (tickrate == null ? NO_CODE : tickrate.ordinal());
+			return this;
+		}
+
+		/**
+		 * Set the last row run time in seconds.
+		 *
+		 * @param time	run time in seconds
+		 * @return		this instance
+		 */
+		public Builder setTime(float time) {
+			this.times[this.lastRow()] = time;
+			return this;
+		}
+
+		/**
+		 * Set the last row run time in seconds.
+		 *
+		 * @param time	run time in seconds, may be null
+		 * @return		this instance
+		 */
+		public Builder setTime(Float time) {
+			return this.setTime(UwObject.ifNull(time, 0f));
+		}
+
+		/**
+		 * Set the last row teleport count.
+		 *
+		 * @param teleportCount		teleport count
+		 * @return					this instance
+		 */
+		public Builder setTeleportCount(int teleportCount) {
+			this.teleportCounts[this.lastRow()] = teleportCount;
+			return this;
+		}
+
+		/**
+		 * Set the last row creation date in epoch seconds.
+		 *
+		 * @param createDate	creation date in epoch seconds
+		 * @return				this instance
+		 */
+		public Builder setCreateDate(long createDate) {
+			this.createDates[this.lastRow()] = createDate;
+			return this;
+		}
+
+		/**
+		 * Set the last row creation date.
+		 *
+		 * @param createDate	creation date, may be null
+		 * @return				this instance
+		 */
+		public Builder setCreateDate(DateTime createDate) {
+			return this.setCreateDate(toSeconds(createDate));
+		}
+
+		/**
+		 * Set the last row update date in epoch seconds.
+		 *
+		 * @param updateDate	update date in epoch seconds
+		 * @return				this instance
+		 */
+		public Builder setUpdateDate(long updateDate) {
+			this.updateDates[this.lastRow()] = updateDate;
+			return this;
+		}
+
+		/**
+		 * Set the last row update date.
+		 *
+		 * @param updateDate	update date, may be null
+		 * @return				this instance
+		 */
+		public Builder setUpdateDate(DateTime updateDate) {
+			return this.setUpdateDate(toSeconds(updateDate));
+		}
+
+		/**
+		 * Set the last row record filter identifier.
+		 *
+		 * @param recordFilterId	record filter identifier
+		 * @return					this instance
+		 */
+		public Builder setRecordFilterId(int recordFilterId) {
+			this.recordFilterIds[this.lastRow()] = recordFilterId;
+			return this;
+		}
+
+		/**
+		 * Set the last row map name.
+		 *
+		 * @param mapName	map name, may be null
+		 * @return			this instance
+		 */
+		public Builder setMapName(String mapName) {
+			this.mapNameCodes[this.lastRow()] = this.mapNames.encode(mapName);
+			return this;
+		}
+
+		/**
+		 * Set the last row point count.
+		 *
+		 * @param pointCount	point count
+		 * @return				this instance
+		 */
+		public Builder setPointCount(int pointCount) {
+			this.pointCounts[this.lastRow()] = pointCount;
+			return this;
+		}
+
+		/**
+		 * Set the last row replay identifier.
+		 *
+		 * @param replayId	replay identifier
+		 * @return			this instance
+		 */
+		public Builder setReplayId(int replayId) {
+			this.replayIds[this.lastRow()] = replayId;
+			return this;
+		}
+
+		/**
+		 * Get this row count.
+		 *
+		 * @return	row count
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Build a {@link RecordBatch} instance.
+		 *
+		 * @return	record batch
+		 */
+		public RecordBatch build() {
+			return new RecordBatch(this);
+		}
+
+		/**
+		 * Get this last row index.
+		 *
+		 * @return	last row index
+		 * @throws IllegalStateException	if no rows were added
+		 */
+		private int lastRow() {
+			if (this.size == 0) {
+				throw new IllegalStateException("No rows were added, call <#addRow()> first");
+			}
+
+			return this.size - 1;
+		}
+
+		/**
+		 * Grow this arrays to the provided row capacity.
+		 *
+		 * @param capacity	row capacity
+		 */
+		private void allocate(int capacity) {
+			this.capacity = capacity;
+
+			this.ids = grow(this.ids, capacity);
+			this.steamId64s = grow(this.steamId64s, capacity);
+			this.playerNameCodes = grow(this.playerNameCodes, capacity);
+			this.serverIds = grow(this.serverIds, capacity);
+			this.mapIds = grow(this.mapIds, capacity);
+			this.stages = grow(this.stages, capacity);
+			this.modeCodes = this.modeCodes == null ? new byte[capacity] : Arrays.copyOf(this.modeCodes, capacity);
+			this.tickrateCodes = this.tickrateCodes == null ? new byte[capacity] : Arrays.copyOf(this.tickrateCodes, capacity);
+			this.times = this.times == null ? new float[capacity] : Arrays.copyOf(this.times, capacity);
+			this.teleportCounts = grow(this.teleportCounts, capacity);
+			this.createDates = grow(this.createDates, capacity);
+			this.updateDates = grow(this.updateDates, capacity);
+			this.recordFilterIds = grow(this.recordFilterIds, capacity);
+			this.mapNameCodes = grow(this.mapNameCodes, capacity);
+			this.pointCounts = grow(this.pointCounts, capacity);
+			this.replayIds = grow(this.replayIds, capacity);
+		}
+
+		/**
+		 * Grow the provided array to the provided length.
+		 *
+		 * @param array		array to grow, may be null
+		 * @param length	new length
+		 * @return			new array
+		 */
+		private static int[] grow(int[] array, int length) {
+			return array == null ? new int[length]
+					: Arrays.copyOf(array, length);
+		}
+
+		/**
+		 * Grow the provided array to the provided length.
+		 *
+		 * @param array		array to grow, may be null
+		 * @param length	new length
+		 * @return			new array
+		 */
+		private static long[] grow(long[] array, int length) {
+			return array == null ? new long[length]
+					: Arrays.copyOf(array, length);
+		}
+
+		/**
+		 * Convert a date to epoch seconds.
+		 *
+		 * @param date	date, may be null
+		 * @return		epoch seconds or {@code 0}
+		 */
+		private static long toSeconds(DateTime date) {
+			return date == null ? 0L
+					: date.getMillis() / 1000L;
+		}
+	}
+
+	/**
+	 * A string dictionary.
+	 *
+	 * <p>Assigns sequential codes to distinct strings.
+	 */
+	private static final class Dictionary {
+
+		/**
+		 * A map of codes by their strings.
+		 */
+		private final Map<String, Integer> codes = new HashMap<>();
+
+		/**
+		 * An array of strings by their codes.
+		 */
+		private String[] values = new String[8];
+
+		/**
+		 * Encode the provided string.
+		 *
+		 * @param value		string, may be null
+		 * @return			string code or {@link #NO_CODE}
+		 */
+		private int encode(String value) {
+			if (value == null) {
+				return NO_CODE;
+			}
+
+			Integer code = this.codes.get(value);
+
+			if (code != null) {
+				return code;
+			}
+
+			int size = this.codes.size();
+
+			if (size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, size << 1);
+			}
+
+			this.values[size] = value;
+			this.codes.put(value, size);
+
+			return size;
+		}
+
+		/**
+		 * Copy this strings to an array ordered by their codes.
+		 *
+		 * @return	array of strings
+		 */
+		private String[] toArray() {
+			return Arrays.copyOf(this.values, this.codes.size());
+		}
+	}
+}
@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API player record count entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordCountEntity implements Serializable, Cloneable {
 
 	/**
@@ -53,43 +53,15 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this record count.
@@ -143,23 +115,19 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.recordCount,
-							this.steamId,
-							this.playerName
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.recordCount,
+						this.steamId,
+						this.playerName
+				)
+		);
 	}
 
 	/**
@@ -167,21 +135,17 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "recordCount=" + this.recordCount
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "recordCount=" + this.recordCount
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ "]");
 	}
 
 	/**
@@ -195,20 +159,18 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	/**
 	 * Initialize a {@link RecordCountEntity} instance.
 	 *
-	 * @param steamId		person identifier
 	 * @param recordCount	record count
+	 * @param steamId		person identifier
 	 * @param playerName	person name
 	 */
 	private RecordCountEntity(
-			SteamId steamId,
 			Integer recordCount,
+			SteamId steamId,
 			String playerName
 	) {
-		this.steamId = steamId;
 		this.recordCount = recordCount;
+		this.steamId = steamId;
 		this.playerName = playerName;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -220,8 +182,8 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	 */
 	private RecordCountEntity(RecordCountEntity that) {
 		this(
-				that.steamId,
 				that.recordCount,
+				that.steamId,
 				that.playerName
 		);
 
@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz API record distribution entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordDistributionEntity implements Serializable, Cloneable {
 
 	/**
@@ -90,43 +90,15 @@ public final class RecordDistributionEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this record filter identifier.
@@ -240,29 +212,25 @@ public final class RecordDistributionEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.recordFilterId,
-							this.c,
-							this.d,
-							this.location,
-							this.scale,
-							this.topScale,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.recordFilterId,
+						this.c,
+						this.d,
+						this.location,
+						this.scale,
+						this.topScale,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater
+				)
+		);
 	}
 
 	/**
@@ -270,27 +238,23 @@ public final class RecordDistributionEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "recordFilterId=" + this.recordFilterId
-					+ ", c=" + this.c
-					+ ", d=" + this.d
-					+ ", location=" + this.location
-					+ ", scale=" + this.scale
-					+ ", topScale=" + this.topScale
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "recordFilterId=" + this.recordFilterId
+				+ ", c=" + this.c
+				+ ", d=" + this.d
+				+ ", location=" + this.location
+				+ ", scale=" + this.scale
+				+ ", topScale=" + this.topScale
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ "]");
 	}
 
 	/**
@@ -334,8 +298,6 @@ public final class RecordDistributionEntity implements Serializable, Cloneable {
 		this.createDate = createDate;
 		this.updateDate = updateDate;
 		this.dataUpdater = dataUpdater;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -30,7 +30,7 @@ import java.util.Objects;
 /**
  * A kreedz API record entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordEntity implements Serializable, Cloneable {
 
 	/**
@@ -42,7 +42,7 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * An identifier.
 	 */
 	@SerializedName("id")
-	private final Integer id;
+	private final int id;
 
 	/**
 	 * A person identifier.
@@ -60,19 +60,19 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * A server identifier.
 	 */
 	@SerializedName("server_id")
-	private final Integer serverId;
+	private final int serverId;
 
 	/**
 	 * A map identifier.
 	 */
 	@SerializedName("map_id")
-	private final Integer mapId;
+	private final int mapId;
 
 	/**
 	 * A stage identifier.
 	 */
 	@SerializedName("stage")
-	private final Integer stage;
+	private final int stage;
 
 	/**
 	 * A game mode.
@@ -96,7 +96,7 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * A teleport count.
 	 */
 	@SerializedName("teleports")
-	private final Integer teleportCount;
+	private final int teleportCount;
 
 	/**
 	 * A creation date.
@@ -120,7 +120,7 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * A record filter identifier.
 	 */
 	@SerializedName("record_filter_id")
-	private final Integer recordFilterId;
+	private final int recordFilterId;
 
 	/**
 	 * A server name.
@@ -138,60 +138,32 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * A point count.
 	 */
 	@SerializedName("points")
-	private final Integer pointCount;
+	private final int pointCount;
 
 	/**
 	 * A replay identifier.
 	 */
 	@SerializedName("replay_id")
-	private final Integer replayId;
+	private final int replayId;
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
 	 *
-	 * @return	identifier
+	 * @return	identifier or {@code 0} if missing
 	 */
-	public Integer getId() {
+	public int getId() {
 		return this.id;
 	}
 
@@ -216,27 +188,27 @@ public final class RecordEntity implements Serializable, Cloneable {
 	/**
 	 * Get this server identifier.
 	 *
-	 * @return	server identifier
+	 * @return	server identifier or {@code 0} if missing
 	 */
-	public Integer getServerId() {
+	public int getServerId() {
 		return this.serverId;
 	}
 
 	/**
 	 * Get this map identifier.
 	 *
-	 * @return	map identifier
+	 * @return	map identifier or {@code 0} if missing
 	 */
-	public Integer getMapId() {
+	public int getMapId() {
 		return this.mapId;
 	}
 
 	/**
 	 * Get this stage identifier.
 	 *
-	 * @return	stage identifier
+	 * @return	stage identifier or {@code 0} if missing
 	 */
-	public Integer getStage() {
+	public int getStage() {
 		return this.stage;
 	}
 
@@ -270,9 +242,9 @@ public final class RecordEntity implements Serializable, Cloneable {
 	/**
 	 * Get this teleport count.
 	 *
-	 * @return	teleport count
+	 * @return	teleport count or {@code 0} if missing
 	 */
-	public Integer getTeleportCount() {
+	public int getTeleportCount() {
 		return this.teleportCount;
 	}
 
@@ -306,9 +278,9 @@ public final class RecordEntity implements Serializable, Cloneable {
 	/**
 	 * Get this record filter identifier.
 	 *
-	 * @return	record filter identifier
+	 * @return	record filter identifier or {@code 0} if missing
 	 */
-	public Integer getRecordFilterId() {
+	public int getRecordFilterId() {
 		return this.recordFilterId;
 	}
 
@@ -333,18 +305,18 @@ public final class RecordEntity implements Serializable, Cloneable {
 	/**
 	 * Get this point count.
 	 *
-	 * @return	point count
+	 * @return	point count or {@code 0} if missing
 	 */
-	public Integer getPointCount() {
+	public int getPointCount() {
 		return this.pointCount;
 	}
 
 	/**
 	 * Get this replay identifier.
 	 *
-	 * @return	replay identifier
+	 * @return	replay identifier or {@code 0} if missing
 	 */
-	public Integer getReplayId() {
+	public int getReplayId() {
 		return this.replayId;
 	}
 
@@ -363,24 +335,24 @@ public final class RecordEntity implements Serializable, Cloneable {
 
 		RecordEntity that = (RecordEntity) obj;
 
-		return Objects.equals(this.id, that.id)
+		return this.id == that.id
 				&& Objects.equals(this.steamId, that.steamId)
 				&& Objects.equals(this.playerName, that.playerName)
-				&& Objects.equals(this.serverId, that.serverId)
-				&& Objects.equals(this.mapId, that.mapId)
-				&& Objects.equals(this.stage, that.stage)
+				&& this.serverId == that.serverId
+				&& this.mapId == that.mapId
+				&& this.stage == that.stage
 				&& this.mode == that.mode
 				&& this.tickrate == that.tickrate
 				&& Objects.equals(this.time, that.time)
-				&& Objects.equals(this.teleportCount, that.teleportCount)
+				&& this.teleportCount == that.teleportCount
 				&& Objects.equals(this.createDate, that.createDate)
 				&& Objects.equals(this.updateDate, that.updateDate)
 				&& Objects.equals(this.dataUpdater, that.dataUpdater)
-				&& Objects.equals(this.recordFilterId, that.recordFilterId)
+				&& this.recordFilterId == that.recordFilterId
 				&& Objects.equals(this.serverName, that.serverName)
 				&& Objects.equals(this.mapName, that.mapName)
-				&& Objects.equals(this.pointCount, that.pointCount)
-				&& Objects.equals(this.replayId, that.replayId);
+				&& this.pointCount == that.pointCount
+				&& this.replayId == that.replayId;
 	}
 
 	/**
@@ -388,38 +360,34 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.steamId,
-							this.playerName,
-							this.serverId,
-							this.mapId,
-							this.stage,
-							this.mode,
-							this.tickrate,
-							this.time,
-							this.teleportCount,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater,
-							this.recordFilterId,
-							this.serverName,
-							this.mapName,
-							this.pointCount,
-							this.replayId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.steamId,
+						this.playerName,
+						this.serverId,
+						this.mapId,
+						this.stage,
+						this.mode,
+						this.tickrate,
+						this.time,
+						this.teleportCount,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater,
+						this.recordFilterId,
+						this.serverName,
+						this.mapName,
+						this.pointCount,
+						this.replayId
+				)
+		);
 	}
 
 	/**
@@ -427,36 +395,32 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ ", serverId=" + this.serverId
-					+ ", mapId=" + this.mapId
-					+ ", stage=" + this.stage
-					+ ", mode=" + this.mode
-					+ ", tickrate=" + this.tickrate
-					+ ", time=" + this.time
-					+ ", teleportCount=" + this.teleportCount
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", recordFilterId=" + this.recordFilterId
-					+ ", serverName=\"" + this.serverName + "\""
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", pointCount=" + this.pointCount
-					+ ", replayId=" + this.replayId
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ ", serverId=" + this.serverId
+				+ ", mapId=" + this.mapId
+				+ ", stage=" + this.stage
+				+ ", mode=" + this.mode
+				+ ", tickrate=" + this.tickrate
+				+ ", time=" + this.time
+				+ ", teleportCount=" + this.teleportCount
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", recordFilterId=" + this.recordFilterId
+				+ ", serverName=\"" + this.serverName + "\""
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", pointCount=" + this.pointCount
+				+ ", replayId=" + this.replayId
+				+ "]");
 	}
 
 	/**
@@ -490,24 +454,24 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * @param replayId			replay identifier
 	 */
 	private RecordEntity(
-			Integer id,
+			int id,
 			SteamId steamId,
 			String playerName,
-			Integer serverId,
-			Integer mapId,
-			Integer stage,
+			int serverId,
+			int mapId,
+			int stage,
 			EMode mode,
 			ETickrate tickrate,
 			RunTime time,
-			Integer teleportCount,
+			int teleportCount,
 			DateTime createDate,
 			DateTime updateDate,
 			DataUpdater dataUpdater,
-			Integer recordFilterId,
+			int recordFilterId,
 			String serverName,
 			String mapName,
-			Integer pointCount,
-			Integer replayId
+			int pointCount,
+			int replayId
 	) {
 		this.id = id;
 		this.steamId = steamId;
@@ -527,8 +491,6 @@ public final class RecordEntity implements Serializable, Cloneable {
 		this.mapName = mapName;
 		this.pointCount = pointCount;
 		this.replayId = replayId;
-
-		this.initMutexObjects();
 	}
 
 	/**
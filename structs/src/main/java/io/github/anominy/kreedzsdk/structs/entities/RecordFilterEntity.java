@@ -18,6 +18,7 @@ package io.github.anominy.kreedzsdk.structs.entities;
 
 import com.google.gson.annotations.SerializedName;
 import io.github.anominy.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.anominy.kreedzsdk.structs.types.EMode;
 import io.github.anominy.kreedzsdk.structs.types.ERunType;
 import io.github.anominy.kreedzsdk.structs.types.ETickrate;
 import org.joda.time.DateTime;
@@ -28,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API record filter entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordFilterEntity implements Serializable, Cloneable {
 
 	/**
@@ -48,6 +49,18 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	@SerializedName("map_id")
 	private final Integer mapId;
 
+	/**
+	 * A stage identifier.
+	 */
+	@SerializedName("stage")
+	private final Integer stage;
+
+	/**
+	 * A game mode.
+	 */
+	@SerializedName("mode_id")
+	private final EMode mode;
+
 	/**
 	 * A tickrate.
 	 */
@@ -80,60 +93,50 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
+	private transient String stringCache;
 
 	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
+	 * Get this identifier.
+	 *
+	 * @return	identifier
 	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
+	public Integer getId() {
+		return this.id;
 	}
 
 	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
+	 * Get this map identifier.
 	 *
-	 * @return	this instance
+	 * @return	map identifier
 	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
+	public Integer getMapId() {
+		return this.mapId;
 	}
 
 	/**
-	 * Get this identifier.
+	 * Get this stage identifier.
 	 *
-	 * @return	identifier
+	 * @return	stage identifier
 	 */
-	public Integer getId() {
-		return this.id;
+	public Integer getStage() {
+		return this.stage;
 	}
 
 	/**
-	 * Get this map identifier.
+	 * Get this game mode.
 	 *
-	 * @return	map identifier
+	 * @return	game mode
 	 */
-	public Integer getMapId() {
-		return this.mapId;
+	public EMode getMode() {
+		return this.mode;
 	}
 
 	/**
@@ -198,6 +201,8 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 
 		return Objects.equals(this.id, that.id)
 				&& Objects.equals(this.mapId, that.mapId)
+				&& Objects.equals(this.stage, that.stage)
+				&& this.mode == that.mode
 				&& this.tickrate == that.tickrate
 				&& this.runType == that.runType
 				&& Objects.equals(this.createDate, that.createDate)
@@ -210,27 +215,25 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.mapId,
-							this.tickrate,
-							this.runType,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.mapId,
+						this.stage,
+						this.mode,
+						this.tickrate,
+						this.runType,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater
+				)
+		);
 	}
 
 	/**
@@ -238,25 +241,23 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", mapId=" + this.mapId
-					+ ", tickrate=" + this.tickrate
-					+ ", runType=" + this.runType
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", mapId=" + this.mapId
+				+ ", stage=" + this.stage
+				+ ", mode=" + this.mode
+				+ ", tickrate=" + this.tickrate
+				+ ", runType=" + this.runType
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ "]");
 	}
 
 	/**
@@ -272,6 +273,8 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	 *
 	 * @param id			identifier
 	 * @param mapId			map identifier
+	 * @param stage			stage identifier
+	 * @param mode			game mode
 	 * @param tickrate		tickrate
 	 * @param runType		run type
 	 * @param createDate	create date
@@ -281,6 +284,8 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	private RecordFilterEntity(
 			Integer id,
 			Integer mapId,
+			Integer stage,
+			EMode mode,
 			ETickrate tickrate,
 			ERunType runType,
 			DateTime createDate,
@@ -289,13 +294,13 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	) {
 		this.id = id;
 		this.mapId = mapId;
+		this.stage = stage;
+		this.mode = mode;
 		this.tickrate = tickrate;
 		this.runType = runType;
 		this.createDate = createDate;
 		this.updateDate = updateDate;
 		this.dataUpdater = dataUpdater;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -309,6 +314,8 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 		this(
 				that.id,
 				that.mapId,
+				that.stage,
+				that.mode,
 				that.tickrate,
 				that.runType,
 				that.createDate,
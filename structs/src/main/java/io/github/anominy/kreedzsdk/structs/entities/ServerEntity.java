@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API server entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class ServerEntity implements Serializable, Cloneable {
 
 	/**
@@ -37,13 +37,13 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 * An identifier.
 	 */
 	@SerializedName("id")
-	private final Integer id;
+	private final int id;
 
 	/**
 	 * A port.
 	 */
 	@SerializedName("port")
-	private final Integer port;
+	private final int port;
 
 	/**
 	 * An IP address.
@@ -65,59 +65,31 @@ public final class ServerEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
 	 *
-	 * @return	identifier
+	 * @return	identifier or {@code 0} if missing
 	 */
-	public Integer getId() {
+	public int getId() {
 		return this.id;
 	}
 
 	/**
 	 * Get this port.
 	 *
-	 * @return	port
+	 * @return	port or {@code 0} if missing
 	 */
-	public Integer getPort() {
+	public int getPort() {
 		return this.port;
 	}
 
@@ -163,8 +135,8 @@ public final class ServerEntity implements Serializable, Cloneable {
 
 		ServerEntity that = (ServerEntity) obj;
 
-		return Objects.equals(id, that.id)
-				&& Objects.equals(port, that.port)
+		return id == that.id
+				&& port == that.port
 				&& Objects.equals(ip, that.ip)
 				&& Objects.equals(name, that.name)
 				&& Objects.equals(ownerSteamId, that.ownerSteamId);
@@ -175,25 +147,21 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.port,
-							this.ip,
-							this.name,
-							this.ownerSteamId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.port,
+						this.ip,
+						this.name,
+						this.ownerSteamId
+				)
+		);
 	}
 
 	/**
@@ -201,23 +169,19 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", port=" + this.port
-					+ ", ip=\"" + this.ip + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", ownerSteamId=" + this.ownerSteamId
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", port=" + this.port
+				+ ", ip=\"" + this.ip + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", ownerSteamId=" + this.ownerSteamId
+				+ "]");
 	}
 
 	/**
@@ -238,8 +202,8 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 * @param ownerSteamId	owner's identifier
 	 */
 	private ServerEntity(
-			Integer id,
-			Integer port,
+			int id,
+			int port,
 			String ip,
 			String name,
 			SteamId ownerSteamId
@@ -249,8 +213,6 @@ public final class ServerEntity implements Serializable, Cloneable {
 		this.ip = ip;
 		this.name = name;
 		this.ownerSteamId = ownerSteamId;
-
-		this.initMutexObjects();
 	}
 
 	/**
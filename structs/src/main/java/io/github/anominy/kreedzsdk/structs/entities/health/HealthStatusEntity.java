@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz health API status entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class HealthStatusEntity implements Serializable, Cloneable {
 
 	/**
@@ -74,43 +74,15 @@ public final class HealthStatusEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this response code.
@@ -194,26 +166,22 @@ public final class HealthStatusEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.code,
-							this.hostName,
-							this.duration,
-							this.conditions,
-							this.isSuccessful,
-							this.date
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.code,
+						this.hostName,
+						this.duration,
+						this.conditions,
+						this.isSuccessful,
+						this.date
+				)
+		);
 	}
 
 	/**
@@ -221,24 +189,20 @@ public final class HealthStatusEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "code=" + this.code
-					+ ", hostName=\"" + this.hostName + "\""
-					+ ", duration=" + this.duration
-					+ ", conditions=" + this.conditions
-					+ ", isSuccessful=" + this.isSuccessful
-					+ ", date=" + this.date
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "code=" + this.code
+				+ ", hostName=\"" + this.hostName + "\""
+				+ ", duration=" + this.duration
+				+ ", conditions=" + this.conditions
+				+ ", isSuccessful=" + this.isSuccessful
+				+ ", date=" + this.date
+				+ "]");
 	}
 
 	/**
@@ -273,8 +237,6 @@ public final class HealthStatusEntity implements Serializable, Cloneable {
 		this.conditions = conditions;
 		this.isSuccessful = isSuccessful;
 		this.date = date;
-
-		this.initMutexObjects();
 	}
 
 	/**
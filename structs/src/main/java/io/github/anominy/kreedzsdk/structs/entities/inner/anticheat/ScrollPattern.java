@@ -16,20 +16,21 @@
 
 package io.github.anominy.kreedzsdk.structs.entities.inner.anticheat;
 
-import io.github.anominy.uwutils.UwList;
-import io.github.anominy.uwutils.UwObject;
-
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 /**
  * A scroll pattern representation.
+ *
+ * <p>Stores jump inputs packed into long integers,
+ * see {@link JumpInput#pack(int, int, boolean)},
+ * and computes the aggregates once on initialization.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class ScrollPattern implements Serializable, Cloneable {
 
 	/**
@@ -38,139 +39,123 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	private static final String SIMPLE_NAME = ScrollPattern.class.getSimpleName();
 
 	/**
-	 * A list of jump inputs.
-	 */
-	private final List<JumpInput> jumpInputs;
-
-	/**
-	 * A {@link #getPerfJumpCount()} cache.
-	 */
-	private transient volatile Integer perfJumpCountCache;
-
-	/**
-	 * A {@link #getTotalPreInputCount()} cache.
+	 * An empty array of packed jump inputs.
 	 */
-	private transient volatile Integer totalPreInputCountCache;
+	private static final long[] EMPTY_PACKED_JUMP_INPUTS = new long[0];
 
 	/**
-	 * A {@link #getTotalPostInputCount()} cache.
+	 * An array of packed jump inputs.
 	 */
-	private transient volatile Integer totalPostInputCountCache;
+	private final long[] packedJumpInputs;
 
 	/**
-	 * A {@link #toGokzString()} cache.
-	 */
-	private transient volatile String gokzStringCache;
-
-	/**
-	 * A {@link #toKztimerString()} cache.
+	 * A perf-jump count.
 	 */
-	private transient volatile String kztimerStringCache;
+	private final int perfJumpCount;
 
 	/**
-	 * A {@link #hashCode()} cache.
+	 * A total pre-input count.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private final int totalPreInputCount;
 
 	/**
-	 * A {@link #toString()} cache.
+	 * A total post-input count.
 	 */
-	private transient volatile String stringCache;
+	private final int totalPostInputCount;
 
 	/**
-	 * A {@link #perfJumpCountCache} mutex.
+	 * A {@link #getJumpInputs()} cache.
 	 */
-	private transient Object perfJumpCountCacheMutex;
+	private transient List<JumpInput> jumpInputsCache;
 
 	/**
-	 * A {@link #totalPreInputCountCache} mutex.
-	 */
-	private transient Object totalPreInputCountCacheMutex;
-
-	/**
-	 * A {@link #totalPostInputCountCache} mutex.
-	 */
-	private transient Object totalPostInputCountCacheMutex;
-
-	/**
-	 * A {@link #gokzStringCache} mutex.
-	 */
-	private transient Object gokzStringCacheMutex;
-
-	/**
-	 * A {@link #kztimerStringCache} mutex.
+	 * A {@link #toGokzString()} cache.
 	 */
-	private transient Object kztimerStringCacheMutex;
+	private transient String gokzStringCache;
 
 	/**
-	 * A {@link #hashCodeCache} mutex.
+	 * A {@link #toKztimerString()} cache.
 	 */
-	private transient Object hashCodeCacheMutex;
+	private transient String kztimerStringCache;
 
 	/**
-	 * A {@link #stringCache} mutex.
+	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient Object stringCacheMutex;
+	private transient int hashCodeCache;
 
 	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.perfJumpCountCacheMutex = new Object();
-		this.totalPreInputCountCacheMutex = new Object();
-		this.totalPostInputCountCacheMutex = new Object();
-		this.gokzStringCacheMutex = new Object();
-		this.kztimerStringCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
+	 * A {@link #toString()} cache.
 	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link ScrollPattern} instance.
 	 *
-	 * <p>Wraps {@link #ScrollPattern(List)}
-	 * w/ {@code null} as the list of jump inputs.
+	 * <p>Wraps {@link #ScrollPattern(long[])}
+	 * w/ {@code null} as the array of packed jump inputs.
 	 */
 	public ScrollPattern() {
-		this((List<JumpInput>) null);
+		this((long[]) null);
 	}
 
 	/**
 	 * Initialize a {@link ScrollPattern} instance.
 	 *
-	 * <p>Wraps {@link #ScrollPattern(List)}.
+	 * <p>Wraps {@link #ScrollPattern(long[])}
+	 * w/ the packed jump inputs.
 	 *
 	 * @param jumpInputs	array of jump inputs
 	 */
 	public ScrollPattern(JumpInput[] jumpInputs) {
-		this((List<JumpInput>) UwObject.ifNotNull(jumpInputs, Arrays::asList));
+		this(jumpInputs == null ? null
+				: Arrays.asList(jumpInputs));
 	}
 
 	/**
 	 * Initialize a {@link ScrollPattern} instance.
 	 *
+	 * <p>Wraps {@link #ScrollPattern(long[])}
+	 * w/ the packed jump inputs.
+	 *
 	 * @param jumpInputs	list of jump inputs
 	 */
 	public ScrollPattern(List<JumpInput> jumpInputs) {
-		jumpInputs = UwObject.ifNull(jumpInputs, ArrayList::new);
-		jumpInputs = UwList.toUnmodifiable(jumpInputs);
+		this(jumpInputs == null ? null
+				: jumpInputs.stream()
+						.mapToLong(JumpInput::toPacked)
+						.toArray());
+	}
+
+	/**
+	 * Initialize a {@link ScrollPattern} instance.
+	 *
+	 * <p>Copies the provided array.
+	 *
+	 * @param packedJumpInputs	array of packed jump inputs
+	 */
+	public ScrollPattern(long[] packedJumpInputs) {
+		packedJumpInputs = packedJumpInputs == null || packedJumpInputs.length == 0 ? EMPTY_PACKED_JUMP_INPUTS
+				: packedJumpInputs.clone();
+
+		int perfJumpCount = 0;
+		int totalPreInputCount = 0;
+		int totalPostInputCount = 0;
 
-		this.jumpInputs = jumpInputs;
+		for (long packed : packedJumpInputs) {
+			if (JumpInput.unpackIsPerf(packed)) {
+				perfJumpCount++;
+			}
+
+			totalPreInputCount += JumpInput.unpackPreInputCount(packed);
+			totalPostInputCount += JumpInput.unpackPostInputCount(packed);
+		}
 
-		this.initMutexObjects();
+		this.packedJumpInputs = packedJumpInputs;
+		this.perfJumpCount = perfJumpCount;
+		this.totalPreInputCount = totalPreInputCount;
+		this.totalPostInputCount = totalPostInputCount;
 	}
 
 	/**
@@ -181,11 +166,13 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @param that	instance to copy field values from
 	 */
 	private ScrollPattern(ScrollPattern that) {
-		this(that.jumpInputs);
+		this.packedJumpInputs = that.packedJumpInputs;
+		this.perfJumpCount = that.perfJumpCount;
+		this.totalPreInputCount = that.totalPreInputCount;
+		this.totalPostInputCount = that.totalPostInputCount;
+
+		this.jumpInputsCache = that.jumpInputsCache;
 
-		this.perfJumpCountCache = that.perfJumpCountCache;
-		this.totalPreInputCountCache = that.totalPreInputCountCache;
-		this.totalPostInputCountCache = that.totalPostInputCountCache;
 		this.gokzStringCache = that.gokzStringCache;
 		this.kztimerStringCache = that.kztimerStringCache;
 
@@ -196,10 +183,84 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	/**
 	 * Get this list of jump inputs.
 	 *
-	 * @return	list of jump inputs
+	 * <p>Jump inputs are created on access,
+	 * prefer the indexed getters for bulk analysis.
+	 *
+	 * @return	unmodifiable list of jump inputs
 	 */
 	public List<JumpInput> getJumpInputs() {
-		return this.jumpInputs;
+		List<JumpInput> jumpInputs = this.jumpInputsCache;
+
+		if (jumpInputs != null) {
+			return jumpInputs;
+		}
+
+		return (this.jumpInputsCache = Collections.unmodifiableList(new JumpInputList(this.packedJumpInputs)));
+	}
+
+	/**
+	 * Get a jump input by its index.
+	 *
+	 * @param index		jump index
+	 * @return			jump input
+	 * @throws IndexOutOfBoundsException	if the index is out of bounds
+	 */
+	public JumpInput getJumpInput(int index) {
+		return JumpInput.fromPacked(this.packedJumpInputs[index]);
+	}
+
+	/**
+	 * Get a packed jump input by its index.
+	 *
+	 * @param index		jump index
+	 * @return			packed jump input
+	 * @throws IndexOutOfBoundsException	if the index is out of bounds
+	 */
+	public long getPackedJumpInput(int index) {
+		return this.packedJumpInputs[index];
+	}
+
+	/**
+	 * Get a pre-input count by its jump index.
+	 *
+	 * @param index		jump index
+	 * @return			pre-input count
+	 * @throws IndexOutOfBoundsException	if the index is out of bounds
+	 */
+	public int getPreInputCount(int index) {
+		return JumpInput.unpackPreInputCount(this.packedJumpInputs[index]);
+	}
+
+	/**
+	 * Get a post-input count by its jump index.
+	 *
+	 * @param index		jump index
+	 * @return			post-input count
+	 * @throws IndexOutOfBoundsException	if the index is out of bounds
+	 */
+	public int getPostInputCount(int index) {
+		return JumpInput.unpackPostInputCount(this.packedJumpInputs[index]);
+	}
+
+	/**
+	 * Check if a jump is a perf-jump by its index.
+	 *
+	 * @param index		jump index
+	 * @return			boolean value as a result,
+	 * 					true - yes, false - no
+	 * @throws IndexOutOfBoundsException	if the index is out of bounds
+	 */
+	public boolean isPerf(int index) {
+		return JumpInput.unpackIsPerf(this.packedJumpInputs[index]);
+	}
+
+	/**
+	 * Copy this array of packed jump inputs.
+	 *
+	 * @return	array of packed jump inputs
+	 */
+	public long[] copyPackedJumpInputs() {
+		return this.packedJumpInputs.clone();
 	}
 
 	/**
@@ -208,7 +269,7 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	total jump count
 	 */
 	public int getTotalJumpCount() {
-		return this.jumpInputs.size();
+		return this.packedJumpInputs.length;
 	}
 
 	/**
@@ -217,19 +278,7 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	perf-jump count
 	 */
 	public int getPerfJumpCount() {
-		if (this.perfJumpCountCache != null) {
-			return this.perfJumpCountCache;
-		}
-
-		synchronized (this.perfJumpCountCacheMutex) {
-			if (this.perfJumpCountCache != null) {
-				return this.perfJumpCountCache;
-			}
-
-			return (this.perfJumpCountCache = (int) this.jumpInputs.stream()
-					.filter(JumpInput::isPerf)
-					.count());
-		}
+		return this.perfJumpCount;
 	}
 
 	/**
@@ -256,19 +305,7 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	total pre-input count.
 	 */
 	public int getTotalPreInputCount() {
-		if (this.totalPreInputCountCache != null) {
-			return this.totalPreInputCountCache;
-		}
-
-		synchronized (this.totalPreInputCountCacheMutex) {
-			if (this.totalPreInputCountCache != null) {
-				return this.totalPreInputCountCache;
-			}
-
-			return (this.totalPreInputCountCache = this.jumpInputs.stream()
-					.mapToInt(JumpInput::getPreInputCount)
-					.sum());
-		}
+		return this.totalPreInputCount;
 	}
 
 	/**
@@ -277,19 +314,7 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	total post-input count.
 	 */
 	public int getTotalPostInputCount() {
-		if (this.totalPostInputCountCache != null) {
-			return this.totalPostInputCountCache;
-		}
-
-		synchronized (this.totalPostInputCountCacheMutex) {
-			if (this.totalPostInputCountCache != null) {
-				return this.totalPostInputCountCache;
-			}
-
-			return (this.totalPostInputCountCache = this.jumpInputs.stream()
-					.mapToInt(JumpInput::getPostInputCount)
-					.sum());
-		}
+		return this.totalPostInputCount;
 	}
 
 	/**
@@ -356,19 +381,23 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	string representation, always not null
 	 */
 	public String toGokzString() {
-		if (this.gokzStringCache != null) {
-			return this.gokzStringCache;
+		String gokzString = this.gokzStringCache;
+
+		if (gokzString != null) {
+			return gokzString;
 		}
 
-		synchronized (this.gokzStringCacheMutex) {
-			if (this.gokzStringCache != null) {
-				return this.gokzStringCache;
-			}
+		StringBuilder sb = new StringBuilder(this.packedJumpInputs.length * 6);
 
-			return (this.gokzStringCache = this.jumpInputs.stream()
-					.map(JumpInput::toGokzString)
-					.collect(Collectors.joining()));
+		for (long packed : this.packedJumpInputs) {
+			sb.append('(')
+					.append(JumpInput.unpackPreInputCount(packed))
+					.append(JumpInput.unpackIsPerf(packed) ? JumpInput.PERF_JUMP_CHAR : JumpInput.NORMAL_JUMP_CHAR)
+					.append(JumpInput.unpackPostInputCount(packed))
+					.append(')');
 		}
+
+		return (this.gokzStringCache = sb.toString());
 	}
 
 	/**
@@ -377,19 +406,23 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	string representation, always not null
 	 */
 	public String toKztimerString() {
-		if (this.kztimerStringCache != null) {
-			return this.kztimerStringCache;
+		String kztimerString = this.kztimerStringCache;
+
+		if (kztimerString != null) {
+			return kztimerString;
 		}
 
-		synchronized (this.kztimerStringCacheMutex) {
-			if (this.kztimerStringCache != null) {
-				return this.kztimerStringCache;
+		StringBuilder sb = new StringBuilder(this.packedJumpInputs.length * 3);
+
+		for (int i = 0; i < this.packedJumpInputs.length; i++) {
+			if (i != 0) {
+				sb.append(' ');
 			}
 
-			return (this.kztimerStringCache = this.jumpInputs.stream()
-					.map(JumpInput::toKztimerString)
-					.collect(Collectors.joining(" ")));
+			sb.append(JumpInput.unpackPreInputCount(this.packedJumpInputs[i]));
 		}
+
+		return (this.kztimerStringCache = sb.toString());
 	}
 
 	/**
@@ -407,7 +440,7 @@ public final class ScrollPattern implements Serializable, Cloneable {
 
 		ScrollPattern that = (ScrollPattern) obj;
 
-		return Objects.equals(this.jumpInputs, that.jumpInputs);
+		return Arrays.equals(this.packedJumpInputs, that.packedJumpInputs);
 	}
 
 	/**
@@ -415,18 +448,14 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(this.jumpInputs));
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Arrays.hashCode(this.packedJumpInputs));
 	}
 
 	/**
@@ -434,19 +463,15 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "jumpInputs=" + this.jumpInputs
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "jumpInputs=" + this.getJumpInputs()
+				+ "]");
 	}
 
 	/**
@@ -456,4 +481,42 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	public ScrollPattern clone() {
 		return new ScrollPattern(this);
 	}
+
+	/**
+	 * A list view of packed jump inputs.
+	 *
+	 * <p>Creates jump inputs on access.
+	 */
+	private static final class JumpInputList extends AbstractList<JumpInput> implements RandomAccess {
+
+		/**
+		 * An array of packed jump inputs.
+		 */
+		private final long[] packedJumpInputs;
+
+		/**
+		 * Initialize a {@link JumpInputList} instance.
+		 *
+		 * @param packedJumpInputs	array of packed jump inputs
+		 */
+		private JumpInputList(long[] packedJumpInputs) {
+			this.packedJumpInputs = packedJumpInputs;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public JumpInput get(int index) {
+			return JumpInput.fromPacked(this.packedJumpInputs[index]);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size() {
+			return this.packedJumpInputs.length;
+		}
+	}
 }
@@ -31,7 +31,7 @@ import java.util.regex.Pattern;
 /**
  * A kreedz API ban stats representation.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public class BanStats implements Serializable, Cloneable {
 
 	/**
@@ -41,8 +41,11 @@ public class BanStats implements Serializable, Cloneable {
 
 	/**
 	 * A jump inputs regular expression.
+	 *
+	 * <p>Captures the scroll pattern up to the next comma,
+	 * so the KZTimer stats following it aren't captured.
 	 */
-	private static final String JUMP_INPUTS_REGEX = ".*Scroll pattern: (.*),?.*";
+	private static final String JUMP_INPUTS_REGEX = ".*Scroll pattern: (.*?)(?:,.*)?";
 
 	/**
 	 * A jump inputs pattern.
@@ -64,53 +67,19 @@ public class BanStats implements Serializable, Cloneable {
 	/**
 	 * A {@link #getScrollPattern()} cache.
 	 */
-	private transient volatile ScrollPattern scrollPatternCache;
+	private transient ScrollPattern scrollPatternCache;
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #scrollPatternCache} mutex.
-	 */
-	private transient Object scrollPatternCacheMutex;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.scrollPatternCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link BanStats} instance.
@@ -124,8 +93,6 @@ public class BanStats implements Serializable, Cloneable {
 
 		this.rawStats = rawStats;
 		this.pluginType = pluginType;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -158,12 +125,13 @@ public class BanStats implements Serializable, Cloneable {
 	}
 
 	/**
-	 * Parse and convert text-string to a jump inputs array.
+	 * Parse and convert text-string to a packed jump inputs array.
 	 *
 	 * @param text	text-string, always not null
-	 * @return		array of jump inputs
+	 * @return		array of packed jump inputs
+	 * @see JumpInput#pack(int, int, boolean)
 	 */
-	protected JumpInput[] parseJumpInputs(String text) {
+	protected long[] parseJumpInputs(String text) {
 		return null;
 	}
 
@@ -191,25 +159,21 @@ public class BanStats implements Serializable, Cloneable {
 	 * @return	scroll pattern
 	 */
 	public final ScrollPattern getScrollPattern() {
-		if (this.scrollPatternCache != null) {
-			return this.scrollPatternCache;
-		}
-
-		synchronized (this.scrollPatternCacheMutex) {
-			if (this.scrollPatternCache != null) {
-				return this.scrollPatternCache;
-			}
+		ScrollPattern scrollPattern = this.scrollPatternCache;
 
-			JumpInput[] jumpInputs = null;
+		if (scrollPattern != null) {
+			return scrollPattern;
+		}
 
-			Matcher m = JUMP_INPUTS_PATTERN.matcher(this.rawStats);
+		long[] jumpInputs = null;
 
-			if (m.matches()) {
-				jumpInputs = this.parseJumpInputs(m.group(1));
-			}
+		Matcher m = JUMP_INPUTS_PATTERN.matcher(this.rawStats);
 
-			return (this.scrollPatternCache = new ScrollPattern(jumpInputs));
+		if (m.matches()) {
+			jumpInputs = this.parseJumpInputs(m.group(1));
 		}
+
+		return (this.scrollPatternCache = new ScrollPattern(jumpInputs));
 	}
 
 	/**
@@ -392,22 +356,18 @@ public class BanStats implements Serializable, Cloneable {
 	 */
 	@Override
 	public final int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.rawStats,
-							this.pluginType
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.rawStats,
+						this.pluginType
+				)
+		);
 	}
 
 	/**
@@ -415,20 +375,16 @@ public class BanStats implements Serializable, Cloneable {
 	 */
 	@Override
 	public final String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "rawStats=\"" + this.rawStats + "\""
-					+ ", pluginType=" + this.pluginType
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "rawStats=\"" + this.rawStats + "\""
+				+ ", pluginType=" + this.pluginType
+				+ "]");
 	}
 
 	/**
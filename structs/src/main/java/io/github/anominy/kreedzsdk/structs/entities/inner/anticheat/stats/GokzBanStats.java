@@ -20,8 +20,7 @@ import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
 import io.github.anominy.kreedzsdk.structs.types.EPluginType;
 import io.github.anominy.uwutils.UwString;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 /**
  * A kreedz API GOKZ plugin ban stats representation.
@@ -45,18 +44,6 @@ public final class GokzBanStats extends BanStats implements Cloneable {
 	 */
 	private static final String JUMP_INPUT_SEPARATOR_REGEX = "\\)\\(";
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link GokzBanStats} instance.
 	 *
@@ -81,36 +68,38 @@ public final class GokzBanStats extends BanStats implements Cloneable {
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected JumpInput[] parseJumpInputs(String text) {
+	protected long[] parseJumpInputs(String text) {
 		text = UwString.trimOrEmpty(text, 1);
 
-		return Stream.of(text.split(JUMP_INPUT_SEPARATOR_REGEX))
-				.map(str -> {
-					boolean isPerf = str.contains(JumpInput.PERF_JUMP_CHAR_STRING);
-					boolean isJump = str.contains(JumpInput.NORMAL_JUMP_CHAR_STRING);
+		String[] strs = text.split(JUMP_INPUT_SEPARATOR_REGEX);
+		long[] jumpInputs = new long[strs.length];
+		int jumpInputCount = 0;
+
+		for (String str : strs) {
+			boolean isPerf = str.contains(JumpInput.PERF_JUMP_CHAR_STRING);
+			boolean isJump = str.contains(JumpInput.NORMAL_JUMP_CHAR_STRING);
 
-					if (isPerf == isJump) {
-						new IllegalStateException("isPerf & isJump boolean values are equal")
-								.printStackTrace();
+			if (isPerf == isJump) {
+				new IllegalStateException("isPerf & isJump boolean values are equal")
+						.printStackTrace();
 
-						return null;
-					}
+				continue;
+			}
 
-					String[] split = str.split(JUMP_CHAR_REGEX, 2);
+			String[] split = str.split(JUMP_CHAR_REGEX, 2);
 
-					try {
-						int preInputCount = Integer.parseInt(split[0]);
-						int postInputCount = Integer.parseInt(split[1]);
+			try {
+				int preInputCount = Integer.parseInt(split[0]);
+				int postInputCount = Integer.parseInt(split[1]);
 
-						return new JumpInput(preInputCount, postInputCount, isPerf);
-					} catch (IndexOutOfBoundsException | NumberFormatException e) {
-						e.printStackTrace();
-					}
+				jumpInputs[jumpInputCount++] = JumpInput.pack(preInputCount, postInputCount, isPerf);
+			} catch (IndexOutOfBoundsException | NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
 
-					return null;
-				})
-				.filter(Objects::nonNull)
-				.toArray(JumpInput[]::new);
+		return jumpInputCount == jumpInputs.length ? jumpInputs
+				: Arrays.copyOf(jumpInputs, jumpInputCount);
 	}
 
 	/**
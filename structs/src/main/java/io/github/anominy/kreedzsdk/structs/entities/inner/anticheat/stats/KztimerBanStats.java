@@ -19,8 +19,7 @@ package io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats;
 import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.JumpInput;
 import io.github.anominy.kreedzsdk.structs.types.EPluginType;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 /**
  * A kreedz API KZTimer plugin ban stats representation.
@@ -33,18 +32,6 @@ public final class KztimerBanStats extends BanStats implements Cloneable {
 	 */
 	private static final String JUMP_INPUT_SEPARATOR_REGEX = " ";
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link KztimerBanStats} instance.
 	 *
@@ -69,21 +56,23 @@ public final class KztimerBanStats extends BanStats implements Cloneable {
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected JumpInput[] parseJumpInputs(String text) {
-		return Stream.of(text.split(JUMP_INPUT_SEPARATOR_REGEX))
-				.map(str -> {
-					try {
-						int inputCount = Integer.parseInt(str);
+	protected long[] parseJumpInputs(String text) {
+		String[] strs = text.split(JUMP_INPUT_SEPARATOR_REGEX);
+		long[] jumpInputs = new long[strs.length];
+		int jumpInputCount = 0;
+
+		for (String str : strs) {
+			try {
+				int inputCount = Integer.parseInt(str);
 
-						return new JumpInput(inputCount);
-					} catch (NumberFormatException e) {
-						e.printStackTrace();
-					}
+				jumpInputs[jumpInputCount++] = JumpInput.pack(inputCount, 0, true);
+			} catch (NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
 
-					return null;
-				})
-				.filter(Objects::nonNull)
-				.toArray(JumpInput[]::new);
+		return jumpInputCount == jumpInputs.length ? jumpInputs
+				: Arrays.copyOf(jumpInputs, jumpInputCount);
 	}
 
 	/**
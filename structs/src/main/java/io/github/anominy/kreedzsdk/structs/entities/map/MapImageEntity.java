@@ -24,7 +24,7 @@ import java.util.Objects;
 /**
  * A map images API entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class MapImageEntity implements Serializable, Cloneable {
 
 	/**
@@ -124,43 +124,15 @@ public final class MapImageEntity implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this map name.
@@ -264,28 +236,24 @@ public final class MapImageEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.mapName,
-							this.sourceUrl,
-							this.jpgHighResolutionUrl,
-							this.jpgMediumResolutionUrl,
-							this.jpgLowResolutionUrl,
-							this.webpHighResolutionUrl,
-							this.webpMediumResolutionUrl,
-							this.webpLowResolutionUrl
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.mapName,
+						this.sourceUrl,
+						this.jpgHighResolutionUrl,
+						this.jpgMediumResolutionUrl,
+						this.jpgLowResolutionUrl,
+						this.webpHighResolutionUrl,
+						this.webpMediumResolutionUrl,
+						this.webpLowResolutionUrl
+				)
+		);
 	}
 
 	/**
@@ -293,26 +261,22 @@ public final class MapImageEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "mapName=\"" + this.mapName + "\""
-					+ ", sourceUrl=\"" + this.sourceUrl + "\""
-					+ ", jpgHighResolutionUrl=\"" + this.jpgHighResolutionUrl + "\""
-					+ ", jpgMediumResolutionUrl=\"" + this.jpgMediumResolutionUrl + "\""
-					+ ", jpgLowResolutionUrl=\"" + this.jpgLowResolutionUrl + "\""
-					+ ", webpHighResolutionUrl=\"" + this.webpHighResolutionUrl + "\""
-					+ ", webpMediumResolutionUrl=\"" + this.webpMediumResolutionUrl + "\""
-					+ ", webpLowResolutionUrl=\"" + this.webpLowResolutionUrl + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "mapName=\"" + this.mapName + "\""
+				+ ", sourceUrl=\"" + this.sourceUrl + "\""
+				+ ", jpgHighResolutionUrl=\"" + this.jpgHighResolutionUrl + "\""
+				+ ", jpgMediumResolutionUrl=\"" + this.jpgMediumResolutionUrl + "\""
+				+ ", jpgLowResolutionUrl=\"" + this.jpgLowResolutionUrl + "\""
+				+ ", webpHighResolutionUrl=\"" + this.webpHighResolutionUrl + "\""
+				+ ", webpMediumResolutionUrl=\"" + this.webpMediumResolutionUrl + "\""
+				+ ", webpLowResolutionUrl=\"" + this.webpLowResolutionUrl + "\""
+				+ "]");
 	}
 
 	/**
@@ -353,8 +317,6 @@ public final class MapImageEntity implements Serializable, Cloneable {
 		this.webpHighResolutionUrl = webpHighResolutionUrl;
 		this.webpMediumResolutionUrl = webpMediumResolutionUrl;
 		this.webpLowResolutionUrl = webpLowResolutionUrl;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -27,7 +27,7 @@ import java.util.Objects;
 /**
  * A maps information API entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class MapInfoEntity implements Serializable, Cloneable {
 
 	/**
@@ -68,53 +68,19 @@ public final class MapInfoEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #isCompleted} cache.
 	 */
-	private transient volatile Boolean isCompletedCache;
+	private transient Boolean isCompletedCache;
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #isCompletedCache} mutex.
-	 */
-	private transient Object isCompletedCacheMutex;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.isCompletedCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this map identifier.
@@ -168,28 +134,24 @@ public final class MapInfoEntity implements Serializable, Cloneable {
 	 * 				true - yes, false - no
 	 */
 	public boolean isCompleted() {
-		if (this.isCompletedCache != null) {
-			return this.isCompletedCache;
+		Boolean isCompleted = this.isCompletedCache;
+
+		if (isCompleted != null) {
+			return isCompleted;
 		}
 
-		synchronized (this.isCompletedCacheMutex) {
-			if (this.isCompletedCache != null) {
-				return this.isCompletedCache;
-			}
-
-			// Other fields besides #mappers may be omitted,
-			//  but we will keep them for future compatibility.
-			if (this.id == null
-					|| this.name == null
-					|| this.difficulty == null
-					|| this.workshopUrl == null
-					|| this.mappers == null) {
-				return (this.isCompletedCache = false);
-			}
-
-			return (this.isCompletedCache = this.mappers.stream()
-					.allMatch(Mapper::isCompleted));
+		// Other fields besides #mappers may be omitted,
+		//  but we will keep them for future compatibility.
+		if (this.id == null
+				|| this.name == null
+				|| this.difficulty == null
+				|| this.workshopUrl == null
+				|| this.mappers == null) {
+			return (this.isCompletedCache = false);
 		}
+
+		return (this.isCompletedCache = this.mappers.stream()
+				.allMatch(Mapper::isCompleted));
 	}
 
 	/**
@@ -219,25 +181,21 @@ public final class MapInfoEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.difficulty,
-							this.workshopUrl,
-							this.mappers
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.difficulty,
+						this.workshopUrl,
+						this.mappers
+				)
+		);
 	}
 
 	/**
@@ -245,23 +203,19 @@ public final class MapInfoEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", name=\"" + this.name + "\""
-					+ ", difficulty=" + this.difficulty
-					+ ", workshopUrl=\"" + this.workshopUrl + "\""
-					+ ", mappers=" + this.mappers
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", name=\"" + this.name + "\""
+				+ ", difficulty=" + this.difficulty
+				+ ", workshopUrl=\"" + this.workshopUrl + "\""
+				+ ", mappers=" + this.mappers
+				+ "]");
 	}
 
 	/**
@@ -293,8 +247,6 @@ public final class MapInfoEntity implements Serializable, Cloneable {
 		this.difficulty = difficulty;
 		this.workshopUrl = workshopUrl;
 		this.mappers = mappers;
-
-		this.initMutexObjects();
 	}
 
 	/**
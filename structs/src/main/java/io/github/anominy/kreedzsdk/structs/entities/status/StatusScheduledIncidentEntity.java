@@ -27,7 +27,7 @@ import java.util.Objects;
 /**
  * A kreedz status API scheduled incident entity.
  */
-@SuppressWarnings({"unused", "SynchronizeOnNonFinalField", "MethodDoesntCallSuperMethod"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusScheduledIncidentEntity extends StatusIncidentEntity implements Cloneable {
 
 	/**
@@ -47,18 +47,6 @@ public final class StatusScheduledIncidentEntity extends StatusIncidentEntity im
 	@SerializedName("scheduled_until")
 	private final DateTime scheduleUntilDate;
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Get this schedule for date.
 	 *
@@ -102,34 +90,30 @@ public final class StatusScheduledIncidentEntity extends StatusIncidentEntity im
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.status,
-							this.createDate,
-							this.updateDate,
-							this.monitorDate,
-							this.resolveDate,
-							this.impact,
-							this.shortUrl,
-							this.pageId,
-							this.updates,
-							this.components,
-							this.scheduleForDate,
-							this.scheduleUntilDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.status,
+						this.createDate,
+						this.updateDate,
+						this.monitorDate,
+						this.resolveDate,
+						this.impact,
+						this.shortUrl,
+						this.pageId,
+						this.updates,
+						this.components,
+						this.scheduleForDate,
+						this.scheduleUntilDate
+				)
+		);
 	}
 
 	/**
@@ -137,32 +121,28 @@ public final class StatusScheduledIncidentEntity extends StatusIncidentEntity im
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=\"" + this.id + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", status=" + this.status
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", monitorDate=" + this.monitorDate
-					+ ", resolveDate=" + this.resolveDate
-					+ ", impact=" + this.impact
-					+ ", shortUrl=\"" + this.shortUrl + "\""
-					+ ", pageId=\"" + this.pageId + "\""
-					+ ", updates=" + this.updates
-					+ ", components=" + this.components
-					+ ", scheduleForDate=" + this.scheduleForDate
-					+ ", scheduleUntilDate=" + this.scheduleUntilDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=\"" + this.id + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", status=" + this.status
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", monitorDate=" + this.monitorDate
+				+ ", resolveDate=" + this.resolveDate
+				+ ", impact=" + this.impact
+				+ ", shortUrl=\"" + this.shortUrl + "\""
+				+ ", pageId=\"" + this.pageId + "\""
+				+ ", updates=" + this.updates
+				+ ", components=" + this.components
+				+ ", scheduleForDate=" + this.scheduleForDate
+				+ ", scheduleUntilDate=" + this.scheduleUntilDate
+				+ "]");
 	}
 
 	/**
@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz status API summary response entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusSummaryResponseEntity implements Serializable, Cloneable {
 
 	/**
@@ -66,43 +66,15 @@ public final class StatusSummaryResponseEntity implements Serializable, Cloneabl
 
 	/**
 	 * A {@link #hashCode()} cache.
+	 *
+	 * <p>Zero stands for a not yet computed value.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this page.
@@ -176,25 +148,21 @@ public final class StatusSummaryResponseEntity implements Serializable, Cloneabl
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.page,
-							this.components,
-							this.incidents,
-							this.scheduledIncidents,
-							this.status
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.page,
+						this.components,
+						this.incidents,
+						this.scheduledIncidents,
+						this.status
+				)
+		);
 	}
 
 	/**
@@ -202,23 +170,19 @@ public final class StatusSummaryResponseEntity implements Serializable, Cloneabl
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "page=" + this.page
-					+ ", components=" + this.components
-					+ ", incidents=" + this.incidents
-					+ ", scheduledIncidents=" + this.scheduledIncidents
-					+ ", status=" + this.status
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "page=" + this.page
+				+ ", components=" + this.components
+				+ ", incidents=" + this.incidents
+				+ ", scheduledIncidents=" + this.scheduledIncidents
+				+ ", status=" + this.status
+				+ "]");
 	}
 
 	/**
@@ -250,8 +214,6 @@ public final class StatusSummaryResponseEntity implements Serializable, Cloneabl
 		this.incidents = incidents;
 		this.scheduledIncidents = scheduledIncidents;
 		this.status = status;
-
-		this.initMutexObjects();
 	}
 
 	/**
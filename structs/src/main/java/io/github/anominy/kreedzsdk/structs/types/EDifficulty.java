@@ -16,6 +16,7 @@
 
 package io.github.anominy.kreedzsdk.structs.types;
 
+import io.github.anominy.kreedzsdk.structs.utils.EnumIdTable;
 import io.github.anominy.uwutils.*;
 
 import java.util.Map;
@@ -84,6 +85,13 @@ public enum EDifficulty {
 			entry -> entry.id, VALUES
 	);
 
+	/**
+	 * A table of {@link EDifficulty} instances by their API-identifier field.
+	 */
+	private static final EnumIdTable<EDifficulty> TABLE_BY_ID = new EnumIdTable<>(
+			entry -> entry.id, VALUES
+	);
+
 	/**
 	 * A map of {@link EDifficulty} instances by their full name field.
 	 */
@@ -405,6 +413,20 @@ public enum EDifficulty {
 		return fromIdOrElse(id, (EDifficulty) null);
 	}
 
+	/**
+	 * Get an {@link EDifficulty} instance by its API-identifier
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Unlike {@link #fromIdOrNull(Integer)}
+	 * doesn't box the API-identifier.
+	 *
+	 * @param id	API-identifier of the instance
+	 * @return		associated {@link EDifficulty} instance or {@code null}
+	 */
+	public static EDifficulty matchIdOrNull(int id) {
+		return TABLE_BY_ID.getOrNull(id);
+	}
+
 	/**
 	 * Get an {@link EDifficulty} instance by its full name
 	 * or return a default value if failed.
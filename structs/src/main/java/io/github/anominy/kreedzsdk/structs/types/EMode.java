@@ -16,6 +16,8 @@
 
 package io.github.anominy.kreedzsdk.structs.types;
 
+import io.github.anominy.kreedzsdk.structs.utils.EnumIdTable;
+import io.github.anominy.kreedzsdk.structs.utils.EnumNameTable;
 import io.github.anominy.uwutils.*;
 
 import java.util.Map;
@@ -64,6 +66,13 @@ public enum EMode {
 			entry -> entry.id, VALUES
 	);
 
+	/**
+	 * A table of {@link EMode} instances by their API-identifier field.
+	 */
+	private static final EnumIdTable<EMode> TABLE_BY_ID = new EnumIdTable<>(
+			entry -> entry.id, VALUES
+	);
+
 	/**
 	 * A map of {@link EMode} instances by their API-name field.
 	 */
@@ -71,6 +80,13 @@ public enum EMode {
 			entry -> entry.apiName, VALUES
 	);
 
+	/**
+	 * A table of {@link EMode} instances by their API-name field.
+	 */
+	private static final EnumNameTable<EMode> TABLE_BY_API_NAME = new EnumNameTable<>(
+			entry -> entry.apiName, VALUES
+	);
+
 	/**
 	 * A map of {@link EMode} instances by their full name field.
 	 */
@@ -512,6 +528,20 @@ public enum EMode {
 		return fromIdOrElse(id, (EMode) null);
 	}
 
+	/**
+	 * Get an {@link EMode} instance by its API-identifier
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Unlike {@link #fromIdOrNull(Integer)}
+	 * doesn't box the API-identifier.
+	 *
+	 * @param id	API-identifier of the instance
+	 * @return		associated {@link EMode} instance or {@code null}
+	 */
+	public static EMode matchIdOrNull(int id) {
+		return TABLE_BY_ID.getOrNull(id);
+	}
+
 	/**
 	 * Get an {@link EMode} instance by its API-name
 	 * or return a default value if failed.
@@ -550,6 +580,35 @@ public enum EMode {
 		return fromApiNameOrElse(apiName, (EMode) null);
 	}
 
+	/**
+	 * Get an {@link EMode} instance by its API-name characters
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Unlike {@link #fromApiNameOrNull(String)}
+	 * accepts any character sequence.
+	 *
+	 * @param apiName	API-name characters of the instance
+	 * @return			associated {@link EMode} instance or {@code null}
+	 */
+	public static EMode matchApiNameOrNull(CharSequence apiName) {
+		return TABLE_BY_API_NAME.getOrNull(apiName);
+	}
+
+	/**
+	 * Get an {@link EMode} instance by its API-name characters
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Matches the characters in place, w/o creating a string.
+	 *
+	 * @param chars		character buffer
+	 * @param offset	offset of the API-name in the buffer
+	 * @param length	length of the API-name in the buffer
+	 * @return			associated {@link EMode} instance or {@code null}
+	 */
+	public static EMode matchApiNameOrNull(char[] chars, int offset, int length) {
+		return TABLE_BY_API_NAME.getOrNull(chars, offset, length);
+	}
+
 	/**
 	 * Get an {@link EMode} instance by its full name
 	 * or return a default value if failed.
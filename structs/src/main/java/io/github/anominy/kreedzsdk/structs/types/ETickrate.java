@@ -16,6 +16,7 @@
 
 package io.github.anominy.kreedzsdk.structs.types;
 
+import io.github.anominy.kreedzsdk.structs.utils.EnumIdTable;
 import io.github.anominy.uwutils.UwArray;
 import io.github.anominy.uwutils.UwEnum;
 import io.github.anominy.uwutils.UwMap;
@@ -74,6 +75,13 @@ public enum ETickrate {
 			entry -> entry.intVal, VALUES
 	);
 
+	/**
+	 * A table of {@link ETickrate} instances by their integer value field.
+	 */
+	private static final EnumIdTable<ETickrate> TABLE_BY_INT = new EnumIdTable<>(
+			entry -> entry.intVal, VALUES
+	);
+
 	/**
 	 * A float value.
 	 */
@@ -328,6 +336,20 @@ public enum ETickrate {
 		return fromIntOrElse(intVal, (ETickrate) null);
 	}
 
+	/**
+	 * Get an {@link ETickrate} instance by its integer value
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Unlike {@link #fromIntOrNull(Integer)}
+	 * doesn't box the integer value.
+	 *
+	 * @param intVal	integer value of the instance
+	 * @return		associated {@link ETickrate} instance or {@code null}
+	 */
+	public static ETickrate matchIntOrNull(int intVal) {
+		return TABLE_BY_INT.getOrNull(intVal);
+	}
+
 	/**
 	 * Get an {@link ETickrate} instance by its index
 	 * or return a default value if failed.
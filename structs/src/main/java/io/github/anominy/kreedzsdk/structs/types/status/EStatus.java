@@ -16,6 +16,7 @@
 
 package io.github.anominy.kreedzsdk.structs.types.status;
 
+import io.github.anominy.kreedzsdk.structs.utils.EnumNameTable;
 import io.github.anominy.uwutils.*;
 
 import java.util.Map;
@@ -109,6 +110,13 @@ public enum EStatus {
 			entry -> entry.apiName, VALUES
 	);
 
+	/**
+	 * A table of {@link EStatus} instances by their API-name field.
+	 */
+	private static final EnumNameTable<EStatus> TABLE_BY_API_NAME = new EnumNameTable<>(
+			entry -> entry.apiName, VALUES
+	);
+
 	/**
 	 * A map of {@link EStatus} instances by their full name field.
 	 */
@@ -380,6 +388,35 @@ public enum EStatus {
 		return fromApiNameOrElse(apiName, (EStatus) null);
 	}
 
+	/**
+	 * Get an {@link EStatus} instance by its API-name characters
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Unlike {@link #fromApiNameOrNull(String)}
+	 * accepts any character sequence.
+	 *
+	 * @param apiName	API-name characters of the instance
+	 * @return			associated {@link EStatus} instance or {@code null}
+	 */
+	public static EStatus matchApiNameOrNull(CharSequence apiName) {
+		return TABLE_BY_API_NAME.getOrNull(apiName);
+	}
+
+	/**
+	 * Get an {@link EStatus} instance by its API-name characters
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Matches the characters in place, w/o creating a string.
+	 *
+	 * @param chars		character buffer
+	 * @param offset	offset of the API-name in the buffer
+	 * @param length	length of the API-name in the buffer
+	 * @return			associated {@link EStatus} instance or {@code null}
+	 */
+	public static EStatus matchApiNameOrNull(char[] chars, int offset, int length) {
+		return TABLE_BY_API_NAME.getOrNull(chars, offset, length);
+	}
+
 	/**
 	 * Get an {@link EStatus} instance by its full name
 	 * or return a default value if failed.
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.structs.utils;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A dense table of enum instances by their integer field.
+ *
+ * <p>Lookups index an array directly,
+ * so the integer value isn't boxed.
+ *
+ * @param <E>	enum type
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class EnumIdTable<E extends Enum<E>> {
+
+	/**
+	 * A maximum table length.
+	 */
+	private static final int MAX_LENGTH = 1 << 12;
+
+	/**
+	 * A minimum integer value.
+	 */
+	private final int min;
+
+	/**
+	 * An array of enum instances by their integer value offset.
+	 */
+	private final Object[] entries;
+
+	/**
+	 * Initialize an {@link EnumIdTable} instance.
+	 *
+	 * @param function	function to get the integer field of an enum instance
+	 * @param values	array of enum instances
+	 */
+	public EnumIdTable(ToIntFunction<E> function, E[] values) {
+		if (function == null) {
+			throw new IllegalArgumentException("Function mustn't be <null>");
+		}
+
+		if (values == null) {
+			throw new IllegalArgumentException("Array of values mustn't be <null>");
+		}
+
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		for (E value : values) {
+			int id = function.applyAsInt(value);
+
+			min = Math.min(min, id);
+			max = Math.max(max, id);
+		}
+
+		if (values.length == 0) {
+			min = 0;
+			max = -1;
+		}
+
+		long length = (long) max - min + 1;
+
+		if (length > MAX_LENGTH) {
+			throw new IllegalArgumentException("Range of integer values is too wide <" + length + ">");
+		}
+
+		Object[] entries = new Object[(int) length];
+
+		for (E value : values) {
+			int index = function.applyAsInt(value) - min;
+
+			if (entries[index] == null) {
+				entries[index] = value;
+			}
+		}
+
+		this.min = min;
+		this.entries = entries;
+	}
+
+	/**
+	 * Get an enum instance by its integer value
+	 * or return {@code null} if failed.
+	 *
+	 * @param id	integer value
+	 * @return		associated enum instance or {@code null}
+	 */
+	public E getOrNull(int id) {
+		int index = id - this.min;
+
+		if (index < 0 || index >= this.entries.length) {
+			return null;
+		}
+
+		return (E) this.entries[index];
+	}
+}
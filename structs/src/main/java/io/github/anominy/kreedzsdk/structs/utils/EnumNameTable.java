@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.structs.utils;
+
+import java.util.function.Function;
+
+/**
+ * A perfect-hash table of enum instances by their name field.
+ *
+ * <p>Lookups hash the provided characters in place
+ * and compare them w/ the only candidate slot,
+ * so no intermediate string is created.
+ *
+ * @param <E>	enum type
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public final class EnumNameTable<E extends Enum<E>> {
+
+	/**
+	 * A maximum seed count to try per table capacity.
+	 */
+	private static final int MAX_SEED_COUNT = 1 << 12;
+
+	/**
+	 * An FNV-1a hash prime.
+	 */
+	private static final int FNV_PRIME = 0x01000193;
+
+	/**
+	 * An array of names by their slot.
+	 */
+	private final String[] names;
+
+	/**
+	 * An array of enum instances by their slot.
+	 */
+	private final Object[] entries;
+
+	/**
+	 * A hash seed.
+	 */
+	private final int seed;
+
+	/**
+	 * A slot mask.
+	 */
+	private final int mask;
+
+	/**
+	 * Initialize an {@link EnumNameTable} instance.
+	 *
+	 * <p>Searches a seed for which all names
+	 * are hashed to the different slots.
+	 *
+	 * @param function	function to get the name field of an enum instance
+	 * @param values	array of enum instances
+	 */
+	public EnumNameTable(Function<E, String> function, E[] values) {
+		if (function == null) {
+			throw new IllegalArgumentException("Function mustn't be <null>");
+		}
+
+		if (values == null) {
+			throw new IllegalArgumentException("Array of values mustn't be <null>");
+		}
+
+		String[] valueNames = new String[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+			valueNames[i] = function.apply(values[i]);
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(values.length, 1)) << 1;
+
+		String[] names = new String[capacity];
+		Object[] entries = new Object[capacity];
+
+		int seed = 1;
+
+		while (!fill(names, entries, valueNames, values, seed, capacity - 1)) {
+			if (++seed > MAX_SEED_COUNT) {
+				capacity <<= 1;
+				seed = 1;
+			}
+
+			names = new String[capacity];
+			entries = new Object[capacity];
+		}
+
+		this.names = names;
+		this.entries = entries;
+		this.seed = seed;
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Get an enum instance by its name characters
+	 * or return {@code null} if failed.
+	 *
+	 * @param name	name characters
+	 * @return		associated enum instance or {@code null}
+	 */
+	public E getOrNull(CharSequence name) {
+		if (name == null) {
+			return null;
+		}
+
+		int length = name.length();
+
+		int hash = this.seed;
+
+		for (int i = 0; i < length; i++) {
+			hash = (hash ^ name.charAt(i)) * FNV_PRIME;
+		}
+
+		int slot = mix(hash) & this.mask;
+
+		String candidate = this.names[slot];
+
+		if (candidate == null || !candidate.contentEquals(name)) {
+			return null;
+		}
+
+		return (E) this.entries[slot];
+	}
+
+	/**
+	 * Get an enum instance by its name characters
+	 * or return {@code null} if failed.
+	 *
+	 * @param chars		character buffer
+	 * @param offset	offset of the name in the buffer
+	 * @param length	length of the name in the buffer
+	 * @return			associated enum instance or {@code null}
+	 */
+	public E getOrNull(char[] chars, int offset, int length) {
+		if (chars == null || offset < 0 || length < 0
+				|| offset > chars.length - length) {
+			return null;
+		}
+
+		int hash = this.seed;
+
+		for (int i = 0; i < length; i++) {
+			hash = (hash ^ chars[offset + i]) * FNV_PRIME;
+		}
+
+		int slot = mix(hash) & this.mask;
+
+		String candidate = this.names[slot];
+
+		if (candidate == null || candidate.length() != length) {
+			return null;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (candidate.charAt(i) != chars[offset + i]) {
+				return null;
+			}
+		}
+
+		return (E) this.entries[slot];
+	}
+
+	/**
+	 * Fill slot arrays w/ the provided names {@literal &} enum instances.
+	 *
+	 * @param names			array of names by their slot to fill
+	 * @param entries		array of enum instances by their slot to fill
+	 * @param valueNames	array of names by their enum index
+	 * @param values		array of enum instances
+	 * @param seed			hash seed
+	 * @param mask			slot mask
+	 * @return				boolean value as a result,
+	 * 						true - no collisions, false - otherwise
+	 */
+	private static boolean fill(String[] names, Object[] entries, String[] valueNames, Object[] values, int seed, int mask) {
+		for (int i = 0; i < values.length; i++) {
+			String name = valueNames[i];
+
+			if (name == null) {
+				continue;
+			}
+
+			int hash = seed;
+
+			for (int j = 0; j < name.length(); j++) {
+				hash = (hash ^ name.charAt(j)) * FNV_PRIME;
+			}
+
+			int slot = mix(hash) & mask;
+
+			if (names[slot] != null) {
+				if (names[slot].equals(name)) {
+					continue;
+				}
+
+				return false;
+			}
+
+			names[slot] = name;
+			entries[slot] = values[i];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Mix high bits of the provided hash into the low ones.
+	 *
+	 * @param hash	hash to mix
+	 * @return		mixed hash
+	 */
+	private static int mix(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+}
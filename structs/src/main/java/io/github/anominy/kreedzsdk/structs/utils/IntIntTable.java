@@ -0,0 +1,299 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.anominy.kreedzsdk.structs.utils;
+
+import java.util.Arrays;
+
+/**
+ * A hash table of integer values by their int keys.
+ *
+ * <p>Uses open addressing over primitive arrays,
+ * so neither keys nor values are boxed.
+ *
+ * <p>Isn't thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class IntIntTable {
+
+	/**
+	 * A default expected size.
+	 */
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	/**
+	 * A maximum capacity.
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * A value returned for absent keys.
+	 */
+	private final int missingValue;
+
+	/**
+	 * An array of keys.
+	 */
+	private int[] keys;
+
+	/**
+	 * An array of values.
+	 */
+	private int[] values;
+
+	/**
+	 * An array of slot states.
+	 */
+	private boolean[] filled;
+
+	/**
+	 * An entry count.
+	 */
+	private int size;
+
+	/**
+	 * A resize threshold.
+	 */
+	private int threshold;
+
+	/**
+	 * Initialize an {@link IntIntTable} instance.
+	 *
+	 * @param expectedSize	expected entry count
+	 * @param missingValue	value returned for absent keys
+	 */
+	public IntIntTable(int expectedSize, int missingValue) {
+		this.missingValue = missingValue;
+
+		this.allocate(capacityOf(Math.max(expectedSize, DEFAULT_EXPECTED_SIZE)));
+	}
+
+	/**
+	 * Initialize an {@link IntIntTable} instance.
+	 *
+	 * <p>Wraps {@link #IntIntTable(int, int)}
+	 * w/ {@link #DEFAULT_EXPECTED_SIZE} as the expected entry count.
+	 *
+	 * @param missingValue	value returned for absent keys
+	 */
+	public IntIntTable(int missingValue) {
+		this(DEFAULT_EXPECTED_SIZE, missingValue);
+	}
+
+	/**
+	 * Get a value by its key.
+	 *
+	 * @param key	key
+	 * @return		associated value or the missing value
+	 */
+	public int get(int key) {
+		int mask = this.keys.length - 1;
+		int index = hash(key) & mask;
+
+		while (this.filled[index]) {
+			if (this.keys[index] == key) {
+				return this.values[index];
+			}
+
+			index = (index + 1) & mask;
+		}
+
+		return this.missingValue;
+	}
+
+	/**
+	 * Check if this table contains the provided key.
+	 *
+	 * @param key	key
+	 * @return		boolean value as a result,
+	 * 				true - yes, false - no
+	 */
+	public boolean containsKey(int key) {
+		int mask = this.keys.length - 1;
+		int index = hash(key) & mask;
+
+		while (this.filled[index]) {
+			if (this.keys[index] == key) {
+				return true;
+			}
+
+			index = (index + 1) & mask;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Put a value by its key.
+	 *
+	 * @param key		key
+	 * @param value		value
+	 * @return			previous value or the missing value
+	 */
+	public int put(int key, int value) {
+		int mask = this.keys.length - 1;
+		int index = hash(key) & mask;
+
+		while (this.filled[index]) {
+			if (this.keys[index] == key) {
+				int previous = this.values[index];
+
+				this.values[index] = value;
+
+				return previous;
+			}
+
+			index = (index + 1) & mask;
+		}
+
+		this.keys[index] = key;
+		this.values[index] = value;
+		this.filled[index] = true;
+
+		if (++this.size > this.threshold) {
+			this.rehash(this.keys.length << 1);
+		}
+
+		return this.missingValue;
+	}
+
+	/**
+	 * Get this entry count.
+	 *
+	 * @return	entry count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Check if this table is empty.
+	 *
+	 * @return	boolean value as a result,
+	 * 			true - yes, false - no
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Remove all entries from this table.
+	 */
+	public void clear() {
+		Arrays.fill(this.filled, false);
+
+		this.size = 0;
+	}
+
+	/**
+	 * Perform the provided action for each entry of this table.
+	 *
+	 * @param action	action to perform
+	 */
+	public void forEach(EntryConsumer action) {
+		for (int i = 0; i < this.keys.length; i++) {
+			if (this.filled[i]) {
+				action.accept(this.keys[i], this.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Allocate this arrays w/ the provided capacity.
+	 *
+	 * @param capacity	power-of-two capacity
+	 */
+	private void allocate(int capacity) {
+		this.keys = new int[capacity];
+		this.values = new int[capacity];
+		this.filled = new boolean[capacity];
+		this.threshold = capacity >>> 1;
+	}
+
+	/**
+	 * Move this entries to new arrays w/ the provided capacity.
+	 *
+	 * @param capacity	power-of-two capacity
+	 */
+	private void rehash(int capacity) {
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalStateException("Table capacity exceeds <" + MAX_CAPACITY + ">");
+		}
+
+		int[] keys = this.keys;
+		int[] values = this.values;
+		boolean[] filled = this.filled;
+
+		this.allocate(capacity);
+
+		int mask = capacity - 1;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (!filled[i]) {
+				continue;
+			}
+
+			int index = hash(keys[i]) & mask;
+
+			while (this.filled[index]) {
+				index = (index + 1) & mask;
+			}
+
+			this.keys[index] = keys[i];
+			this.values[index] = values[i];
+			this.filled[index] = true;
+		}
+	}
+
+	/**
+	 * Get a power-of-two capacity for the provided expected entry count.
+	 *
+	 * @param expectedSize	expected entry count
+	 * @return				capacity
+	 */
+	private static int capacityOf(int expectedSize) {
+		long capacity = Long.highestOneBit(((long) expectedSize << 1) - 1) << 1;
+
+		return (int) Math.min(capacity, MAX_CAPACITY);
+	}
+
+	/**
+	 * Hash the provided key.
+	 *
+	 * @param key	key
+	 * @return		hash
+	 */
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * A {@link IntIntTable} entry consumer.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		/**
+		 * Accept an entry.
+		 *
+		 * @param key		key
+		 * @param value		value
+		 */
+		void accept(int key, int value);
+	}
+}
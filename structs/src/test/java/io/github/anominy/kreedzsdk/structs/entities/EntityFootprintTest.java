@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.structs.entities;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.lang.reflect.Constructor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Heap footprint assertions for the hot entity classes.
+ *
+ * <p>Measured w/ JOL, assuming compressed references,
+ * which is the default for heaps below 32 GiB. Sizes are
+ * shallow, the retained size of an entity depends on
+ * the strings {@literal &} dates of the response.
+ */
+final class EntityFootprintTest {
+
+	/**
+	 * Upper bound of the shallow {@link RecordEntity} size.
+	 *
+	 * <p>12 bytes of header, 9 {@code int} fields
+	 * {@literal &} 11 references, aligned to 8 bytes.
+	 * Strings, dates {@literal &} other referenced objects
+	 * are not counted, only the boxed numerics are checked
+	 * to be gone by {@link #assertNoBoxedNumerics(Class)}.
+	 */
+	private static final long RECORD_ENTITY_SIZE_MAX = 96L;
+
+	@Test
+	void recordEntityShallowSizeFitsBudget() {
+		assumeCompressedReferences();
+
+		long size = ClassLayout.parseClass(RecordEntity.class).instanceSize();
+
+		assertTrue(size <= RECORD_ENTITY_SIZE_MAX,
+				"RecordEntity takes <" + size + "> bytes, budget is <" + RECORD_ENTITY_SIZE_MAX + ">\n"
+						+ ClassLayout.parseClass(RecordEntity.class).toPrintable());
+	}
+
+	@Test
+	void recordEntityHasNoBoxedNumerics() {
+		assertNoBoxedNumerics(RecordEntity.class);
+	}
+
+	@Test
+	void banEntityHasNoBoxedNumerics() {
+		assertNoBoxedNumerics(BanEntity.class);
+	}
+
+	@Test
+	void jumpstatEntityHasNoBoxedNumerics() {
+		assertNoBoxedNumerics(JumpstatEntity.class);
+	}
+
+	@Test
+	void mapEntityHasNoBoxedNumerics() {
+		assertNoBoxedNumerics(MapEntity.class);
+	}
+
+	@Test
+	void serverEntityHasNoBoxedNumerics() {
+		assertNoBoxedNumerics(ServerEntity.class);
+	}
+
+	private static void assumeCompressedReferences() {
+		assumeTrue(VM.current().sizeOfField("object") == 4L,
+				"Footprint budget assumes compressed references");
+	}
+
+	/**
+	 * Asserts that an instance w/ every reference field
+	 * set to {@code null} owns no other heap objects,
+	 * i.e. that none of its numeric fields is boxed.
+	 */
+	private static void assertNoBoxedNumerics(Class<?> clazz) {
+		Object entity = newBlankInstance(clazz);
+
+		long shallowSize = ClassLayout.parseClass(clazz).instanceSize();
+		long deepSize = GraphLayout.parseInstance(entity).totalSize();
+
+		assertEquals(shallowSize, deepSize,
+				clazz.getSimpleName() + " retains boxed fields\n"
+						+ GraphLayout.parseInstance(entity).toFootprint());
+	}
+
+	private static Object newBlankInstance(Class<?> clazz) {
+		Constructor<?> allFieldsConstructor = null;
+
+		for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+			if ((allFieldsConstructor == null)
+					|| (constructor.getParameterCount() > allFieldsConstructor.getParameterCount())) {
+				allFieldsConstructor = constructor;
+			}
+		}
+
+		if (allFieldsConstructor == null) {
+			throw new IllegalStateException("No constructor found for <" + clazz.getName() + ">");
+		}
+
+		Class<?>[] parameterTypes = allFieldsConstructor.getParameterTypes();
+		Object[] args = new Object[parameterTypes.length];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			args[i] = blankValueOf(parameterTypes[i]);
+		}
+
+		try {
+			allFieldsConstructor.setAccessible(true);
+
+			return allFieldsConstructor.newInstance(args);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Object blankValueOf(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return null;
+		}
+
+		if (type == boolean.class) {
+			return false;
+		}
+
+		if (type == char.class) {
+			return '\0';
+		}
+
+		if (type == long.class) {
+			return 0L;
+		}
+
+		if (type == float.class) {
+			return 0.0F;
+		}
+
+		if (type == double.class) {
+			return 0.0D;
+		}
+
+		if (type == byte.class) {
+			return (byte) 0;
+		}
+
+		if (type == short.class) {
+			return (short) 0;
+		}
+
+		return 0;
+	}
+}
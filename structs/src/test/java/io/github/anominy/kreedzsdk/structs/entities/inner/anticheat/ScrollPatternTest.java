@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.structs.entities.inner.anticheat;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ScrollPatternTest {
+
+	@Test
+	void copiesPackedJumpInputs() {
+		long[] packedJumpInputs = {
+				JumpInput.pack(1, 2, true),
+				JumpInput.pack(3, 0, false)
+		};
+
+		ScrollPattern scrollPattern = new ScrollPattern(packedJumpInputs);
+
+		packedJumpInputs[0] = JumpInput.pack(9, 9, false);
+
+		assertEquals(1, scrollPattern.getPreInputCount(0));
+		assertEquals(2, scrollPattern.getPostInputCount(0));
+		assertTrue(scrollPattern.isPerf(0));
+		assertEquals(1, scrollPattern.getPerfJumpCount());
+	}
+
+	@Test
+	void keepsCountsOfClone() {
+		ScrollPattern scrollPattern = new ScrollPattern(new long[] {
+				JumpInput.pack(1, 2, true),
+				JumpInput.pack(3, 0, false)
+		});
+
+		ScrollPattern clone = scrollPattern.clone();
+
+		assertEquals(scrollPattern, clone);
+		assertEquals(4, clone.getTotalPreInputCount());
+		assertEquals(2, clone.getTotalPostInputCount());
+		assertEquals(1, clone.getPerfJumpCount());
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 anominy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.stats;
+
+import io.github.anominy.kreedzsdk.structs.entities.inner.anticheat.ScrollPattern;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scroll pattern parsing assertions for the plugin ban stats.
+ */
+final class BanStatsTest {
+
+	/**
+	 * GOKZ ban stats.
+	 */
+	private static final String GOKZ_STATS = "Perfs: 3/5, Average: 2.60, Scroll pattern: (0*2)(1 3)(0*1)(2 2)(1*1)";
+
+	/**
+	 * KZTimer ban stats w/ the trailing average section.
+	 */
+	private static final String KZTIMER_STATS = "Scroll pattern: 2 3 1 4 2 3, Avg. scroll pattern: 2.5,"
+			+ " Avg. speed: 287.41, Perfect jump ratio: 83.33%";
+
+	/**
+	 * KZTimer ban stats w/o the trailing average section.
+	 */
+	private static final String KZTIMER_STATS_SHORT = "Scroll pattern: 5 4 6";
+
+	@Test
+	void parsesGokzScrollPattern() {
+		ScrollPattern scrollPattern = new GokzBanStats(GOKZ_STATS).getScrollPattern();
+
+		assertEquals(5, scrollPattern.getTotalJumpCount());
+		assertEquals(3, scrollPattern.getPerfJumpCount());
+		assertEquals(4, scrollPattern.getTotalPreInputCount());
+		assertEquals(9, scrollPattern.getTotalPostInputCount());
+
+		assertTrue(scrollPattern.isPerf(0));
+		assertFalse(scrollPattern.isPerf(1));
+		assertEquals(1, scrollPattern.getPreInputCount(1));
+		assertEquals(3, scrollPattern.getPostInputCount(1));
+	}
+
+	@Test
+	void parsesKztimerScrollPatternBeforeAverages() {
+		ScrollPattern scrollPattern = new KztimerBanStats(KZTIMER_STATS).getScrollPattern();
+
+		assertEquals(6, scrollPattern.getTotalJumpCount());
+		assertEquals(15, scrollPattern.getTotalInputCount());
+		assertEquals(4, scrollPattern.getPreInputCount(3));
+		assertEquals(3, scrollPattern.getPreInputCount(5));
+	}
+
+	@Test
+	void parsesKztimerScrollPatternWithoutAverages() {
+		ScrollPattern scrollPattern = new KztimerBanStats(KZTIMER_STATS_SHORT).getScrollPattern();
+
+		assertEquals(3, scrollPattern.getTotalJumpCount());
+		assertEquals(15, scrollPattern.getTotalInputCount());
+	}
+
+	@Test
+	void keepsRawStats() {
+		assertEquals(KZTIMER_STATS, new KztimerBanStats("  " + KZTIMER_STATS + "  ").getRawStats());
+	}
+
+	@Test
+	void parsesEmptyStatsAsEmptyScrollPattern() {
+		BanStats banStats = new KztimerBanStats("");
+
+		assertTrue(banStats.isEmpty());
+		assertEquals(0, banStats.getScrollPattern().getTotalJumpCount());
+	}
+}